@@ -32,14 +32,22 @@ import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifie
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.ArtifactType;
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.ArtifactUpdateVersion;
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.resolver.ArtifactAvailableVersionsResolveException;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.FileBuildCache;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.BuildResolveException;
+import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleBuildResolver;
+import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleConnectionPool;
 import com.github.alexisjehan.mvncheck.core.component.filter.artifact.WildcardArtifactFilter;
+import com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser.ArtifactFilterParser;
 import com.github.alexisjehan.mvncheck.core.component.session.MavenSession;
 import com.github.alexisjehan.mvncheck.core.util.GithubUtils;
 import com.github.alexisjehan.mvncheck.core.util.GradleUtils;
 import com.github.alexisjehan.mvncheck.core.util.MavenUtils;
+import com.github.alexisjehan.mvncheck.core.util.SystemUtils;
 import internal.ExcludeFromJacocoGeneratedReport;
+import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.help.HelpFormatter;
@@ -51,6 +59,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -60,12 +69,30 @@ import java.util.Set;
  */
 public final class Application {
 
+	/**
+	 * Cache option long name.
+	 * @since 2.4.0
+	 */
+	static final String OPTION_CACHE = "cache";
+
+	/**
+	 * Daemon option long name.
+	 * @since 2.4.0
+	 */
+	static final String OPTION_DAEMON = "daemon";
+
 	/**
 	 * Maximum depth option long name.
 	 * @since 1.1.0
 	 */
 	static final String OPTION_MAX_DEPTH = "max-depth";
 
+	/**
+	 * Maximum Gradle builds option long name.
+	 * @since 2.4.0
+	 */
+	static final String OPTION_MAX_GRADLE_BUILDS = "max-gradle-builds";
+
 	/**
 	 * Filter option long name.
 	 * @since 1.7.0
@@ -96,12 +123,24 @@ public final class Application {
 	 */
 	static final String OPTION_INCLUDE_OUTPUT = "include-output";
 
+	/**
+	 * Respect Git ignore option long name.
+	 * @since 2.4.0
+	 */
+	static final String OPTION_RESPECT_GITIGNORE = "respect-gitignore";
+
 	/**
 	 * Short option long name.
 	 * @since 1.0.0
 	 */
 	static final String OPTION_SHORT = "short";
 
+	/**
+	 * Static Gradle option long name.
+	 * @since 2.4.0
+	 */
+	static final String OPTION_STATIC_GRADLE = "static-gradle";
+
 	/**
 	 * Version option long name.
 	 * @since 1.0.0
@@ -109,11 +148,22 @@ public final class Application {
 	static final String OPTION_VERSION = "version";
 
 	/**
-	 * Title.
-	 * @since 1.4.0
+	 * Name of the command to manage filters.
+	 * @since 2.4.0
 	 */
-	private static final String TITLE = Constants.NAME + " " + Constants.VERSION
-			+ " (built with Maven " + MavenUtils.VERSION + " and Gradle " + GradleUtils.VERSION + ")";
+	static final String COMMAND_FILTERS = "filters";
+
+	/**
+	 * Name of the sub-command to compile ignore files to snapshot files.
+	 * @since 2.4.0
+	 */
+	static final String COMMAND_FILTERS_COMPILE = "compile";
+
+	/**
+	 * Command name.
+	 * @since 1.0.0
+	 */
+	private static final String COMMAND_NAME = "mvnchk";
 
 	/**
 	 * Description.
@@ -123,19 +173,20 @@ public final class Application {
 			+ ToString.toString(BuildFileType.MAVEN.getFileName()) + ", "
 			+ ToString.toString(BuildFileType.GRADLE_GROOVY.getFileName()) + " and "
 			+ ToString.toString(BuildFileType.GRADLE_KOTLIN.getFileName()) + " build files in the given or current "
-			+ "path recursively.";
+			+ "path recursively. Run \"" + COMMAND_NAME + " " + COMMAND_FILTERS + " " + COMMAND_FILTERS_COMPILE
+			+ " [<file>...]\" to compile the given or global ignore files to snapshot files that are faster to load.";
 
 	/**
-	 * Command name.
+	 * Default value depending on whether ANSI should be enabled.
 	 * @since 1.0.0
 	 */
-	private static final String COMMAND_NAME = "mvnchk";
+	private static final boolean DEFAULT_ANSI = false;
 
 	/**
-	 * Default value depending on whether ANSI should be enabled.
-	 * @since 1.0.0
+	 * Default working directory.
+	 * @since 2.4.0
 	 */
-	private static final boolean DEFAULT_ANSI = false;
+	private static final Path DEFAULT_WORKING_DIRECTORY = Path.of("");
 
 	/**
 	 * Default path.
@@ -156,12 +207,31 @@ public final class Application {
 	private static final Options options = new Options();
 
 	static {
+		options.addOption(
+				"c",
+				OPTION_CACHE,
+				false,
+				"Cache resolved builds to speed up next runs"
+		);
+		options.addOption(
+				null,
+				OPTION_DAEMON,
+				false,
+				"Run as a daemon that next runs are forwarded to, keeping the Maven session warm"
+		);
 		options.addOption(
 				"d",
 				OPTION_MAX_DEPTH,
 				true,
 				"Maximum depth of subdirectories to find build files (a non-negative integer)"
 		);
+		options.addOption(
+				null,
+				OPTION_MAX_GRADLE_BUILDS,
+				true,
+				"Maximum number of Gradle builds resolved concurrently, each of them running its own Gradle daemon (a "
+						+ "positive integer, half the number of processors by default)"
+		);
 		options.addOption(
 				"f",
 				OPTION_FILTER,
@@ -194,12 +264,24 @@ public final class Application {
 				false,
 				"Include build files inside output directories"
 		);
+		options.addOption(
+				null,
+				OPTION_RESPECT_GITIGNORE,
+				false,
+				"Skip paths ignored by \".gitignore\" files"
+		);
 		options.addOption(
 				"s",
 				OPTION_SHORT,
 				false,
 				"Only show build files with at least one artifact update"
 		);
+		options.addOption(
+				null,
+				OPTION_STATIC_GRADLE,
+				false,
+				"Read Gradle build files statically when possible rather than launching Gradle (approximate)"
+		);
 		options.addOption(
 				"v",
 				OPTION_VERSION,
@@ -220,6 +302,30 @@ public final class Application {
 	 */
 	private final PrintStream errorStream;
 
+	/**
+	 * Working directory to resolve path arguments against.
+	 * @since 2.4.0
+	 */
+	private final Path workingDirectory;
+
+	/**
+	 * Shared <i>Maven</i> session to fork for each run or {@code null} to create a new one.
+	 * @since 2.4.0
+	 */
+	private final MavenSession mavenSession;
+
+	/**
+	 * Shared pool of <i>Gradle</i> connections or {@code null} to create a new one for each run.
+	 * @since 2.4.0
+	 */
+	private final GradleConnectionPool gradleConnectionPool;
+
+	/**
+	 * Socket file of the daemon to forward runs to or {@code null} to always run locally.
+	 * @since 2.4.0
+	 */
+	private final Path daemonSocketFile;
+
 	/**
 	 * Constructor with a single {@link PrintStream} for standard and error outputs.
 	 * @param printStream a {@link PrintStream}
@@ -240,10 +346,43 @@ public final class Application {
 	 * @since 1.0.0
 	 */
 	Application(final PrintStream outputStream, final PrintStream errorStream, final boolean ansi) {
+		this(outputStream, errorStream, ansi, DEFAULT_WORKING_DIRECTORY, null, null, null);
+	}
+
+	/**
+	 * Constructor with distinct {@link PrintStream}s for standard and error outputs, a working directory, an optional
+	 * shared <i>Maven</i> session, an optional shared pool of <i>Gradle</i> connections and an optional daemon socket
+	 * file.
+	 * @param outputStream a standard output {@link PrintStream}
+	 * @param errorStream an error output {@link PrintStream}
+	 * @param ansi {@code true} if ANSI should be enabled
+	 * @param workingDirectory a working directory to resolve path arguments against
+	 * @param mavenSession a shared <i>Maven</i> session to fork for each run or {@code null} to create a new one
+	 * @param gradleConnectionPool a shared pool of <i>Gradle</i> connections or {@code null} to create a new one for
+	 *        each run
+	 * @param daemonSocketFile a socket file of the daemon to forward runs to or {@code null} to always run locally
+	 * @throws NullPointerException if the standard output {@link PrintStream}, the error output {@link PrintStream}
+	 *         or the working directory is {@code null}
+	 * @since 2.4.0
+	 */
+	Application(
+			final PrintStream outputStream,
+			final PrintStream errorStream,
+			final boolean ansi,
+			final Path workingDirectory,
+			final MavenSession mavenSession,
+			final GradleConnectionPool gradleConnectionPool,
+			final Path daemonSocketFile
+	) {
 		Ensure.notNull("outputStream", outputStream);
 		Ensure.notNull("errorStream", errorStream);
+		Ensure.notNull("workingDirectory", workingDirectory);
 		this.outputStream = outputStream;
 		this.errorStream = errorStream;
+		this.workingDirectory = workingDirectory;
+		this.mavenSession = mavenSession;
+		this.gradleConnectionPool = gradleConnectionPool;
+		this.daemonSocketFile = daemonSocketFile;
 		Ansi.setEnabled(ansi);
 	}
 
@@ -258,7 +397,7 @@ public final class Application {
 		try {
 			final var commandLine = new DefaultParser().parse(options, args, false);
 			if (commandLine.hasOption(OPTION_VERSION) || commandLine.hasOption(OPTION_HELP)) {
-				outputStream.println(TITLE);
+				outputStream.println(getTitle());
 				if (commandLine.hasOption(OPTION_HELP)) {
 					outputStream.println();
 					outputStream.println(DESCRIPTION);
@@ -277,12 +416,33 @@ public final class Application {
 						);
 					}
 				}
+			} else if (commandLine.hasOption(OPTION_DAEMON)) {
+				runDaemon(
+						null != daemonSocketFile
+								? daemonSocketFile
+								: DaemonClient.getDefaultSocketFile(),
+						getMaxGradleBuilds(commandLine)
+				);
 			} else {
+				if (null != daemonSocketFile
+						&& DaemonClient.forward(daemonSocketFile, workingDirectory, args, outputStream, errorStream)) {
+					return;
+				}
 				final var arguments = commandLine.getArgs();
+				if (2 <= arguments.length
+						&& COMMAND_FILTERS.equals(arguments[0])
+						&& COMMAND_FILTERS_COMPILE.equals(arguments[1])) {
+					compileFilters(
+							Arrays.stream(arguments, 2, arguments.length)
+									.map(workingDirectory::resolve)
+									.toList()
+					);
+					return;
+				}
 				run(
 						1 == arguments.length
-								? Path.of(arguments[0])
-								: DEFAULT_PATH,
+								? workingDirectory.resolve(arguments[0])
+								: workingDirectory.resolve(DEFAULT_PATH),
 						commandLine.hasOption(OPTION_MAX_DEPTH)
 								? Integer.parseUnsignedInt(commandLine.getOptionValue(OPTION_MAX_DEPTH))
 								: DEFAULT_MAX_DEPTH,
@@ -292,6 +452,10 @@ public final class Application {
 						commandLine.hasOption(OPTION_IGNORE_SNAPSHOTS),
 						commandLine.hasOption(OPTION_IGNORE_INHERITED),
 						commandLine.hasOption(OPTION_INCLUDE_OUTPUT),
+						commandLine.hasOption(OPTION_RESPECT_GITIGNORE),
+						commandLine.hasOption(OPTION_CACHE),
+						commandLine.hasOption(OPTION_STATIC_GRADLE),
+						getMaxGradleBuilds(commandLine),
 						commandLine.hasOption(OPTION_SHORT)
 				);
 			}
@@ -308,11 +472,16 @@ public final class Application {
 	 * @param ignoreSnapshots {@code true} if build file artifacts with a snapshot version should be ignored
 	 * @param ignoreInherited {@code true} if build file artifacts with an inherited version should be ignored
 	 * @param includeOutput {@code true} if build files inside output directories should be included
+	 * @param respectGitignore {@code true} if paths ignored by <i>Git</i> ignore files should be skipped
+	 * @param cache {@code true} if resolved builds should be cached
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible
+	 * @param maxGradleBuilds a maximum number of <i>Gradle</i> builds resolved concurrently
 	 * @param short0 {@code true} if only build files with at least one artifact update should be shown
 	 * @throws IOException might occur with input/output operations
 	 * @throws NullPointerException if the path, the {@link Set} of filters or any of them is {@code null}
-	 * @throws IllegalArgumentException if the maximum depth is lower than {@code 0}
-	 * @since 1.7.0
+	 * @throws IllegalArgumentException if the maximum depth is lower than {@code 0} or if the maximum number of
+	 *         <i>Gradle</i> builds is lower than {@code 1}
+	 * @since 2.4.0
 	 */
 	void run(
 			final Path path,
@@ -321,85 +490,109 @@ public final class Application {
 			final boolean ignoreSnapshots,
 			final boolean ignoreInherited,
 			final boolean includeOutput,
+			final boolean respectGitignore,
+			final boolean cache,
+			final boolean staticGradle,
+			final int maxGradleBuilds,
 			final boolean short0
 	) throws IOException {
 		Ensure.notNull("path", path);
 		Ensure.greaterThanOrEqualTo("maxDepth", maxDepth, 0);
 		Ensure.notNullAndNotNullElements("filters", filters);
-		final var service = createService();
-		var buildFiles = service.findBuildFiles(path, maxDepth);
-		if (!includeOutput) {
-			buildFiles = service.filterBuildFiles(buildFiles);
-		}
-		if (buildFiles.isEmpty()) {
-			outputStream.println("No build file found");
-			return;
-		}
-		outputStream.println(buildFiles.size() + " build file(s) found, checking for artifact updates");
-		outputStream.println();
-		var buildsCount = 0;
-		var artifactsUpdatesCount = 0;
-		for (final var buildFile : buildFiles) {
-			final var file = buildFile.getFile();
-			final List<ArtifactUpdateVersion> artifactUpdateVersions;
-			try {
-				final var build = service.findBuild(buildFile);
-				artifactUpdateVersions = service.findArtifactUpdateVersions(
-						build,
-						filters,
-						ignoreSnapshots,
-						ignoreInherited
-				);
-			} catch (final BuildResolveException | ArtifactAvailableVersionsResolveException e) {
-				outputStream.println(Ansi.ansi().fgBrightRed().a(toString(file)).reset());
-				outputStream.println(Ansi.ansi().fgBrightRed().a(toString(e)).reset());
-				outputStream.println();
-				continue;
+		Ensure.greaterThanOrEqualTo("maxGradleBuilds", maxGradleBuilds, 1);
+		try (
+				var service = null != mavenSession
+						? createService(mavenSession.fork(), gradleConnectionPool, cache, staticGradle, maxGradleBuilds)
+						: createService(cache, staticGradle, maxGradleBuilds)
+		) {
+			var buildFiles = service.findBuildFiles(path, maxDepth, respectGitignore);
+			if (!includeOutput) {
+				buildFiles = service.filterBuildFiles(buildFiles);
+			}
+			if (buildFiles.isEmpty()) {
+				outputStream.println("No build file found");
+				return;
 			}
-			if (artifactUpdateVersions.isEmpty()) {
-				if (!short0) {
-					outputStream.println(Ansi.ansi().fgBrightGreen().a(toString(file)).reset());
-					outputStream.println("No artifact update available");
+			service.warmUpBuilds(buildFiles);
+			outputStream.println(buildFiles.size() + " build file(s) found, checking for artifact updates");
+			outputStream.println();
+			service.prepareBuilds(buildFiles);
+			var buildsCount = 0;
+			var artifactsUpdatesCount = 0;
+			for (final var buildFile : buildFiles) {
+				final var file = buildFile.getFile();
+				final Build build;
+				final List<ArtifactUpdateVersion> artifactUpdateVersions;
+				try {
+					build = service.findBuild(buildFile);
+					artifactUpdateVersions = service.findArtifactUpdateVersions(
+							build,
+							filters,
+							ignoreSnapshots,
+							ignoreInherited
+					);
+				} catch (final BuildResolveException | ArtifactAvailableVersionsResolveException e) {
+					outputStream.println(Ansi.ansi().fgBrightRed().a(toString(relativize(file))).reset());
+					outputStream.println(Ansi.ansi().fgBrightRed().a(toString(e)).reset());
 					outputStream.println();
+					continue;
 				}
-			} else {
-				outputStream.println(Ansi.ansi().fgBrightYellow().a(toString(file)).reset());
-				for (final var artifactUpdateVersion : artifactUpdateVersions) {
-					final var artifact = artifactUpdateVersion.getArtifact();
-					final var updateVersion = artifactUpdateVersion.getUpdateVersion();
+				final var fileDescription = toString(relativize(file))
+						+ (build.isApproximate() ? " (approximate)" : Strings.EMPTY);
+				if (artifactUpdateVersions.isEmpty()) {
+					if (!short0) {
+						outputStream.println(Ansi.ansi().fgBrightGreen().a(fileDescription).reset());
+						outputStream.println("No artifact update available");
+						outputStream.println();
+					}
+				} else {
+					outputStream.println(Ansi.ansi().fgBrightYellow().a(fileDescription).reset());
+					for (final var artifactUpdateVersion : artifactUpdateVersions) {
+						final var artifact = artifactUpdateVersion.getArtifact();
+						final var updateVersion = artifactUpdateVersion.getUpdateVersion();
+						outputStream.println(
+								Ansi.ansi()
+										.a("[")
+										.fgBrightBlue()
+										.a(toString(artifact.getType()))
+										.reset()
+										.a("] ")
+										.a(artifact.isVersionInherited() ? "(" : Strings.EMPTY)
+										.a(toString(artifact.getIdentifier()))
+										.a(" ")
+										.fgBrightYellow()
+										.a(artifact.getOptionalVersion().orElseThrow())
+										.reset()
+										.a(" -> ")
+										.fgBrightGreen()
+										.a(updateVersion)
+										.reset()
+										.a(artifact.isVersionInherited() ? ")" : Strings.EMPTY)
+						);
+						++artifactsUpdatesCount;
+					}
+					outputStream.println(artifactUpdateVersions.size() + " artifact update(s) available");
+					outputStream.println();
+				}
+				++buildsCount;
+			}
+			outputStream.println(
+					buildsCount + "/" + buildFiles.size() + " build file(s) checked, " + (
+							0 == artifactsUpdatesCount
+									? "no artifact update available"
+									: artifactsUpdatesCount + " artifact update(s) available"
+					)
+			);
+			for (final var cacheStatistics : service.findCacheStatistics()) {
+				if (0L != cacheStatistics.getLookupCount()) {
 					outputStream.println(
-							Ansi.ansi()
-									.a("[")
-									.fgBrightBlue()
-									.a(toString(artifact.getType()))
-									.reset()
-									.a("] ")
-									.a(artifact.isVersionInherited() ? "(" : Strings.EMPTY)
-									.a(toString(artifact.getIdentifier()))
-									.a(" ")
-									.fgBrightYellow()
-									.a(artifact.getOptionalVersion().orElseThrow())
-									.reset()
-									.a(" -> ")
-									.fgBrightGreen()
-									.a(updateVersion)
-									.reset()
-									.a(artifact.isVersionInherited() ? ")" : Strings.EMPTY)
+							cacheStatistics.getName() + " cache: " + cacheStatistics.getHitCount() + "/"
+									+ cacheStatistics.getLookupCount() + " hit(s) ("
+									+ Math.round(100.0d * cacheStatistics.getHitRate()) + "%)"
 					);
-					++artifactsUpdatesCount;
 				}
-				outputStream.println(artifactUpdateVersions.size() + " artifact update(s) available");
-				outputStream.println();
 			}
-			++buildsCount;
 		}
-		outputStream.println(
-				buildsCount + "/" + buildFiles.size() + " build file(s) checked, " + (
-						0 == artifactsUpdatesCount
-								? "no artifact update available"
-								: artifactsUpdatesCount + " artifact update(s) available"
-				)
-		);
 		final var currentVersion = getCurrentVersion();
 		if (null != currentVersion) {
 			GithubUtils.retrieveOptionalLatestReleaseName(Constants.GITHUB_OWNER_NAME, Constants.GITHUB_REPOSITORY_NAME)
@@ -415,14 +608,139 @@ public final class Application {
 		}
 	}
 
+	/**
+	 * Compile ignore files to snapshot files.
+	 * @param ignoreFiles a {@link List} of ignore files, global ignore files being compiled if it is empty
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the {@link List} of ignore files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	void compileFilters(final List<Path> ignoreFiles) throws IOException {
+		Ensure.notNullAndNotNullElements("ignoreFiles", ignoreFiles);
+		final var files = ignoreFiles.isEmpty()
+				? Service.findGlobalIgnoreFiles()
+				: ignoreFiles;
+		if (files.isEmpty()) {
+			outputStream.println("No ignore file found");
+			return;
+		}
+		for (final var file : files) {
+			final var snapshotFile = ArtifactFilterParser.compile(file);
+			outputStream.println(toString(relativize(file)) + " compiled to " + toString(relativize(snapshotFile)));
+		}
+	}
+
+	/**
+	 * Run as a daemon that handles forwarded runs with a shared <i>Maven</i> session and a shared pool of <i>Gradle</i>
+	 * connections, until it stops.
+	 *
+	 * <p><b>Note</b>: Each run forks the <i>Maven</i> session, so that only its repository metadata and project models
+	 * are reset, while <i>Gradle</i> daemons keep running between runs. The maximum number of <i>Gradle</i> builds
+	 * bounds the shared pool of <i>Gradle</i> connections, and so all forwarded runs together.</p>
+	 * @param socketFile a socket file to listen on
+	 * @param maxGradleBuilds a maximum number of <i>Gradle</i> builds resolved concurrently
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the socket file is {@code null}
+	 * @throws IllegalArgumentException if the maximum number of <i>Gradle</i> builds is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	void runDaemon(final Path socketFile, final int maxGradleBuilds) throws IOException {
+		Ensure.notNull("socketFile", socketFile);
+		Ensure.greaterThanOrEqualTo("maxGradleBuilds", maxGradleBuilds, 1);
+		final var sharedMavenSession = new MavenSession();
+		try (var sharedGradleConnectionPool = new GradleConnectionPool(maxGradleBuilds)) {
+			final var daemon = new Daemon(
+					socketFile,
+					Daemon.DEFAULT_IDLE_TIMEOUT,
+					Daemon.DEFAULT_MEMORY_LIMIT,
+					(requestWorkingDirectory, requestArgs, requestOutputStream, requestErrorStream) -> new Application(
+							requestOutputStream,
+							requestErrorStream,
+							true,
+							requestWorkingDirectory,
+							sharedMavenSession,
+							sharedGradleConnectionPool,
+							null
+					).run(requestArgs)
+			);
+			outputStream.println("Daemon listening on " + toString(socketFile));
+			daemon.run();
+		}
+		outputStream.println("Daemon stopped");
+	}
+
+	/**
+	 * Relativize a file against the working directory if it is absolute and the file is inside it.
+	 * @param file a file
+	 * @return the relativized file or the file itself
+	 * @since 2.4.0
+	 */
+	private Path relativize(final Path file) {
+		return workingDirectory.isAbsolute() && file.startsWith(workingDirectory)
+				? workingDirectory.relativize(file)
+				: file;
+	}
+
 	/**
 	 * Create a service.
+	 * @param cache {@code true} if resolved builds should be cached
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible
+	 * @param maxGradleBuilds a maximum number of <i>Gradle</i> builds resolved concurrently
 	 * @return the service
 	 * @throws IOException might occur with input/output operations
-	 * @since 1.0.0
+	 * @throws IllegalArgumentException if the maximum number of <i>Gradle</i> builds is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	static Service createService(
+			final boolean cache,
+			final boolean staticGradle,
+			final int maxGradleBuilds
+	) throws IOException {
+		return createService(new MavenSession(), null, cache, staticGradle, maxGradleBuilds);
+	}
+
+	/**
+	 * Create a service with a <i>Maven</i> session and an optional shared pool of <i>Gradle</i> connections.
+	 * @param mavenSession a <i>Maven</i> session
+	 * @param gradleConnectionPool a shared pool of <i>Gradle</i> connections or {@code null} to create a new one
+	 * @param cache {@code true} if resolved builds should be cached
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible
+	 * @param maxGradleBuilds a maximum number of <i>Gradle</i> builds resolved concurrently
+	 * @return the service
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the <i>Maven</i> session is {@code null}
+	 * @throws IllegalArgumentException if the maximum number of <i>Gradle</i> builds is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	static Service createService(
+			final MavenSession mavenSession,
+			final GradleConnectionPool gradleConnectionPool,
+			final boolean cache,
+			final boolean staticGradle,
+			final int maxGradleBuilds
+	) throws IOException {
+		final var buildCache = cache
+				? new FileBuildCache(SystemUtils.getXdgCacheDirectory())
+				: BuildCache.NONE;
+		return null != gradleConnectionPool
+				? new Service(mavenSession, buildCache, staticGradle, maxGradleBuilds, gradleConnectionPool)
+				: new Service(mavenSession, buildCache, staticGradle, maxGradleBuilds);
+	}
+
+	/**
+	 * Get the maximum number of <i>Gradle</i> builds resolved concurrently from a command line, or the default one.
+	 *
+	 * <p><b>Note</b>: The default one is not a constant, so that forwarding a run to the daemon does not initialize
+	 * <i>Gradle</i>.</p>
+	 * @param commandLine a command line
+	 * @return the maximum number of <i>Gradle</i> builds
+	 * @throws NumberFormatException if the option value is not an unsigned integer
+	 * @since 2.4.0
 	 */
-	static Service createService() throws IOException {
-		return new Service(new MavenSession());
+	private static int getMaxGradleBuilds(final CommandLine commandLine) {
+		return commandLine.hasOption(OPTION_MAX_GRADLE_BUILDS)
+				? Integer.parseUnsignedInt(commandLine.getOptionValue(OPTION_MAX_GRADLE_BUILDS))
+				: GradleBuildResolver.DEFAULT_PARALLELISM;
 	}
 
 	/**
@@ -473,6 +791,19 @@ public final class Application {
 		return artifactIdentifier.getGroupId() + ":" + artifactIdentifier.getArtifactId();
 	}
 
+	/**
+	 * Get the title.
+	 *
+	 * <p><b>Note</b>: The title is not a constant, so that forwarding a run to the daemon does not initialize
+	 * <i>Maven</i> and <i>Gradle</i>.</p>
+	 * @return the title
+	 * @since 2.4.0
+	 */
+	static String getTitle() {
+		return Constants.NAME + " " + Constants.VERSION
+				+ " (built with Maven " + MavenUtils.VERSION + " and Gradle " + GradleUtils.VERSION + ")";
+	}
+
 	/**
 	 * Get the current version.
 	 * @return the current version
@@ -490,7 +821,15 @@ public final class Application {
 	@ExcludeFromJacocoGeneratedReport
 	public static void main(final String... args) {
 		AnsiConsole.systemInstall();
-		new Application(AnsiConsole.out(), AnsiConsole.err(), true).run(args);
+		new Application(
+				AnsiConsole.out(),
+				AnsiConsole.err(),
+				true,
+				DEFAULT_WORKING_DIRECTORY,
+				null,
+				null,
+				DaemonClient.getDefaultSocketFile()
+		).run(args);
 		AnsiConsole.systemUninstall();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,347 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.mvncheck.core.util.SystemUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Class that describes a daemon, a long-running process that handles invocations forwarded by clients on a
+ * <i>Unix</i> domain socket by {@link DaemonClient}, so that they do not pay for the JVM warm-up and the <i>Maven</i>
+ * session construction.
+ *
+ * <p><b>Note</b>: Invocations are handled one at a time. The daemon stops once it has been idle for the idle timeout
+ * or once the heap memory used after the last garbage collection exceeds the memory limit.</p>
+ * @since 2.4.0
+ */
+final class Daemon {
+
+	/**
+	 * Default idle timeout.
+	 * @since 2.4.0
+	 */
+	static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(3L);
+
+	/**
+	 * Default memory limit, in bytes.
+	 * @since 2.4.0
+	 */
+	static final long DEFAULT_MEMORY_LIMIT = Runtime.getRuntime().maxMemory() / 4L * 3L;
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Socket file.
+	 * @since 2.4.0
+	 */
+	private final Path socketFile;
+
+	/**
+	 * Idle timeout.
+	 * @since 2.4.0
+	 */
+	private final Duration idleTimeout;
+
+	/**
+	 * Memory limit, in bytes.
+	 * @since 2.4.0
+	 */
+	private final long memoryLimit;
+
+	/**
+	 * Request handler.
+	 * @since 2.4.0
+	 */
+	private final RequestHandler requestHandler;
+
+	/**
+	 * Constructor.
+	 * @param socketFile a socket file
+	 * @param idleTimeout an idle timeout
+	 * @param memoryLimit a memory limit, in bytes
+	 * @param requestHandler a request handler
+	 * @throws NullPointerException if the socket file, the idle timeout or the request handler is {@code null}
+	 * @throws IllegalArgumentException if the idle timeout or the memory limit is not positive
+	 * @since 2.4.0
+	 */
+	Daemon(
+			final Path socketFile,
+			final Duration idleTimeout,
+			final long memoryLimit,
+			final RequestHandler requestHandler
+	) {
+		Ensure.notNull("socketFile", socketFile);
+		Ensure.notNull("idleTimeout", idleTimeout);
+		Ensure.greaterThan("idleTimeout", idleTimeout.toMillis(), 0L);
+		Ensure.greaterThan("memoryLimit", memoryLimit, 0L);
+		Ensure.notNull("requestHandler", requestHandler);
+		this.socketFile = socketFile;
+		this.idleTimeout = idleTimeout;
+		this.memoryLimit = memoryLimit;
+		this.requestHandler = requestHandler;
+	}
+
+	/**
+	 * Run the daemon until it is idle for the idle timeout or it exceeds the memory limit.
+	 * @throws IOException might occur with input/output operations
+	 * @throws AccessDeniedException if the directory of the socket file is not owned by the current user
+	 * @throws IllegalStateException if another daemon is already listening on the socket file
+	 * @since 2.4.0
+	 */
+	void run() throws IOException {
+		if (DaemonClient.isListening(socketFile)) {
+			throw new IllegalStateException(
+					"Another daemon is already listening on the " + ToString.toString(socketFile) + " socket file"
+			);
+		}
+		SystemUtils.createUserDirectory(socketFile.toAbsolutePath().getParent());
+		Files.deleteIfExists(socketFile);
+		try (var serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+			serverChannel.bind(UnixDomainSocketAddress.of(socketFile));
+			serverChannel.configureBlocking(false);
+			try (var selector = Selector.open()) {
+				serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+				logger.info("Listening on the {} socket file", () -> ToString.toString(socketFile));
+				while (true) {
+					if (0 == selector.select(idleTimeout.toMillis())) {
+						logger.info("Stopping after being idle for {}", idleTimeout);
+						return;
+					}
+					selector.selectedKeys().clear();
+					final var channel = serverChannel.accept();
+					if (null == channel) {
+						continue;
+					}
+					var handled = false;
+					try (channel) {
+						channel.configureBlocking(true);
+						handled = handle(channel);
+					} catch (final IOException e) {
+						logger.warn("Unable to handle a request: {}", e::getMessage);
+						logger.debug(e::getMessage, e);
+					}
+					if (!handled) {
+						continue;
+					}
+					final var usedMemory = getUsedMemory();
+					if (memoryLimit < usedMemory) {
+						logger.info(
+								"Stopping after exceeding the memory limit ({} > {} bytes)",
+								usedMemory,
+								memoryLimit
+						);
+						return;
+					}
+				}
+			}
+		} finally {
+			Files.deleteIfExists(socketFile);
+		}
+	}
+
+	/**
+	 * Handle a request read from a {@link SocketChannel}, writing the response frames to it.
+	 * @param channel a {@link SocketChannel}
+	 * @return {@code true} if a request has been handled, {@code false} if the connection has been closed before
+	 * @throws IOException might occur with input/output operations or if the request is unexpected
+	 * @since 2.4.0
+	 */
+	private boolean handle(final SocketChannel channel) throws IOException {
+		final var input = new DataInputStream(Channels.newInputStream(channel));
+		final var output = new DataOutputStream(Channels.newOutputStream(channel));
+		final int protocolVersion;
+		try {
+			protocolVersion = input.readInt();
+		} catch (final EOFException e) {
+			return false;
+		}
+		if (DaemonClient.PROTOCOL_VERSION != protocolVersion) {
+			throw new IOException("Unexpected protocol version");
+		}
+		final var workingDirectory = Path.of(input.readUTF());
+		final var args = new String[input.readInt()];
+		for (var i = 0; i < args.length; ++i) {
+			args[i] = input.readUTF();
+		}
+		logger.info("Handling a request from the {} working directory", () -> ToString.toString(workingDirectory));
+		try (
+				var outputStream = createPrintStream(output, DaemonClient.FRAME_OUTPUT);
+				var errorStream = createPrintStream(output, DaemonClient.FRAME_ERROR)
+		) {
+			requestHandler.handle(workingDirectory, args, outputStream, errorStream);
+		}
+		synchronized (output) {
+			output.writeByte(DaemonClient.FRAME_END);
+			output.flush();
+		}
+		return true;
+	}
+
+	/**
+	 * Create a {@link PrintStream} that writes frames of a type to a {@link DataOutputStream}.
+	 *
+	 * <p><b>Note</b>: Closing the {@link PrintStream} does not close the {@link DataOutputStream}.</p>
+	 * @param output a {@link DataOutputStream} shared by frames of all types
+	 * @param type a type of frames
+	 * @return the created {@link PrintStream}
+	 * @since 2.4.0
+	 */
+	private static PrintStream createPrintStream(final DataOutputStream output, final byte type) {
+		return new PrintStream(new FrameOutputStream(output, type), true, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Get the heap memory used after the last garbage collection, in bytes.
+	 * @return the used memory
+	 * @since 2.4.0
+	 */
+	private static long getUsedMemory() {
+		var usedMemory = 0L;
+		for (final var memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (MemoryType.HEAP == memoryPool.getType()) {
+				final var collectionUsage = memoryPool.getCollectionUsage();
+				usedMemory += null != collectionUsage
+						? collectionUsage.getUsed()
+						: memoryPool.getUsage().getUsed();
+			}
+		}
+		return usedMemory;
+	}
+
+	/**
+	 * Interface that describes a request handler.
+	 *
+	 * <p><b>Note</b>: This interface is a {@link FunctionalInterface} whose abstract method is
+	 * {@link #handle(Path, String[], PrintStream, PrintStream)}.</p>
+	 * @since 2.4.0
+	 */
+	@FunctionalInterface
+	interface RequestHandler {
+
+		/**
+		 * Handle a request.
+		 * @param workingDirectory the working directory of the client
+		 * @param args an array of arguments
+		 * @param outputStream a standard output {@link PrintStream}
+		 * @param errorStream an error output {@link PrintStream}
+		 * @since 2.4.0
+		 */
+		void handle(Path workingDirectory, String[] args, PrintStream outputStream, PrintStream errorStream);
+	}
+
+	/**
+	 * Class that describes an {@link OutputStream} that writes frames of a type to a {@link DataOutputStream}.
+	 * @since 2.4.0
+	 */
+	private static final class FrameOutputStream extends OutputStream {
+
+		/**
+		 * {@link DataOutputStream} shared by frames of all types.
+		 * @since 2.4.0
+		 */
+		private final DataOutputStream output;
+
+		/**
+		 * Type of frames.
+		 * @since 2.4.0
+		 */
+		private final byte type;
+
+		/**
+		 * Constructor.
+		 * @param output a {@link DataOutputStream} shared by frames of all types
+		 * @param type a type of frames
+		 * @since 2.4.0
+		 */
+		private FrameOutputStream(final DataOutputStream output, final byte type) {
+			this.output = output;
+			this.type = type;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @since 2.4.0
+		 */
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[] {(byte) b}, 0, 1);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @since 2.4.0
+		 */
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+			if (0 == len) {
+				return;
+			}
+			synchronized (output) {
+				output.writeByte(type);
+				output.writeInt(len);
+				output.write(b, off, len);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @since 2.4.0
+		 */
+		@Override
+		public void flush() throws IOException {
+			synchronized (output) {
+				output.flush();
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mvncheck.core.util.SystemUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Utility class that helps to forward invocations to a {@link Daemon}.
+ *
+ * <p><b>Note</b>: This class does not log anything so that forwarding an invocation does not pay for the logging
+ * initialization.</p>
+ * @since 2.4.0
+ */
+final class DaemonClient {
+
+	/**
+	 * Version of the protocol, to be incremented each time it changes.
+	 * @since 2.4.0
+	 */
+	static final int PROTOCOL_VERSION = 1;
+
+	/**
+	 * Type of a frame that ends a response.
+	 * @since 2.4.0
+	 */
+	static final byte FRAME_END = 0;
+
+	/**
+	 * Type of a frame of the standard output.
+	 * @since 2.4.0
+	 */
+	static final byte FRAME_OUTPUT = 1;
+
+	/**
+	 * Type of a frame of the error output.
+	 * @since 2.4.0
+	 */
+	static final byte FRAME_ERROR = 2;
+
+	/**
+	 * Name of the socket file.
+	 * @since 2.4.0
+	 */
+	private static final String SOCKET_FILE_NAME = "daemon.sock";
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	private DaemonClient() {}
+
+	/**
+	 * Forward an invocation to the daemon listening on the socket file, writing its response to the given
+	 * {@link PrintStream}s.
+	 * @param socketFile a socket file
+	 * @param workingDirectory a working directory
+	 * @param args an array of arguments
+	 * @param outputStream a standard output {@link PrintStream}
+	 * @param errorStream an error output {@link PrintStream}
+	 * @return {@code true} if the invocation has been forwarded, {@code false} if no daemon is listening
+	 * @throws IOException might occur with input/output operations or if the response is unexpected
+	 * @throws NullPointerException if any argument is {@code null}
+	 * @since 2.4.0
+	 */
+	static boolean forward(
+			final Path socketFile,
+			final Path workingDirectory,
+			final String[] args,
+			final PrintStream outputStream,
+			final PrintStream errorStream
+	) throws IOException {
+		Ensure.notNull("socketFile", socketFile);
+		Ensure.notNull("workingDirectory", workingDirectory);
+		Ensure.notNullAndNotNullElements("args", args);
+		Ensure.notNull("outputStream", outputStream);
+		Ensure.notNull("errorStream", errorStream);
+		try (var channel = connect(socketFile)) {
+			if (null == channel) {
+				return false;
+			}
+			final var output = new DataOutputStream(Channels.newOutputStream(channel));
+			output.writeInt(PROTOCOL_VERSION);
+			output.writeUTF(workingDirectory.toAbsolutePath().normalize().toString());
+			output.writeInt(args.length);
+			for (final var arg : args) {
+				output.writeUTF(arg);
+			}
+			output.flush();
+			final var input = new DataInputStream(Channels.newInputStream(channel));
+			while (true) {
+				final var type = input.readByte();
+				if (FRAME_END == type) {
+					return true;
+				}
+				final var bytes = new byte[input.readInt()];
+				input.readFully(bytes);
+				final var text = new String(bytes, StandardCharsets.UTF_8);
+				switch (type) {
+					case FRAME_OUTPUT -> outputStream.print(text);
+					case FRAME_ERROR -> errorStream.print(text);
+					default -> throw new IOException("Unexpected frame type");
+				}
+			}
+		} finally {
+			outputStream.flush();
+			errorStream.flush();
+		}
+	}
+
+	/**
+	 * Test whether a daemon is listening on the socket file.
+	 * @param socketFile a socket file
+	 * @return {@code true} if a daemon is listening on the socket file
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the socket file is {@code null}
+	 * @since 2.4.0
+	 */
+	static boolean isListening(final Path socketFile) throws IOException {
+		Ensure.notNull("socketFile", socketFile);
+		try (var channel = connect(socketFile)) {
+			return null != channel;
+		}
+	}
+
+	/**
+	 * Get the default socket file, in the XDG runtime directory.
+	 * @return the default socket file
+	 * @since 2.4.0
+	 */
+	static Path getDefaultSocketFile() {
+		return SystemUtils.getXdgRuntimeDirectory().resolve(SOCKET_FILE_NAME);
+	}
+
+	/**
+	 * Connect to the daemon listening on the socket file.
+	 * @param socketFile a socket file
+	 * @return the connected {@link SocketChannel} or {@code null} if no daemon is listening
+	 * @since 2.4.0
+	 */
+	private static SocketChannel connect(final Path socketFile) {
+		if (!Files.exists(socketFile)) {
+			return null;
+		}
+		try {
+			return SocketChannel.open(UnixDomainSocketAddress.of(socketFile));
+		} catch (final IOException e) {
+			return null;
+		}
+	}
+}
\ No newline at end of file
@@ -29,14 +29,20 @@ import com.github.alexisjehan.mvncheck.core.component.artifact.version.ArtifactU
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.resolver.ArtifactAvailableVersionsResolver;
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.resolver.MavenArtifactAvailableVersionsResolver;
 import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.BuildResolver;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleBuildResolver;
+import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleConnectionPool;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.MavenBuildResolver;
+import com.github.alexisjehan.mvncheck.core.component.build.resolver.StaticGradleBuildResolver;
 import com.github.alexisjehan.mvncheck.core.component.filter.artifact.ArtifactFilter;
 import com.github.alexisjehan.mvncheck.core.component.filter.artifact.CompositeArtifactFilter;
 import com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser.ArtifactFilterParser;
+import com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser.IgnoreFileResolver;
+import com.github.alexisjehan.mvncheck.core.component.filter.path.GitignorePathFilter;
 import com.github.alexisjehan.mvncheck.core.component.filter.version.VersionFilter;
 import com.github.alexisjehan.mvncheck.core.component.filter.version.factory.CompositeVersionFilterFactory;
 import com.github.alexisjehan.mvncheck.core.component.filter.version.factory.QualifierVersionFilterFactory;
@@ -46,21 +52,25 @@ import com.github.alexisjehan.mvncheck.core.component.session.MavenSession;
 import com.github.alexisjehan.mvncheck.core.util.SystemUtils;
 
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Class that describes the service.
  * @since 1.0.0
  */
-public final class Service {
+public final class Service implements AutoCloseable {
 
 	/**
 	 * Ignore file name.
@@ -68,6 +78,12 @@ public final class Service {
 	 */
 	private static final String IGNORE_FILE_NAME = ".mvnchk-ignore";
 
+	/**
+	 * <i>Git</i> directory name.
+	 * @since 2.4.0
+	 */
+	private static final String GIT_DIRECTORY_NAME = ".git";
+
 	/**
 	 * {@link Set} of build resolvers.
 	 * @since 1.0.0
@@ -101,6 +117,12 @@ public final class Service {
 	 */
 	private final ArtifactFilter xdgArtifactFilter;
 
+	/**
+	 * Resolver of build artifact filters from ignore files.
+	 * @since 2.4.0
+	 */
+	private final IgnoreFileResolver ignoreFileResolver = new IgnoreFileResolver(IGNORE_FILE_NAME);
+
 	/**
 	 * Constructor with a <i>Maven</i> session.
 	 * @param mavenSession a <i>Maven</i> session
@@ -109,10 +131,131 @@ public final class Service {
 	 * @since 1.0.0
 	 */
 	public Service(final MavenSession mavenSession) throws IOException {
+		this(mavenSession, BuildCache.NONE);
+	}
+
+	/**
+	 * Constructor with a <i>Maven</i> session and a build cache.
+	 * @param mavenSession a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the <i>Maven</i> session or the build cache is {@code null}
+	 * @since 2.4.0
+	 */
+	public Service(final MavenSession mavenSession, final BuildCache buildCache) throws IOException {
+		this(mavenSession, buildCache, false);
+	}
+
+	/**
+	 * Constructor with a <i>Maven</i> session, a build cache and whether <i>Gradle</i> build files should be read
+	 * statically.
+	 * @param mavenSession a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible, falling
+	 *        back to <i>Gradle</i> otherwise
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the <i>Maven</i> session or the build cache is {@code null}
+	 * @since 2.4.0
+	 */
+	public Service(
+			final MavenSession mavenSession,
+			final BuildCache buildCache,
+			final boolean staticGradle
+	) throws IOException {
+		this(mavenSession, buildCache, staticGradle, GradleBuildResolver.DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructor with a <i>Maven</i> session, a build cache, whether <i>Gradle</i> build files should be read
+	 * statically and a maximum number of <i>Gradle</i> builds resolved concurrently.
+	 * @param mavenSession a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible, falling
+	 *        back to <i>Gradle</i> otherwise
+	 * @param maxGradleBuilds a maximum number of <i>Gradle</i> builds resolved concurrently, each of them running its
+	 *        own daemon
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the <i>Maven</i> session or the build cache is {@code null}
+	 * @throws IllegalArgumentException if the maximum number of <i>Gradle</i> builds is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public Service(
+			final MavenSession mavenSession,
+			final BuildCache buildCache,
+			final boolean staticGradle,
+			final int maxGradleBuilds
+	) throws IOException {
+		this(
+				mavenSession,
+				buildCache,
+				staticGradle,
+				new GradleBuildResolver(Ensure.notNull("buildCache", buildCache), maxGradleBuilds)
+		);
+	}
+
+	/**
+	 * Constructor with a <i>Maven</i> session, a build cache, whether <i>Gradle</i> build files should be read
+	 * statically, a maximum number of <i>Gradle</i> builds resolved concurrently and a shared pool of <i>Gradle</i>
+	 * connections.
+	 *
+	 * <p><b>Note</b>: The pool of <i>Gradle</i> connections is not closed with this service, so that the daemons it
+	 * started could be reused by later services sharing it. Its own maximum number of concurrent builds still applies
+	 * to all of them.</p>
+	 * @param mavenSession a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible, falling
+	 *        back to <i>Gradle</i> otherwise
+	 * @param maxGradleBuilds a maximum number of <i>Gradle</i> builds resolved concurrently by this service
+	 * @param gradleConnectionPool a shared pool of <i>Gradle</i> connections
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the <i>Maven</i> session, the build cache or the pool of <i>Gradle</i>
+	 *         connections is {@code null}
+	 * @throws IllegalArgumentException if the maximum number of <i>Gradle</i> builds is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public Service(
+			final MavenSession mavenSession,
+			final BuildCache buildCache,
+			final boolean staticGradle,
+			final int maxGradleBuilds,
+			final GradleConnectionPool gradleConnectionPool
+	) throws IOException {
+		this(
+				mavenSession,
+				buildCache,
+				staticGradle,
+				new GradleBuildResolver(
+						Ensure.notNull("buildCache", buildCache),
+						maxGradleBuilds,
+						Ensure.notNull("gradleConnectionPool", gradleConnectionPool)
+				)
+		);
+	}
+
+	/**
+	 * Private constructor with a <i>Maven</i> session, a build cache, whether <i>Gradle</i> build files should be read
+	 * statically and a <i>Gradle</i> build resolver.
+	 * @param mavenSession a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @param staticGradle {@code true} if <i>Gradle</i> build files should be read statically when possible, falling
+	 *        back to <i>Gradle</i> otherwise
+	 * @param gradleBuildResolver a <i>Gradle</i> build resolver
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the <i>Maven</i> session is {@code null}
+	 * @since 2.4.0
+	 */
+	private Service(
+			final MavenSession mavenSession,
+			final BuildCache buildCache,
+			final boolean staticGradle,
+			final GradleBuildResolver gradleBuildResolver
+	) throws IOException {
 		this(
 				Set.of(
-						new MavenBuildResolver(Ensure.notNull("mavenSession", mavenSession)),
-						new GradleBuildResolver()
+						new MavenBuildResolver(Ensure.notNull("mavenSession", mavenSession), buildCache),
+						staticGradle
+								? new StaticGradleBuildResolver(gradleBuildResolver)
+								: gradleBuildResolver
 				),
 				new MavenArtifactAvailableVersionsResolver(mavenSession)
 		);
@@ -139,6 +282,15 @@ public final class Service {
 		xdgArtifactFilter = createXdgArtifactFilter();
 	}
 
+	/**
+	 * Close all build resolvers, releasing the resources they used.
+	 * @since 2.4.0
+	 */
+	@Override
+	public void close() {
+		buildResolvers.forEach(BuildResolver::close);
+	}
+
 	/**
 	 * Find a {@link List} of build files in the given path, recursively.
 	 * @param path a path
@@ -150,29 +302,58 @@ public final class Service {
 	 * @since 1.1.0
 	 */
 	public List<BuildFile> findBuildFiles(final Path path, final int maxDepth) throws IOException {
+		return findBuildFiles(path, maxDepth, false);
+	}
+
+	/**
+	 * Find a {@link List} of build files in the given path, recursively.
+	 *
+	 * <p><b>Note</b>: If <i>Git</i> ignore files are respected, they are loaded while walking and ignored directories
+	 * are pruned rather than filtered afterwards.</p>
+	 * @param path a path
+	 * @param maxDepth a maximum depth
+	 * @param respectGitignore {@code true} if paths ignored by <i>Git</i> ignore files should be skipped
+	 * @return the {@link List} of build files
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the path is {@code null}
+	 * @throws IllegalArgumentException if the path does not exist or if the maximum depth is lower than {@code 0}
+	 * @since 2.4.0
+	 */
+	public List<BuildFile> findBuildFiles(
+			final Path path,
+			final int maxDepth,
+			final boolean respectGitignore
+	) throws IOException {
 		Ensure.notNullAndExists("path", path);
 		Ensure.greaterThanOrEqualTo("maxDepth", maxDepth, 0);
-		try (var stream = Files.walk(path, Integer.MAX_VALUE > maxDepth ? maxDepth + 1 : Integer.MAX_VALUE)) {
-			return stream
-					.filter(Files::isRegularFile)
-					.map(file -> {
-						final var fileName = file.getFileName().toString();
-						return BuildFileType.optionalValueOf(fileName)
-								.map(type -> new BuildFile(type, file));
-					})
-					.flatMap(Optional::stream)
-					.sorted(
-							Comparator.<BuildFile, String>comparing(
-											buildFile -> buildFile.getFile().getParent().toString(),
-											Comparators.NUMBER_AWARE
-									)
-									.thenComparing(
-											buildFile -> buildFile.getFile().getFileName().toString(),
-											Comparators.NUMBER_AWARE
-									)
-					)
-					.toList();
+		final var depth = Integer.MAX_VALUE > maxDepth ? maxDepth + 1 : Integer.MAX_VALUE;
+		final List<Path> files;
+		if (respectGitignore) {
+			files = walkRespectingGitignore(path, depth);
+		} else {
+			try (var stream = Files.walk(path, depth)) {
+				files = stream.toList();
+			}
 		}
+		return files.stream()
+				.filter(Files::isRegularFile)
+				.map(file -> {
+					final var fileName = file.getFileName().toString();
+					return BuildFileType.optionalValueOf(fileName)
+							.map(type -> new BuildFile(type, file));
+				})
+				.flatMap(Optional::stream)
+				.sorted(
+						Comparator.<BuildFile, String>comparing(
+										buildFile -> buildFile.getFile().getParent().toString(),
+										Comparators.NUMBER_AWARE
+								)
+								.thenComparing(
+										buildFile -> buildFile.getFile().getFileName().toString(),
+										Comparators.NUMBER_AWARE
+								)
+				)
+				.toList();
 	}
 
 	/**
@@ -196,6 +377,58 @@ public final class Service {
 				.toList();
 	}
 
+	/**
+	 * Warm up builds for the given {@link List} of build files in the background, so that each build resolver could
+	 * start slow work such as launching a daemon while others prepare their builds.
+	 * @param buildFiles a {@link List} of build files
+	 * @throws NullPointerException if the {@link List} of build files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	public void warmUpBuilds(final List<BuildFile> buildFiles) {
+		Ensure.notNullAndNotNullElements("buildFiles", buildFiles);
+		for (final var buildResolver : buildResolvers) {
+			final var fileTypes = buildResolver.getFileTypes();
+			final var buildResolverBuildFiles = buildFiles.stream()
+					.filter(buildFile -> fileTypes.contains(buildFile.getType()))
+					.toList();
+			if (!buildResolverBuildFiles.isEmpty()) {
+				buildResolver.warmUp(buildResolverBuildFiles);
+			}
+		}
+	}
+
+	/**
+	 * Prepare builds for the given {@link List} of build files, so that each build resolver could resolve its build
+	 * files together.
+	 * @param buildFiles a {@link List} of build files
+	 * @throws NullPointerException if the {@link List} of build files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	public void prepareBuilds(final List<BuildFile> buildFiles) {
+		Ensure.notNullAndNotNullElements("buildFiles", buildFiles);
+		for (final var buildResolver : buildResolvers) {
+			final var fileTypes = buildResolver.getFileTypes();
+			final var buildResolverBuildFiles = buildFiles.stream()
+					.filter(buildFile -> fileTypes.contains(buildFile.getType()))
+					.toList();
+			if (!buildResolverBuildFiles.isEmpty()) {
+				buildResolver.prepare(buildResolverBuildFiles);
+			}
+		}
+	}
+
+	/**
+	 * Find the {@link List} of statistics of caches used by build resolvers, sorted by name.
+	 * @return the {@link List} of cache statistics
+	 * @since 2.4.0
+	 */
+	public List<CacheStatistics> findCacheStatistics() {
+		return buildResolvers.stream()
+				.flatMap(buildResolver -> buildResolver.getCacheStatistics().stream())
+				.sorted(Comparator.comparing(CacheStatistics::getName))
+				.toList();
+	}
+
 	/**
 	 * Find the build for the given build file.
 	 * @param buildFile a build file
@@ -260,17 +493,21 @@ public final class Service {
 				.map(artifactAvailableVersions -> {
 					final var artifact = artifactAvailableVersions.getArtifact();
 					final var artifactVersion = artifact.getOptionalVersion().orElseThrow();
-					final var availableVersions = new ArrayList<>(artifactAvailableVersions.getAvailableVersions());
+					final var availableVersions = artifactAvailableVersions.getAvailableVersions();
 					if (availableVersions.isEmpty()) {
 						return Optional.<ArtifactUpdateVersion>empty();
 					}
-					Collections.reverse(availableVersions);
-					return availableVersions.stream()
-							.filter(updateVersion -> artifactFilter.accept(artifact, updateVersion))
-							.filter(versionFilterFactory.create(artifactVersion)::accept)
-							.findAny()
-							.filter(Predicate.not(artifactVersion::equals))
-							.map(updateVersion -> new ArtifactUpdateVersion(artifact, updateVersion));
+					final var versionFilter = versionFilterFactory.create(artifactVersion);
+					final var iterator = availableVersions.listIterator(availableVersions.size());
+					while (iterator.hasPrevious()) {
+						final var updateVersion = iterator.previous();
+						if (artifactFilter.accept(artifact, updateVersion) && versionFilter.accept(updateVersion)) {
+							return Optional.of(updateVersion)
+									.filter(Predicate.not(artifactVersion::equals))
+									.map(version -> new ArtifactUpdateVersion(artifact, version));
+						}
+					}
+					return Optional.<ArtifactUpdateVersion>empty();
 				})
 				.flatMap(Optional::stream)
 				.toList();
@@ -302,10 +539,11 @@ public final class Service {
 	 * @since 1.0.0
 	 */
 	static ArtifactFilter createUserArtifactFilter() throws IOException {
-		final var userIgnoreFile = SystemUtils.getUserHomeDirectory().resolve(IGNORE_FILE_NAME);
-		if (!Files.isRegularFile(userIgnoreFile)) {
+		final var optionalUserIgnoreFile = findUserIgnoreFile();
+		if (optionalUserIgnoreFile.isEmpty()) {
 			return ArtifactFilter.ACCEPT_ALL;
 		}
+		final var userIgnoreFile = optionalUserIgnoreFile.get();
 		return ArtifactFilterParser.parse(userIgnoreFile);
 	}
 
@@ -316,11 +554,7 @@ public final class Service {
 	 * @since 2.3.0
 	 */
 	static ArtifactFilter createXdgArtifactFilter() throws IOException {
-		final var optionalXdgIgnoreFile = SystemUtils.getXdgConfigDirectories()
-				.stream()
-				.map(xdgDirectory -> xdgDirectory.resolve(IGNORE_FILE_NAME))
-				.filter(Files::isRegularFile)
-				.findFirst();
+		final var optionalXdgIgnoreFile = findXdgIgnoreFile();
 		if (optionalXdgIgnoreFile.isEmpty()) {
 			return ArtifactFilter.ACCEPT_ALL;
 		}
@@ -328,20 +562,119 @@ public final class Service {
 		return ArtifactFilterParser.parse(xdgIgnoreFile);
 	}
 
+	/**
+	 * Find global ignore files, which are the user ignore file and the XDG ignore file if they exist.
+	 * @return the {@link List} of global ignore files
+	 * @since 2.4.0
+	 */
+	public static List<Path> findGlobalIgnoreFiles() {
+		return Stream.of(findUserIgnoreFile(), findXdgIgnoreFile())
+				.flatMap(Optional::stream)
+				.toList();
+	}
+
+	/**
+	 * Find the user ignore file.
+	 * @return an {@link Optional} of the user ignore file
+	 * @since 2.4.0
+	 */
+	private static Optional<Path> findUserIgnoreFile() {
+		return Optional.of(SystemUtils.getUserHomeDirectory().resolve(IGNORE_FILE_NAME))
+				.filter(Files::isRegularFile);
+	}
+
+	/**
+	 * Find the XDG ignore file in the first XDG configuration directory that contains one.
+	 * @return an {@link Optional} of the XDG ignore file
+	 * @since 2.4.0
+	 */
+	private static Optional<Path> findXdgIgnoreFile() {
+		return SystemUtils.getXdgConfigDirectories()
+				.stream()
+				.map(xdgDirectory -> xdgDirectory.resolve(IGNORE_FILE_NAME))
+				.filter(Files::isRegularFile)
+				.findFirst();
+	}
+
 	/**
 	 * Create the build artifact filter for the given build file.
+	 *
+	 * <p><b>Note</b>: Ignore files of parent directories are inherited up to the root directory of the enclosing
+	 * <i>Git</i> repository, and each of them is parsed once for all builds.</p>
 	 * @param buildFile a build file
 	 * @return the build artifact filter
 	 * @throws IOException might occur with input/output operations
 	 * @throws NullPointerException if the build file is {@code null}
 	 * @since 1.0.0
 	 */
-	static ArtifactFilter createBuildArtifactFilter(final BuildFile buildFile) throws IOException {
+	ArtifactFilter createBuildArtifactFilter(final BuildFile buildFile) throws IOException {
 		Ensure.notNull("buildFile", buildFile);
-		final var buildIgnoreFile = buildFile.getFile().getParent().resolve(IGNORE_FILE_NAME);
-		if (!Files.isRegularFile(buildIgnoreFile)) {
-			return ArtifactFilter.ACCEPT_ALL;
-		}
-		return ArtifactFilterParser.parse(buildIgnoreFile);
+		return ignoreFileResolver.resolve(buildFile.getFile().toAbsolutePath().getParent());
+	}
+
+	/**
+	 * Walk the given path, skipping paths ignored by <i>Git</i> ignore files.
+	 * @param path a path
+	 * @param maxDepth a maximum depth
+	 * @return the {@link List} of walked paths
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	private static List<Path> walkRespectingGitignore(final Path path, final int maxDepth) throws IOException {
+		final var paths = new ArrayList<Path>();
+		final var gitignorePathFilters = new ArrayDeque<GitignorePathFilter>();
+		final var directories = new ArrayDeque<Path>();
+		Files.walkFileTree(path, Set.of(), maxDepth, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(
+					final Path directory,
+					final BasicFileAttributes attributes
+			) throws IOException {
+				if (!directory.equals(path) && (
+						GIT_DIRECTORY_NAME.equals(directory.getFileName().toString())
+								|| isIgnored(directory, true)
+				)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				paths.add(directory);
+				final var optionalGitignorePathFilter = GitignorePathFilter.of(directory);
+				if (optionalGitignorePathFilter.isPresent()) {
+					gitignorePathFilters.push(optionalGitignorePathFilter.get());
+					directories.push(directory);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+				if (!isIgnored(file, attributes.isDirectory())) {
+					paths.add(file);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(final Path directory, final IOException exception)
+					throws IOException {
+				if (null != exception) {
+					throw exception;
+				}
+				if (!directories.isEmpty() && directory.equals(directories.peek())) {
+					directories.pop();
+					gitignorePathFilters.pop();
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			private boolean isIgnored(final Path file, final boolean isDirectory) {
+				return gitignorePathFilters.stream()
+						.map(gitignorePathFilter -> gitignorePathFilter.isIgnored(file, isDirectory))
+						.flatMap(Optional::stream)
+						.findFirst()
+						.orElse(false);
+			}
+		});
+		return paths;
 	}
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -63,7 +63,13 @@ public final class Build {
 	private final List<Artifact<ArtifactType>> artifacts;
 
 	/**
-	 * Constructor.
+	 * Whether repositories and artifacts are approximate.
+	 * @since 2.4.0
+	 */
+	private final boolean approximate;
+
+	/**
+	 * Constructor of an exact build.
 	 * @param file a file
 	 * @param repositories a {@link List} of repositories
 	 * @param artifacts a {@link List} of artifacts
@@ -71,11 +77,31 @@ public final class Build {
 	 *         artifacts or any of them is {@code null}
 	 * @since 1.0.0
 	 */
-	@SuppressWarnings("unchecked")
 	public Build(
 			final BuildFile file,
 			final List<Repository> repositories,
 			final List<? extends Artifact<?>> artifacts
+	) {
+		this(file, repositories, artifacts, false);
+	}
+
+	/**
+	 * Constructor.
+	 * @param file a file
+	 * @param repositories a {@link List} of repositories
+	 * @param artifacts a {@link List} of artifacts
+	 * @param approximate {@code true} if repositories and artifacts are approximate, such as when they are read
+	 *        without evaluating the build
+	 * @throws NullPointerException if the file, the {@link List} of repositories, any of them, the {@link List} of
+	 *         artifacts or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	@SuppressWarnings("unchecked")
+	public Build(
+			final BuildFile file,
+			final List<Repository> repositories,
+			final List<? extends Artifact<?>> artifacts,
+			final boolean approximate
 	) {
 		Ensure.notNull("file", file);
 		Ensure.notNullAndNotNullElements("repositories", repositories);
@@ -83,6 +109,7 @@ public final class Build {
 		this.file = file;
 		this.repositories = List.copyOf(repositories);
 		this.artifacts = (List<Artifact<ArtifactType>>) List.copyOf(artifacts);
+		this.approximate = approximate;
 	}
 
 	/**
@@ -99,7 +126,8 @@ public final class Build {
 		}
 		return Equals.equals(file, other.file)
 				&& Equals.equals(repositories, other.repositories)
-				&& Equals.equals(artifacts, other.artifacts);
+				&& Equals.equals(artifacts, other.artifacts)
+				&& Equals.equals(approximate, other.approximate);
 	}
 
 	/**
@@ -111,7 +139,8 @@ public final class Build {
 		return HashCode.of(
 				HashCode.hashCode(file),
 				HashCode.hashCode(repositories),
-				HashCode.hashCode(artifacts)
+				HashCode.hashCode(artifacts),
+				HashCode.hashCode(approximate)
 		);
 	}
 
@@ -125,7 +154,8 @@ public final class Build {
 				this,
 				Pair.of("file", ToString.toString(file)),
 				Pair.of("repositories", ToString.toString(repositories)),
-				Pair.of("artifacts", ToString.toString(artifacts))
+				Pair.of("artifacts", ToString.toString(artifacts)),
+				Pair.of("approximate", ToString.toString(approximate))
 		);
 	}
 
@@ -155,4 +185,13 @@ public final class Build {
 	public List<Artifact<ArtifactType>> getArtifacts() {
 		return artifacts;
 	}
+
+	/**
+	 * Get whether repositories and artifacts are approximate.
+	 * @return {@code true} if repositories and artifacts are approximate
+	 * @since 2.4.0
+	 */
+	public boolean isApproximate() {
+		return approximate;
+	}
 }
\ No newline at end of file
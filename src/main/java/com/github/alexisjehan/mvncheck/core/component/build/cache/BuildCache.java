@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Interface that describes a cache of builds, invalidated when any of their input files or their context changes.
+ * @since 2.4.0
+ */
+public interface BuildCache {
+
+	/**
+	 * Build cache that never stores anything.
+	 * @since 2.4.0
+	 */
+	BuildCache NONE = new BuildCache() {
+
+		/**
+		 * {@inheritDoc}
+		 * @throws NullPointerException if the file or the context is {@code null}
+		 * @since 2.4.0
+		 */
+		@Override
+		public Optional<Build> read(final BuildFile file, final String context) {
+			Ensure.notNull("file", file);
+			Ensure.notNull("context", context);
+			return Optional.empty();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @throws NullPointerException if the build, the {@link Set} of input files, any of them or the context is
+		 *         {@code null}
+		 * @since 2.4.0
+		 */
+		@Override
+		public void write(final Build build, final Set<Path> inputFiles, final String context) {
+			Ensure.notNull("build", build);
+			Ensure.notNullAndNotNullElements("inputFiles", inputFiles);
+			Ensure.notNull("context", context);
+		}
+	};
+
+	/**
+	 * Read an {@link Optional} build for a file, if it was written with the same context and none of its input files
+	 * changed since.
+	 * @param file a file
+	 * @param context a context
+	 * @return the {@link Optional} build
+	 * @since 2.4.0
+	 */
+	Optional<Build> read(BuildFile file, String context);
+
+	/**
+	 * Write a build, with the {@link Set} of input files it has been resolved from and a context.
+	 * @param build a build
+	 * @param inputFiles a {@link Set} of input files
+	 * @param context a context
+	 * @since 2.4.0
+	 */
+	void write(Build build, Set<Path> inputFiles, String context);
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.Equals;
+import com.github.alexisjehan.javanilla.misc.quality.HashCode;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+
+/**
+ * Class that describes statistics of a cache used while resolving builds.
+ *
+ * <p><b>Note</b>: This class implements its own {@link #equals(Object)}, {@link #hashCode()} and {@link #toString()}
+ * methods.</p>
+ * @since 2.4.0
+ */
+public final class CacheStatistics {
+
+	/**
+	 * Name.
+	 * @since 2.4.0
+	 */
+	private final String name;
+
+	/**
+	 * Number of hits.
+	 * @since 2.4.0
+	 */
+	private final long hitCount;
+
+	/**
+	 * Number of misses.
+	 * @since 2.4.0
+	 */
+	private final long missCount;
+
+	/**
+	 * Constructor.
+	 * @param name a name
+	 * @param hitCount a number of hits
+	 * @param missCount a number of misses
+	 * @throws NullPointerException if the name is {@code null}
+	 * @throws IllegalArgumentException if the name is empty or if the number of hits or misses is lower than {@code 0}
+	 * @since 2.4.0
+	 */
+	public CacheStatistics(final String name, final long hitCount, final long missCount) {
+		Ensure.notNullAndNotEmpty("name", name);
+		Ensure.greaterThanOrEqualTo("hitCount", hitCount, 0L);
+		Ensure.greaterThanOrEqualTo("missCount", missCount, 0L);
+		this.name = name;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof final CacheStatistics other)) {
+			return false;
+		}
+		return Equals.equals(name, other.name)
+				&& Equals.equals(hitCount, other.hitCount)
+				&& Equals.equals(missCount, other.missCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public int hashCode() {
+		return HashCode.of(
+				HashCode.hashCode(name),
+				HashCode.hashCode(hitCount),
+				HashCode.hashCode(missCount)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public String toString() {
+		return ToString.of(
+				this,
+				Pair.of("name", ToString.toString(name)),
+				Pair.of("hitCount", ToString.toString(hitCount)),
+				Pair.of("missCount", ToString.toString(missCount))
+		);
+	}
+
+	/**
+	 * Get the name.
+	 * @return the name
+	 * @since 2.4.0
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the number of hits.
+	 * @return the number of hits
+	 * @since 2.4.0
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Get the number of misses.
+	 * @return the number of misses
+	 * @since 2.4.0
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Get the number of lookups, hits and misses included.
+	 * @return the number of lookups
+	 * @since 2.4.0
+	 */
+	public long getLookupCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * Get the hit rate, between {@code 0} and {@code 1}.
+	 * @return the hit rate, {@code 0} if there was no lookup
+	 * @since 2.4.0
+	 */
+	public double getHitRate() {
+		final var lookupCount = getLookupCount();
+		return 0L != lookupCount
+				? (double) hitCount / lookupCount
+				: 0.0d;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.ArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Class that describes a build cache stored as one file per build in a directory.
+ *
+ * <p><b>Note</b>: Each entry stores the <i>SHA-256</i> hash of every input file, which are computed again when the
+ * entry is read, so that the entry is ignored as soon as any of them changes.</p>
+ * @since 2.4.0
+ */
+public final class FileBuildCache implements BuildCache {
+
+	/**
+	 * Format version, to be incremented whenever the format or the way builds are resolved changes.
+	 * @since 2.4.0
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Implementation version, so that entries written by another version are ignored.
+	 * @since 2.4.0
+	 */
+	private static final String IMPLEMENTATION_VERSION = String.valueOf(
+			MethodHandles.lookup().lookupClass().getPackage().getImplementationVersion()
+	);
+
+	/**
+	 * Entry file extension.
+	 * @since 2.4.0
+	 */
+	private static final String ENTRY_FILE_EXTENSION = ".bin";
+
+	/**
+	 * Hash algorithm.
+	 * @since 2.4.0
+	 */
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Directory.
+	 * @since 2.4.0
+	 */
+	private final Path directory;
+
+	/**
+	 * Constructor.
+	 * @param directory a directory, created when the first entry is written
+	 * @throws NullPointerException if the directory is {@code null}
+	 * @since 2.4.0
+	 */
+	public FileBuildCache(final Path directory) {
+		Ensure.notNull("directory", directory);
+		this.directory = directory;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: Any error while reading the entry is considered as a miss.</p>
+	 * @throws NullPointerException if the file or the context is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public Optional<Build> read(final BuildFile file, final String context) {
+		Ensure.notNull("file", file);
+		Ensure.notNull("context", context);
+		final var entryFile = getEntryFile(file);
+		try (var inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(entryFile)))) {
+			if (FORMAT_VERSION != inputStream.readInt()
+					|| !IMPLEMENTATION_VERSION.equals(inputStream.readUTF())
+					|| !file.getFile().toAbsolutePath().toString().equals(inputStream.readUTF())
+					|| !context.equals(inputStream.readUTF())) {
+				logger.debug("Ignoring the {} outdated cache entry", () -> ToString.toString(entryFile));
+				return Optional.empty();
+			}
+			final var inputFilesCount = inputStream.readInt();
+			for (var i = 0; i < inputFilesCount; ++i) {
+				final var inputFile = Path.of(inputStream.readUTF());
+				final var inputFileHash = inputStream.readUTF();
+				if (!Files.isRegularFile(inputFile) || !inputFileHash.equals(hash(inputFile))) {
+					logger.debug(
+							"Ignoring the {} cache entry as {} changed",
+							() -> ToString.toString(entryFile),
+							() -> ToString.toString(inputFile)
+					);
+					return Optional.empty();
+				}
+			}
+			final var repositoriesCount = inputStream.readInt();
+			final var repositories = new ArrayList<Repository>(repositoriesCount);
+			for (var i = 0; i < repositoriesCount; ++i) {
+				repositories.add(
+						new Repository(
+								RepositoryType.valueOf(inputStream.readUTF()),
+								inputStream.readUTF(),
+								inputStream.readUTF()
+						)
+				);
+			}
+			final var artifactsCount = inputStream.readInt();
+			final var artifacts = new ArrayList<Artifact<ArtifactType>>(artifactsCount);
+			for (var i = 0; i < artifactsCount; ++i) {
+				final var type = readArtifactType(inputStream.readUTF(), inputStream.readUTF());
+				final var identifier = new ArtifactIdentifier(inputStream.readUTF(), inputStream.readUTF());
+				final var version = inputStream.readBoolean()
+						? inputStream.readUTF()
+						: null;
+				artifacts.add(new Artifact<>(type, identifier, version, inputStream.readBoolean()));
+			}
+			return Optional.of(new Build(file, repositories, artifacts));
+		} catch (final NoSuchFileException e) {
+			return Optional.empty();
+		} catch (final IOException | RuntimeException e) {
+			logger.debug("Ignoring the {} unreadable cache entry", () -> ToString.toString(entryFile));
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: Any error while writing the entry is ignored, as the build could still be resolved next time.
+	 * </p>
+	 * @throws NullPointerException if the build, the {@link Set} of input files, any of them or the context is
+	 *         {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void write(final Build build, final Set<Path> inputFiles, final String context) {
+		Ensure.notNull("build", build);
+		Ensure.notNullAndNotNullElements("inputFiles", inputFiles);
+		Ensure.notNull("context", context);
+		final var entryFile = getEntryFile(build.getFile());
+		try {
+			Files.createDirectories(directory);
+			final var tmpEntryFile = Files.createTempFile(directory, null, ENTRY_FILE_EXTENSION);
+			try {
+				try (var outputStream = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(tmpEntryFile))
+				)) {
+					outputStream.writeInt(FORMAT_VERSION);
+					outputStream.writeUTF(IMPLEMENTATION_VERSION);
+					outputStream.writeUTF(build.getFile().getFile().toAbsolutePath().toString());
+					outputStream.writeUTF(context);
+					outputStream.writeInt(inputFiles.size());
+					for (final var inputFile : inputFiles) {
+						outputStream.writeUTF(inputFile.toAbsolutePath().toString());
+						outputStream.writeUTF(hash(inputFile));
+					}
+					final var repositories = build.getRepositories();
+					outputStream.writeInt(repositories.size());
+					for (final var repository : repositories) {
+						outputStream.writeUTF(repository.getType().name());
+						outputStream.writeUTF(repository.getId());
+						outputStream.writeUTF(repository.getUrl());
+					}
+					final var artifacts = build.getArtifacts();
+					outputStream.writeInt(artifacts.size());
+					for (final var artifact : artifacts) {
+						final var type = (Enum<?>) artifact.getType();
+						outputStream.writeUTF(type.getDeclaringClass().getSimpleName());
+						outputStream.writeUTF(type.name());
+						outputStream.writeUTF(artifact.getIdentifier().getGroupId());
+						outputStream.writeUTF(artifact.getIdentifier().getArtifactId());
+						final var optionalVersion = artifact.getOptionalVersion();
+						outputStream.writeBoolean(optionalVersion.isPresent());
+						if (optionalVersion.isPresent()) {
+							outputStream.writeUTF(optionalVersion.get());
+						}
+						outputStream.writeBoolean(artifact.isVersionInherited());
+					}
+				}
+				Files.move(tmpEntryFile, entryFile, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(tmpEntryFile);
+			}
+		} catch (final IOException e) {
+			logger.debug("Unable to write the {} cache entry", () -> ToString.toString(entryFile));
+		}
+	}
+
+	/**
+	 * Get the directory.
+	 * @return the directory
+	 * @since 2.4.0
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Get the entry file for a file.
+	 * @param file a file
+	 * @return the entry file
+	 * @since 2.4.0
+	 */
+	private Path getEntryFile(final BuildFile file) {
+		return directory.resolve(
+				hash(file.getFile().toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8))
+						+ ENTRY_FILE_EXTENSION
+		);
+	}
+
+	/**
+	 * Read an artifact type from its class name and its name.
+	 * @param className a class name
+	 * @param name a name
+	 * @return the artifact type
+	 * @throws IllegalArgumentException if the class name or the name is unknown
+	 * @since 2.4.0
+	 */
+	private static ArtifactType readArtifactType(final String className, final String name) {
+		if (MavenArtifactType.class.getSimpleName().equals(className)) {
+			return MavenArtifactType.valueOf(name);
+		}
+		if (GradleArtifactType.class.getSimpleName().equals(className)) {
+			return GradleArtifactType.valueOf(name);
+		}
+		throw new IllegalArgumentException("Invalid class name: " + ToString.toString(className));
+	}
+
+	/**
+	 * Compute the hash of a file content.
+	 * @param file a file
+	 * @return the hash
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	private static String hash(final Path file) throws IOException {
+		return hash(Files.readAllBytes(file));
+	}
+
+	/**
+	 * Compute the hash of bytes.
+	 * @param bytes bytes
+	 * @return the hash
+	 * @since 2.4.0
+	 */
+	private static String hash(final byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(bytes));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
\ No newline at end of file
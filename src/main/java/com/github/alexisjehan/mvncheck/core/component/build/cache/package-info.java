@@ -21,19 +21,8 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package org.apache.maven.project;
-
 /**
- * Public access to the {@link ReactorModelCache} class.
- * @since 1.0.0
+ * Build caching components.
+ * @since 2.4.0
  */
-public final class PublicReactorModelCache extends ReactorModelCache {
-
-	/**
-	 * Constructor.
-	 * @since 1.0.0
-	 */
-	public PublicReactorModelCache() {
-		// Empty
-	}
-}
\ No newline at end of file
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
\ No newline at end of file
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,17 +23,44 @@
  */
 package com.github.alexisjehan.mvncheck.core.component.build.resolver;
 
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 
+import java.util.List;
 import java.util.Set;
 
 /**
  * Interface that describes a resolver of the build for a file.
  * @since 1.0.0
  */
-public interface BuildResolver {
+public interface BuildResolver extends AutoCloseable {
+
+	/**
+	 * Warm up the resolution of builds for a {@link List} of files in the background, before they are prepared.
+	 *
+	 * <p><b>Note</b>: The default implementation does nothing.</p>
+	 * @param files a {@link List} of files
+	 * @throws NullPointerException if the {@link List} of files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	default void warmUp(final List<BuildFile> files) {
+		Ensure.notNullAndNotNullElements("files", files);
+	}
+
+	/**
+	 * Prepare the resolution of builds for a {@link List} of files, so that they could be resolved together.
+	 *
+	 * <p><b>Note</b>: The default implementation does nothing.</p>
+	 * @param files a {@link List} of files
+	 * @throws NullPointerException if the {@link List} of files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	default void prepare(final List<BuildFile> files) {
+		Ensure.notNullAndNotNullElements("files", files);
+	}
 
 	/**
 	 * Resolve the build for a file.
@@ -44,6 +71,28 @@ public interface BuildResolver {
 	 */
 	Build resolve(BuildFile file);
 
+	/**
+	 * Get the {@link List} of statistics of caches used while resolving builds.
+	 *
+	 * <p><b>Note</b>: The default implementation returns an empty {@link List}.</p>
+	 * @return the {@link List} of cache statistics
+	 * @since 2.4.0
+	 */
+	default List<CacheStatistics> getCacheStatistics() {
+		return List.of();
+	}
+
+	/**
+	 * Release resources used while resolving builds.
+	 *
+	 * <p><b>Note</b>: The default implementation does nothing.</p>
+	 * @since 2.4.0
+	 */
+	@Override
+	default void close() {
+		// Empty
+	}
+
 	/**
 	 * Get the {@link Set} of file types.
 	 * @return the {@link Set} of file types
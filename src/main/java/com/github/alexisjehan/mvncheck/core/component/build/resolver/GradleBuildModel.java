@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Interface that describes the <i>Gradle</i> tooling model of a build, built by the init script from declared
+ * repositories and artifacts without resolving any configuration.
+ *
+ * <p><b>Note</b>: Implementations are provided by the <i>Gradle</i> Tooling API, which adapts the model built by
+ * the init script to this interface by method names.</p>
+ * @since 2.4.0
+ */
+public interface GradleBuildModel {
+
+	/**
+	 * Get the {@link List} of project models, the project of the requested directory and its subprojects.
+	 * @return the {@link List} of project models
+	 * @since 2.4.0
+	 */
+	List<ProjectModel> getProjects();
+
+	/**
+	 * Interface that describes the model of a project.
+	 * @since 2.4.0
+	 */
+	interface ProjectModel {
+
+		/**
+		 * Get the directory.
+		 * @return the directory
+		 * @since 2.4.0
+		 */
+		File getDirectory();
+
+		/**
+		 * Get the {@link List} of repository models.
+		 * @return the {@link List} of repository models
+		 * @since 2.4.0
+		 */
+		List<RepositoryModel> getRepositories();
+
+		/**
+		 * Get the {@link List} of artifact models.
+		 * @return the {@link List} of artifact models
+		 * @since 2.4.0
+		 */
+		List<ArtifactModel> getArtifacts();
+	}
+
+	/**
+	 * Interface that describes the model of a repository.
+	 * @since 2.4.0
+	 */
+	interface RepositoryModel {
+
+		/**
+		 * Get the repository type name.
+		 * @return the repository type name
+		 * @since 2.4.0
+		 */
+		String getRepositoryType();
+
+		/**
+		 * Get the identifier.
+		 * @return the identifier
+		 * @since 2.4.0
+		 */
+		String getId();
+
+		/**
+		 * Get the URL.
+		 * @return the URL
+		 * @since 2.4.0
+		 */
+		String getUrl();
+	}
+
+	/**
+	 * Interface that describes the model of an artifact.
+	 * @since 2.4.0
+	 */
+	interface ArtifactModel {
+
+		/**
+		 * Get the configuration name.
+		 * @return the configuration name
+		 * @since 2.4.0
+		 */
+		String getConfiguration();
+
+		/**
+		 * Get the group identifier.
+		 * @return the group identifier
+		 * @since 2.4.0
+		 */
+		String getGroupId();
+
+		/**
+		 * Get the artifact identifier.
+		 * @return the artifact identifier
+		 * @since 2.4.0
+		 */
+		String getArtifactId();
+
+		/**
+		 * Get the version.
+		 * @return the version, or {@code null} if not declared
+		 * @since 2.4.0
+		 */
+		String getVersion();
+	}
+}
\ No newline at end of file
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,39 +23,63 @@
  */
 package com.github.alexisjehan.mvncheck.core.component.build.resolver;
 
-import com.github.alexisjehan.javanilla.io.Readers;
-import com.github.alexisjehan.javanilla.lang.Strings;
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
 import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
 import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
 import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
 import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
 import com.github.alexisjehan.mvncheck.core.util.GradleUtils;
+import com.github.alexisjehan.mvncheck.core.util.SystemUtils;
 import internal.ExcludeFromJacocoGeneratedReport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.gradle.tooling.GradleConnectionException;
-import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.UnknownModelException;
+import org.gradle.tooling.model.build.BuildEnvironment;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class that describes a <i>Gradle</i> resolver of the build for a file.
@@ -83,6 +107,12 @@ public final class GradleBuildResolver implements BuildResolver {
 	 */
 	private static final String INIT_FILE_NAME = INIT_FILE_NAME_PREFIX + INIT_FILE_NAME_SUFFIX;
 
+	/**
+	 * Prefix of the shared initialisation file name, followed by the hash of its content.
+	 * @since 2.4.0
+	 */
+	private static final String SHARED_INIT_FILE_NAME_PREFIX = "mvncheck-" + INIT_FILE_NAME_PREFIX + "-";
+
 	/**
 	 * {@link Set} of file types.
 	 * @since 1.0.0
@@ -92,18 +122,396 @@ public final class GradleBuildResolver implements BuildResolver {
 			BuildFileType.GRADLE_KOTLIN
 	);
 
+	/**
+	 * {@link List} of settings file names.
+	 * @since 2.4.0
+	 */
+	private static final List<String> SETTINGS_FILE_NAMES = List.of(
+			"settings.gradle",
+			"settings.gradle.kts"
+	);
+
+	/**
+	 * {@link List} of input file name suffixes, whose content might change the build.
+	 * @since 2.4.0
+	 */
+	private static final List<String> INPUT_FILE_NAME_SUFFIXES = List.of(
+			".gradle",
+			".gradle.kts",
+			".versions.toml"
+	);
+
+	/**
+	 * {@link Set} of input file names, whose content might change the build.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> INPUT_FILE_NAMES = Set.of(
+			"gradle.properties",
+			"gradle-wrapper.properties"
+	);
+
+	/**
+	 * {@link List} of source file name suffixes of build logic directories, whose content might change the build.
+	 * @since 2.4.0
+	 */
+	private static final List<String> BUILD_LOGIC_FILE_NAME_SUFFIXES = List.of(
+			".java",
+			".kt",
+			".groovy"
+	);
+
+	/**
+	 * Name of the build logic directory implicitly included by the root build.
+	 * @since 2.4.0
+	 */
+	private static final String BUILD_SRC_DIRECTORY_NAME = "buildSrc";
+
+	/**
+	 * Name of the directory of version catalogs and wrapper files.
+	 * @since 2.4.0
+	 */
+	private static final String GRADLE_DIRECTORY_NAME = "gradle";
+
+	/**
+	 * {@link Set} of directory names skipped while finding input files, as they contain outputs or foreign
+	 * dependencies.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> SKIPPED_DIRECTORY_NAMES = Set.of(
+			"build",
+			"node_modules"
+	);
+
+	/**
+	 * Pattern of the calls to include a build in a settings file.
+	 * @since 2.4.0
+	 */
+	private static final Pattern INCLUDE_BUILD_PATTERN = Pattern.compile("\\bincludeBuild\\b");
+
+	/**
+	 * Pattern of the calls to include a build with a literal path in a settings file.
+	 * @since 2.4.0
+	 */
+	private static final Pattern LITERAL_INCLUDE_BUILD_PATTERN = Pattern.compile(
+			"includeBuild\\s*\\(?\\s*([\"'])([^\"'$]*)\\1"
+	);
+
+	/**
+	 * Cache context, made of system properties that might change the build without changing any file.
+	 * @since 2.4.0
+	 */
+	private static final String CACHE_CONTEXT = Stream.of("java.version", "os.name", "os.arch", "os.version")
+			.map(name -> name + "=" + System.getProperty(name))
+			.collect(Collectors.joining("\n"));
+
+	/**
+	 * Default maximum number of builds resolved concurrently, bounded as each of them runs its own daemon.
+	 * @since 2.4.0
+	 */
+	public static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+	/**
+	 * Hash algorithm of input files.
+	 * @since 2.4.0
+	 */
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	/**
+	 * Content of the initialisation file.
+	 * @since 2.4.0
+	 */
+	private static final byte[] INIT_FILE_CONTENT = readInitFileContent();
+
+	/**
+	 * {@link Map} of artifact types by configuration name.
+	 * @since 2.4.0
+	 */
+	static final Map<String, GradleArtifactType> ARTIFACT_TYPES = Arrays.stream(GradleArtifactType.values())
+			.collect(
+					Collectors.toUnmodifiableMap(
+							GradleArtifactType::dependenciesTaskName,
+							Function.identity()
+					)
+			);
+
+	/**
+	 * {@link List} of classpath artifact types, from the one which artifacts take precedence over others.
+	 * @since 2.4.0
+	 */
+	private static final List<GradleArtifactType> CLASSPATH_ARTIFACT_TYPES = List.of(
+			GradleArtifactType.COMPILE_CLASSPATH,
+			GradleArtifactType.RUNTIME_CLASSPATH,
+			GradleArtifactType.TEST_COMPILE_CLASSPATH,
+			GradleArtifactType.TEST_RUNTIME_CLASSPATH
+	);
+
 	/**
 	 * Logger.
 	 * @since 1.0.0
 	 */
 	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
+	/**
+	 * Shared initialisation file, written once per JVM.
+	 * @since 2.4.0
+	 */
+	private static Path sharedInitFile;
+
+	/**
+	 * Build cache.
+	 * @since 2.4.0
+	 */
+	private final BuildCache buildCache;
+
+	/**
+	 * Maximum number of builds resolved concurrently while preparing.
+	 * @since 2.4.0
+	 */
+	private final int parallelism;
+
+	/**
+	 * Pool of connections.
+	 * @since 2.4.0
+	 */
+	private final GradleConnectionPool connectionPool;
+
+	/**
+	 * Whether the pool of connections was created by this resolver, so that it is closed with it.
+	 * @since 2.4.0
+	 */
+	private final boolean ownedConnectionPool;
+
+	/**
+	 * {@link Map} of {@link Optional} cache contexts by root directory.
+	 * @since 2.4.0
+	 */
+	private final Map<Path, Optional<String>> cacheContexts;
+
+	/**
+	 * {@link Map} of prepared builds by file.
+	 * @since 2.4.0
+	 */
+	private final Map<BuildFile, CompletableFuture<Build>> preparedBuilds;
+
+	/**
+	 * Reference of the warm-up, set once it started.
+	 * @since 2.4.0
+	 */
+	private final AtomicReference<CompletableFuture<Void>> warmUp;
+
+	/**
+	 * {@link ExecutorService} of the warm-up and of root builds resolved concurrently.
+	 * @since 2.4.0
+	 */
+	private final ExecutorService executorService;
+
 	/**
 	 * Constructor.
 	 * @since 1.0.0
 	 */
 	public GradleBuildResolver() {
-		// Empty
+		this(BuildCache.NONE);
+	}
+
+	/**
+	 * Constructor with a build cache.
+	 *
+	 * <p><b>Note</b>: Builds are cached with a context including the hash of the input files of their root build, so
+	 * that <i>Gradle</i> is not launched at all as long as none of them changes.</p>
+	 * @param buildCache a build cache
+	 * @throws NullPointerException if the build cache is {@code null}
+	 * @since 2.4.0
+	 */
+	public GradleBuildResolver(final BuildCache buildCache) {
+		this(buildCache, DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructor with a build cache and a parallelism.
+	 *
+	 * <p><b>Note</b>: The parallelism also bounds the number of daemons running at the same time, as each concurrent
+	 * build is run by its own daemon.</p>
+	 * @param buildCache a build cache
+	 * @param parallelism a maximum number of builds resolved concurrently
+	 * @throws NullPointerException if the build cache is {@code null}
+	 * @throws IllegalArgumentException if the parallelism is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public GradleBuildResolver(final BuildCache buildCache, final int parallelism) {
+		this(buildCache, parallelism, new GradleConnectionPool(parallelism), true);
+	}
+
+	/**
+	 * Constructor with a build cache and a shared pool of connections.
+	 *
+	 * <p><b>Note</b>: The pool of connections is not closed with this resolver, so that the daemons it started could
+	 * be reused by later resolvers sharing it.</p>
+	 * @param buildCache a build cache
+	 * @param connectionPool a shared pool of connections
+	 * @throws NullPointerException if the build cache or the pool of connections is {@code null}
+	 * @since 2.4.0
+	 */
+	public GradleBuildResolver(final BuildCache buildCache, final GradleConnectionPool connectionPool) {
+		this(buildCache, DEFAULT_PARALLELISM, connectionPool);
+	}
+
+	/**
+	 * Constructor with a build cache, a parallelism and a shared pool of connections.
+	 * @param buildCache a build cache
+	 * @param parallelism a maximum number of builds resolved concurrently
+	 * @param connectionPool a shared pool of connections
+	 * @throws NullPointerException if the build cache or the pool of connections is {@code null}
+	 * @throws IllegalArgumentException if the parallelism is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public GradleBuildResolver(
+			final BuildCache buildCache,
+			final int parallelism,
+			final GradleConnectionPool connectionPool
+	) {
+		this(buildCache, parallelism, connectionPool, false);
+	}
+
+	/**
+	 * Private constructor with a build cache, a parallelism, a pool of connections and whether it was created by this
+	 * resolver.
+	 * @param buildCache a build cache
+	 * @param parallelism a maximum number of builds resolved concurrently
+	 * @param connectionPool a pool of connections
+	 * @param ownedConnectionPool {@code true} if the pool of connections should be closed with this resolver
+	 * @throws NullPointerException if the build cache or the pool of connections is {@code null}
+	 * @throws IllegalArgumentException if the parallelism is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	private GradleBuildResolver(
+			final BuildCache buildCache,
+			final int parallelism,
+			final GradleConnectionPool connectionPool,
+			final boolean ownedConnectionPool
+	) {
+		Ensure.notNull("buildCache", buildCache);
+		Ensure.greaterThanOrEqualTo("parallelism", parallelism, 1);
+		Ensure.notNull("connectionPool", connectionPool);
+		this.buildCache = buildCache;
+		this.parallelism = parallelism;
+		this.connectionPool = connectionPool;
+		this.ownedConnectionPool = ownedConnectionPool;
+		cacheContexts = new ConcurrentHashMap<>();
+		preparedBuilds = new ConcurrentHashMap<>();
+		warmUp = new AtomicReference<>();
+		executorService = Executors.newFixedThreadPool(
+				parallelism,
+				runnable -> {
+					final var thread = new Thread(runnable);
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: A daemon is started once for the root build of the first file, unless its build is cached, so
+	 * that its startup and the download of the <i>Gradle</i> distribution overlap with other work. Later builds then
+	 * reuse it if they share the same <i>Gradle</i> installation and JVM arguments.</p>
+	 * @throws NullPointerException if the {@link List} of files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void warmUp(final List<BuildFile> files) {
+		Ensure.notNullAndNotNullElements("files", files);
+		if (files.isEmpty()) {
+			return;
+		}
+		final var future = new CompletableFuture<Void>();
+		if (!warmUp.compareAndSet(null, future)) {
+			return;
+		}
+		final var file = files.get(0);
+		executorService.execute(() -> {
+			try {
+				final var rootDirectory = findRootDirectory(file.getFile().getParent());
+				if (getCacheContext(rootDirectory).flatMap(cacheContext -> buildCache.read(file, cacheContext))
+						.isPresent()) {
+					logger.debug("Skipping the warm-up as the {} build is cached", () -> ToString.toString(file));
+					return;
+				}
+				logger.info("Warming up a daemon for the {} root build", () -> ToString.toString(rootDirectory));
+				connectionPool.apply(
+						toRealDirectory(rootDirectory),
+						connection -> connection.getModel(BuildEnvironment.class)
+				);
+			} catch (final RuntimeException e) {
+				logger.debug("Failed to warm up a daemon", e);
+			} finally {
+				future.complete(null);
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: Files are grouped by the directory of their enclosing settings file, so that a multi-project
+	 * build is configured and run once for all of its projects rather than once per project. Root builds are resolved
+	 * concurrently, skipping those which builds are all cached.</p>
+	 * @throws NullPointerException if the {@link List} of files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void prepare(final List<BuildFile> files) {
+		Ensure.notNullAndNotNullElements("files", files);
+		final var filesByRootDirectory = files.stream()
+				.collect(
+						Collectors.groupingBy(
+								file -> findRootDirectory(file.getFile().getParent()),
+								LinkedHashMap::new,
+								Collectors.toList()
+						)
+				);
+		filesByRootDirectory.forEach((rootDirectory, rootFiles) -> {
+			logger.info(
+					"Preparing {} build(s) of the {} root build",
+					rootFiles::size,
+					() -> ToString.toString(rootDirectory)
+			);
+			cacheContexts.remove(rootDirectory);
+			final var directory = 1 < rootFiles.size()
+					? rootDirectory
+					: toRealDirectory(rootFiles.get(0).getFile().getParent());
+			final var cachedBuilds = new ConcurrentHashMap<BuildFile, Build>();
+			final var projectsFuture = CompletableFuture.supplyAsync(
+					() -> {
+						getCacheContext(rootDirectory).ifPresent(
+								cacheContext -> rootFiles.forEach(
+										rootFile -> buildCache.read(rootFile, cacheContext)
+												.ifPresent(build -> cachedBuilds.put(rootFile, build))
+								)
+						);
+						return cachedBuilds.size() == rootFiles.size()
+								? Map.<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>>of()
+								: resolveProjects(directory);
+					},
+					executorService
+			);
+			rootFiles.forEach(
+					rootFile -> preparedBuilds.put(
+							rootFile,
+							projectsFuture.thenApply(projects -> {
+								final var cachedBuild = cachedBuilds.get(rootFile);
+								if (null != cachedBuild) {
+									logger.info(
+											"Reading the {} build from the cache",
+											() -> ToString.toString(rootFile)
+									);
+									return cachedBuild;
+								}
+								return build(rootFile, projects, getCacheContext(rootDirectory));
+							})
+					)
+			);
+		});
 	}
 
 	/**
@@ -112,99 +520,185 @@ public final class GradleBuildResolver implements BuildResolver {
 	 * @since 1.0.0
 	 */
 	@Override
-	@ExcludeFromJacocoGeneratedReport
 	public Build resolve(final BuildFile file) {
 		Ensure.notNull("file", file);
-		try (var outputStream = new ByteArrayOutputStream()) {
-			return resolve(file, outputStream);
+		final var preparedBuild = preparedBuilds.remove(file);
+		if (null != preparedBuild) {
+			try {
+				return preparedBuild.join();
+			} catch (final CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+		final var directory = toRealDirectory(file.getFile().getParent());
+		final var optionalCacheContext = getCacheContext(findRootDirectory(directory));
+		if (optionalCacheContext.isPresent()) {
+			final var optionalCachedBuild = buildCache.read(file, optionalCacheContext.get());
+			if (optionalCachedBuild.isPresent()) {
+				logger.info("Reading the {} build from the cache", () -> ToString.toString(file));
+				return optionalCachedBuild.get();
+			}
+		}
+		return build(file, resolveProjects(directory), optionalCacheContext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: Daemons used to resolve builds are stopped once the warm-up completed if it started, unless the
+	 * pool of connections is shared.</p>
+	 * @since 2.4.0
+	 */
+	@Override
+	public void close() {
+		final var warmUpFuture = warmUp.get();
+		if (null != warmUpFuture) {
+			warmUpFuture.join();
+		}
+		executorService.shutdown();
+		if (ownedConnectionPool) {
+			connectionPool.close();
+		}
+	}
+
+	/**
+	 * Get the {@link Optional} cache context of a root directory, computed once until it is prepared again.
+	 * @param rootDirectory a root directory
+	 * @return the {@link Optional} cache context, empty if builds are not cached
+	 * @since 2.4.0
+	 */
+	private Optional<String> getCacheContext(final Path rootDirectory) {
+		if (BuildCache.NONE == buildCache) {
+			return Optional.empty();
+		}
+		return cacheContexts.computeIfAbsent(rootDirectory, GradleBuildResolver::computeCacheContext);
+	}
+
+	/**
+	 * Resolve repositories and artifacts of the project of a directory and of its subprojects, from the tooling model
+	 * built by the init script, or else from the output of its tasks if the model is not available.
+	 * @param directory a directory
+	 * @return the {@link Map} of repositories and artifacts by project directory
+	 * @throws BuildResolveException might occur while resolving
+	 * @since 2.4.0
+	 */
+	@ExcludeFromJacocoGeneratedReport
+	private Map<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> resolveProjects(
+			final Path directory
+	) {
+		logger.info("Resolving the {} projects", () -> ToString.toString(directory));
+		final Path initFile;
+		try {
+			initFile = getSharedInitFile();
 		} catch (final IOException e) {
-			throw new AssertionError(e);
+			throw new BuildResolveException("Unable to write the init script", e);
+		}
+		final var arguments = new String[] {
+				"--init-script=" + initFile,
+				"-PmvncheckConfigurations=" + String.join(",", ARTIFACT_TYPES.keySet())
+		};
+		try {
+			return connectionPool.apply(directory, connection -> {
+				try {
+					return parseModel(
+							connection.model(GradleBuildModel.class)
+									.withArguments(arguments)
+									.get()
+					);
+				} catch (final UnknownModelException e) {
+					logger.debug("Falling back to the {} tasks output", () -> ToString.toString(directory));
+				}
+				try (var outputParser = new GradleOutputParser()) {
+					connection.newBuild()
+							.forTasks("repositories")
+							.withArguments(arguments)
+							.setStandardOutput(outputParser)
+							.run();
+					return outputParser.getProjects();
+				}
+			});
+		} catch (final GradleConnectionException e) {
+			throw new BuildResolveException(e);
 		}
 	}
 
 	/**
-	 * Resolve the build for a file using an {@link OutputStream}.
+	 * Build for a file from the resolved projects of its build, writing it to the build cache if possible.
 	 * @param file a file
-	 * @param outputStream an {@link OutputStream}
+	 * @param projects a {@link Map} of repositories and artifacts by project directory
+	 * @param optionalCacheContext an {@link Optional} cache context
 	 * @return the build
-	 * @throws IOException might occur with input/output operations
-	 * @throws BuildResolveException might occur while resolving the build
-	 * @since 1.0.0
+	 * @throws BuildResolveException if the project of the file is not found
+	 * @since 2.4.0
 	 */
-	private Build resolve(final BuildFile file, final OutputStream outputStream) throws IOException {
+	private Build build(
+			final BuildFile file,
+			final Map<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> projects,
+			final Optional<String> optionalCacheContext
+	) {
 		logger.info("Resolving the {} build", () -> ToString.toString(file));
-		final var connector = GradleConnector.newConnector()
-				.forProjectDirectory(file.getFile().getParent().toFile());
-		GradleUtils.retrieveOptionalHome()
-				.map(Path::of)
-				.ifPresent(installation -> {
-					logger.debug("Using the {} installation", () -> ToString.toString(installation));
-					connector.useInstallation(installation.toFile());
-				});
-		try (var connection = connector.connect()) {
-			final var initTempFile = Files.createTempFile(INIT_FILE_NAME_PREFIX, INIT_FILE_NAME_SUFFIX);
-			try {
-				Files.copy(
-						Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(INIT_FILE_NAME)),
-						initTempFile,
-						StandardCopyOption.REPLACE_EXISTING
-				);
-				connection.newBuild()
-						.forTasks("repositories", "dependencies")
-						.withArguments("--init-script=" + initTempFile)
-						.setStandardOutput(outputStream)
-						.run();
-			} finally {
-				Files.delete(initTempFile);
-			}
-		} catch (final GradleConnectionException e) {
-			throw new BuildResolveException(e);
-		} finally {
-			connector.disconnect();
+		final var project = projects.get(toRealDirectory(file.getFile().getParent()));
+		if (null == project) {
+			throw new BuildResolveException("Unexpected Gradle project directory");
 		}
-		try (var reader = Readers.buffered(Readers.of(outputStream.toString()))) {
-			logger.trace("Parsing repositories");
-			final var repositories = parseRepositories(reader);
-			logger.debug("Parsed repositories:");
-			repositories.forEach(
-					repository -> logger.debug(
-							"- {}",
-							() -> ToString.toString(repository)
-					)
-			);
+		final var build = build(file, project.getFirst(), project.getSecond());
+		optionalCacheContext.ifPresent(cacheContext -> buildCache.write(build, Set.of(file.getFile()), cacheContext));
+		return build;
+	}
 
-			logger.trace("Filtering repositories");
-			final var filteredRepositories = filterRepositories(repositories);
-			logger.debug("Filtered repositories:");
-			filteredRepositories.forEach(
-					filteredRepository -> logger.debug(
-							"- {}",
-							() -> ToString.toString(filteredRepository)
-					)
-			);
+	/**
+	 * Build for a file from parsed repositories and artifacts, filtering them.
+	 * @param file a file
+	 * @param repositories a {@link List} of parsed repositories
+	 * @param artifacts a {@link List} of parsed artifacts
+	 * @return the build
+	 * @since 2.4.0
+	 */
+	private static Build build(
+			final BuildFile file,
+			final List<Repository> repositories,
+			final List<Artifact<GradleArtifactType>> artifacts
+	) {
+		logger.debug("Parsed repositories:");
+		repositories.forEach(
+				repository -> logger.debug(
+						"- {}",
+						() -> ToString.toString(repository)
+				)
+		);
 
-			logger.trace("Parsing artifacts");
-			final var artifacts = parseArtifacts(reader);
-			logger.debug("Parsed artifacts:");
-			artifacts.forEach(
-					artifact -> logger.debug(
-							"- {}",
-							() -> ToString.toString(artifact)
-					)
-			);
+		logger.trace("Filtering repositories");
+		final var filteredRepositories = filterRepositories(repositories);
+		logger.debug("Filtered repositories:");
+		filteredRepositories.forEach(
+				filteredRepository -> logger.debug(
+						"- {}",
+						() -> ToString.toString(filteredRepository)
+				)
+		);
 
-			logger.trace("Filtering artifacts");
-			final var filteredArtifacts = filterArtifacts(artifacts);
-			logger.debug("Filtered artifacts:");
-			filteredArtifacts.forEach(
-					filteredArtifact -> logger.debug(
-							"- {}",
-							() -> ToString.toString(filteredArtifact)
-					)
-			);
+		logger.debug("Parsed artifacts:");
+		artifacts.forEach(
+				artifact -> logger.debug(
+						"- {}",
+						() -> ToString.toString(artifact)
+				)
+		);
 
-			return new Build(file, filteredRepositories, filteredArtifacts);
-		}
+		logger.trace("Filtering artifacts");
+		final var filteredArtifacts = filterArtifacts(artifacts);
+		logger.debug("Filtered artifacts:");
+		filteredArtifacts.forEach(
+				filteredArtifact -> logger.debug(
+						"- {}",
+						() -> ToString.toString(filteredArtifact)
+				)
+		);
+
+		return new Build(file, filteredRepositories, filteredArtifacts);
 	}
 
 	/**
@@ -217,145 +711,358 @@ public final class GradleBuildResolver implements BuildResolver {
 	}
 
 	/**
-	 * Parse a {@link List} of repositories from a {@link BufferedReader} of the <i>Gradle</i> {@code :repositories}
-	 * task.
-	 * @param bufferedReader a {@link BufferedReader}
-	 * @return the {@link List} of repositories
+	 * Parse a {@link Map} of repositories and artifacts by project directory from a <i>Gradle</i> build model,
+	 * skipping artifacts of unknown configurations.
+	 * @param model a <i>Gradle</i> build model
+	 * @return the {@link Map} of repositories and artifacts by project directory
+	 * @throws NullPointerException if the <i>Gradle</i> build model is {@code null}
+	 * @throws BuildResolveException if the <i>Gradle</i> build model is unexpected
+	 * @since 2.4.0
+	 */
+	static Map<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> parseModel(
+			final GradleBuildModel model
+	) {
+		Ensure.notNull("model", model);
+		final var projects = new LinkedHashMap<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>>();
+		for (final var projectModel : model.getProjects()) {
+			final var repositories = new ArrayList<Repository>();
+			for (final var repositoryModel : projectModel.getRepositories()) {
+				final RepositoryType repositoryType;
+				try {
+					repositoryType = RepositoryType.valueOf(repositoryModel.getRepositoryType());
+				} catch (final IllegalArgumentException e) {
+					throw new BuildResolveException("Unexpected Gradle model repository type format", e);
+				}
+				repositories.add(new Repository(repositoryType, repositoryModel.getId(), repositoryModel.getUrl()));
+			}
+			final var artifacts = new ArrayList<Artifact<GradleArtifactType>>();
+			for (final var artifactModel : projectModel.getArtifacts()) {
+				final var artifactType = ARTIFACT_TYPES.get(artifactModel.getConfiguration());
+				if (null != artifactType) {
+					artifacts.add(
+							new Artifact<>(
+									artifactType,
+									new ArtifactIdentifier(artifactModel.getGroupId(), artifactModel.getArtifactId()),
+									artifactModel.getVersion()
+							)
+					);
+				}
+			}
+			projects.put(projectModel.getDirectory().toPath(), Pair.of(repositories, artifacts));
+		}
+		return projects;
+	}
+
+	/**
+	 * Get the shared initialisation file of the XDG cache directory, written once per JVM and written again if it has
+	 * been deleted since.
+	 * @return the shared initialisation file
 	 * @throws IOException might occur with input/output operations
-	 * @throws NullPointerException if the {@link BufferedReader} is {@code null}
-	 * @throws BuildResolveException if the <i>Gradle</i> {@code :repositories} task output is unexpected
-	 * @since 1.0.0
+	 * @since 2.4.0
 	 */
-	static List<Repository> parseRepositories(final BufferedReader bufferedReader) throws IOException {
-		Ensure.notNull("bufferedReader", bufferedReader);
-		final var repositories = new ArrayList<Repository>();
-		String line;
-		while (null != (line = bufferedReader.readLine())) {
-			if ("> Task :repositories".equals(line)) {
-				while (null != (line = bufferedReader.readLine())) {
-					if (line.isEmpty()) {
-						break;
-					}
-					if (2 > Strings.frequency(line, ':')) {
-						throw new BuildResolveException("Unexpected Gradle \":repositories\" repository format");
-					}
-					final var parts = Strings.split(':', line, 3);
-					final RepositoryType repositoryType;
-					try {
-						repositoryType = RepositoryType.valueOf(parts.get(0));
-					} catch (final IllegalArgumentException e) {
-						throw new BuildResolveException(
-								"Unexpected Gradle \":repositories\" repository type format",
-								e
-						);
-					}
-					final var id = parts.get(1);
-					final var url = parts.get(2);
-					repositories.add(new Repository(repositoryType, id, url));
+	private static synchronized Path getSharedInitFile() throws IOException {
+		if (null == sharedInitFile || !Files.isRegularFile(sharedInitFile)) {
+			sharedInitFile = writeSharedInitFile(SystemUtils.getXdgCacheDirectory());
+		}
+		return sharedInitFile;
+	}
+
+	/**
+	 * Write the shared initialisation file in a user directory, named after the hash of its content so that
+	 * concurrent processes of the same user share the same file, unless it already exists with the same content.
+	 *
+	 * <p><b>Note</b>: The directory is created only accessible by the current user, and an existing file is reused
+	 * only if it is owned by the current user and not writable by any other user, so that no other user could inject
+	 * code into the build. The file is written to a temporary file first and then moved atomically if possible, so
+	 * that other processes never read it partially written.</p>
+	 * @param directory a directory
+	 * @return the shared initialisation file
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the directory is {@code null}
+	 * @throws java.nio.file.AccessDeniedException if the directory is not owned by the current user
+	 * @since 2.4.0
+	 */
+	static Path writeSharedInitFile(final Path directory) throws IOException {
+		Ensure.notNull("directory", directory);
+		SystemUtils.createUserDirectory(directory);
+		final var initFile = directory.resolve(
+				SHARED_INIT_FILE_NAME_PREFIX + hash(INIT_FILE_CONTENT) + INIT_FILE_NAME_SUFFIX
+		);
+		if (Files.isRegularFile(initFile, LinkOption.NOFOLLOW_LINKS)
+				&& SystemUtils.isUserFile(initFile)
+				&& Arrays.equals(INIT_FILE_CONTENT, Files.readAllBytes(initFile))) {
+			return initFile;
+		}
+		logger.debug("Writing the {} init script", () -> ToString.toString(initFile));
+		final var tmpInitFile = Files.createTempFile(directory, INIT_FILE_NAME_PREFIX, INIT_FILE_NAME_SUFFIX);
+		try {
+			Files.write(tmpInitFile, INIT_FILE_CONTENT);
+			try {
+				Files.move(tmpInitFile, initFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(tmpInitFile, initFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmpInitFile);
+		}
+		return initFile;
+	}
+
+	/**
+	 * Read the content of the initialisation file from the class path.
+	 * @return the content of the initialisation file
+	 * @since 2.4.0
+	 */
+	@ExcludeFromJacocoGeneratedReport
+	private static byte[] readInitFileContent() {
+		try (var inputStream = Objects.requireNonNull(
+				GradleBuildResolver.class.getClassLoader().getResourceAsStream(INIT_FILE_NAME)
+		)) {
+			return inputStream.readAllBytes();
+		} catch (final IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	/**
+	 * Compute the hexadecimal hash of a content.
+	 * @param content a content
+	 * @return the hexadecimal hash
+	 * @since 2.4.0
+	 */
+	@ExcludeFromJacocoGeneratedReport
+	private static String hash(final byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance(HASH_ALGORITHM).digest(content));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Compute an {@link Optional} cache context for a root directory, made of system properties, of the <i>Gradle</i>
+	 * installation and of the hash of the init script, of the input files of the root build and of the <i>Gradle</i>
+	 * user home.
+	 * @param rootDirectory a root directory
+	 * @return the {@link Optional} cache context, empty if any input file could not be read or if the root build
+	 *         includes a build which is not found inside it
+	 * @since 2.4.0
+	 */
+	static Optional<String> computeCacheContext(final Path rootDirectory) {
+		try {
+			final var optionalIncludedBuildDirectories = findIncludedBuildDirectories(rootDirectory);
+			if (optionalIncludedBuildDirectories.isEmpty()) {
+				logger.debug(
+						"Not caching the {} root build as it includes a build which is not found inside it",
+						() -> ToString.toString(rootDirectory)
+				);
+				return Optional.empty();
+			}
+			final var inputFiles = new ArrayList<>(
+					findInputFiles(rootDirectory, optionalIncludedBuildDirectories.get())
+			);
+			inputFiles.addAll(findUserInputFiles(GradleUtils.retrieveUserHome()));
+			final var messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+			messageDigest.update(INIT_FILE_CONTENT);
+			for (final var inputFile : inputFiles) {
+				final var content = Files.readAllBytes(inputFile);
+				final var name = inputFile.startsWith(rootDirectory)
+						? rootDirectory.relativize(inputFile)
+						: inputFile;
+				messageDigest.update(("\n" + name + "\n" + content.length + "\n").getBytes(StandardCharsets.UTF_8));
+				messageDigest.update(content);
+			}
+			return Optional.of(
+					CACHE_CONTEXT
+							+ "\ngradle.home=" + GradleUtils.retrieveOptionalHome().orElse("")
+							+ "\ninputs=" + HexFormat.of().formatHex(messageDigest.digest())
+			);
+		} catch (final IOException e) {
+			logger.debug(
+					"Not caching the {} root build as its input files could not be read",
+					() -> ToString.toString(rootDirectory)
+			);
+			return Optional.empty();
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Find an {@link Optional} {@link List} of directories of the builds included by the settings files of a root
+	 * directory, with literal paths.
+	 * @param rootDirectory a root directory
+	 * @return the {@link Optional} {@link List} of included build directories, empty if any of them is not inside the
+	 *         root directory or could not be found statically
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	static Optional<List<Path>> findIncludedBuildDirectories(final Path rootDirectory) throws IOException {
+		final var includedBuildDirectories = new ArrayList<Path>();
+		for (final var settingsFileName : SETTINGS_FILE_NAMES) {
+			final var settingsFile = rootDirectory.resolve(settingsFileName);
+			if (!Files.isRegularFile(settingsFile)) {
+				continue;
+			}
+			final var content = Files.readString(settingsFile);
+			final var matcher = INCLUDE_BUILD_PATTERN.matcher(content);
+			while (matcher.find()) {
+				final var literalMatcher = LITERAL_INCLUDE_BUILD_PATTERN.matcher(content).region(
+						matcher.start(),
+						content.length()
+				);
+				if (!literalMatcher.lookingAt()) {
+					return Optional.empty();
+				}
+				final var includedBuildDirectory = rootDirectory.resolve(literalMatcher.group(2)).normalize();
+				if (!includedBuildDirectory.startsWith(rootDirectory)) {
+					return Optional.empty();
 				}
-				break;
+				includedBuildDirectories.add(includedBuildDirectory);
 			}
 		}
-		return repositories;
+		return Optional.of(includedBuildDirectories);
 	}
 
 	/**
-	 * Parse a {@link List} of artifacts from a {@link BufferedReader} of the <i>Gradle</i> {@code :dependencies} task.
-	 * @param bufferedReader a {@link BufferedReader}
-	 * @return the {@link List} of artifacts
+	 * Find a sorted {@link List} of input files of the root build of a directory: settings and build scripts, version
+	 * catalogs, properties and wrapper properties files, and sources of the {@code buildSrc} and included build
+	 * directories.
+	 *
+	 * <p><b>Note</b>: Hidden, {@code build} and {@code node_modules} directories are skipped, as well as directories
+	 * of nested independent builds having their own settings file. If the root directory has no settings file, only
+	 * its {@code gradle} and {@code buildSrc} directories are visited, other directories being independent builds.
+	 * </p>
+	 * @param rootDirectory a root directory
+	 * @param includedBuildDirectories a {@link List} of included build directories
+	 * @return the sorted {@link List} of input files
 	 * @throws IOException might occur with input/output operations
-	 * @throws NullPointerException if the {@link BufferedReader} is {@code null}
-	 * @throws BuildResolveException if the <i>Gradle</i> {@code :dependencies} task output is unexpected
-	 * @since 1.0.0
+	 * @since 2.4.0
 	 */
-	static List<Artifact<GradleArtifactType>> parseArtifacts(final BufferedReader bufferedReader) throws IOException {
-		Ensure.notNull("bufferedReader", bufferedReader);
-		final var artifacts = new ArrayList<Artifact<GradleArtifactType>>();
-		String line;
-		while (null != (line = bufferedReader.readLine())) {
-			if ("> Task :dependencies".equals(line)) {
-				if (!Strings.EMPTY.equals(bufferedReader.readLine())
-						|| !"-".repeat(60).equals(bufferedReader.readLine())
-
-						// Until Gradle 6.7: "Root project"
-						// Since Gradle 6.8: "Root project 'foo'"
-						|| !Strings.nullToEmpty(bufferedReader.readLine()).startsWith("Root project")
-
-						|| !"-".repeat(60).equals(bufferedReader.readLine())
-						|| !Strings.EMPTY.equals(bufferedReader.readLine())) {
-					throw new BuildResolveException("Unexpected Gradle \":dependencies\" header format");
+	static List<Path> findInputFiles(
+			final Path rootDirectory,
+			final List<Path> includedBuildDirectories
+	) throws IOException {
+		final var buildLogicDirectories = new ArrayList<>(includedBuildDirectories);
+		buildLogicDirectories.add(rootDirectory.resolve(BUILD_SRC_DIRECTORY_NAME));
+		final var hasSettingsFile = hasSettingsFile(rootDirectory);
+		final var inputFiles = new ArrayList<Path>();
+		Files.walkFileTree(rootDirectory, new SimpleFileVisitor<>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory(final Path directory, final BasicFileAttributes attributes) {
+				if (rootDirectory.equals(directory)) {
+					return FileVisitResult.CONTINUE;
 				}
-				while (null != (line = bufferedReader.readLine())) {
-					if ("A web-based, searchable dependency report is available by adding the --scan option."
-							.equals(line)) {
-						break;
-					}
-					final var artifactTypeString = Strings.substringBefore(line, " - ");
-					final var optionalArtifactType = Arrays.stream(GradleArtifactType.values())
-							.filter(
-									artifactType -> artifactType.dependenciesTaskName()
-											.equals(artifactTypeString)
-							)
-							.findAny();
-					if (optionalArtifactType.isEmpty()) {
-						while (null != (line = bufferedReader.readLine())) {
-							if (line.isEmpty()) {
-								break;
-							}
-						}
-					} else {
-						final var artifactType = optionalArtifactType.orElseThrow();
-						while (null != (line = bufferedReader.readLine())) {
-							if (line.isEmpty()) {
-								break;
-							}
-							if ("No dependencies".equals(line)
-									|| line.startsWith("|    ")
-									|| line.startsWith("     ")) {
-								continue;
-							}
-							if (!line.startsWith("+--- ") && !line.startsWith("\\--- ")) {
-								throw new BuildResolveException("Unexpected Gradle \":dependencies\" artifact format");
-							}
-							var artifactString = Strings.substringBefore(
-									Strings.substringBefore(
-											Strings.substringAfter(
-													line,
-													"--- "
-											),
-											" ("
-									),
-									" FAILED"
-							);
-							var frequency = Strings.frequency(artifactString, " -> ");
-							if (1 < frequency) {
-								throw new BuildResolveException("Unexpected Gradle \":dependencies\" artifact format");
-							}
-							var parts = Strings.split(" -> ", artifactString);
-							artifactString = parts.get(0);
-							final var resolvedVersion = 2 == parts.size() ? parts.get(1) : null;
-							frequency = Strings.frequency(artifactString, ':');
-							if (1 > frequency || 2 < frequency) {
-								throw new BuildResolveException("Unexpected Gradle \":dependencies\" artifact format");
-							}
-							parts = Strings.split(':', artifactString);
-							final var groupId = parts.get(0);
-							final var artifactId = parts.get(1);
-							final var version = 3 == parts.size() ? parts.get(2) : resolvedVersion;
-							artifacts.add(
-									new Artifact<>(
-											artifactType,
-											new ArtifactIdentifier(groupId, artifactId),
-											version
-									)
-							);
-						}
-					}
+				final var directoryName = directory.getFileName().toString();
+				if (directoryName.startsWith(".") || SKIPPED_DIRECTORY_NAMES.contains(directoryName)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				if (buildLogicDirectories.stream().anyMatch(directory::startsWith)) {
+					return FileVisitResult.CONTINUE;
+				}
+				if (!hasSettingsFile
+						&& rootDirectory.equals(directory.getParent())
+						&& !GRADLE_DIRECTORY_NAME.equals(directoryName)) {
+					return FileVisitResult.SKIP_SUBTREE;
 				}
-				break;
+				if (hasSettingsFile(directory)) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+				final var fileName = file.getFileName().toString();
+				if (attributes.isRegularFile()
+						&& (INPUT_FILE_NAMES.contains(fileName)
+						|| INPUT_FILE_NAME_SUFFIXES.stream().anyMatch(fileName::endsWith)
+						|| (BUILD_LOGIC_FILE_NAME_SUFFIXES.stream().anyMatch(fileName::endsWith)
+						&& buildLogicDirectories.stream().anyMatch(file::startsWith)))) {
+					inputFiles.add(file);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		inputFiles.sort(Comparator.naturalOrder());
+		return inputFiles;
+	}
+
+	/**
+	 * Find a sorted {@link List} of input files of a <i>Gradle</i> user home, which apply to every build: its
+	 * properties file and its init scripts.
+	 * @param userHomeDirectory a <i>Gradle</i> user home directory
+	 * @return the sorted {@link List} of input files
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	static List<Path> findUserInputFiles(final Path userHomeDirectory) throws IOException {
+		final var inputFiles = new ArrayList<Path>();
+		for (final var fileName : List.of("gradle.properties", "init.gradle", "init.gradle.kts")) {
+			final var file = userHomeDirectory.resolve(fileName);
+			if (Files.isRegularFile(file)) {
+				inputFiles.add(file);
 			}
 		}
-		return artifacts;
+		final var initDirectory = userHomeDirectory.resolve("init.d");
+		if (Files.isDirectory(initDirectory)) {
+			try (var stream = Files.list(initDirectory)) {
+				stream.filter(Files::isRegularFile)
+						.filter(
+								file -> INPUT_FILE_NAME_SUFFIXES.stream()
+										.anyMatch(file.getFileName().toString()::endsWith)
+						)
+						.sorted()
+						.forEach(inputFiles::add);
+			}
+		}
+		return inputFiles;
+	}
+
+	/**
+	 * Tell if a directory contains a settings file.
+	 * @param directory a directory
+	 * @return {@code true} if the directory contains a settings file
+	 * @since 2.4.0
+	 */
+	private static boolean hasSettingsFile(final Path directory) {
+		return SETTINGS_FILE_NAMES.stream()
+				.anyMatch(settingsFileName -> Files.isRegularFile(directory.resolve(settingsFileName)));
+	}
+
+	/**
+	 * Find the root directory of the build of a directory, which is the nearest one containing a settings file, or
+	 * the directory itself if none is found.
+	 * @param directory a directory
+	 * @return the root directory
+	 * @since 2.4.0
+	 */
+	static Path findRootDirectory(final Path directory) {
+		final var realDirectory = toRealDirectory(directory);
+		var currentDirectory = realDirectory;
+		while (null != currentDirectory) {
+			if (hasSettingsFile(currentDirectory)) {
+				return currentDirectory;
+			}
+			currentDirectory = currentDirectory.getParent();
+		}
+		return realDirectory;
+	}
+
+	/**
+	 * Convert a directory to its real path, as reported by <i>Gradle</i>, or to its normalized absolute path if it
+	 * does not exist.
+	 * @param directory a directory
+	 * @return the converted directory
+	 * @since 2.4.0
+	 */
+	static Path toRealDirectory(final Path directory) {
+		try {
+			return directory.toRealPath();
+		} catch (final IOException e) {
+			return directory.toAbsolutePath().normalize();
+		}
 	}
 
 	/**
@@ -373,62 +1080,77 @@ public final class GradleBuildResolver implements BuildResolver {
 	}
 
 	/**
-	 * Filter a modifiable {@link List} of artifacts, removing irrelevant ones.
-	 * @param artifacts a modifiable {@link List} of artifacts
+	 * Filter a {@link List} of artifacts, removing irrelevant ones.
+	 *
+	 * <p><b>Note</b>: Classpath artifacts which are already declared by a non-classpath artifact or by a preceding
+	 * classpath artifact are removed using counters by artifact, without modifying the {@link List}. As only declared
+	 * dependencies are reported, classpath artifacts are those declared directly on a classpath configuration, which
+	 * is rare, so that the {@link List} is usually small.</p>
+	 * @param artifacts a {@link List} of artifacts
 	 * @return the {@link List} of artifacts
 	 * @throws NullPointerException if the {@link List} of artifacts or any of them is {@code null}
 	 * @since 1.2.0
 	 */
 	static List<Artifact<GradleArtifactType>> filterArtifacts(final List<Artifact<GradleArtifactType>> artifacts) {
 		Ensure.notNullAndNotNullElements("artifacts", artifacts);
-		artifacts.stream()
-				.filter(artifact -> {
-					final var artifactType = artifact.getType();
-					return !artifactType.isClasspath();
-				})
-				.toList()
-				.forEach(artifact -> {
-					artifacts.remove(artifact.withType(GradleArtifactType.COMPILE_CLASSPATH));
-					artifacts.remove(artifact.withType(GradleArtifactType.RUNTIME_CLASSPATH));
-					artifacts.remove(artifact.withType(GradleArtifactType.TEST_COMPILE_CLASSPATH));
-					artifacts.remove(artifact.withType(GradleArtifactType.TEST_RUNTIME_CLASSPATH));
-				});
-		artifacts.stream()
-				.filter(artifact -> GradleArtifactType.COMPILE_CLASSPATH == artifact.getType())
-				.toList()
-				.forEach(artifact -> {
-					artifacts.remove(artifact.withType(GradleArtifactType.RUNTIME_CLASSPATH));
-					artifacts.remove(artifact.withType(GradleArtifactType.TEST_COMPILE_CLASSPATH));
-					artifacts.remove(artifact.withType(GradleArtifactType.TEST_RUNTIME_CLASSPATH));
-				});
-		artifacts.stream()
-				.filter(artifact -> GradleArtifactType.RUNTIME_CLASSPATH == artifact.getType())
-				.toList()
-				.forEach(artifact -> {
-					artifacts.remove(artifact.withType(GradleArtifactType.TEST_COMPILE_CLASSPATH));
-					artifacts.remove(artifact.withType(GradleArtifactType.TEST_RUNTIME_CLASSPATH));
-				});
-		artifacts.stream()
-				.filter(
-						artifact ->
-								GradleArtifactType.TEST_COMPILE_CLASSPATH == artifact.getType()
-				)
-				.toList()
-				.forEach(
-						artifact -> artifacts.remove(
-								artifact.withType(GradleArtifactType.TEST_RUNTIME_CLASSPATH)
-						)
-				);
-		return artifacts.stream()
-				.map(
-						artifact -> switch (artifact.getType()) {
+		final var kept = new boolean[artifacts.size()];
+		final var removals = new HashMap<Artifact<GradleArtifactType>, Integer>();
+		var index = 0;
+		for (final var artifact : artifacts) {
+			if (!artifact.getType().isClasspath()) {
+				kept[index] = true;
+				addRemovals(removals, artifact, 0);
+			}
+			++index;
+		}
+		for (var level = 0; level < CLASSPATH_ARTIFACT_TYPES.size(); ++level) {
+			final var artifactType = CLASSPATH_ARTIFACT_TYPES.get(level);
+			index = 0;
+			for (final var artifact : artifacts) {
+				if (artifactType == artifact.getType()) {
+					final var count = removals.getOrDefault(artifact, 0);
+					if (0 < count) {
+						removals.put(artifact, count - 1);
+					} else {
+						kept[index] = true;
+						addRemovals(removals, artifact, level + 1);
+					}
+				}
+				++index;
+			}
+		}
+		final var filteredArtifacts = new ArrayList<Artifact<GradleArtifactType>>(artifacts.size());
+		index = 0;
+		for (final var artifact : artifacts) {
+			if (kept[index++]) {
+				filteredArtifacts.add(
+						switch (artifact.getType()) {
 							case COMPILE_CLASSPATH -> artifact.withType(GradleArtifactType.IMPLEMENTATION);
 							case RUNTIME_CLASSPATH -> artifact.withType(GradleArtifactType.RUNTIME_ONLY);
 							case TEST_COMPILE_CLASSPATH -> artifact.withType(GradleArtifactType.TEST_IMPLEMENTATION);
 							case TEST_RUNTIME_CLASSPATH -> artifact.withType(GradleArtifactType.TEST_RUNTIME_ONLY);
 							default -> artifact;
 						}
-				)
-				.toList();
+				);
+			}
+		}
+		return Collections.unmodifiableList(filteredArtifacts);
+	}
+
+	/**
+	 * Count a removal of the given artifact for each classpath artifact type from the given level.
+	 * @param removals counters of removals by artifact
+	 * @param artifact an artifact
+	 * @param level the level of the first classpath artifact type
+	 * @since 2.4.0
+	 */
+	private static void addRemovals(
+			final Map<Artifact<GradleArtifactType>, Integer> removals,
+			final Artifact<GradleArtifactType> artifact,
+			final int level
+	) {
+		for (var i = level; i < CLASSPATH_ARTIFACT_TYPES.size(); ++i) {
+			removals.merge(artifact.withType(CLASSPATH_ARTIFACT_TYPES.get(i)), 1, Integer::sum);
+		}
 	}
 }
\ No newline at end of file
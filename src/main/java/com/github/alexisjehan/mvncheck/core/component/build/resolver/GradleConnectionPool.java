@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.mvncheck.core.util.GradleUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Class that describes a pool of <i>Gradle</i> connections, bounding the number of concurrent builds.
+ *
+ * <p><b>Note</b>: A single connector is created per project directory and reused by later builds of that directory.
+ * Connectors are only disconnected when the pool is closed, as disconnecting stops the daemons used by their
+ * connections. Until then, idle daemons are reused by later builds with a compatible <i>Gradle</i>
+ * installation and JVM arguments, so a pool might be shared by the resolvers of successive runs.</p>
+ * @since 2.4.0
+ */
+public final class GradleConnectionPool implements AutoCloseable {
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * {@link Supplier} of new connectors.
+	 * @since 2.4.0
+	 */
+	private final Supplier<GradleConnector> connectorSupplier;
+
+	/**
+	 * Semaphore of concurrent builds.
+	 * @since 2.4.0
+	 */
+	private final Semaphore semaphore;
+
+	/**
+	 * {@link Map} of connectors by absolute project directory.
+	 * @since 2.4.0
+	 */
+	private final Map<Path, GradleConnector> connectors;
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	public GradleConnectionPool() {
+		this(GradleBuildResolver.DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructor with a maximum number of concurrent builds.
+	 * @param maxConcurrentBuilds a maximum number of concurrent builds
+	 * @throws IllegalArgumentException if the maximum number of concurrent builds is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public GradleConnectionPool(final int maxConcurrentBuilds) {
+		this(maxConcurrentBuilds, GradleConnector::newConnector);
+	}
+
+	/**
+	 * Constructor with a {@link Supplier} of new connectors.
+	 * @param maxConcurrentBuilds a maximum number of concurrent builds
+	 * @param connectorSupplier a {@link Supplier} of new connectors
+	 * @throws IllegalArgumentException if the maximum number of concurrent builds is lower than {@code 1}
+	 * @throws NullPointerException if the {@link Supplier} of new connectors is {@code null}
+	 * @since 2.4.0
+	 */
+	GradleConnectionPool(final int maxConcurrentBuilds, final Supplier<GradleConnector> connectorSupplier) {
+		Ensure.greaterThanOrEqualTo("maxConcurrentBuilds", maxConcurrentBuilds, 1);
+		Ensure.notNull("connectorSupplier", connectorSupplier);
+		this.connectorSupplier = connectorSupplier;
+		semaphore = new Semaphore(maxConcurrentBuilds, true);
+		connectors = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Apply a {@link Function} to a connection to the build of a directory, waiting for a build slot if the maximum
+	 * number of concurrent builds is reached.
+	 * @param directory a directory
+	 * @param function a {@link Function} of a connection
+	 * @param <T> the result type
+	 * @return the result of the {@link Function}
+	 * @throws NullPointerException if the directory or the {@link Function} is {@code null}
+	 * @throws org.gradle.tooling.GradleConnectionException might occur while connecting or building
+	 * @since 2.4.0
+	 */
+	<T> T apply(final Path directory, final Function<ProjectConnection, T> function) {
+		Ensure.notNull("directory", directory);
+		Ensure.notNull("function", function);
+		semaphore.acquireUninterruptibly();
+		try {
+			final var connector = connectors.computeIfAbsent(
+					directory.toAbsolutePath().normalize(),
+					this::createConnector
+			);
+			try (var connection = connector.connect()) {
+				return function.apply(connection);
+			}
+		} finally {
+			semaphore.release();
+		}
+	}
+
+	/**
+	 * Create a connector for a project directory, using the <i>Gradle</i> installation if any.
+	 * @param directory a project directory
+	 * @return the connector
+	 * @since 2.4.0
+	 */
+	private GradleConnector createConnector(final Path directory) {
+		final var connector = connectorSupplier.get()
+				.forProjectDirectory(directory.toFile());
+		GradleUtils.retrieveOptionalHome()
+				.map(Path::of)
+				.ifPresent(installation -> {
+					logger.debug("Using the {} installation", () -> ToString.toString(installation));
+					connector.useInstallation(installation.toFile());
+				});
+		return connector;
+	}
+
+	/**
+	 * Disconnect all connectors, stopping the daemons they used.
+	 * @since 2.4.0
+	 */
+	@Override
+	public void close() {
+		connectors.values().removeIf(connector -> {
+			connector.disconnect();
+			return true;
+		});
+	}
+}
\ No newline at end of file
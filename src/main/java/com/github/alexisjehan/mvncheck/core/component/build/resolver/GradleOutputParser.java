@@ -0,0 +1,309 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that describes an {@link OutputStream} which parses the output of the <i>Gradle</i> {@code :repositories}
+ * task of all projects of a build as it is written, one line at a time.
+ *
+ * <p><b>Note</b>: Only the bytes of the current line are retained, so that memory stays bounded whatever the size of
+ * the output, and each line is parsed as soon as it is complete, while <i>Gradle</i> is still running.</p>
+ * @since 2.4.0
+ */
+final class GradleOutputParser extends OutputStream {
+
+	/**
+	 * Prefix of task lines.
+	 * @since 2.4.0
+	 */
+	private static final String TASK_LINE_PREFIX = "> Task ";
+
+	/**
+	 * Prefix of the project directory line.
+	 * @since 2.4.0
+	 */
+	private static final String DIRECTORY_LINE_PREFIX = "DIRECTORY:";
+
+	/**
+	 * Initial capacity of the line buffer.
+	 * @since 2.4.0
+	 */
+	private static final int INITIAL_LINE_CAPACITY = 256;
+
+	/**
+	 * Charset of the output.
+	 * @since 2.4.0
+	 */
+	private final Charset charset;
+
+	/**
+	 * {@link Map} of parsed repositories and artifacts by project directory.
+	 * @since 2.4.0
+	 */
+	private final Map<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> projects
+			= new LinkedHashMap<>();
+
+	/**
+	 * Buffer of the current line.
+	 * @since 2.4.0
+	 */
+	private byte[] lineBuffer = new byte[INITIAL_LINE_CAPACITY];
+
+	/**
+	 * Length of the current line.
+	 * @since 2.4.0
+	 */
+	private int lineLength;
+
+	/**
+	 * Repositories and artifacts of the current project, or {@code null} if lines are outside a project.
+	 * @since 2.4.0
+	 */
+	private Pair<List<Repository>, List<Artifact<GradleArtifactType>>> currentProject;
+
+	/**
+	 * Whether the next line is expected to be a project directory line.
+	 * @since 2.4.0
+	 */
+	private boolean directoryExpected;
+
+	/**
+	 * First exception that occurred while parsing, or {@code null} if none.
+	 * @since 2.4.0
+	 */
+	private BuildResolveException exception;
+
+	/**
+	 * Constructor using the default charset.
+	 * @since 2.4.0
+	 */
+	GradleOutputParser() {
+		this(Charset.defaultCharset());
+	}
+
+	/**
+	 * Constructor.
+	 * @param charset the charset of the output
+	 * @throws NullPointerException if the charset is {@code null}
+	 * @since 2.4.0
+	 */
+	GradleOutputParser(final Charset charset) {
+		Ensure.notNull("charset", charset);
+		this.charset = charset;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final int b) {
+		if ('\n' == b) {
+			flushLine();
+		} else {
+			ensureLineCapacity(1);
+			lineBuffer[lineLength++] = (byte) b;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length) {
+		Ensure.notNull("bytes", bytes);
+		Ensure.between("offset", offset, 0, bytes.length);
+		Ensure.between("length", length, 0, bytes.length - offset);
+		var start = offset;
+		final var end = offset + length;
+		for (var i = offset; i < end; ++i) {
+			if ('\n' == bytes[i]) {
+				appendLine(bytes, start, i - start);
+				flushLine();
+				start = i + 1;
+			}
+		}
+		appendLine(bytes, start, end - start);
+	}
+
+	/**
+	 * Parse the pending line if any, as the output might not end with a line separator.
+	 * @since 2.4.0
+	 */
+	@Override
+	public void close() {
+		if (0 < lineLength) {
+			flushLine();
+		}
+	}
+
+	/**
+	 * Append bytes to the current line.
+	 * @param bytes bytes
+	 * @param offset the offset of the first byte
+	 * @param length the number of bytes
+	 * @since 2.4.0
+	 */
+	private void appendLine(final byte[] bytes, final int offset, final int length) {
+		ensureLineCapacity(length);
+		System.arraycopy(bytes, offset, lineBuffer, lineLength, length);
+		lineLength += length;
+	}
+
+	/**
+	 * Ensure the line buffer could hold additional bytes, growing it if needed.
+	 * @param additionalLength the number of additional bytes
+	 * @since 2.4.0
+	 */
+	private void ensureLineCapacity(final int additionalLength) {
+		final var minCapacity = lineLength + additionalLength;
+		if (lineBuffer.length < minCapacity) {
+			lineBuffer = Arrays.copyOf(lineBuffer, Math.max(minCapacity, lineBuffer.length << 1));
+		}
+	}
+
+	/**
+	 * Decode and parse the current line, then reset it.
+	 * @since 2.4.0
+	 */
+	private void flushLine() {
+		var length = lineLength;
+		if (0 < length && '\r' == lineBuffer[length - 1]) {
+			--length;
+		}
+		final var line = new String(lineBuffer, 0, length, charset);
+		lineLength = 0;
+		if (null == exception) {
+			try {
+				parseLine(line);
+			} catch (final BuildResolveException e) {
+				exception = e;
+			}
+		}
+	}
+
+	/**
+	 * Parse a line, which is either a task line, a project directory line, a <i>JSON</i> line or any other line that
+	 * is skipped.
+	 * @param line a line
+	 * @throws NullPointerException if the line is {@code null}
+	 * @throws BuildResolveException if the line is unexpected
+	 * @since 2.4.0
+	 */
+	void parseLine(final String line) {
+		Ensure.notNull("line", line);
+		if (directoryExpected) {
+			if (!line.startsWith(DIRECTORY_LINE_PREFIX)) {
+				throw new BuildResolveException("Unexpected Gradle \":repositories\" directory format");
+			}
+			currentProject = Pair.of(new ArrayList<>(), new ArrayList<>());
+			projects.put(Path.of(Strings.removeStart(line, DIRECTORY_LINE_PREFIX)), currentProject);
+			directoryExpected = false;
+		} else if (line.startsWith(TASK_LINE_PREFIX)) {
+			final var taskPath = Strings.removeStart(line, TASK_LINE_PREFIX);
+			directoryExpected = "repositories".equals(taskPath.substring(taskPath.lastIndexOf(':') + 1));
+			currentProject = null;
+		} else if (null != currentProject && JsonLineParser.isObject(line)) {
+			final var values = JsonLineParser.parse(line);
+			final var type = values.get("type");
+			if ("repository".equals(type)) {
+				currentProject.getFirst().add(parseRepository(values));
+			} else if ("artifact".equals(type)) {
+				final var configuration = values.get("configuration");
+				final var groupId = values.get("groupId");
+				final var artifactId = values.get("artifactId");
+				if (null == configuration || null == groupId || null == artifactId) {
+					throw new BuildResolveException("Unexpected Gradle JSON artifact format");
+				}
+				final var artifactType = GradleBuildResolver.ARTIFACT_TYPES.get(configuration);
+				if (null != artifactType) {
+					currentProject.getSecond().add(
+							new Artifact<>(
+									artifactType,
+									new ArtifactIdentifier(groupId, artifactId),
+									values.get("version")
+							)
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the {@link Map} of parsed repositories and artifacts by project directory, parsing the pending line if any.
+	 * @return the {@link Map} of parsed repositories and artifacts by project directory
+	 * @throws BuildResolveException if a line was unexpected
+	 * @since 2.4.0
+	 */
+	Map<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> getProjects() {
+		close();
+		if (null != exception) {
+			throw exception;
+		}
+		if (directoryExpected) {
+			throw new BuildResolveException("Unexpected Gradle \":repositories\" directory format");
+		}
+		return projects;
+	}
+
+	/**
+	 * Parse a repository from the values of a <i>JSON</i> line.
+	 * @param values values by name
+	 * @return the repository
+	 * @throws BuildResolveException if values are unexpected
+	 * @since 2.4.0
+	 */
+	private static Repository parseRepository(final Map<String, String> values) {
+		final var repositoryTypeString = values.get("repositoryType");
+		final var id = values.get("id");
+		final var url = values.get("url");
+		if (null == repositoryTypeString || null == id || null == url) {
+			throw new BuildResolveException("Unexpected Gradle JSON repository format");
+		}
+		final RepositoryType repositoryType;
+		try {
+			repositoryType = RepositoryType.valueOf(repositoryTypeString);
+		} catch (final IllegalArgumentException e) {
+			throw new BuildResolveException("Unexpected Gradle JSON repository type format", e);
+		}
+		return new Repository(repositoryType, id, url);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,464 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Class that describes a reader of <i>Gradle</i> version catalog files, as accessed from build files.
+ *
+ * <p><b>Note</b>: Only the subset of <i>TOML</i> used by version catalogs is supported. Libraries and bundles are
+ * keyed by their accessor, such as {@code foo.bar} for the {@code foo-bar} library alias and {@code bundles.foo} for
+ * the {@code foo} bundle. Entries that could not be understood, such as rich versions without a required or strict
+ * version, are skipped.</p>
+ * @since 2.4.0
+ */
+final class GradleVersionCatalogReader {
+
+	/**
+	 * Prefix of bundle accessors.
+	 * @since 2.4.0
+	 */
+	private static final String BUNDLES_PREFIX = "bundles.";
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	GradleVersionCatalogReader() {
+		// Empty
+	}
+
+	/**
+	 * Read a {@link Map} of artifact identifiers and versions by accessor from a version catalog file.
+	 * @param file a version catalog file
+	 * @return the {@link Map} of artifact identifiers and versions by accessor, empty if the file does not exist or
+	 *         could not be read
+	 * @throws NullPointerException if the file is {@code null}
+	 * @since 2.4.0
+	 */
+	Map<String, List<Pair<ArtifactIdentifier, String>>> read(final Path file) {
+		Ensure.notNull("file", file);
+		if (!Files.isRegularFile(file)) {
+			return Map.of();
+		}
+		final Map<String, Map<String, String>> tables;
+		try {
+			tables = parse(Files.readString(file));
+		} catch (final IOException | IllegalArgumentException e) {
+			logger.debug("Skipping the {} unreadable version catalog", () -> ToString.toString(file));
+			return Map.of();
+		}
+		final var versions = new HashMap<String, String>();
+		tables.getOrDefault("versions", Map.of()).forEach((alias, value) -> {
+			final var entries = parseInlineTable(value);
+			final var version = null == entries
+					? parseString(value)
+					: extractVersion(entries, "");
+			if (null != version) {
+				versions.put(alias, version);
+			}
+		});
+		final var accessors = new LinkedHashMap<String, List<Pair<ArtifactIdentifier, String>>>();
+		tables.getOrDefault("libraries", Map.of()).forEach((alias, value) -> {
+			final var library = parseLibrary(value, versions);
+			if (null != library) {
+				accessors.put(toAccessor(alias), List.of(library));
+			}
+		});
+		tables.getOrDefault("bundles", Map.of()).forEach((alias, value) -> {
+			final var libraryAliases = parseArray(value);
+			if (null == libraryAliases) {
+				return;
+			}
+			final var libraries = new ArrayList<Pair<ArtifactIdentifier, String>>();
+			for (final var libraryAlias : libraryAliases) {
+				final var library = accessors.get(toAccessor(libraryAlias));
+				if (null == library) {
+					return;
+				}
+				libraries.addAll(library);
+			}
+			accessors.put(BUNDLES_PREFIX + toAccessor(alias), List.copyOf(libraries));
+		});
+		return accessors;
+	}
+
+	/**
+	 * Parse a library value, a {@code group:name[:version]} string or an inline table.
+	 * @param value a library value
+	 * @param versions a {@link Map} of versions by alias
+	 * @return the artifact identifier and the version, or {@code null} if the value could not be understood
+	 * @since 2.4.0
+	 */
+	private static Pair<ArtifactIdentifier, String> parseLibrary(
+			final String value,
+			final Map<String, String> versions
+	) {
+		final var entries = parseInlineTable(value);
+		if (null == entries) {
+			final var notation = parseString(value);
+			if (null == notation) {
+				return null;
+			}
+			final var parts = notation.split(":", -1);
+			if (2 > parts.length || 3 < parts.length || parts[0].isEmpty() || parts[1].isEmpty()) {
+				return null;
+			}
+			return Pair.of(new ArtifactIdentifier(parts[0], parts[1]), 3 == parts.length ? parts[2] : null);
+		}
+		final String groupId;
+		final String artifactId;
+		final var module = entries.get("module");
+		if (null != module) {
+			final var parts = module.split(":", -1);
+			if (2 != parts.length || parts[0].isEmpty() || parts[1].isEmpty()) {
+				return null;
+			}
+			groupId = parts[0];
+			artifactId = parts[1];
+		} else {
+			groupId = entries.get("group");
+			artifactId = entries.get("name");
+			if (null == groupId || groupId.isEmpty() || null == artifactId || artifactId.isEmpty()) {
+				return null;
+			}
+		}
+		final String version;
+		final var versionReference = entries.get("version.ref");
+		if (null != versionReference) {
+			version = versions.get(versionReference);
+			if (null == version) {
+				return null;
+			}
+		} else if (entries.keySet().stream().anyMatch(key -> key.startsWith("version"))) {
+			version = extractVersion(entries, "version");
+			if (null == version) {
+				return null;
+			}
+		} else {
+			version = null;
+		}
+		return Pair.of(new ArtifactIdentifier(groupId, artifactId), version);
+	}
+
+	/**
+	 * Extract a version from flattened entries, either a plain version, a required version or a strict one.
+	 * @param entries flattened entries
+	 * @param prefix a prefix of version keys
+	 * @return the version, or {@code null} if not found
+	 * @since 2.4.0
+	 */
+	private static String extractVersion(final Map<String, String> entries, final String prefix) {
+		final var keyPrefix = prefix.isEmpty() ? prefix : prefix + ".";
+		if (!prefix.isEmpty() && entries.containsKey(prefix)) {
+			return entries.get(prefix);
+		}
+		if (entries.containsKey(keyPrefix + "require")) {
+			return entries.get(keyPrefix + "require");
+		}
+		return entries.get(keyPrefix + "strictly");
+	}
+
+	/**
+	 * Convert an alias to its accessor, normalizing separators.
+	 * @param alias an alias
+	 * @return the accessor
+	 * @since 2.4.0
+	 */
+	static String toAccessor(final String alias) {
+		return alias.replace('-', '.').replace('_', '.');
+	}
+
+	/**
+	 * Parse a {@link Map} of raw values by key, by table name from a <i>TOML</i> content.
+	 * @param content a <i>TOML</i> content
+	 * @return the {@link Map} of raw values by key, by table name
+	 * @throws IllegalArgumentException if the content is malformed
+	 * @since 2.4.0
+	 */
+	static Map<String, Map<String, String>> parse(final String content) {
+		final var tables = new LinkedHashMap<String, Map<String, String>>();
+		var table = tables.computeIfAbsent("", key -> new LinkedHashMap<>());
+		final var lines = content.lines().iterator();
+		while (lines.hasNext()) {
+			final var line = new StringBuilder(stripComment(lines.next()).strip());
+			while (0 < depth(line) && lines.hasNext()) {
+				line.append(' ').append(stripComment(lines.next()).strip());
+			}
+			if (0 != depth(line)) {
+				throw new IllegalArgumentException("Unbalanced brackets");
+			}
+			final var logicalLine = line.toString();
+			if (logicalLine.isEmpty()) {
+				continue;
+			}
+			if (logicalLine.startsWith("[")) {
+				if (!logicalLine.endsWith("]")) {
+					throw new IllegalArgumentException("Unexpected table header");
+				}
+				table = tables.computeIfAbsent(
+						logicalLine.substring(1, logicalLine.length() - 1).strip(),
+						key -> new LinkedHashMap<>()
+				);
+				continue;
+			}
+			final var separatorIndex = indexOfTopLevel(logicalLine, '=');
+			if (-1 == separatorIndex) {
+				throw new IllegalArgumentException("Unexpected key/value pair");
+			}
+			table.put(
+					parseKey(logicalLine.substring(0, separatorIndex)),
+					logicalLine.substring(separatorIndex + 1).strip()
+			);
+		}
+		return tables;
+	}
+
+	/**
+	 * Parse a flattened {@link Map} of values by dotted key from an inline table.
+	 * @param value a raw value
+	 * @return the flattened {@link Map} of values by dotted key, or {@code null} if the value is not an inline table
+	 * @since 2.4.0
+	 */
+	static Map<String, String> parseInlineTable(final String value) {
+		if (!value.startsWith("{") || !value.endsWith("}")) {
+			return null;
+		}
+		final var entries = new LinkedHashMap<String, String>();
+		for (final var element : splitTopLevel(value.substring(1, value.length() - 1))) {
+			if (element.isBlank()) {
+				continue;
+			}
+			final var separatorIndex = indexOfTopLevel(element, '=');
+			if (-1 == separatorIndex) {
+				return null;
+			}
+			final var key = parseKey(element.substring(0, separatorIndex));
+			final var elementValue = element.substring(separatorIndex + 1).strip();
+			final var nestedEntries = parseInlineTable(elementValue);
+			if (null != nestedEntries) {
+				nestedEntries.forEach((nestedKey, nestedValue) -> entries.put(key + "." + nestedKey, nestedValue));
+			} else {
+				final var string = parseString(elementValue);
+				if (null == string) {
+					return null;
+				}
+				entries.put(key, string);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Parse a {@link List} of strings from an array.
+	 * @param value a raw value
+	 * @return the {@link List} of strings, or {@code null} if the value is not an array of strings
+	 * @since 2.4.0
+	 */
+	static List<String> parseArray(final String value) {
+		if (!value.startsWith("[") || !value.endsWith("]")) {
+			return null;
+		}
+		final var strings = new ArrayList<String>();
+		for (final var element : splitTopLevel(value.substring(1, value.length() - 1))) {
+			if (element.isBlank()) {
+				continue;
+			}
+			final var string = parseString(element.strip());
+			if (null == string) {
+				return null;
+			}
+			strings.add(string);
+		}
+		return strings;
+	}
+
+	/**
+	 * Parse a basic or a literal string.
+	 * @param value a raw value
+	 * @return the string, or {@code null} if the value is not a string
+	 * @since 2.4.0
+	 */
+	static String parseString(final String value) {
+		if (2 > value.length()) {
+			return null;
+		}
+		final var quote = value.charAt(0);
+		if ('"' != quote && '\'' != quote || quote != value.charAt(value.length() - 1)) {
+			return null;
+		}
+		final var string = value.substring(1, value.length() - 1);
+		if ('\'' == quote) {
+			return string;
+		}
+		final var builder = new StringBuilder();
+		for (var i = 0; i < string.length(); ++i) {
+			final var c = string.charAt(i);
+			if ('\\' == c && i + 1 < string.length()) {
+				builder.append(string.charAt(++i));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Parse a possibly quoted and dotted key.
+	 * @param key a raw key
+	 * @return the key
+	 * @since 2.4.0
+	 */
+	private static String parseKey(final String key) {
+		final var strippedKey = key.strip();
+		return Optional.ofNullable(parseString(strippedKey))
+				.orElseGet(() -> strippedKey.replace(" ", ""));
+	}
+
+	/**
+	 * Strip a comment from a line, ignoring hashes inside strings.
+	 * @param line a line
+	 * @return the stripped line
+	 * @since 2.4.0
+	 */
+	private static String stripComment(final String line) {
+		var quote = '\0';
+		for (var i = 0; i < line.length(); ++i) {
+			final var c = line.charAt(i);
+			if ('\0' != quote) {
+				if ('\\' == c && '"' == quote) {
+					++i;
+				} else if (quote == c) {
+					quote = '\0';
+				}
+			} else if ('"' == c || '\'' == c) {
+				quote = c;
+			} else if ('#' == c) {
+				return line.substring(0, i);
+			}
+		}
+		return line;
+	}
+
+	/**
+	 * Compute the depth of unclosed brackets and braces, ignoring those inside strings.
+	 * @param line a line
+	 * @return the depth
+	 * @since 2.4.0
+	 */
+	private static int depth(final CharSequence line) {
+		var depth = 0;
+		var quote = '\0';
+		for (var i = 0; i < line.length(); ++i) {
+			final var c = line.charAt(i);
+			if ('\0' != quote) {
+				if ('\\' == c && '"' == quote) {
+					++i;
+				} else if (quote == c) {
+					quote = '\0';
+				}
+			} else if ('"' == c || '\'' == c) {
+				quote = c;
+			} else if ('[' == c || '{' == c) {
+				++depth;
+			} else if (']' == c || '}' == c) {
+				--depth;
+			}
+		}
+		return depth;
+	}
+
+	/**
+	 * Find the index of a character outside strings, brackets and braces.
+	 * @param value a value
+	 * @param searchedC a searched character
+	 * @return the index, or {@code -1} if not found
+	 * @since 2.4.0
+	 */
+	private static int indexOfTopLevel(final String value, final char searchedC) {
+		var depth = 0;
+		var quote = '\0';
+		for (var i = 0; i < value.length(); ++i) {
+			final var c = value.charAt(i);
+			if ('\0' != quote) {
+				if ('\\' == c && '"' == quote) {
+					++i;
+				} else if (quote == c) {
+					quote = '\0';
+				}
+			} else if ('"' == c || '\'' == c) {
+				quote = c;
+			} else if ('[' == c || '{' == c) {
+				++depth;
+			} else if (']' == c || '}' == c) {
+				--depth;
+			} else if (0 == depth && searchedC == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Split a value by commas outside strings, brackets and braces.
+	 * @param value a value
+	 * @return the {@link List} of elements
+	 * @since 2.4.0
+	 */
+	private static List<String> splitTopLevel(final String value) {
+		final var elements = new ArrayList<String>();
+		var remaining = value;
+		var index = indexOfTopLevel(remaining, ',');
+		while (-1 != index) {
+			elements.add(remaining.substring(0, index));
+			remaining = remaining.substring(index + 1);
+			index = indexOfTopLevel(remaining, ',');
+		}
+		elements.add(remaining);
+		return elements;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class that helps to parse <i>JSON</i> lines of flat objects, which values are either strings or
+ * {@code null}.
+ *
+ * <p><b>Note</b>: Lines are parsed in a single pass without building any intermediate tree, so that a large output
+ * could be parsed line by line as it is read.</p>
+ * @since 2.4.0
+ */
+final class JsonLineParser {
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	private JsonLineParser() {}
+
+	/**
+	 * Tell if a line is a <i>JSON</i> object line.
+	 * @param line a line
+	 * @return {@code true} if the line is a <i>JSON</i> object line
+	 * @throws NullPointerException if the line is {@code null}
+	 * @since 2.4.0
+	 */
+	static boolean isObject(final String line) {
+		Ensure.notNull("line", line);
+		return line.startsWith("{");
+	}
+
+	/**
+	 * Parse a {@link Map} of values by name from a <i>JSON</i> line of a flat object.
+	 * @param line a line
+	 * @return the {@link Map} of values by name
+	 * @throws NullPointerException if the line is {@code null}
+	 * @throws BuildResolveException if the line is not a <i>JSON</i> line of a flat object
+	 * @since 2.4.0
+	 */
+	static Map<String, String> parse(final String line) {
+		Ensure.notNull("line", line);
+		final var values = new LinkedHashMap<String, String>();
+		final var cursor = new int[] {skipWhitespaces(line, 0)};
+		expect(line, cursor, '{');
+		if (peek(line, cursor) == '}') {
+			++cursor[0];
+		} else {
+			while (true) {
+				final var name = parseString(line, cursor);
+				expect(line, cursor, ':');
+				cursor[0] = skipWhitespaces(line, cursor[0]);
+				final String value;
+				if (line.startsWith("null", cursor[0])) {
+					cursor[0] += 4;
+					value = null;
+				} else {
+					value = parseString(line, cursor);
+				}
+				values.put(name, value);
+				cursor[0] = skipWhitespaces(line, cursor[0]);
+				if (peek(line, cursor) == '}') {
+					++cursor[0];
+					break;
+				}
+				expect(line, cursor, ',');
+			}
+		}
+		if (skipWhitespaces(line, cursor[0]) != line.length()) {
+			throw new BuildResolveException("Unexpected JSON line format");
+		}
+		return values;
+	}
+
+	/**
+	 * Parse a string at the position of a cursor, moving it after the string.
+	 * @param line a line
+	 * @param cursor a cursor
+	 * @return the string
+	 * @throws BuildResolveException if there is no string at the position of the cursor
+	 * @since 2.4.0
+	 */
+	private static String parseString(final String line, final int[] cursor) {
+		expect(line, cursor, '"');
+		final var builder = new StringBuilder();
+		while (true) {
+			final var c = next(line, cursor);
+			if ('"' == c) {
+				return builder.toString();
+			}
+			if ('\\' != c) {
+				builder.append(c);
+				continue;
+			}
+			final var escapedC = next(line, cursor);
+			switch (escapedC) {
+				case '"', '\\', '/' -> builder.append(escapedC);
+				case 'b' -> builder.append('\b');
+				case 'f' -> builder.append('\f');
+				case 'n' -> builder.append('\n');
+				case 'r' -> builder.append('\r');
+				case 't' -> builder.append('\t');
+				case 'u' -> {
+					if (cursor[0] + 4 > line.length()) {
+						throw new BuildResolveException("Unexpected JSON line format");
+					}
+					try {
+						builder.append((char) Integer.parseInt(line.substring(cursor[0], cursor[0] + 4), 16));
+					} catch (final NumberFormatException e) {
+						throw new BuildResolveException("Unexpected JSON line format", e);
+					}
+					cursor[0] += 4;
+				}
+				default -> throw new BuildResolveException("Unexpected JSON line format");
+			}
+		}
+	}
+
+	/**
+	 * Expect a character after whitespaces at the position of a cursor, moving it after the character.
+	 * @param line a line
+	 * @param cursor a cursor
+	 * @param expectedC an expected character
+	 * @throws BuildResolveException if the character is not the expected one
+	 * @since 2.4.0
+	 */
+	private static void expect(final String line, final int[] cursor, final char expectedC) {
+		cursor[0] = skipWhitespaces(line, cursor[0]);
+		if (expectedC != next(line, cursor)) {
+			throw new BuildResolveException("Unexpected JSON line format");
+		}
+	}
+
+	/**
+	 * Get the character after whitespaces at the position of a cursor, moving it to the character.
+	 * @param line a line
+	 * @param cursor a cursor
+	 * @return the character
+	 * @throws BuildResolveException if the end of the line is reached
+	 * @since 2.4.0
+	 */
+	private static char peek(final String line, final int[] cursor) {
+		cursor[0] = skipWhitespaces(line, cursor[0]);
+		if (cursor[0] >= line.length()) {
+			throw new BuildResolveException("Unexpected JSON line format");
+		}
+		return line.charAt(cursor[0]);
+	}
+
+	/**
+	 * Get the character at the position of a cursor, moving it after the character.
+	 * @param line a line
+	 * @param cursor a cursor
+	 * @return the character
+	 * @throws BuildResolveException if the end of the line is reached
+	 * @since 2.4.0
+	 */
+	private static char next(final String line, final int[] cursor) {
+		if (cursor[0] >= line.length()) {
+			throw new BuildResolveException("Unexpected JSON line format");
+		}
+		return line.charAt(cursor[0]++);
+	}
+
+	/**
+	 * Skip whitespaces starting from an index.
+	 * @param line a line
+	 * @param index an index
+	 * @return the index of the first character that is not a whitespace
+	 * @since 2.4.0
+	 */
+	private static int skipWhitespaces(final String line, final int index) {
+		var currentIndex = index;
+		while (currentIndex < line.length() && Character.isWhitespace(line.charAt(currentIndex))) {
+			++currentIndex;
+		}
+		return currentIndex;
+	}
+}
\ No newline at end of file
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,15 +25,21 @@ package com.github.alexisjehan.mvncheck.core.component.build.resolver;
 
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.javanilla.misc.tuple.Triple;
 import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
 import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
 import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
 import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
 import com.github.alexisjehan.mvncheck.core.component.session.MavenSession;
+import com.github.alexisjehan.mvncheck.core.component.session.RecordingModelCache;
+import com.github.alexisjehan.mvncheck.core.util.MavenUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.maven.model.Dependency;
@@ -44,18 +50,37 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.ReportPlugin;
 import org.apache.maven.model.building.DefaultModelBuilderFactory;
 import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.DefaultModelProcessor;
+import org.apache.maven.model.building.ModelBuilder;
 import org.apache.maven.model.building.ModelBuildingException;
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.model.building.ModelBuildingResult;
 import org.apache.maven.model.building.PublicDefaultModelProblemCollector;
 import org.apache.maven.model.interpolation.DefaultModelVersionProcessor;
 import org.apache.maven.model.interpolation.StringVisitorModelInterpolator;
+import org.apache.maven.model.io.DefaultModelReader;
+import org.apache.maven.model.superpom.DefaultSuperPomProvider;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -70,6 +95,34 @@ public final class MavenBuildResolver implements BuildResolver {
 	 */
 	private static final Set<BuildFileType> FILE_TYPES = Set.of(BuildFileType.MAVEN);
 
+	/**
+	 * Import scope.
+	 * @since 2.4.0
+	 */
+	private static final String IMPORT_SCOPE = "import";
+
+	/**
+	 * Default maximum number of builds resolved concurrently while preparing.
+	 * @since 2.4.0
+	 */
+	private static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Cache context, made of system properties that might change the build without changing any file.
+	 * @since 2.4.0
+	 */
+	private static final String CACHE_CONTEXT = Stream.of("java.version", "os.name", "os.arch", "os.version")
+			.map(name -> name + "=" + System.getProperty(name))
+			.collect(Collectors.joining("\n"));
+
+	/**
+	 * Super model, inherited by every model.
+	 * @since 2.4.0
+	 */
+	private static final Model SUPER_MODEL = new DefaultSuperPomProvider()
+			.setModelProcessor(new DefaultModelProcessor().setModelReader(new DefaultModelReader()))
+			.getSuperModel("4.0.0");
+
 	/**
 	 * Logger.
 	 * @since 1.0.0
@@ -82,6 +135,36 @@ public final class MavenBuildResolver implements BuildResolver {
 	 */
 	private final MavenSession session;
 
+	/**
+	 * Build cache.
+	 * @since 2.4.0
+	 */
+	private final BuildCache buildCache;
+
+	/**
+	 * Model builder, shared by builds.
+	 * @since 2.4.0
+	 */
+	private final ModelBuilder modelBuilder;
+
+	/**
+	 * Simple model reader, shared by builds.
+	 * @since 2.4.0
+	 */
+	private final SimpleMavenModelReader simpleModelReader;
+
+	/**
+	 * Maximum number of builds resolved concurrently while preparing.
+	 * @since 2.4.0
+	 */
+	private final int parallelism;
+
+	/**
+	 * {@link Map} of prepared builds by file.
+	 * @since 2.4.0
+	 */
+	private final Map<BuildFile, CompletableFuture<Build>> preparedBuilds;
+
 	/**
 	 * Constructor.
 	 * @param session a <i>Maven</i> session
@@ -89,8 +172,206 @@ public final class MavenBuildResolver implements BuildResolver {
 	 * @since 1.0.0
 	 */
 	public MavenBuildResolver(final MavenSession session) {
+		this(session, BuildCache.NONE);
+	}
+
+	/**
+	 * Constructor with a build cache.
+	 * @param session a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @throws NullPointerException if the <i>Maven</i> session or the build cache is {@code null}
+	 * @since 2.4.0
+	 */
+	public MavenBuildResolver(final MavenSession session, final BuildCache buildCache) {
+		this(session, buildCache, DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructor with a build cache and a parallelism.
+	 * @param session a <i>Maven</i> session
+	 * @param buildCache a build cache
+	 * @param parallelism a maximum number of builds resolved concurrently while preparing
+	 * @throws NullPointerException if the <i>Maven</i> session or the build cache is {@code null}
+	 * @throws IllegalArgumentException if the parallelism is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public MavenBuildResolver(final MavenSession session, final BuildCache buildCache, final int parallelism) {
 		Ensure.notNull("session", session);
+		Ensure.notNull("buildCache", buildCache);
+		Ensure.greaterThanOrEqualTo("parallelism", parallelism, 1);
 		this.session = session;
+		this.buildCache = buildCache;
+		this.parallelism = parallelism;
+		modelBuilder = new DefaultModelBuilderFactory().newInstance();
+		simpleModelReader = new SimpleMavenModelReader();
+		preparedBuilds = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: Files are read to be added to the model pool as a reactor would do, so that parents and imports
+	 * inside the tree are resolved without the local or remote repositories. Other parents and imports missing from
+	 * the local repository are then prefetched concurrently, and builds are resolved concurrently in a parent-first
+	 * order.</p>
+	 * @throws NullPointerException if the {@link List} of files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void prepare(final List<BuildFile> files) {
+		Ensure.notNullAndNotNullElements("files", files);
+		if (files.isEmpty()) {
+			return;
+		}
+		logger.info("Preparing {} build(s)", files::size);
+		final var modelPool = session.getModelPool();
+		final var rawModels = new HashMap<BuildFile, Model>();
+		final var filesByIdentifier = new HashMap<String, BuildFile>();
+		final var parentIdentifiers = new HashMap<BuildFile, String>();
+		for (final var file : files) {
+			final var model = modelBuilder.buildRawModel(
+					file.getFile().toFile(),
+					ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL,
+					false
+			).get();
+			if (null == model) {
+				logger.debug("Skipping the {} unreadable build", () -> ToString.toString(file));
+				continue;
+			}
+			rawModels.put(file, model);
+			final var parent = model.getParent();
+			final var groupId = null != model.getGroupId() || null == parent
+					? model.getGroupId()
+					: parent.getGroupId();
+			final var version = null != model.getVersion() || null == parent
+					? model.getVersion()
+					: parent.getVersion();
+			final var identifier = toIdentifier(groupId, model.getArtifactId(), version);
+			if (null == identifier) {
+				logger.debug("Skipping the {} build with unresolved coordinates", () -> ToString.toString(file));
+				continue;
+			}
+			modelPool.put(groupId, model.getArtifactId(), version, file.getFile().toFile());
+			filesByIdentifier.put(identifier, file);
+			if (null != parent) {
+				final var parentIdentifier = toIdentifier(
+						parent.getGroupId(),
+						parent.getArtifactId(),
+						parent.getVersion()
+				);
+				if (null != parentIdentifier) {
+					parentIdentifiers.put(file, parentIdentifier);
+				}
+			}
+		}
+		final var parentFiles = new HashMap<BuildFile, BuildFile>();
+		parentIdentifiers.forEach((file, parentIdentifier) -> {
+			final var parentFile = filesByIdentifier.get(parentIdentifier);
+			if (null != parentFile) {
+				parentFiles.put(file, parentFile);
+			}
+		});
+		final var sortedFiles = new LinkedHashSet<BuildFile>();
+		for (final var file : files) {
+			final var ancestorFiles = new ArrayDeque<BuildFile>();
+			var currentFile = file;
+			while (null != currentFile && !sortedFiles.contains(currentFile) && !ancestorFiles.contains(currentFile)) {
+				ancestorFiles.push(currentFile);
+				currentFile = parentFiles.get(currentFile);
+			}
+			sortedFiles.addAll(ancestorFiles);
+		}
+		final var executorService = Executors.newFixedThreadPool(
+				Math.min(parallelism, sortedFiles.size()),
+				runnable -> {
+					final var thread = new Thread(runnable);
+					thread.setDaemon(true);
+					return thread;
+				}
+		);
+		try {
+			final var prefetches = new HashMap<String, CompletableFuture<Void>>();
+			final var filePrefetches = new HashMap<BuildFile, List<CompletableFuture<Void>>>();
+			rawModels.forEach((file, model) -> {
+				final var repositories = extractRemoteRepositories(model);
+				for (final var coordinates : extractPrefetchCoordinates(model)) {
+					final var groupId = coordinates.getFirst();
+					final var artifactId = coordinates.getSecond();
+					final var version = coordinates.getThird();
+					final var identifier = toIdentifier(groupId, artifactId, version);
+					if (null == identifier || session.findModelFile(groupId, artifactId, version).isPresent()) {
+						continue;
+					}
+					filePrefetches.computeIfAbsent(file, key -> new ArrayList<>()).add(
+							prefetches.computeIfAbsent(
+									identifier,
+									key -> CompletableFuture.runAsync(
+											() -> prefetch(groupId, artifactId, version, repositories),
+											executorService
+									)
+							)
+					);
+				}
+			});
+			for (final var file : sortedFiles) {
+				final var filePrefetch = CompletableFuture.allOf(
+						filePrefetches.getOrDefault(file, List.of()).toArray(CompletableFuture[]::new)
+				);
+				final var parentFile = parentFiles.get(file);
+				final var parentPreparedBuild = null != parentFile
+						? preparedBuilds.get(parentFile)
+						: null;
+				preparedBuilds.put(
+						file,
+						CompletableFuture.supplyAsync(
+								() -> {
+									filePrefetch.exceptionally(throwable -> null).join();
+									if (null != parentPreparedBuild) {
+										parentPreparedBuild.exceptionally(throwable -> null).join();
+									}
+									return build(file);
+								},
+								executorService
+						)
+				);
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Prefetch a <i>Maven</i> model file to the local repository, so that the model builder does not have to download
+	 * it while building.
+	 * @param groupId a group identifier
+	 * @param artifactId an artifact identifier
+	 * @param version a version
+	 * @param repositories a {@link List} of remote repositories declared by the requesting model
+	 * @since 2.4.0
+	 */
+	private void prefetch(
+			final String groupId,
+			final String artifactId,
+			final String version,
+			final List<RemoteRepository> repositories
+	) {
+		logger.info("Prefetching the {}:{}:{} model", () -> groupId, () -> artifactId, () -> version);
+		try {
+			session.requestArtifact(
+					new ArtifactRequest(
+							new DefaultArtifact(groupId, artifactId, "pom", version),
+							session.resolve(repositories),
+							null
+					)
+			);
+		} catch (final ArtifactResolutionException e) {
+			logger.debug(
+					"Unable to prefetch the {}:{}:{} model",
+					() -> groupId,
+					() -> artifactId,
+					() -> version
+			);
+		}
 	}
 
 	/**
@@ -101,19 +382,56 @@ public final class MavenBuildResolver implements BuildResolver {
 	@Override
 	public Build resolve(final BuildFile file) {
 		Ensure.notNull("file", file);
+		final var preparedBuild = preparedBuilds.remove(file);
+		if (null == preparedBuild) {
+			return build(file);
+		}
+		try {
+			return preparedBuild.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Build for a file, reading it directly if its model is simple, else from the build cache if possible.
+	 *
+	 * <p><b>Note</b>: Raw artifacts of a simple model are also effective, so that neither the model building nor the
+	 * interpolation are needed.</p>
+	 * @param file a file
+	 * @return the build
+	 * @throws BuildResolveException might occur while resolving the build
+	 * @since 2.4.0
+	 */
+	private Build build(final BuildFile file) {
+		final var optionalSimpleModel = simpleModelReader.read(file.getFile());
+		if (optionalSimpleModel.isPresent()) {
+			logger.info("Reading the {} simple build", () -> ToString.toString(file));
+			final var simpleModel = optionalSimpleModel.get();
+			inheritSuperRepositories(simpleModel.getRepositories(), SUPER_MODEL.getRepositories());
+			inheritSuperRepositories(simpleModel.getPluginRepositories(), SUPER_MODEL.getPluginRepositories());
+			return new Build(file, extractRepositories(simpleModel), extractArtifacts(simpleModel));
+		}
+		final var optionalCachedBuild = buildCache.read(file, CACHE_CONTEXT);
+		if (optionalCachedBuild.isPresent()) {
+			logger.info("Reading the {} build from the cache", () -> ToString.toString(file));
+			return optionalCachedBuild.get();
+		}
 		logger.info("Resolving the {} build", () -> ToString.toString(file));
+		final var modelCache = new RecordingModelCache(session.getModelCache());
 		final var request = new DefaultModelBuildingRequest()
 				.setPomFile(file.getFile().toFile())
 				.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL)
 				.setProcessPlugins(false)
 				.setSystemProperties(System.getProperties())
-				.setModelResolver(session.getModelResolver())
-				.setModelCache(session.getModelCache());
+				.setModelResolver(session.getModelResolver().newCopy())
+				.setModelCache(modelCache);
 		final ModelBuildingResult result;
 		try {
-			result = new DefaultModelBuilderFactory()
-					.newInstance()
-					.build(request);
+			result = modelBuilder.build(request);
 		} catch (final ModelBuildingException e) {
 			throw new BuildResolveException(e);
 		}
@@ -167,7 +485,68 @@ public final class MavenBuildResolver implements BuildResolver {
 				)
 		);
 
-		return new Build(file, effectiveRepositories, inheritedArtifacts);
+		final var build = new Build(file, effectiveRepositories, inheritedArtifacts);
+		if (BuildCache.NONE != buildCache) {
+			findInputFiles(file, result, modelCache)
+					.ifPresent(inputFiles -> buildCache.write(build, inputFiles, CACHE_CONTEXT));
+		}
+		return build;
+	}
+
+	/**
+	 * Find an {@link Optional} {@link Set} of input files a build depends on: the file itself, its local parents and
+	 * the files of other parents and imports it asked for.
+	 * @param file a file
+	 * @param result a model building result
+	 * @param modelCache a recording model cache
+	 * @return the {@link Optional} {@link Set} of input files, empty if any of them could not be found
+	 * @since 2.4.0
+	 */
+	private Optional<Set<Path>> findInputFiles(
+			final BuildFile file,
+			final ModelBuildingResult result,
+			final RecordingModelCache modelCache
+	) {
+		final var inputFiles = new LinkedHashSet<Path>();
+		inputFiles.add(file.getFile());
+		final var localModelIds = new HashSet<String>();
+		for (final var modelId : result.getModelIds()) {
+			final var pomFile = result.getRawModel(modelId).getPomFile();
+			if (null != pomFile) {
+				inputFiles.add(pomFile.toPath());
+				localModelIds.add(modelId);
+			}
+		}
+		for (final var coordinates : modelCache.getCoordinates()) {
+			final var groupId = coordinates.getFirst();
+			final var artifactId = coordinates.getSecond();
+			final var version = coordinates.getThird();
+			if (localModelIds.contains(groupId + ":" + artifactId + ":" + version)) {
+				continue;
+			}
+			final var optionalModelFile = session.findModelFile(groupId, artifactId, version);
+			if (optionalModelFile.isEmpty()) {
+				logger.debug(
+						"Not caching the {} build as the {}:{}:{} model file is not found",
+						() -> ToString.toString(file),
+						() -> groupId,
+						() -> artifactId,
+						() -> version
+				);
+				return Optional.empty();
+			}
+			inputFiles.add(optionalModelFile.get());
+		}
+		return Optional.of(inputFiles);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public List<CacheStatistics> getCacheStatistics() {
+		return List.of(session.getModelCacheStatistics());
 	}
 
 	/**
@@ -203,6 +582,65 @@ public final class MavenBuildResolver implements BuildResolver {
 				.toList();
 	}
 
+	/**
+	 * Inherit <i>Maven</i> repositories of the super model, as the model builder would do for a model without any
+	 * parent.
+	 * @param repositories a {@link List} of <i>Maven</i> repositories to complete
+	 * @param superRepositories a {@link List} of <i>Maven</i> repositories of the super model
+	 * @since 2.4.0
+	 */
+	private static void inheritSuperRepositories(
+			final List<org.apache.maven.model.Repository> repositories,
+			final List<org.apache.maven.model.Repository> superRepositories
+	) {
+		for (final var superRepository : superRepositories) {
+			if (repositories.stream().noneMatch(repository -> superRepository.getId().equals(repository.getId()))) {
+				repositories.add(superRepository);
+			}
+		}
+	}
+
+	/**
+	 * Extract a {@link List} of remote repositories from a raw <i>Maven</i> model, ignoring the ones with an
+	 * expression.
+	 * @param model a raw <i>Maven</i> model
+	 * @return the {@link List} of remote repositories
+	 * @since 2.4.0
+	 */
+	private static List<RemoteRepository> extractRemoteRepositories(final Model model) {
+		return model.getRepositories()
+				.stream()
+				.filter(repository -> isLiteral(repository.getId()) && isLiteral(repository.getUrl()))
+				.map(repository -> MavenUtils.createRemoteRepository(repository.getId(), repository.getUrl()))
+				.toList();
+	}
+
+	/**
+	 * Extract a {@link List} of coordinates to prefetch from a raw <i>Maven</i> model: its parent and its imported
+	 * dependency managements.
+	 * @param model a raw <i>Maven</i> model
+	 * @return the {@link List} of coordinates, as group identifier, artifact identifier and version
+	 * @since 2.4.0
+	 */
+	private static List<Triple<String, String, String>> extractPrefetchCoordinates(final Model model) {
+		final var coordinates = new ArrayList<Triple<String, String, String>>();
+		final var parent = model.getParent();
+		if (null != parent) {
+			coordinates.add(Triple.of(parent.getGroupId(), parent.getArtifactId(), parent.getVersion()));
+		}
+		final var dependencyManagement = model.getDependencyManagement();
+		if (null != dependencyManagement) {
+			for (final var dependency : dependencyManagement.getDependencies()) {
+				if (IMPORT_SCOPE.equals(dependency.getScope())) {
+					coordinates.add(
+							Triple.of(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion())
+					);
+				}
+			}
+		}
+		return coordinates;
+	}
+
 	/**
 	 * Extract a {@link List} of artifacts from a <i>Maven</i> model.
 	 * @param model a <i>Maven</i> model
@@ -301,6 +739,9 @@ public final class MavenBuildResolver implements BuildResolver {
 
 	/**
 	 * Inherit a {@link List} of raw artifacts using a {@link List} of effective artifacts.
+	 *
+	 * <p><b>Note</b>: Effective artifacts are indexed once by type and identifier, so that inheriting a raw artifact
+	 * costs a single lookup rather than a scan of every effective artifact.</p>
 	 * @param rawArtifacts a {@link List} of raw artifacts
 	 * @param effectiveArtifacts a {@link List} of effective artifacts
 	 * @return the {@link List} of artifacts
@@ -310,36 +751,62 @@ public final class MavenBuildResolver implements BuildResolver {
 			final List<Artifact<MavenArtifactType>> rawArtifacts,
 			final List<Artifact<MavenArtifactType>> effectiveArtifacts
 	) {
+		final var effectiveArtifactsByKey = new HashMap<
+				Pair<MavenArtifactType, ArtifactIdentifier>,
+				List<Artifact<MavenArtifactType>>
+		>();
+		for (final var effectiveArtifact : effectiveArtifacts) {
+			effectiveArtifactsByKey.computeIfAbsent(
+					Pair.of(effectiveArtifact.getType(), effectiveArtifact.getIdentifier()),
+					key -> new ArrayList<>(1)
+			).add(effectiveArtifact);
+		}
 		return rawArtifacts.stream()
 				.map(rawArtifact -> {
-					final var rawArtifactType = rawArtifact.getType();
-					final var rawArtifactIdentifier = rawArtifact.getIdentifier();
 					final var rawArtifactOptionalVersion = rawArtifact.getOptionalVersion();
-					return effectiveArtifacts.stream()
+					final var matchingEffectiveArtifacts = effectiveArtifactsByKey.get(
+							Pair.of(rawArtifact.getType(), rawArtifact.getIdentifier())
+					);
+					if (null == matchingEffectiveArtifacts) {
+						return rawArtifact;
+					}
+					return matchingEffectiveArtifacts.stream()
 							.filter(
 									effectiveArtifact ->
-											rawArtifactType == effectiveArtifact.getType()
-													&& rawArtifactIdentifier.equals(effectiveArtifact.getIdentifier())
-							)
-							.sorted(
-									Comparator.comparing(
-											effectiveArtifact ->
-													rawArtifactOptionalVersion.equals(
-															effectiveArtifact.getOptionalVersion()
-													),
-											Comparator.reverseOrder()
-									)
-							)
-							.map(
-									effectiveArtifact ->
-											effectiveArtifact.withVersionInherited(rawArtifactOptionalVersion.isEmpty())
+											rawArtifactOptionalVersion.equals(effectiveArtifact.getOptionalVersion())
 							)
-							.findAny()
-							.orElse(rawArtifact);
+							.findFirst()
+							.orElseGet(() -> matchingEffectiveArtifacts.get(0))
+							.withVersionInherited(rawArtifactOptionalVersion.isEmpty());
 				})
 				.toList();
 	}
 
+	/**
+	 * Create an identifier from <i>Maven</i> coordinates to be used as a key.
+	 * @param groupId a group identifier
+	 * @param artifactId an artifact identifier
+	 * @param version a version
+	 * @return the identifier or {@code null} if any coordinate is not a literal
+	 * @since 2.4.0
+	 */
+	private static String toIdentifier(final String groupId, final String artifactId, final String version) {
+		if (!isLiteral(groupId) || !isLiteral(artifactId) || !isLiteral(version)) {
+			return null;
+		}
+		return groupId + ":" + artifactId + ":" + version;
+	}
+
+	/**
+	 * Check if a raw value is a literal, which is neither missing nor containing any expression.
+	 * @param value a raw value
+	 * @return {@code true} if the raw value is a literal
+	 * @since 2.4.0
+	 */
+	private static boolean isLiteral(final String value) {
+		return null != value && !value.isEmpty() && !value.contains("${");
+	}
+
 	/**
 	 * Create a repository from a type and a <i>Maven</i> repository.
 	 * @param type a type
@@ -0,0 +1,516 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.BuildBase;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Extension;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.ModelBase;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.apache.maven.model.Profile;
+import org.apache.maven.model.ReportPlugin;
+import org.apache.maven.model.Reporting;
+import org.apache.maven.model.Repository;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Class that describes a <i>StAX</i> reader of simple <i>Maven</i> models, which raw artifacts are also effective.
+ *
+ * <p><b>Note</b>: A model is simple if it has no parent, no imported dependency management, no profile repository,
+ * and if every artifact has an explicit version and every read value is free of any expression. Only the parts of
+ * the model needed to extract repositories and artifacts are read.</p>
+ * @since 2.4.0
+ */
+final class SimpleMavenModelReader {
+
+	/**
+	 * Supported model version.
+	 * @since 2.4.0
+	 */
+	private static final String MODEL_VERSION = "4.0.0";
+
+	/**
+	 * Start of an expression.
+	 * @since 2.4.0
+	 */
+	private static final String EXPRESSION_START = "${";
+
+	/**
+	 * Import scope.
+	 * @since 2.4.0
+	 */
+	private static final String IMPORT_SCOPE = "import";
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * {@link XMLInputFactory}.
+	 * @since 2.4.0
+	 */
+	private final XMLInputFactory inputFactory;
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	SimpleMavenModelReader() {
+		inputFactory = XMLInputFactory.newFactory();
+		inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	/**
+	 * Read an {@link Optional} simple <i>Maven</i> model from a file.
+	 * @param file a file
+	 * @return the {@link Optional} simple <i>Maven</i> model, empty if the model is not simple or not readable
+	 * @throws NullPointerException if the file is {@code null}
+	 * @since 2.4.0
+	 */
+	Optional<Model> read(final Path file) {
+		Ensure.notNull("file", file);
+		try (var inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+			final var reader = inputFactory.createXMLStreamReader(inputStream);
+			try {
+				return Optional.of(readModel(reader));
+			} finally {
+				reader.close();
+			}
+		} catch (final NotSimpleException e) {
+			logger.debug("The {} model is not simple: {}", () -> ToString.toString(file), e::getMessage);
+			return Optional.empty();
+		} catch (final IOException | XMLStreamException e) {
+			logger.debug("The {} model is not readable", () -> ToString.toString(file));
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Read a <i>Maven</i> model.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> model
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static Model readModel(final XMLStreamReader reader) throws XMLStreamException, NotSimpleException {
+		reader.nextTag();
+		ensureSimple("project".equals(reader.getLocalName()), "unexpected root element");
+		final var model = new Model();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "modelVersion" -> model.setModelVersion(reader.getElementText().trim());
+				case "parent" -> throw new NotSimpleException("parent");
+				case "groupId" -> model.setGroupId(readValue(reader));
+				case "artifactId" -> model.setArtifactId(readValue(reader));
+				case "version" -> model.setVersion(readValue(reader));
+				case "repositories" -> {
+					while (nextChild(reader)) {
+						model.addRepository(readRepository(reader));
+					}
+				}
+				case "pluginRepositories" -> {
+					while (nextChild(reader)) {
+						model.addPluginRepository(readRepository(reader));
+					}
+				}
+				case "build" -> {
+					final var build = new Build();
+					readBuildBase(reader, build);
+					model.setBuild(build);
+				}
+				default -> readModelBase(reader, model);
+			}
+		}
+		ensureSimple(MODEL_VERSION.equals(model.getModelVersion()), "unsupported model version");
+		ensureSimple(
+				null != model.getGroupId() && null != model.getArtifactId() && null != model.getVersion(),
+				"missing coordinates"
+		);
+		return model;
+	}
+
+	/**
+	 * Read a <i>Maven</i> model base element, shared by models and profiles.
+	 * @param reader a {@link XMLStreamReader}
+	 * @param modelBase a <i>Maven</i> model base to fill
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static void readModelBase(
+			final XMLStreamReader reader,
+			final ModelBase modelBase
+	) throws XMLStreamException, NotSimpleException {
+		switch (reader.getLocalName()) {
+			case "dependencyManagement" -> {
+				final var dependencyManagement = new DependencyManagement();
+				while (nextChild(reader)) {
+					if ("dependencies".equals(reader.getLocalName())) {
+						while (nextChild(reader)) {
+							dependencyManagement.addDependency(readDependency(reader));
+						}
+					} else {
+						skip(reader);
+					}
+				}
+				modelBase.setDependencyManagement(dependencyManagement);
+			}
+			case "dependencies" -> {
+				while (nextChild(reader)) {
+					modelBase.addDependency(readDependency(reader));
+				}
+			}
+			case "reporting" -> {
+				final var reporting = new Reporting();
+				while (nextChild(reader)) {
+					if ("plugins".equals(reader.getLocalName())) {
+						while (nextChild(reader)) {
+							reporting.addPlugin(readReportPlugin(reader));
+						}
+					} else {
+						skip(reader);
+					}
+				}
+				modelBase.setReporting(reporting);
+			}
+			case "profiles" -> {
+				if (!(modelBase instanceof Model model)) {
+					skip(reader);
+					return;
+				}
+				while (nextChild(reader)) {
+					model.addProfile(readProfile(reader));
+				}
+			}
+			default -> skip(reader);
+		}
+	}
+
+	/**
+	 * Read a <i>Maven</i> profile.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> profile
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static Profile readProfile(final XMLStreamReader reader) throws XMLStreamException, NotSimpleException {
+		final var profile = new Profile();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "id" -> profile.setId(reader.getElementText().trim());
+				case "repositories", "pluginRepositories" -> throw new NotSimpleException("profile repositories");
+				case "build" -> {
+					final var build = new BuildBase();
+					readBuildBase(reader, build);
+					profile.setBuild(build);
+				}
+				default -> readModelBase(reader, profile);
+			}
+		}
+		return profile;
+	}
+
+	/**
+	 * Read a <i>Maven</i> build base element, shared by model and profile builds.
+	 * @param reader a {@link XMLStreamReader}
+	 * @param buildBase a <i>Maven</i> build base to fill
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static void readBuildBase(
+			final XMLStreamReader reader,
+			final BuildBase buildBase
+	) throws XMLStreamException, NotSimpleException {
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "extensions" -> {
+					if (!(buildBase instanceof Build build)) {
+						skip(reader);
+						continue;
+					}
+					while (nextChild(reader)) {
+						build.addExtension(readExtension(reader));
+					}
+				}
+				case "pluginManagement" -> {
+					final var pluginManagement = new PluginManagement();
+					while (nextChild(reader)) {
+						if ("plugins".equals(reader.getLocalName())) {
+							while (nextChild(reader)) {
+								pluginManagement.addPlugin(readPlugin(reader));
+							}
+						} else {
+							skip(reader);
+						}
+					}
+					buildBase.setPluginManagement(pluginManagement);
+				}
+				case "plugins" -> {
+					while (nextChild(reader)) {
+						buildBase.addPlugin(readPlugin(reader));
+					}
+				}
+				default -> skip(reader);
+			}
+		}
+	}
+
+	/**
+	 * Read a <i>Maven</i> repository.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> repository
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static Repository readRepository(
+			final XMLStreamReader reader
+	) throws XMLStreamException, NotSimpleException {
+		final var repository = new Repository();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "id" -> repository.setId(readValue(reader));
+				case "url" -> repository.setUrl(readValue(reader));
+				default -> skip(reader);
+			}
+		}
+		ensureSimple(null != repository.getId() && null != repository.getUrl(), "incomplete repository");
+		return repository;
+	}
+
+	/**
+	 * Read a <i>Maven</i> dependency.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> dependency
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static Dependency readDependency(
+			final XMLStreamReader reader
+	) throws XMLStreamException, NotSimpleException {
+		final var dependency = new Dependency();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "groupId" -> dependency.setGroupId(readValue(reader));
+				case "artifactId" -> dependency.setArtifactId(readValue(reader));
+				case "version" -> dependency.setVersion(readValue(reader));
+				case "scope" -> dependency.setScope(readValue(reader));
+				default -> skip(reader);
+			}
+		}
+		ensureSimple(!IMPORT_SCOPE.equals(dependency.getScope()), "imported dependency management");
+		ensureSimple(
+				null != dependency.getGroupId() && null != dependency.getArtifactId() && null != dependency.getVersion(),
+				"incomplete dependency"
+		);
+		return dependency;
+	}
+
+	/**
+	 * Read a <i>Maven</i> extension.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> extension
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static Extension readExtension(
+			final XMLStreamReader reader
+	) throws XMLStreamException, NotSimpleException {
+		final var extension = new Extension();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "groupId" -> extension.setGroupId(readValue(reader));
+				case "artifactId" -> extension.setArtifactId(readValue(reader));
+				case "version" -> extension.setVersion(readValue(reader));
+				default -> skip(reader);
+			}
+		}
+		ensureSimple(
+				null != extension.getGroupId() && null != extension.getArtifactId() && null != extension.getVersion(),
+				"incomplete extension"
+		);
+		return extension;
+	}
+
+	/**
+	 * Read a <i>Maven</i> plugin.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> plugin
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static Plugin readPlugin(final XMLStreamReader reader) throws XMLStreamException, NotSimpleException {
+		final var plugin = new Plugin();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "groupId" -> plugin.setGroupId(readValue(reader));
+				case "artifactId" -> plugin.setArtifactId(readValue(reader));
+				case "version" -> plugin.setVersion(readValue(reader));
+				case "dependencies" -> {
+					while (nextChild(reader)) {
+						plugin.addDependency(readDependency(reader));
+					}
+				}
+				default -> skip(reader);
+			}
+		}
+		ensureSimple(null != plugin.getArtifactId() && null != plugin.getVersion(), "incomplete plugin");
+		return plugin;
+	}
+
+	/**
+	 * Read a <i>Maven</i> report plugin.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the <i>Maven</i> report plugin
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the <i>Maven</i> model is not simple
+	 * @since 2.4.0
+	 */
+	private static ReportPlugin readReportPlugin(
+			final XMLStreamReader reader
+	) throws XMLStreamException, NotSimpleException {
+		final var reportPlugin = new ReportPlugin();
+		while (nextChild(reader)) {
+			switch (reader.getLocalName()) {
+				case "groupId" -> reportPlugin.setGroupId(readValue(reader));
+				case "artifactId" -> reportPlugin.setArtifactId(readValue(reader));
+				case "version" -> reportPlugin.setVersion(readValue(reader));
+				default -> skip(reader);
+			}
+		}
+		ensureSimple(
+				null != reportPlugin.getArtifactId() && null != reportPlugin.getVersion(),
+				"incomplete report plugin"
+		);
+		return reportPlugin;
+	}
+
+	/**
+	 * Read a value, trimmed as the <i>Maven</i> reader would do.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return the value
+	 * @throws XMLStreamException might occur while reading
+	 * @throws NotSimpleException if the value is empty or contains an expression
+	 * @since 2.4.0
+	 */
+	private static String readValue(final XMLStreamReader reader) throws XMLStreamException, NotSimpleException {
+		final var value = reader.getElementText().trim();
+		ensureSimple(!value.isEmpty(), "empty value");
+		ensureSimple(!value.contains(EXPRESSION_START), "expression");
+		return value;
+	}
+
+	/**
+	 * Move to the next child element of the current element.
+	 * @param reader a {@link XMLStreamReader}
+	 * @return {@code true} if a child element has been reached, {@code false} if the current element ended
+	 * @throws XMLStreamException might occur while reading
+	 * @since 2.4.0
+	 */
+	private static boolean nextChild(final XMLStreamReader reader) throws XMLStreamException {
+		return XMLStreamConstants.START_ELEMENT == reader.nextTag();
+	}
+
+	/**
+	 * Skip the current element and all of its content.
+	 * @param reader a {@link XMLStreamReader}
+	 * @throws XMLStreamException might occur while reading
+	 * @since 2.4.0
+	 */
+	private static void skip(final XMLStreamReader reader) throws XMLStreamException {
+		var depth = 1;
+		while (0 < depth) {
+			final var event = reader.next();
+			if (XMLStreamConstants.START_ELEMENT == event) {
+				++depth;
+			} else if (XMLStreamConstants.END_ELEMENT == event) {
+				--depth;
+			}
+		}
+	}
+
+	/**
+	 * Ensure a condition about the <i>Maven</i> model being simple.
+	 * @param condition a condition
+	 * @param reason a reason if the condition is not met
+	 * @throws NotSimpleException if the condition is not met
+	 * @since 2.4.0
+	 */
+	private static void ensureSimple(final boolean condition, final String reason) throws NotSimpleException {
+		if (!condition) {
+			throw new NotSimpleException(reason);
+		}
+	}
+
+	/**
+	 * Exception thrown when a <i>Maven</i> model is not simple.
+	 * @since 2.4.0
+	 */
+	private static final class NotSimpleException extends Exception {
+
+		/**
+		 * Serial version unique identifier.
+		 * @since 2.4.0
+		 */
+		@Serial
+		private static final long serialVersionUID = 3081964623147209851L;
+
+		/**
+		 * Constructor with a reason.
+		 * @param reason a reason
+		 * @since 2.4.0
+		 */
+		private NotSimpleException(final String reason) {
+			super(reason, null, false, false);
+		}
+	}
+}
\ No newline at end of file
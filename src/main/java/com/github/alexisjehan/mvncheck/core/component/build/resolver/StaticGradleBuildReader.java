@@ -0,0 +1,1095 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Class that describes a static reader of <i>Gradle</i> builds, which reads repositories and artifacts from build
+ * files without evaluating them.
+ *
+ * <p><b>Note</b>: Only declarative builds are supported, made of literal repositories and of literal dependency
+ * notations, possibly referencing <i>Gradle</i> properties, local variables and the default version catalog. Builds
+ * using a {@code buildSrc} directory, included builds, custom version catalogs, script plugins or cross-project
+ * configuration are not supported. Plugins are not evaluated either, so that repositories and artifacts they could
+ * add are missed.</p>
+ * @since 2.4.0
+ */
+final class StaticGradleBuildReader {
+
+	/**
+	 * {@link List} of build file names.
+	 * @since 2.4.0
+	 */
+	private static final List<String> BUILD_FILE_NAMES = List.of(
+			"build.gradle",
+			"build.gradle.kts"
+	);
+
+	/**
+	 * {@link List} of settings file names.
+	 * @since 2.4.0
+	 */
+	private static final List<String> SETTINGS_FILE_NAMES = List.of(
+			"settings.gradle",
+			"settings.gradle.kts"
+	);
+
+	/**
+	 * Properties file name.
+	 * @since 2.4.0
+	 */
+	private static final String PROPERTIES_FILE_NAME = "gradle.properties";
+
+	/**
+	 * <i>buildSrc</i> directory name.
+	 * @since 2.4.0
+	 */
+	private static final String BUILD_SRC_DIRECTORY_NAME = "buildSrc";
+
+	/**
+	 * Default version catalog file, relatively to the root directory.
+	 * @since 2.4.0
+	 */
+	private static final Path VERSION_CATALOG_FILE = Path.of("gradle", "libs.versions.toml");
+
+	/**
+	 * Prefix of default version catalog accessors.
+	 * @since 2.4.0
+	 */
+	private static final String VERSION_CATALOG_PREFIX = "libs.";
+
+	/**
+	 * Default name of <i>Maven</i> repositories.
+	 * @since 2.4.0
+	 */
+	private static final String MAVEN_REPOSITORY_NAME = "maven";
+
+	/**
+	 * {@link Map} of names and URLs of well-known repositories by method name.
+	 * @since 2.4.0
+	 */
+	private static final Map<String, Pair<String, String>> WELL_KNOWN_REPOSITORIES = Map.of(
+			"mavenCentral", Pair.of("MavenRepo", "https://repo.maven.apache.org/maven2/"),
+			"google", Pair.of("Google", "https://dl.google.com/dl/android/maven2/"),
+			"gradlePluginPortal", Pair.of("Gradle Central Plugin Repository", "https://plugins.gradle.org/m2")
+	);
+
+	/**
+	 * {@link Set} of method names of skipped repositories, either local or not <i>Maven</i> ones.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> SKIPPED_REPOSITORIES = Set.of(
+			"mavenLocal",
+			"ivy",
+			"flatDir"
+	);
+
+	/**
+	 * {@link Set} of method names of skipped dependencies, which are not external modules.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> SKIPPED_DEPENDENCIES = Set.of(
+			"project",
+			"files",
+			"fileTree",
+			"gradleApi",
+			"gradleTestKit",
+			"localGroovy"
+	);
+
+	/**
+	 * {@link Set} of method names of platform dependencies.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> PLATFORM_DEPENDENCIES = Set.of(
+			"platform",
+			"enforcedPlatform"
+	);
+
+	/**
+	 * {@link Set} of ignored blocks of the dependencies block.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> IGNORED_DEPENDENCIES_BLOCKS = Set.of(
+			"components"
+	);
+
+	/**
+	 * Name of the constraints block of the dependencies block.
+	 * @since 2.4.0
+	 */
+	private static final String CONSTRAINTS_BLOCK = "constraints";
+
+	/**
+	 * Pattern of unsupported constructs, which could change repositories or artifacts from elsewhere.
+	 * @since 2.4.0
+	 */
+	private static final Pattern UNSUPPORTED_PATTERN = Pattern.compile(
+			"\\b(?:allprojects|subprojects|includeBuild|versionCatalogs|beforeProject|afterProject|afterEvaluate)\\b"
+					+ "|\\bapply\\s*\\(?\\s*from\\b"
+	);
+
+	/**
+	 * Pattern of an identifier.
+	 * @since 2.4.0
+	 */
+	private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_]\\w*");
+
+	/**
+	 * Pattern of an invocation, made of a possibly quoted name followed by its arguments.
+	 * @since 2.4.0
+	 */
+	private static final Pattern INVOCATION_PATTERN = Pattern.compile(
+			"(?:([\"'])(\\w+)\\1|([A-Za-z_][\\w.]*))\\s*(.*)",
+			Pattern.DOTALL
+	);
+
+	/**
+	 * Pattern of a method call, made of a name followed by parenthesized arguments.
+	 * @since 2.4.0
+	 */
+	private static final Pattern CALL_PATTERN = Pattern.compile("([A-Za-z_]\\w*)\\s*(\\(.*)", Pattern.DOTALL);
+
+	/**
+	 * Pattern of a named argument, either <i>Groovy</i> or <i>Kotlin</i>.
+	 * @since 2.4.0
+	 */
+	private static final Pattern NAMED_ARGUMENT_PATTERN = Pattern.compile(
+			"(\\w+)\\s*(?::|=(?!=))\\s*(.*)",
+			Pattern.DOTALL
+	);
+
+	/**
+	 * Pattern of a variable definition.
+	 * @since 2.4.0
+	 */
+	private static final Pattern VARIABLE_DEFINITION_PATTERN = Pattern.compile(
+			"(?:(?:def|val|var)\\s+|(?:project\\.)?(?:ext|extra)\\.)?([A-Za-z_]\\w*)\\s*(?::\\s*[\\w.?]+\\s*)?"
+					+ "=(?!=)\\s*(.*)"
+					+ "|(?:project\\.)?(?:ext|extra)\\[\\s*([\"'])(\\w+)\\3\\s*]\\s*=(?!=)\\s*(.*)",
+			Pattern.DOTALL
+	);
+
+	/**
+	 * Pattern of a property lookup.
+	 * @since 2.4.0
+	 */
+	private static final Pattern PROPERTY_PATTERN = Pattern.compile(
+			"(?:project\\.)?(?:property|findProperty)\\(\\s*([\"'])(\\w+)\\1\\s*\\)(?:\\s+as\\s+String)?"
+	);
+
+	/**
+	 * Pattern of a string interpolation.
+	 * @since 2.4.0
+	 */
+	private static final Pattern INTERPOLATION_PATTERN = Pattern.compile(
+			"\\$(?:\\{\\s*((?:(?:project|rootProject|ext|extra)\\.)*)([A-Za-z_]\\w*)\\s*}|([A-Za-z_]\\w*))"
+	);
+
+	/**
+	 * Pattern of a <i>Maven</i> repository URL.
+	 * @since 2.4.0
+	 */
+	private static final Pattern URL_PATTERN = Pattern.compile("https?://\\S+");
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Version catalog reader.
+	 * @since 2.4.0
+	 */
+	private final GradleVersionCatalogReader versionCatalogReader;
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	StaticGradleBuildReader() {
+		versionCatalogReader = new GradleVersionCatalogReader();
+	}
+
+	/**
+	 * Read {@link Optional} repositories and artifacts from a build file, unfiltered.
+	 * @param file a build file
+	 * @return the {@link Optional} repositories and artifacts, empty if the build is not supported or not readable
+	 * @throws NullPointerException if the file is {@code null}
+	 * @since 2.4.0
+	 */
+	Optional<Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> read(final Path file) {
+		Ensure.notNull("file", file);
+		try {
+			return Optional.of(readBuild(file));
+		} catch (final UnsupportedBuildException e) {
+			logger.debug("The {} build is not supported statically: {}", () -> ToString.toString(file), e::getMessage);
+			return Optional.empty();
+		} catch (final IOException e) {
+			logger.debug("The {} build is not readable", () -> ToString.toString(file));
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Read repositories and artifacts from a build file.
+	 * @param file a build file
+	 * @return repositories and artifacts
+	 * @throws IOException might occur with input/output operations
+	 * @throws UnsupportedBuildException if the build is not supported
+	 * @since 2.4.0
+	 */
+	private Pair<List<Repository>, List<Artifact<GradleArtifactType>>> readBuild(
+			final Path file
+	) throws IOException, UnsupportedBuildException {
+		final var directory = GradleBuildResolver.toRealDirectory(file.toAbsolutePath().getParent());
+		final var rootDirectory = GradleBuildResolver.findRootDirectory(directory);
+		ensureSupported(!Files.isDirectory(rootDirectory.resolve(BUILD_SRC_DIRECTORY_NAME)), "buildSrc");
+		final var variables = readProperties(rootDirectory.resolve(PROPERTIES_FILE_NAME));
+		if (!rootDirectory.equals(directory)) {
+			variables.putAll(readProperties(directory.resolve(PROPERTIES_FILE_NAME)));
+			for (final var rootBuildFileName : BUILD_FILE_NAMES) {
+				final var rootBuildFile = rootDirectory.resolve(rootBuildFileName);
+				if (Files.isRegularFile(rootBuildFile)) {
+					parse(Files.readString(rootBuildFile));
+				}
+			}
+		}
+
+		final var settingsRepositoryBlocks = new ArrayList<Node>();
+		final var pluginRepositoryBlocks = new ArrayList<Node>();
+		for (final var settingsFileName : SETTINGS_FILE_NAMES) {
+			final var settingsFile = rootDirectory.resolve(settingsFileName);
+			if (Files.isRegularFile(settingsFile)) {
+				for (final var node : parse(Files.readString(settingsFile)).getChildren()) {
+					if ("dependencyResolutionManagement".equals(node.getText())) {
+						settingsRepositoryBlocks.addAll(node.findBlocks("repositories"));
+					} else if ("pluginManagement".equals(node.getText())) {
+						pluginRepositoryBlocks.addAll(node.findBlocks("repositories"));
+					}
+				}
+			}
+		}
+
+		final var build = parse(Files.readString(file));
+		readVariables(build, variables);
+		for (final var node : build.findBlocks("ext")) {
+			readVariables(node, variables);
+		}
+		final var repositories = new ArrayList<Repository>();
+		repositories.addAll(readRepositories(settingsRepositoryBlocks, RepositoryType.NORMAL, variables));
+		repositories.addAll(readRepositories(build.findBlocks("repositories"), RepositoryType.NORMAL, variables));
+		repositories.addAll(readRepositories(pluginRepositoryBlocks, RepositoryType.PLUGIN, variables));
+		final var versionCatalog = versionCatalogReader.read(rootDirectory.resolve(VERSION_CATALOG_FILE));
+		final var artifactsByConfiguration = new TreeMap<String, List<Artifact<GradleArtifactType>>>();
+		final var dependencyNodes = new ArrayList<Node>();
+		final var constraintNodes = new ArrayList<Node>();
+		for (final var node : build.findBlocks("dependencies")) {
+			for (final var child : node.getChildren()) {
+				final var name = splitInvocation(child.getText()).getFirst();
+				if (child.isBlock() && CONSTRAINTS_BLOCK.equals(name)) {
+					constraintNodes.addAll(child.getChildren());
+				} else if (!child.isBlock() || !IGNORED_DEPENDENCIES_BLOCKS.contains(name)) {
+					dependencyNodes.add(child);
+				}
+			}
+		}
+		dependencyNodes.addAll(constraintNodes);
+		for (final var child : dependencyNodes) {
+			final var invocation = splitInvocation(child.getText());
+			ensureSupported(
+					!child.isBlock() || child.getChildren().stream().noneMatch(
+							grandChild -> grandChild.getText().startsWith("version")
+					),
+					"rich version"
+			);
+			ensureSupported(!"add".equals(invocation.getFirst()), "dynamic dependency");
+			ensureSupported(!invocation.getSecond().isEmpty(), "unknown property " + invocation.getFirst());
+			final var artifactType = GradleBuildResolver.ARTIFACT_TYPES.get(invocation.getFirst());
+			final var dependencies = readDependencies(invocation.getSecond(), variables, versionCatalog);
+			if (null != artifactType) {
+				final var artifacts = artifactsByConfiguration.computeIfAbsent(
+						invocation.getFirst(),
+						key -> new ArrayList<>()
+				);
+				dependencies.forEach(
+						dependency -> artifacts.add(
+								new Artifact<>(artifactType, dependency.getFirst(), dependency.getSecond())
+						)
+				);
+			}
+		}
+		return Pair.of(
+				repositories,
+				artifactsByConfiguration.values()
+						.stream()
+						.flatMap(List::stream)
+						.toList()
+		);
+	}
+
+	/**
+	 * Read a modifiable {@link Map} of <i>Gradle</i> properties by name from a file.
+	 * @param file a properties file
+	 * @return the modifiable {@link Map} of <i>Gradle</i> properties by name, empty if the file does not exist
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	private static Map<String, String> readProperties(final Path file) throws IOException {
+		final var variables = new HashMap<String, String>();
+		if (Files.isRegularFile(file)) {
+			final var properties = new Properties();
+			try (var reader = Files.newBufferedReader(file)) {
+				properties.load(reader);
+			}
+			properties.stringPropertyNames().forEach(name -> variables.put(name, properties.getProperty(name)));
+		}
+		return variables;
+	}
+
+	/**
+	 * Read variables defined by statements of a block, skipping those which value could not be evaluated.
+	 * @param block a block
+	 * @param variables a modifiable {@link Map} of variables by name
+	 * @since 2.4.0
+	 */
+	private static void readVariables(final Node block, final Map<String, String> variables) {
+		for (final var child : block.getChildren()) {
+			if (child.isBlock()) {
+				continue;
+			}
+			final var matcher = VARIABLE_DEFINITION_PATTERN.matcher(child.getText());
+			if (matcher.matches()) {
+				final var name = null != matcher.group(1) ? matcher.group(1) : matcher.group(4);
+				final var value = evaluate(null != matcher.group(1) ? matcher.group(2) : matcher.group(5), variables);
+				if (null != value) {
+					variables.put(name, value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Read a {@link List} of repositories from blocks of the same repositories container.
+	 * @param blocks a {@link List} of repositories blocks
+	 * @param repositoryType a repository type
+	 * @param variables a {@link Map} of variables by name
+	 * @return the {@link List} of repositories
+	 * @throws UnsupportedBuildException if a repository is not supported
+	 * @since 2.4.0
+	 */
+	private static List<Repository> readRepositories(
+			final List<Node> blocks,
+			final RepositoryType repositoryType,
+			final Map<String, String> variables
+	) throws UnsupportedBuildException {
+		final var repositories = new ArrayList<Repository>();
+		final var names = new HashSet<String>();
+		for (final var block : blocks) {
+			for (final var child : block.getChildren()) {
+				final var invocation = splitInvocation(child.getText());
+				final var method = invocation.getFirst();
+				if (SKIPPED_REPOSITORIES.contains(method)) {
+					continue;
+				}
+				final String name;
+				final String url;
+				if (WELL_KNOWN_REPOSITORIES.containsKey(method)) {
+					final var wellKnownRepository = WELL_KNOWN_REPOSITORIES.get(method);
+					name = uniqueName(wellKnownRepository.getFirst(), names);
+					url = wellKnownRepository.getSecond();
+				} else if (MAVEN_REPOSITORY_NAME.equals(method)) {
+					final var properties = new HashMap<String, String>();
+					for (final var argument : splitTopLevel(invocation.getSecond(), ',')) {
+						final var matcher = NAMED_ARGUMENT_PATTERN.matcher(argument);
+						if (matcher.matches()) {
+							properties.put(matcher.group(1), matcher.group(2));
+						} else if (!argument.isEmpty()) {
+							properties.put("url", argument);
+						}
+					}
+					for (final var grandChild : child.getChildren()) {
+						if (grandChild.isBlock()) {
+							continue;
+						}
+						final var property = splitInvocation(grandChild.getText());
+						switch (property.getFirst()) {
+							case "url", "setUrl" -> properties.put("url", property.getSecond());
+							case "name", "setName" -> properties.put("name", property.getSecond());
+							case "allowInsecureProtocol", "isAllowInsecureProtocol" -> {
+								// Ignored
+							}
+							default -> throw new UnsupportedBuildException(
+									"unknown repository property " + property.getFirst()
+							);
+						}
+					}
+					ensureSupported(properties.containsKey("url"), "missing repository URL");
+					url = evaluate(unwrap(properties.get("url"), "uri"), variables);
+					ensureSupported(null != url && URL_PATTERN.matcher(url).matches(), "unsupported repository URL");
+					if (properties.containsKey("name")) {
+						name = evaluate(properties.get("name"), variables);
+						ensureSupported(null != name, "unsupported repository name");
+						names.add(name);
+					} else {
+						name = uniqueName(MAVEN_REPOSITORY_NAME, names);
+					}
+				} else {
+					throw new UnsupportedBuildException("unknown repository " + method);
+				}
+				repositories.add(new Repository(repositoryType, name, url));
+			}
+		}
+		return repositories;
+	}
+
+	/**
+	 * Read a {@link List} of artifact identifiers and versions from arguments of a dependency declaration.
+	 * @param arguments arguments of a dependency declaration
+	 * @param variables a {@link Map} of variables by name
+	 * @param versionCatalog a {@link Map} of artifact identifiers and versions by version catalog accessor
+	 * @return the {@link List} of artifact identifiers and versions
+	 * @throws UnsupportedBuildException if the dependency declaration is not supported
+	 * @since 2.4.0
+	 */
+	private static List<Pair<ArtifactIdentifier, String>> readDependencies(
+			final String arguments,
+			final Map<String, String> variables,
+			final Map<String, List<Pair<ArtifactIdentifier, String>>> versionCatalog
+	) throws UnsupportedBuildException {
+		final var splitArguments = splitTopLevel(arguments, ',');
+		if (NAMED_ARGUMENT_PATTERN.matcher(splitArguments.get(0)).matches()) {
+			final var properties = new HashMap<String, String>();
+			for (final var argument : splitArguments) {
+				final var matcher = NAMED_ARGUMENT_PATTERN.matcher(argument);
+				ensureSupported(matcher.matches(), "unsupported dependency notation");
+				final var value = evaluate(matcher.group(2), variables);
+				ensureSupported(null != value, "unsupported dependency " + matcher.group(1));
+				properties.put(matcher.group(1), value);
+			}
+			return List.of(toDependency(properties.get("group"), properties.get("name"), properties.get("version")));
+		}
+		final var dependencies = new ArrayList<Pair<ArtifactIdentifier, String>>();
+		final var values = new ArrayList<String>();
+		for (final var argument : splitArguments) {
+			readDependency(argument, variables, versionCatalog, dependencies, values);
+		}
+		if (!values.isEmpty()) {
+			if (values.stream().allMatch(value -> -1 == value.indexOf(':'))) {
+				ensureSupported(2 <= values.size() && 3 >= values.size(), "unsupported dependency notation");
+				dependencies.add(toDependency(values.get(0), values.get(1), 3 == values.size() ? values.get(2) : null));
+			} else {
+				for (final var value : values) {
+					final var notation = value.split("@", -1)[0];
+					final var parts = notation.split(":", -1);
+					ensureSupported(2 <= parts.length && 4 >= parts.length, "unsupported dependency notation");
+					dependencies.add(toDependency(parts[0], parts[1], 3 <= parts.length ? parts[2] : null));
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Read a dependency argument, adding resolved dependencies or else the evaluated string value.
+	 * @param argument a dependency argument
+	 * @param variables a {@link Map} of variables by name
+	 * @param versionCatalog a {@link Map} of artifact identifiers and versions by version catalog accessor
+	 * @param dependencies a modifiable {@link List} of artifact identifiers and versions
+	 * @param values a modifiable {@link List} of evaluated string values
+	 * @throws UnsupportedBuildException if the dependency argument is not supported
+	 * @since 2.4.0
+	 */
+	private static void readDependency(
+			final String argument,
+			final Map<String, String> variables,
+			final Map<String, List<Pair<ArtifactIdentifier, String>>> versionCatalog,
+			final List<Pair<ArtifactIdentifier, String>> dependencies,
+			final List<String> values
+	) throws UnsupportedBuildException {
+		if (argument.startsWith(VERSION_CATALOG_PREFIX)) {
+			final var libraries = versionCatalog.get(argument.substring(VERSION_CATALOG_PREFIX.length()));
+			ensureSupported(null != libraries, "unknown version catalog accessor " + argument);
+			dependencies.addAll(libraries);
+			return;
+		}
+		final var call = splitCall(argument);
+		if (null != call) {
+			final var method = call.getFirst();
+			ensureSupported(
+					SKIPPED_DEPENDENCIES.contains(method) || PLATFORM_DEPENDENCIES.contains(method),
+					"unknown dependency method " + method
+			);
+			if (PLATFORM_DEPENDENCIES.contains(method)) {
+				readDependency(call.getSecond(), variables, versionCatalog, dependencies, values);
+			}
+			return;
+		}
+		final var value = evaluate(argument, variables);
+		ensureSupported(null != value, "unsupported dependency notation");
+		values.add(value);
+	}
+
+	/**
+	 * Create an artifact identifier and a version from their parts.
+	 * @param groupId a group identifier or {@code null}
+	 * @param artifactId an artifact identifier or {@code null}
+	 * @param version a version or {@code null}
+	 * @return the artifact identifier and the version
+	 * @throws UnsupportedBuildException if the group identifier or the artifact identifier is missing
+	 * @since 2.4.0
+	 */
+	private static Pair<ArtifactIdentifier, String> toDependency(
+			final String groupId,
+			final String artifactId,
+			final String version
+	) throws UnsupportedBuildException {
+		ensureSupported(
+				null != groupId && !groupId.isEmpty() && null != artifactId && !artifactId.isEmpty(),
+				"missing dependency identifier"
+		);
+		return Pair.of(
+				new ArtifactIdentifier(groupId, artifactId),
+				null == version || version.isEmpty() ? null : version
+		);
+	}
+
+	/**
+	 * Evaluate an expression made of string literals, concatenations, interpolations, variables and property
+	 * lookups.
+	 * @param expression an expression
+	 * @param variables a {@link Map} of variables by name
+	 * @return the value, or {@code null} if the expression could not be evaluated
+	 * @since 2.4.0
+	 */
+	static String evaluate(final String expression, final Map<String, String> variables) {
+		final var parts = splitTopLevel(expression, '+');
+		if (1 < parts.size()) {
+			final var builder = new StringBuilder();
+			for (final var part : parts) {
+				final var value = evaluate(part, variables);
+				if (null == value) {
+					return null;
+				}
+				builder.append(value);
+			}
+			return builder.toString();
+		}
+		final var strippedExpression = expression.strip();
+		if (strippedExpression.isEmpty()) {
+			return null;
+		}
+		final var quote = strippedExpression.charAt(0);
+		if ('"' == quote || '\'' == quote) {
+			if (
+					2 > strippedExpression.length()
+							|| strippedExpression.startsWith(String.valueOf(quote).repeat(3))
+							|| skipString(strippedExpression, 0) != strippedExpression.length()
+			) {
+				return null;
+			}
+			final var string = strippedExpression.substring(1, strippedExpression.length() - 1);
+			return '"' == quote ? interpolate(string, variables) : unescape(string);
+		}
+		final var propertyMatcher = PROPERTY_PATTERN.matcher(strippedExpression);
+		if (propertyMatcher.matches()) {
+			return variables.get(propertyMatcher.group(2));
+		}
+		final var name = strippedExpression.replaceFirst("^(?:(?:project|rootProject|ext|extra)\\.)+", "");
+		if (IDENTIFIER_PATTERN.matcher(name).matches()) {
+			return variables.get(name);
+		}
+		return null;
+	}
+
+	/**
+	 * Interpolate a double-quoted string content.
+	 * @param string a double-quoted string content
+	 * @param variables a {@link Map} of variables by name
+	 * @return the interpolated string, or {@code null} if an interpolation could not be evaluated
+	 * @since 2.4.0
+	 */
+	private static String interpolate(final String string, final Map<String, String> variables) {
+		final var builder = new StringBuilder();
+		final var matcher = INTERPOLATION_PATTERN.matcher(string);
+		var index = 0;
+		while (matcher.find()) {
+			if (0 < matcher.start() && '\\' == string.charAt(matcher.start() - 1)) {
+				continue;
+			}
+			final var value = variables.get(null != matcher.group(2) ? matcher.group(2) : matcher.group(3));
+			if (null == value || null != matcher.group(3) && string.startsWith(".", matcher.end())) {
+				return null;
+			}
+			builder.append(unescape(string.substring(index, matcher.start()))).append(value);
+			index = matcher.end();
+		}
+		if (string.indexOf("${", index) != -1) {
+			return null;
+		}
+		return builder.append(unescape(string.substring(index))).toString();
+	}
+
+	/**
+	 * Unescape a string content.
+	 * @param string a string content
+	 * @return the unescaped string
+	 * @since 2.4.0
+	 */
+	private static String unescape(final String string) {
+		final var builder = new StringBuilder();
+		for (var i = 0; i < string.length(); ++i) {
+			final var c = string.charAt(i);
+			if ('\\' == c && i + 1 < string.length()) {
+				builder.append(string.charAt(++i));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Unwrap the arguments of a call of a method, or return the expression itself if it is not such a call.
+	 * @param expression an expression
+	 * @param method a method name
+	 * @return the arguments or the expression itself
+	 * @since 2.4.0
+	 */
+	private static String unwrap(final String expression, final String method) {
+		final var call = splitCall(expression);
+		if (null != call && method.equals(call.getFirst())) {
+			return call.getSecond();
+		}
+		return expression;
+	}
+
+	/**
+	 * Split a method call into its name and its arguments.
+	 * @param expression an expression
+	 * @return the name and the arguments, or {@code null} if the expression is not a method call
+	 * @since 2.4.0
+	 */
+	static Pair<String, String> splitCall(final String expression) {
+		final var matcher = CALL_PATTERN.matcher(expression.strip());
+		if (!matcher.matches()) {
+			return null;
+		}
+		final var arguments = matcher.group(2);
+		if (skipBrackets(arguments, 0) != arguments.length()) {
+			return null;
+		}
+		return Pair.of(matcher.group(1), arguments.substring(1, arguments.length() - 1).strip());
+	}
+
+	/**
+	 * Give a unique name for a repository of a container, suffixed by an increasing number if it is already taken.
+	 * @param name a default name
+	 * @param names a modifiable {@link Set} of names already taken
+	 * @return the unique name
+	 * @since 2.4.0
+	 */
+	private static String uniqueName(final String name, final Set<String> names) {
+		var uniqueName = name;
+		var i = 1;
+		while (names.contains(uniqueName)) {
+			uniqueName = name + ++i;
+		}
+		names.add(uniqueName);
+		return uniqueName;
+	}
+
+	/**
+	 * Split an invocation text into its possibly quoted name and its arguments, unwrapping parenthesized arguments
+	 * and assigned values.
+	 *
+	 * <p><b>Note</b>: Arguments are kept wrapped if they are followed by something else, so that a chained invocation
+	 * could be detected.</p>
+	 * @param text an invocation text
+	 * @return the name and the arguments, empty if there are none
+	 * @since 2.4.0
+	 */
+	static Pair<String, String> splitInvocation(final String text) {
+		final var matcher = INVOCATION_PATTERN.matcher(text);
+		if (!matcher.matches()) {
+			return Pair.of("", text);
+		}
+		final var name = null != matcher.group(2) ? matcher.group(2) : matcher.group(3);
+		final var arguments = matcher.group(4).strip();
+		if (arguments.startsWith("=") && !arguments.startsWith("==")) {
+			return Pair.of(name, arguments.substring(1).strip());
+		}
+		if (arguments.startsWith("(")) {
+			final var end = skipBrackets(arguments, 0);
+			if (end == arguments.length()) {
+				return Pair.of(name, arguments.substring(1, end - 1).strip());
+			}
+		}
+		return Pair.of(name, arguments);
+	}
+
+	/**
+	 * Split a value by a separator outside strings and brackets, stripping elements.
+	 * @param value a value
+	 * @param separator a separator
+	 * @return the {@link List} of stripped elements
+	 * @since 2.4.0
+	 */
+	static List<String> splitTopLevel(final String value, final char separator) {
+		final var elements = new ArrayList<String>();
+		var depth = 0;
+		var start = 0;
+		var i = 0;
+		while (i < value.length()) {
+			final var c = value.charAt(i);
+			if ('"' == c || '\'' == c || '`' == c) {
+				i = skipString(value, i);
+				continue;
+			}
+			if ('(' == c || '[' == c || '{' == c) {
+				++depth;
+			} else if (')' == c || ']' == c || '}' == c) {
+				--depth;
+			} else if (0 == depth && separator == c) {
+				elements.add(value.substring(start, i).strip());
+				start = i + 1;
+			}
+			++i;
+		}
+		elements.add(value.substring(start).strip());
+		return elements;
+	}
+
+	/**
+	 * Parse a script into its root block of statements and nested blocks, stripping comments.
+	 * @param script a script
+	 * @return the root block
+	 * @throws UnsupportedBuildException if the script is malformed or uses unsupported constructs
+	 * @since 2.4.0
+	 */
+	static Node parse(final String script) throws UnsupportedBuildException {
+		final var blocks = new ArrayDeque<Node>();
+		blocks.push(new Node("", new ArrayList<>()));
+		final var buffer = new StringBuilder();
+		var depth = 0;
+		var i = 0;
+		while (i < script.length()) {
+			final var c = script.charAt(i);
+			if (script.startsWith("//", i)) {
+				final var end = script.indexOf('\n', i);
+				i = -1 != end ? end : script.length();
+				continue;
+			}
+			if (script.startsWith("/*", i)) {
+				final var end = script.indexOf("*/", i + 2);
+				ensureSupported(-1 != end, "unclosed comment");
+				buffer.append(' ');
+				i = end + 2;
+				continue;
+			}
+			if ('"' == c || '\'' == c || '`' == c) {
+				final var end = skipString(script, i);
+				ensureSupported(-1 != end, "unclosed string");
+				buffer.append(script, i, end);
+				i = end;
+				continue;
+			}
+			switch (c) {
+				case '(', '[' -> {
+					++depth;
+					buffer.append(c);
+				}
+				case ')', ']' -> {
+					ensureSupported(0 < depth, "unbalanced brackets");
+					--depth;
+					buffer.append(c);
+				}
+				case '{' -> {
+					if (0 < depth) {
+						++depth;
+						buffer.append(c);
+					} else {
+						final var block = new Node(buffer.toString().strip(), new ArrayList<>());
+						blocks.element().getChildren().add(block);
+						blocks.push(block);
+						buffer.setLength(0);
+					}
+				}
+				case '}' -> {
+					if (0 < depth) {
+						--depth;
+						buffer.append(c);
+					} else {
+						flush(buffer, blocks.element());
+						ensureSupported(1 < blocks.size(), "unbalanced braces");
+						blocks.pop();
+					}
+				}
+				case '\n', ';' -> {
+					final var statement = buffer.toString().strip();
+					if (0 < depth || statement.endsWith(",") || statement.endsWith("=") || statement.endsWith("+")) {
+						buffer.append(' ');
+					} else {
+						flush(buffer, blocks.element());
+					}
+				}
+				default -> buffer.append(c);
+			}
+			++i;
+		}
+		flush(buffer, blocks.element());
+		ensureSupported(1 == blocks.size() && 0 == depth, "unbalanced braces");
+		final var root = blocks.pop();
+		ensureSupported(root.getChildren().stream().noneMatch(Node::isUnsupported), "unsupported construct");
+		ensureSupported(
+				root.getChildren()
+						.stream()
+						.filter(Predicate.not(Node::isBlock))
+						.map(Node::getText)
+						.noneMatch(text -> IDENTIFIER_PATTERN.matcher(text).matches()),
+				"unknown property"
+		);
+		return root;
+	}
+
+	/**
+	 * Flush a buffered statement to a block if it is not blank.
+	 * @param buffer a buffer
+	 * @param block a block
+	 * @since 2.4.0
+	 */
+	private static void flush(final StringBuilder buffer, final Node block) {
+		final var statement = buffer.toString().strip();
+		if (!statement.isEmpty()) {
+			block.getChildren().add(new Node(statement, null));
+		}
+		buffer.setLength(0);
+	}
+
+	/**
+	 * Skip a string starting at an index, including nested interpolations of double-quoted strings.
+	 * @param text a text
+	 * @param index the index of the opening quote
+	 * @return the index after the closing quote, or {@code -1} if the string is not closed
+	 * @since 2.4.0
+	 */
+	static int skipString(final String text, final int index) {
+		final var quote = text.charAt(index);
+		final var tripleQuote = String.valueOf(quote).repeat(3);
+		if ('`' != quote && text.startsWith(tripleQuote, index)) {
+			final var end = text.indexOf(tripleQuote, index + 3);
+			return -1 != end ? end + 3 : -1;
+		}
+		var i = index + 1;
+		while (i < text.length()) {
+			final var c = text.charAt(i);
+			if ('\\' == c && '`' != quote) {
+				i += 2;
+			} else if ('"' == quote && text.startsWith("${", i)) {
+				i = skipBrackets(text, i + 1);
+				if (-1 == i) {
+					return -1;
+				}
+			} else if (quote == c) {
+				return i + 1;
+			} else {
+				++i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Skip brackets starting at an index, including nested brackets and strings.
+	 * @param text a text
+	 * @param index the index of the opening bracket
+	 * @return the index after the closing bracket, or {@code -1} if the brackets are not closed
+	 * @since 2.4.0
+	 */
+	private static int skipBrackets(final String text, final int index) {
+		var depth = 0;
+		var i = index;
+		while (i < text.length()) {
+			final var c = text.charAt(i);
+			if ('"' == c || '\'' == c || '`' == c) {
+				i = skipString(text, i);
+				if (-1 == i) {
+					return -1;
+				}
+				continue;
+			}
+			if ('(' == c || '[' == c || '{' == c) {
+				++depth;
+			} else if ((')' == c || ']' == c || '}' == c) && 0 == --depth) {
+				return i + 1;
+			}
+			++i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Ensure a condition about the build being supported.
+	 * @param condition a condition
+	 * @param reason a reason if the condition is not met
+	 * @throws UnsupportedBuildException if the condition is not met
+	 * @since 2.4.0
+	 */
+	private static void ensureSupported(final boolean condition, final String reason) throws UnsupportedBuildException {
+		if (!condition) {
+			throw new UnsupportedBuildException(reason);
+		}
+	}
+
+	/**
+	 * Class that describes a node of a script, either a statement or a block of nodes.
+	 * @since 2.4.0
+	 */
+	static final class Node {
+
+		/**
+		 * Text of the statement, or header of the block.
+		 * @since 2.4.0
+		 */
+		private final String text;
+
+		/**
+		 * {@link List} of children, or {@code null} for a statement.
+		 * @since 2.4.0
+		 */
+		private final List<Node> children;
+
+		/**
+		 * Constructor.
+		 * @param text a text of the statement, or a header of the block
+		 * @param children a {@link List} of children, or {@code null} for a statement
+		 * @since 2.4.0
+		 */
+		private Node(final String text, final List<Node> children) {
+			this.text = text;
+			this.children = children;
+		}
+
+		/**
+		 * Find the {@link List} of child blocks with the given header.
+		 * @param header a header
+		 * @return the {@link List} of child blocks
+		 * @since 2.4.0
+		 */
+		List<Node> findBlocks(final String header) {
+			return getChildren().stream()
+					.filter(child -> child.isBlock() && header.equals(child.text))
+					.toList();
+		}
+
+		/**
+		 * Get whether this node or any of its children uses an unsupported construct.
+		 * @return {@code true} if an unsupported construct is used
+		 * @since 2.4.0
+		 */
+		boolean isUnsupported() {
+			return UNSUPPORTED_PATTERN.matcher(text).find()
+					|| isBlock() && children.stream().anyMatch(Node::isUnsupported);
+		}
+
+		/**
+		 * Get whether this node is a block.
+		 * @return {@code true} if this node is a block
+		 * @since 2.4.0
+		 */
+		boolean isBlock() {
+			return null != children;
+		}
+
+		/**
+		 * Get the text of the statement, or the header of the block.
+		 * @return the text
+		 * @since 2.4.0
+		 */
+		String getText() {
+			return text;
+		}
+
+		/**
+		 * Get the {@link List} of children, empty for a statement.
+		 * @return the {@link List} of children
+		 * @since 2.4.0
+		 */
+		List<Node> getChildren() {
+			return null != children ? children : List.of();
+		}
+	}
+
+	/**
+	 * Exception thrown when a build is not supported statically.
+	 * @since 2.4.0
+	 */
+	private static final class UnsupportedBuildException extends Exception {
+
+		/**
+		 * Serial version unique identifier.
+		 * @since 2.4.0
+		 */
+		@Serial
+		private static final long serialVersionUID = -6212483104738861273L;
+
+		/**
+		 * Constructor with a reason.
+		 * @param reason a reason
+		 * @since 2.4.0
+		 */
+		private UnsupportedBuildException(final String reason) {
+			super(reason, null, false, false);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that describes a static resolver of the build for a <i>Gradle</i> file, which reads it without launching
+ * <i>Gradle</i>, and that falls back to another resolver for builds it does not support.
+ *
+ * <p><b>Note</b>: Builds read statically are approximate, as plugins and any imperative logic are not evaluated.</p>
+ * @since 2.4.0
+ */
+public final class StaticGradleBuildResolver implements BuildResolver {
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Fallback build resolver.
+	 * @since 2.4.0
+	 */
+	private final BuildResolver fallbackBuildResolver;
+
+	/**
+	 * Static build reader.
+	 * @since 2.4.0
+	 */
+	private final StaticGradleBuildReader staticBuildReader;
+
+	/**
+	 * {@link Map} of {@link Optional} builds read statically while preparing, by file.
+	 * @since 2.4.0
+	 */
+	private final Map<BuildFile, Optional<Build>> preparedBuilds;
+
+	/**
+	 * Constructor with a default fallback build resolver.
+	 * @since 2.4.0
+	 */
+	public StaticGradleBuildResolver() {
+		this(new GradleBuildResolver());
+	}
+
+	/**
+	 * Constructor with a fallback build resolver.
+	 * @param fallbackBuildResolver a fallback build resolver
+	 * @throws NullPointerException if the fallback build resolver is {@code null}
+	 * @since 2.4.0
+	 */
+	public StaticGradleBuildResolver(final BuildResolver fallbackBuildResolver) {
+		Ensure.notNull("fallbackBuildResolver", fallbackBuildResolver);
+		this.fallbackBuildResolver = fallbackBuildResolver;
+		staticBuildReader = new StaticGradleBuildReader();
+		preparedBuilds = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: Files are read statically first, so that only those which are not supported are prepared by
+	 * the fallback build resolver.</p>
+	 * @throws NullPointerException if the {@link List} of files or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void prepare(final List<BuildFile> files) {
+		Ensure.notNullAndNotNullElements("files", files);
+		final var fallbackFiles = new ArrayList<BuildFile>();
+		for (final var file : files) {
+			final var build = read(file);
+			preparedBuilds.put(file, build);
+			if (build.isEmpty()) {
+				fallbackFiles.add(file);
+			}
+		}
+		fallbackBuildResolver.prepare(fallbackFiles);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the file is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public Build resolve(final BuildFile file) {
+		Ensure.notNull("file", file);
+		final var preparedBuild = preparedBuilds.remove(file);
+		return (null != preparedBuild ? preparedBuild : read(file)).orElseGet(() -> {
+			logger.info("Falling back for the {} build", () -> ToString.toString(file));
+			return fallbackBuildResolver.resolve(file);
+		});
+	}
+
+	/**
+	 * Read the approximate build for a file statically, filtering its repositories and artifacts.
+	 * @param file a file
+	 * @return the {@link Optional} approximate build, empty if the file is not supported
+	 * @since 2.4.0
+	 */
+	private Optional<Build> read(final BuildFile file) {
+		logger.info("Reading the {} build statically", () -> ToString.toString(file));
+		return staticBuildReader.read(file.getFile())
+				.map(build -> {
+					final var repositories = GradleBuildResolver.filterRepositories(build.getFirst());
+					final var artifacts = GradleBuildResolver.filterArtifacts(build.getSecond());
+					return new Build(file, repositories, artifacts, true);
+				});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p><b>Note</b>: The fallback build resolver is closed.</p>
+	 * @since 2.4.0
+	 */
+	@Override
+	public void close() {
+		fallbackBuildResolver.close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public List<CacheStatistics> getCacheStatistics() {
+		return fallbackBuildResolver.getCacheStatistics();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public Set<BuildFileType> getFileTypes() {
+		return fallbackBuildResolver.getFileTypes();
+	}
+}
\ No newline at end of file
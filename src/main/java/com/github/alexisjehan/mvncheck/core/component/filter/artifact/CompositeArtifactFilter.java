@@ -26,11 +26,11 @@ package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -53,17 +53,46 @@ public final class CompositeArtifactFilter implements ArtifactFilter {
 
 	/**
 	 * Private constructor.
+	 *
+	 * <p><b>Note</b>: If wildcard artifact filters are indexed, exact ones are replaced by a single filter based on
+	 * hash sets and other ones by a single filter based on a trie, each of them testing whether any of their filters
+	 * is accepted, which is only equivalent when testing whether any or no filters are accepted.</p>
 	 * @param matchFunction a match {@link BiPredicate}
+	 * @param indexWildcardFilters {@code true} if wildcard artifact filters should be indexed
 	 * @param filters an array of artifact filters
-	 * @since 1.7.0
+	 * @since 2.4.0
 	 */
 	private CompositeArtifactFilter(
 			final BiPredicate<Stream<ArtifactFilter>, Predicate<ArtifactFilter>> matchFunction,
+			final boolean indexWildcardFilters,
 			final ArtifactFilter... filters
 	) {
 		this.matchFunction = matchFunction;
-		this.filters = Arrays.stream(filters)
-				.collect(Collectors.toUnmodifiableSet());
+		final var otherFilters = new HashSet<ArtifactFilter>();
+		final var exactFilters = new ArrayList<WildcardArtifactFilter>();
+		final var wildcardFilters = new ArrayList<WildcardArtifactFilter>();
+		for (final var filter : filters) {
+			if (indexWildcardFilters && filter instanceof WildcardArtifactFilter wildcardFilter) {
+				if (wildcardFilter.isExact()) {
+					exactFilters.add(wildcardFilter);
+				} else {
+					wildcardFilters.add(wildcardFilter);
+				}
+			} else {
+				otherFilters.add(filter);
+			}
+		}
+		if (1 < exactFilters.size()) {
+			otherFilters.add(new ExactArtifactFilterSet(exactFilters));
+		} else {
+			otherFilters.addAll(exactFilters);
+		}
+		if (1 < wildcardFilters.size()) {
+			otherFilters.add(new WildcardArtifactFilterIndex(wildcardFilters));
+		} else {
+			otherFilters.addAll(wildcardFilters);
+		}
+		this.filters = Set.copyOf(otherFilters);
 	}
 
 	/**
@@ -101,7 +130,7 @@ public final class CompositeArtifactFilter implements ArtifactFilter {
 	public static CompositeArtifactFilter all(final ArtifactFilter... filters) {
 		Ensure.notNullAndNotEmpty("filters", filters);
 		Ensure.notNullAndNotNullElements("filters", filters);
-		return new CompositeArtifactFilter(Stream::allMatch, filters);
+		return new CompositeArtifactFilter(Stream::allMatch, false, filters);
 	}
 
 	/**
@@ -115,7 +144,7 @@ public final class CompositeArtifactFilter implements ArtifactFilter {
 	public static CompositeArtifactFilter any(final ArtifactFilter... filters) {
 		Ensure.notNullAndNotEmpty("filters", filters);
 		Ensure.notNullAndNotNullElements("filters", filters);
-		return new CompositeArtifactFilter(Stream::anyMatch, filters);
+		return new CompositeArtifactFilter(Stream::anyMatch, true, filters);
 	}
 
 	/**
@@ -129,6 +158,6 @@ public final class CompositeArtifactFilter implements ArtifactFilter {
 	public static CompositeArtifactFilter none(final ArtifactFilter... filters) {
 		Ensure.notNullAndNotEmpty("filters", filters);
 		Ensure.notNullAndNotNullElements("filters", filters);
-		return new CompositeArtifactFilter(Stream::noneMatch, filters);
+		return new CompositeArtifactFilter(Stream::noneMatch, true, filters);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Class that describes an artifact filter that tests whether any of a {@link Collection} of exact wildcard artifact
+ * filters is accepted, stored in hash sets by group identifier and artifact identifier.
+ *
+ * <p><b>Note</b>: An artifact is tested with at most two lookups whatever the number of filters, so that large
+ * ignore files of exact entries cost a constant time per artifact.</p>
+ * @since 2.4.0
+ */
+final class ExactArtifactFilterSet implements ArtifactFilter {
+
+	/**
+	 * {@link Set} of group identifiers of filters without an artifact identifier expression.
+	 * @since 2.4.0
+	 */
+	private final Set<String> groupIds = new HashSet<>();
+
+	/**
+	 * {@link Map} of {@link Set}s of artifact identifiers by group identifier.
+	 * @since 2.4.0
+	 */
+	private final Map<String, Set<String>> artifactIdsByGroupId = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 * @param filters a {@link Collection} of exact wildcard artifact filters
+	 * @throws NullPointerException if the {@link Collection} of exact wildcard artifact filters or any of them is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if any of the wildcard artifact filters is not exact
+	 * @since 2.4.0
+	 */
+	ExactArtifactFilterSet(final Collection<WildcardArtifactFilter> filters) {
+		Ensure.notNullAndNotNullElements("filters", filters);
+		for (final var filter : filters) {
+			if (!filter.isExact()) {
+				throw new IllegalArgumentException("Invalid filters (not exact)");
+			}
+			final var groupId = filter.getGroupIdLiteralPrefix();
+			final var artifactId = filter.getArtifactIdLiteralPrefix();
+			if (null == artifactId) {
+				groupIds.add(groupId);
+			} else {
+				artifactIdsByGroupId.computeIfAbsent(groupId, key -> new HashSet<>()).add(artifactId);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the artifact is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public boolean accept(final Artifact<?> artifact) {
+		Ensure.notNull("artifact", artifact);
+		final var artifactIdentifier = artifact.getIdentifier();
+		final var groupId = WildcardMatcher.toLowerCase(artifactIdentifier.getGroupId());
+		if (groupIds.contains(groupId)) {
+			return true;
+		}
+		final var artifactIds = artifactIdsByGroupId.get(groupId);
+		return null != artifactIds
+				&& artifactIds.contains(WildcardMatcher.toLowerCase(artifactIdentifier.getArtifactId()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the artifact or the update version is {@code null}
+	 * @throws IllegalArgumentException if the update version is empty
+	 * @since 2.4.0
+	 */
+	@Override
+	public boolean accept(final Artifact<?> artifact, final String updateVersion) {
+		Ensure.notNull("artifact", artifact);
+		Ensure.notNullAndNotEmpty("updateVersion", updateVersion);
+		return accept(artifact);
+	}
+}
\ No newline at end of file
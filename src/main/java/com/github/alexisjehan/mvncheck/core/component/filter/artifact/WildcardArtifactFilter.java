@@ -26,8 +26,6 @@ package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
 
-import java.util.regex.Pattern;
-
 /**
  * Class that describes an artifact filter based on expressions that can contain wildcard characters.
  * @since 1.7.0
@@ -47,22 +45,22 @@ public final class WildcardArtifactFilter implements ArtifactFilter {
 	public static final char WILDCARD_ANY = '*';
 
 	/**
-	 * {@link Pattern} of the group identifier.
-	 * @since 1.7.0
+	 * Matcher of the group identifier.
+	 * @since 2.4.0
 	 */
-	private final Pattern groupIdPattern;
+	private final WildcardMatcher groupIdMatcher;
 
 	/**
-	 * {@link Pattern} of the artifact identifier or {@code null}.
-	 * @since 1.7.0
+	 * Matcher of the artifact identifier or {@code null}.
+	 * @since 2.4.0
 	 */
-	private final Pattern artifactIdPattern;
+	private final WildcardMatcher artifactIdMatcher;
 
 	/**
-	 * {@link Pattern} of the update version or {@code null}.
-	 * @since 1.7.0
+	 * Matcher of the update version or {@code null}.
+	 * @since 2.4.0
 	 */
-	private final Pattern updateVersionPattern;
+	private final WildcardMatcher updateVersionMatcher;
 
 	/**
 	 * Constructor with a group identifier expression.
@@ -105,18 +103,18 @@ public final class WildcardArtifactFilter implements ArtifactFilter {
 			final String updateVersionExpression
 	) {
 		Ensure.notNullAndNotEmpty("groupIdExpression", groupIdExpression);
-		groupIdPattern = createPattern(groupIdExpression);
+		groupIdMatcher = new WildcardMatcher(groupIdExpression);
 		if (null != artifactIdExpression) {
 			Ensure.notNullAndNotEmpty("artifactIdExpression", artifactIdExpression);
-			artifactIdPattern = createPattern(artifactIdExpression);
+			artifactIdMatcher = new WildcardMatcher(artifactIdExpression);
 		} else {
-			artifactIdPattern = null;
+			artifactIdMatcher = null;
 		}
 		if (null != updateVersionExpression) {
 			Ensure.notNullAndNotEmpty("updateVersionExpression", updateVersionExpression);
-			updateVersionPattern = createPattern(updateVersionExpression);
+			updateVersionMatcher = new WildcardMatcher(updateVersionExpression);
 		} else {
-			updateVersionPattern = null;
+			updateVersionMatcher = null;
 		}
 	}
 
@@ -131,9 +129,9 @@ public final class WildcardArtifactFilter implements ArtifactFilter {
 		final var artifactIdentifier = artifact.getIdentifier();
 		final var groupId = artifactIdentifier.getGroupId();
 		final var artifactId = artifactIdentifier.getArtifactId();
-		return groupIdPattern.matcher(groupId).matches()
-				&& (null == artifactIdPattern || artifactIdPattern.matcher(artifactId).matches())
-				&& null == updateVersionPattern;
+		return groupIdMatcher.matches(groupId)
+				&& (null == artifactIdMatcher || artifactIdMatcher.matches(artifactId))
+				&& null == updateVersionMatcher;
 	}
 
 	/**
@@ -149,23 +147,40 @@ public final class WildcardArtifactFilter implements ArtifactFilter {
 		final var artifactIdentifier = artifact.getIdentifier();
 		final var groupId = artifactIdentifier.getGroupId();
 		final var artifactId = artifactIdentifier.getArtifactId();
-		return groupIdPattern.matcher(groupId).matches()
-				&& (null == artifactIdPattern || artifactIdPattern.matcher(artifactId).matches())
-				&& (null == updateVersionPattern || updateVersionPattern.matcher(updateVersion).matches());
+		return groupIdMatcher.matches(groupId)
+				&& (null == artifactIdMatcher || artifactIdMatcher.matches(artifactId))
+				&& (null == updateVersionMatcher || updateVersionMatcher.matches(updateVersion));
 	}
 
 	/**
-	 * Create a {@link Pattern} from an expression.
-	 * @param expression an expression
-	 * @return the created {@link Pattern}
-	 * @since 1.7.0
+	 * Get the literal prefix of the group identifier expression, before its first wildcard character, with
+	 * <i>US-ASCII</i> characters in lower case.
+	 * @return the literal prefix
+	 * @since 2.4.0
+	 */
+	String getGroupIdLiteralPrefix() {
+		return groupIdMatcher.getLiteralPrefix();
+	}
+
+	/**
+	 * Test whether the filter is exact, its group identifier expression and its optional artifact identifier
+	 * expression not containing any wildcard character, without any update version expression.
+	 * @return {@code true} if the filter is exact
+	 * @since 2.4.0
+	 */
+	boolean isExact() {
+		return groupIdMatcher.isLiteral()
+				&& (null == artifactIdMatcher || artifactIdMatcher.isLiteral())
+				&& null == updateVersionMatcher;
+	}
+
+	/**
+	 * Get the literal prefix of the artifact identifier expression, before its first wildcard character, with
+	 * <i>US-ASCII</i> characters in lower case, or {@code null} if there is no artifact identifier expression.
+	 * @return the literal prefix or {@code null}
+	 * @since 2.4.0
 	 */
-	private static Pattern createPattern(final String expression) {
-		return Pattern.compile(
-				"^" + Pattern.quote(expression)
-						.replace(String.valueOf(WILDCARD_SINGLE), "\\E.\\Q")
-						.replace(String.valueOf(WILDCARD_ANY), "\\E.*\\Q") + "$",
-				Pattern.CASE_INSENSITIVE
-		);
+	String getArtifactIdLiteralPrefix() {
+		return null != artifactIdMatcher ? artifactIdMatcher.getLiteralPrefix() : null;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Class that describes an artifact filter that tests whether any of a {@link Collection} of wildcard artifact filters
+ * is accepted, indexed in a trie by the literal prefix of their group identifier expression.
+ *
+ * <p><b>Note</b>: Only filters which literal prefix is a prefix of the group identifier of an artifact are tested, so
+ * that large ignore files are not evaluated entirely for each artifact.</p>
+ * @since 2.4.0
+ */
+final class WildcardArtifactFilterIndex implements ArtifactFilter {
+
+	/**
+	 * Root node of the trie.
+	 * @since 2.4.0
+	 */
+	private final Node root;
+
+	/**
+	 * Constructor.
+	 * @param filters a {@link Collection} of wildcard artifact filters
+	 * @throws NullPointerException if the {@link Collection} of wildcard artifact filters or any of them is
+	 *         {@code null}
+	 * @since 2.4.0
+	 */
+	WildcardArtifactFilterIndex(final Collection<WildcardArtifactFilter> filters) {
+		Ensure.notNullAndNotNullElements("filters", filters);
+		root = new Node();
+		for (final var filter : filters) {
+			var node = root;
+			for (final var c : filter.getGroupIdLiteralPrefix().toCharArray()) {
+				node = node.children.computeIfAbsent(c, key -> new Node());
+			}
+			node.filters.add(filter);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the artifact is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public boolean accept(final Artifact<?> artifact) {
+		Ensure.notNull("artifact", artifact);
+		return anyAccept(artifact, filter -> filter.accept(artifact));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the artifact or the update version is {@code null}
+	 * @throws IllegalArgumentException if the update version is empty
+	 * @since 2.4.0
+	 */
+	@Override
+	public boolean accept(final Artifact<?> artifact, final String updateVersion) {
+		Ensure.notNull("artifact", artifact);
+		Ensure.notNullAndNotEmpty("updateVersion", updateVersion);
+		return anyAccept(artifact, filter -> filter.accept(artifact, updateVersion));
+	}
+
+	/**
+	 * Test whether any filter which literal prefix is a prefix of the group identifier of an artifact is accepted.
+	 * @param artifact an artifact
+	 * @param predicate a {@link Predicate} of a wildcard artifact filter
+	 * @return {@code true} if any filter is accepted
+	 * @since 2.4.0
+	 */
+	private boolean anyAccept(final Artifact<?> artifact, final Predicate<WildcardArtifactFilter> predicate) {
+		final var groupId = artifact.getIdentifier().getGroupId();
+		var node = root;
+		for (var i = 0; null != node; ++i) {
+			for (final var filter : node.filters) {
+				if (predicate.test(filter)) {
+					return true;
+				}
+			}
+			if (groupId.length() == i) {
+				break;
+			}
+			node = node.children.get(WildcardMatcher.toLowerCase(groupId.charAt(i)));
+		}
+		return false;
+	}
+
+	/**
+	 * Class that describes a node of the trie.
+	 * @since 2.4.0
+	 */
+	private static final class Node {
+
+		/**
+		 * {@link Map} of child nodes by character.
+		 * @since 2.4.0
+		 */
+		private final Map<Character, Node> children = new HashMap<>();
+
+		/**
+		 * {@link List} of filters which literal prefix ends at this node.
+		 * @since 2.4.0
+		 */
+		private final List<WildcardArtifactFilter> filters = new ArrayList<>();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+
+import java.util.regex.Pattern;
+
+/**
+ * Class that describes a compiled matcher of an expression that can contain wildcard characters, matching texts
+ * case-insensitively for <i>US-ASCII</i> characters without using a {@link Pattern}.
+ *
+ * <p><b>Note</b>: Texts containing surrogate or line terminator characters are matched using the equivalent
+ * {@link Pattern}, so that the semantics of the former implementation are kept.</p>
+ * @since 2.4.0
+ */
+final class WildcardMatcher {
+
+	/**
+	 * Expression, with <i>US-ASCII</i> characters in lower case.
+	 * @since 2.4.0
+	 */
+	private final char[] expression;
+
+	/**
+	 * Length of the literal prefix of the expression, before its first wildcard character.
+	 * @since 2.4.0
+	 */
+	private final int literalPrefixLength;
+
+	/**
+	 * Equivalent {@link Pattern}, compiled lazily.
+	 * @since 2.4.0
+	 */
+	private volatile Pattern pattern;
+
+	/**
+	 * Constructor.
+	 * @param expression an expression
+	 * @throws NullPointerException if the expression is {@code null}
+	 * @throws IllegalArgumentException if the expression is empty
+	 * @since 2.4.0
+	 */
+	WildcardMatcher(final String expression) {
+		Ensure.notNullAndNotEmpty("expression", expression);
+		this.expression = new char[expression.length()];
+		var literalPrefixLength = -1;
+		for (var i = 0; i < expression.length(); ++i) {
+			final var c = expression.charAt(i);
+			this.expression[i] = toLowerCase(c);
+			if (-1 == literalPrefixLength && isWildcard(c)) {
+				literalPrefixLength = i;
+			}
+		}
+		this.literalPrefixLength = -1 != literalPrefixLength ? literalPrefixLength : expression.length();
+	}
+
+	/**
+	 * Test whether a text matches the expression.
+	 *
+	 * <p><b>Note</b>: The text is matched in a single pass, backtracking only to the last any character wildcard.</p>
+	 * @param text a text
+	 * @return {@code true} if the text matches the expression
+	 * @throws NullPointerException if the text is {@code null}
+	 * @since 2.4.0
+	 */
+	boolean matches(final String text) {
+		Ensure.notNull("text", text);
+		final var length = text.length();
+		for (var i = 0; i < length; ++i) {
+			if (isPatternOnly(text.charAt(i))) {
+				return getPattern().matcher(text).matches();
+			}
+		}
+		var e = 0;
+		var t = 0;
+		var anyE = -1;
+		var anyT = 0;
+		while (t < length) {
+			if (e < expression.length && WildcardArtifactFilter.WILDCARD_ANY == expression[e]) {
+				anyE = e++;
+				anyT = t;
+			} else if (e < expression.length && (
+					WildcardArtifactFilter.WILDCARD_SINGLE == expression[e]
+							|| expression[e] == toLowerCase(text.charAt(t))
+			)) {
+				++e;
+				++t;
+			} else if (-1 != anyE) {
+				e = anyE + 1;
+				t = ++anyT;
+			} else {
+				return false;
+			}
+		}
+		while (e < expression.length && WildcardArtifactFilter.WILDCARD_ANY == expression[e]) {
+			++e;
+		}
+		return e == expression.length;
+	}
+
+	/**
+	 * Get the literal prefix of the expression, before its first wildcard character, with <i>US-ASCII</i> characters
+	 * in lower case.
+	 * @return the literal prefix
+	 * @since 2.4.0
+	 */
+	String getLiteralPrefix() {
+		return new String(expression, 0, literalPrefixLength);
+	}
+
+	/**
+	 * Test whether the expression does not contain any wildcard character.
+	 * @return {@code true} if the expression does not contain any wildcard character
+	 * @since 2.4.0
+	 */
+	boolean isLiteral() {
+		return expression.length == literalPrefixLength;
+	}
+
+	/**
+	 * Get the equivalent {@link Pattern}, compiling it the first time, so that matchers of large ignore files do not
+	 * all compile a {@link Pattern} that is only used for unusual texts.
+	 * @return the equivalent {@link Pattern}
+	 * @since 2.4.0
+	 */
+	private Pattern getPattern() {
+		var pattern = this.pattern;
+		if (null == pattern) {
+			final var expression = new String(this.expression);
+			pattern = Pattern.compile(
+					"^" + Pattern.quote(expression)
+							.replace(String.valueOf(WildcardArtifactFilter.WILDCARD_SINGLE), "\\E.\\Q")
+							.replace(String.valueOf(WildcardArtifactFilter.WILDCARD_ANY), "\\E.*\\Q") + "$",
+					Pattern.CASE_INSENSITIVE
+			);
+			this.pattern = pattern;
+		}
+		return pattern;
+	}
+
+	/**
+	 * Convert a text to lower case for its <i>US-ASCII</i> upper case letters, as a case-insensitive {@link Pattern}
+	 * would do.
+	 * @param text a text
+	 * @return the text in lower case
+	 * @since 2.4.0
+	 */
+	static String toLowerCase(final String text) {
+		final var length = text.length();
+		for (var i = 0; i < length; ++i) {
+			final var c = text.charAt(i);
+			if (c != toLowerCase(c)) {
+				final var chars = text.toCharArray();
+				for (var j = i; j < length; ++j) {
+					chars[j] = toLowerCase(chars[j]);
+				}
+				return new String(chars);
+			}
+		}
+		return text;
+	}
+
+	/**
+	 * Convert a character to lower case if it is an <i>US-ASCII</i> upper case letter, as a case-insensitive
+	 * {@link Pattern} would do.
+	 * @param c a character
+	 * @return the character in lower case
+	 * @since 2.4.0
+	 */
+	static char toLowerCase(final char c) {
+		return 'A' <= c && 'Z' >= c ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	/**
+	 * Test whether a character is a wildcard character.
+	 * @param c a character
+	 * @return {@code true} if the character is a wildcard character
+	 * @since 2.4.0
+	 */
+	private static boolean isWildcard(final char c) {
+		return WildcardArtifactFilter.WILDCARD_SINGLE == c || WildcardArtifactFilter.WILDCARD_ANY == c;
+	}
+
+	/**
+	 * Test whether a character of a text could only be matched using the {@link Pattern}, being a surrogate or a line
+	 * terminator character that the {@link Pattern} handles differently.
+	 * @param c a character
+	 * @return {@code true} if the character could only be matched using the {@link Pattern}
+	 * @since 2.4.0
+	 */
+	private static boolean isPatternOnly(final char c) {
+		return Character.isSurrogate(c)
+				|| '\n' == c
+				|| '\r' == c
+				|| '\u0085' == c
+				|| '\u2028' == c
+				|| '\u2029' == c;
+	}
+}
\ No newline at end of file
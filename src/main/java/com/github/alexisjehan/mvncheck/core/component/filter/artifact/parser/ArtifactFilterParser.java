@@ -36,8 +36,22 @@ import org.apache.logging.log4j.Logger;
 import java.io.IOException;
 import java.io.Reader;
 import java.lang.invoke.MethodHandles;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class that describes an artifact filter parser.
@@ -57,6 +71,24 @@ public final class ArtifactFilterParser {
 	 */
 	private static final char SEPARATOR = ':';
 
+	/**
+	 * Extension of snapshot files, appended to the name of their ignore file.
+	 * @since 2.4.0
+	 */
+	private static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+
+	/**
+	 * Magic number at the start of snapshot files.
+	 * @since 2.4.0
+	 */
+	private static final int SNAPSHOT_MAGIC_NUMBER = 0x4D434B49;
+
+	/**
+	 * Format version of snapshot files, to be incremented each time their format changes.
+	 * @since 2.4.0
+	 */
+	private static final int SNAPSHOT_FORMAT_VERSION = 2;
+
 	/**
 	 * Logger.
 	 * @since 1.0.0
@@ -71,6 +103,9 @@ public final class ArtifactFilterParser {
 
 	/**
 	 * Parse an artifact filter from the given ignore file.
+	 *
+	 * <p><b>Note</b>: If the ignore file has been compiled to a snapshot file that records its current size and last
+	 * modified time, the snapshot file is loaded instead.</p>
 	 * @param ignoreFile an ignore file
 	 * @return the artifact filter
 	 * @throws IOException might occur with input/output operations
@@ -81,30 +116,111 @@ public final class ArtifactFilterParser {
 	 */
 	public static ArtifactFilter parse(final Path ignoreFile) throws IOException {
 		Ensure.notNullAndFile("ignoreFile", ignoreFile);
+		final var snapshotFile = getSnapshotFile(ignoreFile);
+		if (Files.isRegularFile(snapshotFile)) {
+			logger.info("Loading the {} snapshot file", () -> ToString.toString(snapshotFile));
+			try {
+				final var optionalExpressionsParts = readSnapshot(
+						snapshotFile,
+						Files.readAttributes(ignoreFile, BasicFileAttributes.class)
+				);
+				if (optionalExpressionsParts.isPresent()) {
+					return create(optionalExpressionsParts.get());
+				}
+				logger.info(
+						"Outdated {} snapshot file, parsing the ignore file",
+						() -> ToString.toString(snapshotFile)
+				);
+			} catch (final IOException e) {
+				logger.warn(
+						"Unable to load the {} snapshot file, parsing the ignore file",
+						() -> ToString.toString(snapshotFile)
+				);
+				logger.debug(e::getMessage, e);
+			}
+		}
+		return create(parseExpressionParts(ignoreFile));
+	}
+
+	/**
+	 * Compile the given ignore file to a snapshot file that is loaded rather than parsing the ignore file as long as
+	 * the size and the last modified time of the ignore file are the same.
+	 * @param ignoreFile an ignore file
+	 * @return the snapshot file
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the ignore file is {@code null}
+	 * @throws IllegalArgumentException if the ignore file does not exist
+	 * @throws ArtifactFilterParseException if the content is unexpected
+	 * @since 2.4.0
+	 */
+	public static Path compile(final Path ignoreFile) throws IOException {
+		Ensure.notNullAndFile("ignoreFile", ignoreFile);
+		final var snapshotFile = getSnapshotFile(ignoreFile);
+		logger.info("Compiling the {} ignore file", () -> ToString.toString(ignoreFile));
+		final var ignoreFileAttributes = Files.readAttributes(ignoreFile, BasicFileAttributes.class);
+		writeSnapshot(parseExpressionParts(ignoreFile), ignoreFileAttributes, snapshotFile);
+		return snapshotFile;
+	}
+
+	/**
+	 * Parse an artifact filter from the given {@link Reader}.
+	 * @param reader a {@link Reader}
+	 * @return the artifact filter
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the {@link Reader} is {@code null}
+	 * @throws ArtifactFilterParseException if the content is unexpected
+	 * @since 1.0.0
+	 */
+	static ArtifactFilter parse(final Reader reader) throws IOException {
+		Ensure.notNull("reader", reader);
+		return create(parseExpressionParts(reader));
+	}
+
+	/**
+	 * Parse an artifact filter from the given expression.
+	 * @param expression an expression
+	 * @return the artifact filter
+	 * @throws NullPointerException if the expression is {@code null}
+	 * @throws IllegalArgumentException if the expression is empty
+	 * @throws ArtifactFilterParseException if the content is unexpected
+	 * @since 1.7.0
+	 */
+	public static ArtifactFilter parse(final String expression) {
+		Ensure.notNullAndNotEmpty("expression", expression);
+		return create(parseExpressionParts(expression));
+	}
+
+	/**
+	 * Parse the parts of expressions from the given ignore file.
+	 * @param ignoreFile an ignore file
+	 * @return the {@link Collection} of parts of expressions
+	 * @throws IOException might occur with input/output operations
+	 * @throws ArtifactFilterParseException if the content is unexpected
+	 * @since 2.4.0
+	 */
+	private static Collection<List<String>> parseExpressionParts(final Path ignoreFile) throws IOException {
 		logger.info("Parsing the {} ignore file", () -> ToString.toString(ignoreFile));
 		try (var reader = Readers.of(ignoreFile)) {
 			reader.mark(1);
 			if ('﻿' != reader.read()) { // UTF-8 BOM character
 				reader.reset();
 			}
-			return parse(reader);
+			return parseExpressionParts(reader);
 		} catch (final ArtifactFilterParseException e) {
 			throw e.with(ignoreFile);
 		}
 	}
 
 	/**
-	 * Parse an artifact filter from the given {@link Reader}.
+	 * Parse the parts of expressions from the given {@link Reader}, ignoring duplicated ones.
 	 * @param reader a {@link Reader}
-	 * @return the artifact filter
+	 * @return the {@link Collection} of parts of expressions
 	 * @throws IOException might occur with input/output operations
-	 * @throws NullPointerException if the {@link Reader} is {@code null}
 	 * @throws ArtifactFilterParseException if the content is unexpected
-	 * @since 1.0.0
+	 * @since 2.4.0
 	 */
-	static ArtifactFilter parse(final Reader reader) throws IOException {
-		Ensure.notNull("reader", reader);
-		final var artifactFilters = new HashSet<ArtifactFilter>();
+	private static Collection<List<String>> parseExpressionParts(final Reader reader) throws IOException {
+		final var expressionsParts = new LinkedHashSet<List<String>>();
 		try (var bufferedReader = Readers.buffered(reader)) {
 			String line;
 			var lineNumber = 1L;
@@ -114,30 +230,24 @@ public final class ArtifactFilterParser {
 					continue;
 				}
 				try {
-					artifactFilters.add(parse(expression));
+					expressionsParts.add(parseExpressionParts(expression));
 				} catch (final ArtifactFilterParseException e) {
 					throw e.with(lineNumber);
 				}
 				++lineNumber;
 			}
 		}
-		if (artifactFilters.isEmpty()) {
-			return ArtifactFilter.ACCEPT_ALL;
-		}
-		return CompositeArtifactFilter.none(artifactFilters.toArray(ArtifactFilter[]::new));
+		return expressionsParts;
 	}
 
 	/**
-	 * Parse an artifact filter from the given expression.
+	 * Parse the parts of the given expression.
 	 * @param expression an expression
-	 * @return the artifact filter
-	 * @throws NullPointerException if the expression is {@code null}
-	 * @throws IllegalArgumentException if the expression is empty
+	 * @return the {@link List} of parts
 	 * @throws ArtifactFilterParseException if the content is unexpected
-	 * @since 1.7.0
+	 * @since 2.4.0
 	 */
-	public static ArtifactFilter parse(final String expression) {
-		Ensure.notNullAndNotEmpty("expression", expression);
+	private static List<String> parseExpressionParts(final String expression) {
 		logger.debug("Parsing the {} expression", () -> ToString.toString(expression));
 		final var frequency = Strings.frequency(expression, SEPARATOR);
 		if (2 < frequency) {
@@ -154,26 +264,184 @@ public final class ArtifactFilterParser {
 					expression
 			);
 		}
-		if (1 == parts.size()) {
-			return new WildcardArtifactFilter(groupIdExpression);
-		}
-		final var artifactIdExpression = parts.get(1);
-		if (artifactIdExpression.isEmpty()) {
+		if (1 < parts.size() && parts.get(1).isEmpty()) {
 			throw new ArtifactFilterParseException(
 					"Unexpected expression format, the artifact identifier is empty",
 					expression
 			);
 		}
-		if (2 == parts.size()) {
-			return new WildcardArtifactFilter(groupIdExpression, artifactIdExpression);
-		}
-		final var updateVersionExpression = parts.get(2);
-		if (updateVersionExpression.isEmpty()) {
+		if (2 < parts.size() && parts.get(2).isEmpty()) {
 			throw new ArtifactFilterParseException(
 					"Unexpected expression format, the update version is empty",
 					expression
 			);
 		}
-		return new WildcardArtifactFilter(groupIdExpression, artifactIdExpression, updateVersionExpression);
+		return List.copyOf(parts);
+	}
+
+	/**
+	 * Create an artifact filter from the given parts of an expression.
+	 * @param parts a {@link List} of parts
+	 * @return the artifact filter
+	 * @since 2.4.0
+	 */
+	private static ArtifactFilter create(final List<String> parts) {
+		return new WildcardArtifactFilter(
+				parts.get(0),
+				1 < parts.size() ? parts.get(1) : null,
+				2 < parts.size() ? parts.get(2) : null
+		);
+	}
+
+	/**
+	 * Create an artifact filter that tests whether no artifact filter created from the given parts of expressions is
+	 * accepted.
+	 * @param expressionsParts a {@link Collection} of parts of expressions
+	 * @return the artifact filter
+	 * @since 2.4.0
+	 */
+	private static ArtifactFilter create(final Collection<List<String>> expressionsParts) {
+		if (expressionsParts.isEmpty()) {
+			return ArtifactFilter.ACCEPT_ALL;
+		}
+		return CompositeArtifactFilter.none(
+				expressionsParts.stream()
+						.map(ArtifactFilterParser::create)
+						.toArray(ArtifactFilter[]::new)
+		);
+	}
+
+	/**
+	 * Get the snapshot file of the given ignore file.
+	 * @param ignoreFile an ignore file
+	 * @return the snapshot file
+	 * @throws NullPointerException if the ignore file is {@code null}
+	 * @since 2.4.0
+	 */
+	public static Path getSnapshotFile(final Path ignoreFile) {
+		Ensure.notNull("ignoreFile", ignoreFile);
+		return ignoreFile.resolveSibling(ignoreFile.getFileName() + SNAPSHOT_FILE_EXTENSION);
+	}
+
+	/**
+	 * Write the given parts of expressions to a snapshot file, writing a temporary file first that is then moved so
+	 * that a partially written snapshot file is never loaded.
+	 *
+	 * <p><b>Note</b>: A snapshot file starts with a magic number, a format version, the size and the last modified
+	 * time of its ignore file and the number of expressions, each of them being written as its number of parts
+	 * followed by the length and the <i>UTF-8</i> bytes of each part.</p>
+	 * @param expressionsParts a {@link Collection} of parts of expressions
+	 * @param ignoreFileAttributes attributes of the ignore file the parts of expressions have been parsed from
+	 * @param snapshotFile a snapshot file
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the {@link Collection} of parts of expressions, any of them, attributes of the
+	 *         ignore file or the snapshot file is {@code null}
+	 * @since 2.4.0
+	 */
+	static void writeSnapshot(
+			final Collection<List<String>> expressionsParts,
+			final BasicFileAttributes ignoreFileAttributes,
+			final Path snapshotFile
+	) throws IOException {
+		Ensure.notNullAndNotNullElements("expressionsParts", expressionsParts);
+		Ensure.notNull("ignoreFileAttributes", ignoreFileAttributes);
+		Ensure.notNull("snapshotFile", snapshotFile);
+		final var encodedExpressionsParts = new ArrayList<List<byte[]>>(expressionsParts.size());
+		var capacity = 3 * Integer.BYTES + 2 * Long.BYTES;
+		for (final var parts : expressionsParts) {
+			final var encodedParts = new ArrayList<byte[]>(parts.size());
+			capacity += Byte.BYTES;
+			for (final var part : parts) {
+				final var encodedPart = part.getBytes(StandardCharsets.UTF_8);
+				encodedParts.add(encodedPart);
+				capacity += Integer.BYTES + encodedPart.length;
+			}
+			encodedExpressionsParts.add(encodedParts);
+		}
+		final var buffer = ByteBuffer.allocate(capacity)
+				.putInt(SNAPSHOT_MAGIC_NUMBER)
+				.putInt(SNAPSHOT_FORMAT_VERSION)
+				.putLong(ignoreFileAttributes.size())
+				.putLong(ignoreFileAttributes.lastModifiedTime().to(TimeUnit.NANOSECONDS))
+				.putInt(encodedExpressionsParts.size());
+		for (final var encodedParts : encodedExpressionsParts) {
+			buffer.put((byte) encodedParts.size());
+			for (final var encodedPart : encodedParts) {
+				buffer.putInt(encodedPart.length).put(encodedPart);
+			}
+		}
+		final var tmpFile = Files.createTempFile(
+				snapshotFile.toAbsolutePath().getParent(),
+				snapshotFile.getFileName().toString(),
+				null
+		);
+		try {
+			Files.write(tmpFile, buffer.array());
+			try {
+				Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+	/**
+	 * Read an {@link Optional} of parts of expressions from a snapshot file, mapping it in memory.
+	 *
+	 * <p><b>Note</b>: The {@link Optional} is empty if the size or the last modified time of the ignore file differs
+	 * from the ones recorded in the snapshot file, meaning that the snapshot file is outdated.</p>
+	 * @param snapshotFile a snapshot file
+	 * @param ignoreFileAttributes attributes of the current ignore file
+	 * @return the {@link Optional} of the {@link Collection} of parts of expressions
+	 * @throws IOException might occur with input/output operations or if the content is unexpected
+	 * @throws NullPointerException if the snapshot file or attributes of the ignore file is {@code null}
+	 * @since 2.4.0
+	 */
+	static Optional<Collection<List<String>>> readSnapshot(
+			final Path snapshotFile,
+			final BasicFileAttributes ignoreFileAttributes
+	) throws IOException {
+		Ensure.notNull("snapshotFile", snapshotFile);
+		Ensure.notNull("ignoreFileAttributes", ignoreFileAttributes);
+		try (var channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+			final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+			if (SNAPSHOT_MAGIC_NUMBER != buffer.getInt() || SNAPSHOT_FORMAT_VERSION != buffer.getInt()) {
+				throw new IOException("Unexpected snapshot format");
+			}
+			if (ignoreFileAttributes.size() != buffer.getLong()
+					|| ignoreFileAttributes.lastModifiedTime().to(TimeUnit.NANOSECONDS) != buffer.getLong()) {
+				return Optional.empty();
+			}
+			final var size = buffer.getInt();
+			if (0 > size) {
+				throw new IOException("Unexpected snapshot format");
+			}
+			final var expressionsParts = new ArrayList<List<String>>(Math.min(size, buffer.remaining()));
+			for (var i = 0; i < size; ++i) {
+				final var partsCount = buffer.get();
+				if (1 > partsCount || 3 < partsCount) {
+					throw new IOException("Unexpected snapshot format");
+				}
+				final var parts = new String[partsCount];
+				for (var j = 0; j < partsCount; ++j) {
+					final var length = buffer.getInt();
+					if (1 > length || buffer.remaining() < length) {
+						throw new IOException("Unexpected snapshot format");
+					}
+					final var bytes = new byte[length];
+					buffer.get(bytes);
+					parts[j] = new String(bytes, StandardCharsets.UTF_8);
+				}
+				expressionsParts.add(List.of(parts));
+			}
+			if (buffer.hasRemaining()) {
+				throw new IOException("Unexpected snapshot format");
+			}
+			return Optional.of(expressionsParts);
+		} catch (final BufferUnderflowException e) {
+			throw new IOException("Unexpected snapshot format", e);
+		}
 	}
 }
\ No newline at end of file
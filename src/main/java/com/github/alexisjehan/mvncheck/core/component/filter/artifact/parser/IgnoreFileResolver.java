@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Triple;
+import com.github.alexisjehan.mvncheck.core.component.filter.artifact.ArtifactFilter;
+import com.github.alexisjehan.mvncheck.core.component.filter.artifact.CompositeArtifactFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that describes a resolver of artifact filters from the ignore files of a directory hierarchy.
+ *
+ * <p><b>Note</b>: Ignore files are inherited from the root directory of the enclosing <i>Git</i> repository down to
+ * the directory, or else only the one of the directory is used. Each ignore file is parsed once, until its last
+ * modified time or its size changes.</p>
+ * @since 2.4.0
+ */
+public final class IgnoreFileResolver {
+
+	/**
+	 * <i>Git</i> directory name, which marks the root directory of a repository.
+	 * @since 2.4.0
+	 */
+	private static final String GIT_DIRECTORY_NAME = ".git";
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Ignore file name.
+	 * @since 2.4.0
+	 */
+	private final String ignoreFileName;
+
+	/**
+	 * {@link Map} of last modified times, sizes and parsed artifact filters by ignore file.
+	 * @since 2.4.0
+	 */
+	private final Map<Path, Triple<FileTime, Long, ArtifactFilter>> artifactFilters;
+
+	/**
+	 * Constructor.
+	 * @param ignoreFileName an ignore file name
+	 * @throws NullPointerException if the ignore file name is {@code null}
+	 * @throws IllegalArgumentException if the ignore file name is empty
+	 * @since 2.4.0
+	 */
+	public IgnoreFileResolver(final String ignoreFileName) {
+		Ensure.notNullAndNotEmpty("ignoreFileName", ignoreFileName);
+		this.ignoreFileName = ignoreFileName;
+		artifactFilters = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Resolve the artifact filter of a directory, composed of the ignore files from its root directory down to it.
+	 * @param directory a directory
+	 * @return the artifact filter
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the directory is {@code null}
+	 * @throws ArtifactFilterParseException if the content of an ignore file is unexpected
+	 * @since 2.4.0
+	 */
+	public ArtifactFilter resolve(final Path directory) throws IOException {
+		Ensure.notNull("directory", directory);
+		final var directoryArtifactFilters = new ArrayList<ArtifactFilter>();
+		for (final var hierarchyDirectory : findHierarchy(directory)) {
+			resolveIgnoreFile(hierarchyDirectory.resolve(ignoreFileName)).ifPresent(directoryArtifactFilters::add);
+		}
+		if (directoryArtifactFilters.isEmpty()) {
+			return ArtifactFilter.ACCEPT_ALL;
+		}
+		if (1 == directoryArtifactFilters.size()) {
+			return directoryArtifactFilters.get(0);
+		}
+		return CompositeArtifactFilter.all(directoryArtifactFilters.toArray(ArtifactFilter[]::new));
+	}
+
+	/**
+	 * Resolve the {@link Optional} artifact filter of an ignore file, parsing it only if it changed since the last
+	 * time.
+	 * @param ignoreFile an ignore file
+	 * @return the {@link Optional} artifact filter, empty if the ignore file does not exist
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	private Optional<ArtifactFilter> resolveIgnoreFile(final Path ignoreFile) throws IOException {
+		final BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(ignoreFile, BasicFileAttributes.class);
+		} catch (final NoSuchFileException e) {
+			artifactFilters.remove(ignoreFile);
+			return Optional.empty();
+		}
+		if (!attributes.isRegularFile()) {
+			return Optional.empty();
+		}
+		final var lastModifiedTime = attributes.lastModifiedTime();
+		final var size = attributes.size();
+		final var cachedArtifactFilter = artifactFilters.get(ignoreFile);
+		if (null != cachedArtifactFilter
+				&& lastModifiedTime.equals(cachedArtifactFilter.getFirst())
+				&& size == cachedArtifactFilter.getSecond()) {
+			logger.debug("Reusing the {} parsed ignore file", () -> ToString.toString(ignoreFile));
+			return Optional.of(cachedArtifactFilter.getThird());
+		}
+		final var artifactFilter = ArtifactFilterParser.parse(ignoreFile);
+		artifactFilters.put(ignoreFile, Triple.of(lastModifiedTime, size, artifactFilter));
+		return Optional.of(artifactFilter);
+	}
+
+	/**
+	 * Find the {@link List} of directories from the root directory of the enclosing <i>Git</i> repository of a
+	 * directory down to it, or else only the directory if it is not inside a repository.
+	 * @param directory a directory
+	 * @return the {@link List} of directories
+	 * @throws NullPointerException if the directory is {@code null}
+	 * @since 2.4.0
+	 */
+	static List<Path> findHierarchy(final Path directory) {
+		Ensure.notNull("directory", directory);
+		final var normalizedDirectory = directory.toAbsolutePath().normalize();
+		final var hierarchy = new ArrayDeque<Path>();
+		for (var current = normalizedDirectory; null != current; current = current.getParent()) {
+			hierarchy.push(current);
+			if (Files.exists(current.resolve(GIT_DIRECTORY_NAME))) {
+				return List.copyOf(hierarchy);
+			}
+		}
+		return List.of(normalizedDirectory);
+	}
+}
\ No newline at end of file
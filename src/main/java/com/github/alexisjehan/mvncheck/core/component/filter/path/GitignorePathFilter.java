@@ -0,0 +1,389 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.path;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Class that describes a path filter based on the patterns of a <i>Git</i> ignore file, compiled once to be matched
+ * efficiently.
+ *
+ * <p><b>Note</b>: Consecutive patterns sharing the same negation are compiled into a single {@link Pattern}, so that
+ * matching a path costs at most one {@link Pattern} evaluation per negation change.</p>
+ * @see <a href="https://git-scm.com/docs/gitignore">https://git-scm.com/docs/gitignore</a>
+ * @since 2.4.0
+ */
+public final class GitignorePathFilter {
+
+	/**
+	 * <i>Git</i> ignore file name.
+	 * @since 2.4.0
+	 */
+	public static final String FILE_NAME = ".gitignore";
+
+	/**
+	 * Start of a comment line.
+	 * @since 2.4.0
+	 */
+	private static final char COMMENT_START = '#';
+
+	/**
+	 * Start of a negated pattern.
+	 * @since 2.4.0
+	 */
+	private static final char NEGATION_START = '!';
+
+	/**
+	 * Escape character.
+	 * @since 2.4.0
+	 */
+	private static final char ESCAPE = '\\';
+
+	/**
+	 * Separator.
+	 * @since 2.4.0
+	 */
+	private static final char SEPARATOR = '/';
+
+	/**
+	 * Logger.
+	 * @since 2.4.0
+	 */
+	private static final Logger logger = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+	/**
+	 * Base directory.
+	 * @since 2.4.0
+	 */
+	private final Path directory;
+
+	/**
+	 * {@link List} of compiled {@link Pattern}s, sorted by declaration order.
+	 * @since 2.4.0
+	 */
+	private final List<Pattern> patterns;
+
+	/**
+	 * {@link List} of whether each compiled {@link Pattern} is negated.
+	 * @since 2.4.0
+	 */
+	private final List<Boolean> negations;
+
+	/**
+	 * Constructor.
+	 * @param directory a base directory
+	 * @param lines a {@link List} of lines
+	 * @throws NullPointerException if the base directory, the {@link List} of lines or any of them is {@code null}
+	 * @since 2.4.0
+	 */
+	public GitignorePathFilter(final Path directory, final List<String> lines) {
+		Ensure.notNull("directory", directory);
+		Ensure.notNullAndNotNullElements("lines", lines);
+		this.directory = directory;
+		patterns = new ArrayList<>();
+		negations = new ArrayList<>();
+		final var expressions = new ArrayList<String>();
+		var negation = false;
+		for (final var line : lines) {
+			final var pattern = stripTrailingSpaces(line);
+			if (pattern.isEmpty() || COMMENT_START == pattern.charAt(0)) {
+				continue;
+			}
+			final var negated = NEGATION_START == pattern.charAt(0);
+			final var expression = toExpression(negated ? pattern.substring(1) : pattern);
+			if (null == expression) {
+				continue;
+			}
+			if (negated != negation && !expressions.isEmpty()) {
+				compile(expressions, negation);
+				expressions.clear();
+			}
+			expressions.add(expression);
+			negation = negated;
+		}
+		if (!expressions.isEmpty()) {
+			compile(expressions, negation);
+		}
+	}
+
+	/**
+	 * Test if a path is ignored.
+	 * @param path a path inside the base directory
+	 * @param isDirectory {@code true} if the path is a directory
+	 * @return an {@link Optional} of whether the path is ignored, empty if no pattern matches
+	 * @throws NullPointerException if the path is {@code null}
+	 * @throws IllegalArgumentException if the path is not inside the base directory
+	 * @since 2.4.0
+	 */
+	public Optional<Boolean> isIgnored(final Path path, final boolean isDirectory) {
+		Ensure.notNull("path", path);
+		if (!path.startsWith(directory) || path.equals(directory)) {
+			throw new IllegalArgumentException(
+					"Invalid path: " + ToString.toString(path) + " (not inside " + ToString.toString(directory) + ")"
+			);
+		}
+		final var relativePath = directory.relativize(path);
+		final var builder = new StringBuilder();
+		for (final var name : relativePath) {
+			if (!builder.isEmpty()) {
+				builder.append(SEPARATOR);
+			}
+			builder.append(name);
+		}
+		if (isDirectory) {
+			builder.append(SEPARATOR);
+		}
+		for (var i = patterns.size() - 1; 0 <= i; --i) {
+			if (patterns.get(i).matcher(builder).matches()) {
+				return Optional.of(!negations.get(i));
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the base directory.
+	 * @return the base directory
+	 * @since 2.4.0
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Compile a {@link List} of expressions sharing the same negation into a single {@link Pattern}.
+	 * @param expressions a {@link List} of expressions
+	 * @param negated {@code true} if expressions are negated
+	 * @since 2.4.0
+	 */
+	private void compile(final List<String> expressions, final boolean negated) {
+		patterns.add(
+				Pattern.compile(
+						expressions.stream()
+								.collect(Collectors.joining("|", "(?:", ")"))
+				)
+		);
+		negations.add(negated);
+	}
+
+	/**
+	 * Create an {@link Optional} path filter for the <i>Git</i> ignore file of the given directory.
+	 * @param directory a directory
+	 * @return the {@link Optional} path filter, empty if the directory has no <i>Git</i> ignore file
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the directory is {@code null}
+	 * @since 2.4.0
+	 */
+	public static Optional<GitignorePathFilter> of(final Path directory) throws IOException {
+		Ensure.notNull("directory", directory);
+		final var gitignoreFile = directory.resolve(FILE_NAME);
+		if (!Files.isRegularFile(gitignoreFile)) {
+			return Optional.empty();
+		}
+		logger.debug("Parsing the {} Git ignore file", () -> ToString.toString(gitignoreFile));
+		return Optional.of(new GitignorePathFilter(directory, Files.readAllLines(gitignoreFile)));
+	}
+
+	/**
+	 * Strip trailing spaces of a line, unless they are escaped.
+	 * @param line a line
+	 * @return the stripped line
+	 * @since 2.4.0
+	 */
+	private static String stripTrailingSpaces(final String line) {
+		var end = line.length();
+		while (0 < end && ' ' == line.charAt(end - 1) && (1 == end || ESCAPE != line.charAt(end - 2))) {
+			--end;
+		}
+		return line.substring(0, end);
+	}
+
+	/**
+	 * Convert a pattern to a regular expression.
+	 *
+	 * <p><b>Note</b>: As <i>Git</i> does, a pattern with an unterminated bracket expression never matches, so it is
+	 * skipped.</p>
+	 * @param pattern a pattern
+	 * @return the regular expression or {@code null} if the pattern is empty or invalid
+	 * @since 2.4.0
+	 */
+	private static String toExpression(final String pattern) {
+		var glob = pattern;
+		final var directoryOnly = !glob.isEmpty()
+				&& SEPARATOR == glob.charAt(glob.length() - 1)
+				&& (1 == glob.length() || ESCAPE != glob.charAt(glob.length() - 2));
+		if (directoryOnly) {
+			glob = glob.substring(0, glob.length() - 1);
+		}
+		final var anchored = -1 != glob.indexOf(SEPARATOR);
+		if (anchored && SEPARATOR == glob.charAt(0)) {
+			glob = glob.substring(1);
+		}
+		if (glob.isEmpty()) {
+			return null;
+		}
+		final var builder = new StringBuilder();
+		if (!anchored) {
+			builder.append("(?:.*/)?");
+		}
+		final var length = glob.length();
+		var i = 0;
+		while (i < length) {
+			final var c = glob.charAt(i);
+			if ('*' == c) {
+				if (i + 1 < length && '*' == glob.charAt(i + 1)
+						&& (0 == i || SEPARATOR == glob.charAt(i - 1))
+						&& (i + 2 == length || SEPARATOR == glob.charAt(i + 2))) {
+					if (i + 2 == length) {
+						builder.append(0 == i ? ".*" : ".+");
+						i += 2;
+					} else {
+						builder.append("(?:.*/)?");
+						i += 3;
+					}
+					continue;
+				}
+				builder.append("[^/]*");
+				while (i + 1 < length && '*' == glob.charAt(i + 1)) {
+					++i;
+				}
+			} else if ('?' == c) {
+				builder.append("[^/]");
+			} else if ('[' == c) {
+				final var end = findBracketEnd(glob, i);
+				if (-1 == end) {
+					logger.debug(
+							"Skipping the {} pattern (unterminated bracket expression)",
+							() -> ToString.toString(pattern)
+					);
+					return null;
+				}
+				builder.append(toCharacterClass(glob.substring(i + 1, end)));
+				i = end;
+			} else if (ESCAPE == c && i + 1 < length) {
+				builder.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+			} else {
+				builder.append(Pattern.quote(String.valueOf(c)));
+			}
+			++i;
+		}
+		builder.append(directoryOnly ? "/" : "/?");
+		return builder.toString();
+	}
+
+	/**
+	 * Find the index of the closing bracket of a bracket expression.
+	 * @param glob a glob
+	 * @param start the index of the opening bracket
+	 * @return the index of the closing bracket or {@code -1} if the bracket expression is unterminated
+	 * @since 2.4.0
+	 */
+	private static int findBracketEnd(final String glob, final int start) {
+		final var length = glob.length();
+		var i = start + 1;
+		if (i < length && (NEGATION_START == glob.charAt(i) || '^' == glob.charAt(i))) {
+			++i;
+		}
+		if (i < length && ']' == glob.charAt(i)) {
+			++i;
+		}
+		while (i < length) {
+			final var c = glob.charAt(i);
+			if (']' == c) {
+				return i;
+			}
+			i += ESCAPE == c ? 2 : 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Convert the content of a bracket expression to a regular expression character class, escaping its characters
+	 * so that none of them is interpreted by {@link Pattern}.
+	 *
+	 * <p><b>Note</b>: As <i>Git</i> does, a reversed range such as {@code z-a} matches no character and a negated
+	 * bracket expression does not match the separator.</p>
+	 * @param content the content of a bracket expression
+	 * @return the regular expression character class
+	 * @since 2.4.0
+	 */
+	private static String toCharacterClass(final String content) {
+		final var length = content.length();
+		var i = 0;
+		final var negated = 0 < length && (NEGATION_START == content.charAt(0) || '^' == content.charAt(0));
+		if (negated) {
+			++i;
+		}
+		final var builder = new StringBuilder();
+		while (i < length) {
+			var first = content.charAt(i++);
+			if (ESCAPE == first && i < length) {
+				first = content.charAt(i++);
+			}
+			if (i + 1 < length && '-' == content.charAt(i)) {
+				var last = content.charAt(i + 1);
+				i += 2;
+				if (ESCAPE == last && i < length) {
+					last = content.charAt(i++);
+				}
+				if (first <= last) {
+					builder.append(escape(first)).append('-').append(escape(last));
+				}
+			} else {
+				builder.append(escape(first));
+			}
+		}
+		if (negated) {
+			return "[^" + builder + SEPARATOR + "]";
+		}
+		return builder.isEmpty()
+				? "(?!)"
+				: "[" + builder + "]";
+	}
+
+	/**
+	 * Escape a character to be used literally inside a regular expression character class.
+	 * @param c a character
+	 * @return the escaped character
+	 * @since 2.4.0
+	 */
+	private static String escape(final char c) {
+		return c < 128 && !Character.isLetterOrDigit(c)
+				? String.valueOf(ESCAPE) + c
+				: String.valueOf(c);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.version;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.quality.ToString;
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that describes a version parsed once, with its qualifier and whether it is a pre-release.
+ *
+ * <p><b>Note</b>: The qualifier is the run of letters at the end of the version, optionally followed by a separator
+ * and by a number, such as {@code beta} for {@code 1.0.0-beta.2} or {@code jre} for {@code 33.0.0-jre}.</p>
+ * @since 2.4.0
+ */
+public final class ParsedVersion {
+
+	/**
+	 * Maximum number of parsed versions kept, so that versions are parsed once per distinct string.
+	 * @since 2.4.0
+	 */
+	private static final int MAXIMUM_CACHE_SIZE = 100_000;
+
+	/**
+	 * {@link Set} of qualifiers of pre-release versions.
+	 * @since 2.4.0
+	 */
+	private static final Set<String> PRE_RELEASE_QUALIFIERS = Set.of(
+			"alpha",
+			"a",
+			"beta",
+			"b",
+			"milestone",
+			"m",
+			"rc",
+			"cr",
+			"snapshot"
+	);
+
+	/**
+	 * {@link Map} of parsed versions by version.
+	 * @since 2.4.0
+	 */
+	private static final Map<String, ParsedVersion> CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Version.
+	 * @since 2.4.0
+	 */
+	private final String version;
+
+	/**
+	 * Qualifier in lower case or {@code null}.
+	 * @since 2.4.0
+	 */
+	private final String qualifier;
+
+	/**
+	 * Whether the version is a pre-release.
+	 * @since 2.4.0
+	 */
+	private final boolean preRelease;
+
+	/**
+	 * Private constructor.
+	 * @param version a version
+	 * @since 2.4.0
+	 */
+	private ParsedVersion(final String version) {
+		this.version = version;
+		var end = version.length();
+		while (0 < end && isDigit(version.charAt(end - 1))) {
+			--end;
+		}
+		if (0 < end && isSeparator(version.charAt(end - 1))) {
+			--end;
+		}
+		var start = end;
+		while (0 < start && isLetter(version.charAt(start - 1))) {
+			--start;
+		}
+		qualifier = start < end
+				? version.substring(start, end).toLowerCase(Locale.ROOT)
+				: null;
+		preRelease = null != qualifier && PRE_RELEASE_QUALIFIERS.contains(qualifier);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public String toString() {
+		return ToString.of(
+				this,
+				Pair.of("version", ToString.toString(version)),
+				Pair.of("qualifier", ToString.toString(qualifier)),
+				Pair.of("preRelease", ToString.toString(preRelease))
+		);
+	}
+
+	/**
+	 * Get the version.
+	 * @return the version
+	 * @since 2.4.0
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Get the qualifier in lower case or {@code null}.
+	 * @return the qualifier in lower case or {@code null}
+	 * @since 2.4.0
+	 */
+	public String getQualifier() {
+		return qualifier;
+	}
+
+	/**
+	 * Get whether the version is a pre-release, based on its qualifier.
+	 * @return {@code true} if the version is a pre-release
+	 * @since 2.4.0
+	 */
+	public boolean isPreRelease() {
+		return preRelease;
+	}
+
+	/**
+	 * Parse a version, reusing the parsed version of a same string if it is still cached.
+	 * @param version a version
+	 * @return the parsed version
+	 * @throws NullPointerException if the version is {@code null}
+	 * @throws IllegalArgumentException if the version is empty
+	 * @since 2.4.0
+	 */
+	public static ParsedVersion of(final String version) {
+		Ensure.notNullAndNotEmpty("version", version);
+		final var parsedVersion = CACHE.get(version);
+		if (null != parsedVersion) {
+			return parsedVersion;
+		}
+		final var newParsedVersion = new ParsedVersion(version);
+		if (MAXIMUM_CACHE_SIZE > CACHE.size()) {
+			CACHE.putIfAbsent(version, newParsedVersion);
+		}
+		return newParsedVersion;
+	}
+
+	/**
+	 * Test whether a character is an <i>US-ASCII</i> digit.
+	 * @param c a character
+	 * @return {@code true} if the character is an <i>US-ASCII</i> digit
+	 * @since 2.4.0
+	 */
+	private static boolean isDigit(final char c) {
+		return '0' <= c && '9' >= c;
+	}
+
+	/**
+	 * Test whether a character is an <i>US-ASCII</i> letter.
+	 * @param c a character
+	 * @return {@code true} if the character is an <i>US-ASCII</i> letter
+	 * @since 2.4.0
+	 */
+	private static boolean isLetter(final char c) {
+		return 'a' <= c && 'z' >= c || 'A' <= c && 'Z' >= c;
+	}
+
+	/**
+	 * Test whether a character is a separator.
+	 * @param c a character
+	 * @return {@code true} if the character is a separator
+	 * @since 2.4.0
+	 */
+	private static boolean isSeparator(final char c) {
+		return '.' == c || '-' == c;
+	}
+}
\ No newline at end of file
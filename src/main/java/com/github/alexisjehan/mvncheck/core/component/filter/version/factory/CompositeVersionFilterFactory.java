@@ -67,11 +67,15 @@ public final class CompositeVersionFilterFactory implements VersionFilterFactory
 		Ensure.notNullAndNotEmpty("artifactVersion", artifactVersion);
 		final var filters = factories.stream()
 				.map(factory -> factory.create(artifactVersion))
-				.collect(Collectors.toUnmodifiableSet());
+				.toArray(VersionFilter[]::new);
 		return version -> {
 			Ensure.notNullAndNotEmpty("version", version);
-			return filters.stream()
-					.allMatch(filter -> filter.accept(version));
+			for (final var filter : filters) {
+				if (!filter.accept(version)) {
+					return false;
+				}
+			}
+			return true;
 		};
 	}
 }
\ No newline at end of file
@@ -24,25 +24,15 @@
 package com.github.alexisjehan.mvncheck.core.component.filter.version.factory;
 
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mvncheck.core.component.filter.version.ParsedVersion;
 import com.github.alexisjehan.mvncheck.core.component.filter.version.VersionFilter;
 
-import java.util.regex.Pattern;
-
 /**
  * Enumeration of a singleton qualifier version filter factory.
  * @since 1.0.0
  */
 public final class QualifierVersionFilterFactory implements VersionFilterFactory {
 
-	/**
-	 * Pattern to extract the qualifier from a version.
-	 * @since 1.0.0
-	 */
-	private static final Pattern PATTERN = Pattern.compile(
-			"^.*[.\\-]?([a-z]+)[.\\-]?\\d*$",
-			Pattern.CASE_INSENSITIVE
-	);
-
 	/**
 	 * Constructor.
 	 * @since 1.5.0
@@ -60,24 +50,13 @@ public final class QualifierVersionFilterFactory implements VersionFilterFactory
 	@Override
 	public VersionFilter create(final String artifactVersion) {
 		Ensure.notNullAndNotEmpty("artifactVersion", artifactVersion);
-		final var artifactVersionQualifier = extractQualifier(artifactVersion);
+		final var artifactVersionQualifier = ParsedVersion.of(artifactVersion).getQualifier();
 		return version -> {
 			Ensure.notNullAndNotEmpty("version", version);
-			final var versionQualifier = extractQualifier(version);
+			final var versionQualifier = ParsedVersion.of(version).getQualifier();
 			return null == versionQualifier
 					|| null == artifactVersionQualifier
-					|| versionQualifier.equalsIgnoreCase(artifactVersionQualifier);
+					|| versionQualifier.equals(artifactVersionQualifier);
 		};
 	}
-
-	/**
-	 * Extract the qualifier from a version.
-	 * @param version a version
-	 * @return the qualifier
-	 * @since 1.0.0
-	 */
-	private static String extractQualifier(final String version) {
-		final var matcher = PATTERN.matcher(version);
-		return matcher.matches() ? matcher.group(1) : null;
-	}
 }
\ No newline at end of file
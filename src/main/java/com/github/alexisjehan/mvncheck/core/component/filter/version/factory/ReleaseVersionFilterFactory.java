@@ -24,25 +24,15 @@
 package com.github.alexisjehan.mvncheck.core.component.filter.version.factory;
 
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.mvncheck.core.component.filter.version.ParsedVersion;
 import com.github.alexisjehan.mvncheck.core.component.filter.version.VersionFilter;
 
-import java.util.regex.Pattern;
-
 /**
  * Enumeration of a singleton release version filter factory.
  * @since 1.0.0
  */
 public final class ReleaseVersionFilterFactory implements VersionFilterFactory {
 
-	/**
-	 * Pattern to match pre-release versions.
-	 * @since 1.0.0
-	 */
-	private static final Pattern PATTERN = Pattern.compile(
-			"^.*[.\\-]?(?:alpha|a|beta|b|milestone|m|rc|cr|snapshot)[.\\-]?\\d*$",
-			Pattern.CASE_INSENSITIVE
-	);
-
 	/**
 	 * Constructor.
 	 * @since 1.5.0
@@ -62,7 +52,7 @@ public final class ReleaseVersionFilterFactory implements VersionFilterFactory {
 		Ensure.notNullAndNotEmpty("artifactVersion", artifactVersion);
 		return version -> {
 			Ensure.notNullAndNotEmpty("version", version);
-			return !PATTERN.matcher(version).matches();
+			return !ParsedVersion.of(version).isPreRelease();
 		};
 	}
 }
\ No newline at end of file
@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.session;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import org.apache.maven.model.building.ModelCache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that describes a <i>Maven</i> model cache bounded by size, safe to be shared by concurrent builds.
+ *
+ * <p><b>Note</b>: Data are copied by the model builder when put and got, so that only the access to the cache itself
+ * has to be thread-safe. The least recently used data are evicted once the maximum size is exceeded.</p>
+ * @since 2.4.0
+ */
+public final class ConcurrentModelCache implements ModelCache {
+
+	/**
+	 * Default maximum number of data, large enough for the parents and imports of most trees.
+	 * @since 2.4.0
+	 */
+	private static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+	/**
+	 * Maximum number of data.
+	 * @since 2.4.0
+	 */
+	private final int maximumSize;
+
+	/**
+	 * {@link Map} of data by key, in access order.
+	 * @since 2.4.0
+	 */
+	private final Map<List<String>, Object> data;
+
+	/**
+	 * Number of hits.
+	 * @since 2.4.0
+	 */
+	private long hitCount;
+
+	/**
+	 * Number of misses.
+	 * @since 2.4.0
+	 */
+	private long missCount;
+
+	/**
+	 * Constructor.
+	 * @since 2.4.0
+	 */
+	public ConcurrentModelCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Constructor with a maximum size.
+	 * @param maximumSize a maximum number of data
+	 * @throws IllegalArgumentException if the maximum size is lower than {@code 1}
+	 * @since 2.4.0
+	 */
+	public ConcurrentModelCache(final int maximumSize) {
+		Ensure.greaterThanOrEqualTo("maximumSize", maximumSize, 1);
+		this.maximumSize = maximumSize;
+		data = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the group identifier, the artifact identifier, the version, the tag or the data
+	 *         is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void put(
+			final String groupId,
+			final String artifactId,
+			final String version,
+			final String tag,
+			final Object data
+	) {
+		Ensure.notNull("data", data);
+		final var key = toKey(groupId, artifactId, version, tag);
+		synchronized (this) {
+			this.data.put(key, data);
+			if (maximumSize < this.data.size()) {
+				final var iterator = this.data.entrySet().iterator();
+				iterator.next();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the group identifier, the artifact identifier, the version or the tag is
+	 *         {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public Object get(final String groupId, final String artifactId, final String version, final String tag) {
+		final var key = toKey(groupId, artifactId, version, tag);
+		synchronized (this) {
+			final var value = data.get(key);
+			if (null != value) {
+				++hitCount;
+			} else {
+				++missCount;
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Get the number of data.
+	 * @return the number of data
+	 * @since 2.4.0
+	 */
+	public synchronized int getSize() {
+		return data.size();
+	}
+
+	/**
+	 * Get the maximum number of data.
+	 * @return the maximum number of data
+	 * @since 2.4.0
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Get the number of hits.
+	 * @return the number of hits
+	 * @since 2.4.0
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Get the number of misses.
+	 * @return the number of misses
+	 * @since 2.4.0
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Create a key.
+	 * @param groupId a group identifier
+	 * @param artifactId an artifact identifier
+	 * @param version a version
+	 * @param tag a tag
+	 * @return the key
+	 * @throws NullPointerException if the group identifier, the artifact identifier, the version or the tag is
+	 *         {@code null}
+	 * @since 2.4.0
+	 */
+	private static List<String> toKey(
+			final String groupId,
+			final String artifactId,
+			final String version,
+			final String tag
+	) {
+		Ensure.notNull("groupId", groupId);
+		Ensure.notNull("artifactId", artifactId);
+		Ensure.notNull("version", version);
+		Ensure.notNull("tag", tag);
+		return List.of(groupId, artifactId, version, tag);
+	}
+}
\ No newline at end of file
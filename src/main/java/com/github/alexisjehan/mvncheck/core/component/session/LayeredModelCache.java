@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.session;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import org.apache.maven.model.building.ModelCache;
+import org.apache.maven.project.PublicReactorModelPool;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class that describes a <i>Maven</i> model cache of a run, layered over a model cache shared by later runs.
+ *
+ * <p><b>Note</b>: Data of released models that are not in the model pool, such as remote parents and imports, cannot
+ * change and are kept in the shared model cache. Data of snapshots and of pooled models are only kept for the run, as
+ * their files might be edited before the next one.</p>
+ * @since 2.4.0
+ */
+final class LayeredModelCache implements ModelCache {
+
+	/**
+	 * Model cache of the run.
+	 * @since 2.4.0
+	 */
+	private final ConcurrentModelCache runModelCache;
+
+	/**
+	 * Model cache shared by later runs.
+	 * @since 2.4.0
+	 */
+	private final ConcurrentModelCache sharedModelCache;
+
+	/**
+	 * Model pool of the run.
+	 * @since 2.4.0
+	 */
+	private final PublicReactorModelPool modelPool;
+
+	/**
+	 * Number of hits.
+	 * @since 2.4.0
+	 */
+	private final AtomicLong hitCount;
+
+	/**
+	 * Number of misses.
+	 * @since 2.4.0
+	 */
+	private final AtomicLong missCount;
+
+	/**
+	 * Constructor.
+	 * @param sharedModelCache a model cache shared by later runs
+	 * @param modelPool a model pool of the run
+	 * @throws NullPointerException if the shared model cache or the model pool is {@code null}
+	 * @since 2.4.0
+	 */
+	LayeredModelCache(final ConcurrentModelCache sharedModelCache, final PublicReactorModelPool modelPool) {
+		Ensure.notNull("sharedModelCache", sharedModelCache);
+		Ensure.notNull("modelPool", modelPool);
+		runModelCache = new ConcurrentModelCache();
+		this.sharedModelCache = sharedModelCache;
+		this.modelPool = modelPool;
+		hitCount = new AtomicLong();
+		missCount = new AtomicLong();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the group identifier, the artifact identifier, the version, the tag or the data
+	 *         is {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void put(
+			final String groupId,
+			final String artifactId,
+			final String version,
+			final String tag,
+			final Object data
+	) {
+		getModelCache(groupId, artifactId, version).put(groupId, artifactId, version, tag, data);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws NullPointerException if the group identifier, the artifact identifier, the version or the tag is
+	 *         {@code null}
+	 * @since 2.4.0
+	 */
+	@Override
+	public Object get(final String groupId, final String artifactId, final String version, final String tag) {
+		final var data = getModelCache(groupId, artifactId, version).get(groupId, artifactId, version, tag);
+		if (null != data) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+		return data;
+	}
+
+	/**
+	 * Get the number of hits of the run.
+	 * @return the number of hits
+	 * @since 2.4.0
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Get the number of misses of the run.
+	 * @return the number of misses
+	 * @since 2.4.0
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Get the model cache of data for the given coordinates.
+	 * @param groupId a group identifier
+	 * @param artifactId an artifact identifier
+	 * @param version a version
+	 * @return the shared model cache if data cannot change, the model cache of the run otherwise
+	 * @throws NullPointerException if the group identifier, the artifact identifier or the version is {@code null}
+	 * @since 2.4.0
+	 */
+	private ConcurrentModelCache getModelCache(final String groupId, final String artifactId, final String version) {
+		Ensure.notNull("groupId", groupId);
+		Ensure.notNull("artifactId", artifactId);
+		Ensure.notNull("version", version);
+		return !version.endsWith("-SNAPSHOT") && null == modelPool.get(groupId, artifactId, version)
+				? sharedModelCache
+				: runModelCache;
+	}
+}
\ No newline at end of file
@@ -25,23 +25,32 @@ package com.github.alexisjehan.mvncheck.core.component.session;
 
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 import com.github.alexisjehan.javanilla.util.Lists;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
 import com.github.alexisjehan.mvncheck.core.util.MavenUtils;
 import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.resolution.ModelResolver;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.ProjectModelResolver;
-import org.apache.maven.project.PublicReactorModelCache;
 import org.apache.maven.project.PublicReactorModelPool;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.building.SettingsBuildingException;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Class that describes a <i>Maven</i> session.
@@ -49,6 +58,12 @@ import java.util.List;
  */
 public final class MavenSession {
 
+	/**
+	 * Model cache name.
+	 * @since 2.4.0
+	 */
+	private static final String MODEL_CACHE_NAME = "Maven model";
+
 	/**
 	 * Repository system.
 	 * @since 1.0.0
@@ -67,17 +82,29 @@ public final class MavenSession {
 	 */
 	private final List<RemoteRepository> remoteRepositories;
 
+	/**
+	 * Model pool.
+	 * @since 2.4.0
+	 */
+	private final PublicReactorModelPool modelPool;
+
 	/**
 	 * Model resolver.
 	 * @since 1.0.0
 	 */
 	private final ModelResolver modelResolver;
 
+	/**
+	 * Model cache shared by forked sessions.
+	 * @since 2.4.0
+	 */
+	private final ConcurrentModelCache sharedModelCache;
+
 	/**
 	 * Model cache.
 	 * @since 1.0.0
 	 */
-	private final ModelCache modelCache;
+	private final LayeredModelCache modelCache;
 
 	/**
 	 * Constructor.
@@ -85,16 +112,47 @@ public final class MavenSession {
 	 * @since 1.0.0
 	 */
 	public MavenSession() {
-		repositorySystem = MavenUtils.makeRepositorySystem();
-		final Settings settings;
-		try {
-			settings = MavenUtils.makeSettings();
-		} catch (final SettingsBuildingException e) {
-			throw new MavenSessionException(e);
-		}
-		final var decryptedSettings = MavenUtils.makeDecryptedSettings(settings);
-		repositorySystemSession = MavenUtils.makeRepositorySystemSession(settings, decryptedSettings, repositorySystem);
-		remoteRepositories = MavenUtils.makeRemoteRepositories(settings);
+		this(MavenUtils.makeRepositorySystem(), makeSettings());
+	}
+
+	/**
+	 * Private constructor with a repository system and settings.
+	 * @param repositorySystem a repository system
+	 * @param settings settings
+	 * @since 2.4.0
+	 */
+	private MavenSession(final RepositorySystem repositorySystem, final Settings settings) {
+		this(
+				repositorySystem,
+				MavenUtils.makeRepositorySystemSession(
+						settings,
+						MavenUtils.makeDecryptedSettings(settings),
+						repositorySystem
+				),
+				MavenUtils.makeRemoteRepositories(settings),
+				new ConcurrentModelCache()
+		);
+	}
+
+	/**
+	 * Private constructor with a repository system, a repository system session, remote repositories and a shared
+	 * model cache.
+	 * @param repositorySystem a repository system
+	 * @param repositorySystemSession a repository system session
+	 * @param remoteRepositories a {@link List} of remote repositories
+	 * @param sharedModelCache a model cache shared by forked sessions
+	 * @since 2.4.0
+	 */
+	private MavenSession(
+			final RepositorySystem repositorySystem,
+			final RepositorySystemSession repositorySystemSession,
+			final List<RemoteRepository> remoteRepositories,
+			final ConcurrentModelCache sharedModelCache
+	) {
+		this.repositorySystem = repositorySystem;
+		this.repositorySystemSession = repositorySystemSession;
+		this.remoteRepositories = remoteRepositories;
+		modelPool = new PublicReactorModelPool();
 		modelResolver = new ProjectModelResolver(
 				repositorySystemSession,
 				null,
@@ -102,9 +160,27 @@ public final class MavenSession {
 				MavenUtils.makeRemoteRepositoryManager(),
 				remoteRepositories,
 				ProjectBuildingRequest.RepositoryMerging.POM_DOMINANT,
-				new PublicReactorModelPool()
+				modelPool
+		);
+		this.sharedModelCache = sharedModelCache;
+		modelCache = new LayeredModelCache(sharedModelCache, modelPool);
+	}
+
+	/**
+	 * Create a session sharing the repository system, the settings and the models that cannot change of this one, but
+	 * with an empty repository cache and model pool, so that a long-running process does not parse settings and remote
+	 * parents or imports again while not reusing stale project models or metadata.
+	 * @return the created session
+	 * @since 2.4.0
+	 */
+	public MavenSession fork() {
+		return new MavenSession(
+				repositorySystem,
+				new DefaultRepositorySystemSession(repositorySystemSession)
+						.setCache(new DefaultRepositoryCache()),
+				remoteRepositories,
+				sharedModelCache
 		);
-		modelCache = new PublicReactorModelCache();
 	}
 
 	/**
@@ -135,8 +211,67 @@ public final class MavenSession {
 		return repositorySystem.resolveVersionRange(repositorySystemSession, request);
 	}
 
+	/**
+	 * Request an artifact using the repository system session, downloading it to the local repository if needed.
+	 * @param request a request
+	 * @return the result
+	 * @throws ArtifactResolutionException might occur while requesting a missing artifact
+	 * @throws NullPointerException if the request is {@code null}
+	 * @since 2.4.0
+	 */
+	public ArtifactResult requestArtifact(final ArtifactRequest request) throws ArtifactResolutionException {
+		Ensure.notNull("request", request);
+		return repositorySystem.resolveArtifact(repositorySystemSession, request);
+	}
+
+	/**
+	 * Find an {@link Optional} <i>Maven</i> model file for the given coordinates, in the model pool or else in the
+	 * local repository.
+	 * @param groupId a group identifier
+	 * @param artifactId an artifact identifier
+	 * @param version a version
+	 * @return the {@link Optional} <i>Maven</i> model file
+	 * @throws NullPointerException if the group identifier, the artifact identifier or the version is {@code null}
+	 * @since 2.4.0
+	 */
+	public Optional<Path> findModelFile(final String groupId, final String artifactId, final String version) {
+		Ensure.notNull("groupId", groupId);
+		Ensure.notNull("artifactId", artifactId);
+		Ensure.notNull("version", version);
+		final var pooledModelFile = modelPool.get(groupId, artifactId, version);
+		if (null != pooledModelFile) {
+			return Optional.of(pooledModelFile.toPath());
+		}
+		final var localRepositoryManager = repositorySystemSession.getLocalRepositoryManager();
+		final var localModelFile = localRepositoryManager.getRepository()
+				.getBasedir()
+				.toPath()
+				.resolve(
+						localRepositoryManager.getPathForLocalArtifact(
+								new DefaultArtifact(groupId, artifactId, "pom", version)
+						)
+				);
+		return Optional.of(localModelFile)
+				.filter(Files::isRegularFile);
+	}
+
+	/**
+	 * Get the model pool.
+	 *
+	 * <p><b>Note</b>: <i>Maven</i> models of the pool are resolved in priority by the model resolver. The model pool is
+	 * not thread-safe, it should be filled before concurrent builds start.</p>
+	 * @return the model pool
+	 * @since 2.4.0
+	 */
+	public PublicReactorModelPool getModelPool() {
+		return modelPool;
+	}
+
 	/**
 	 * Get the model resolver.
+	 *
+	 * <p><b>Note</b>: The model resolver is not thread-safe as repositories are added while building, it should be
+	 * copied by each build.</p>
 	 * @return the model resolver
 	 * @since 1.0.0
 	 */
@@ -146,10 +281,37 @@ public final class MavenSession {
 
 	/**
 	 * Get the model cache.
+	 *
+	 * <p><b>Note</b>: The model cache is thread-safe, bounded by size and shared by all builds, so that parents and
+	 * imports are read and interpolated once per run. Those of released models outside the model pool are also shared
+	 * by forked sessions.</p>
 	 * @return the model cache
 	 * @since 1.0.0
 	 */
 	public ModelCache getModelCache() {
 		return modelCache;
 	}
+
+	/**
+	 * Get statistics of the model cache.
+	 * @return statistics of the model cache
+	 * @since 2.4.0
+	 */
+	public CacheStatistics getModelCacheStatistics() {
+		return new CacheStatistics(MODEL_CACHE_NAME, modelCache.getHitCount(), modelCache.getMissCount());
+	}
+
+	/**
+	 * Make settings.
+	 * @return settings
+	 * @throws MavenSessionException might occur while resolving <i>Maven</i> settings
+	 * @since 2.4.0
+	 */
+	private static Settings makeSettings() {
+		try {
+			return MavenUtils.makeSettings();
+		} catch (final SettingsBuildingException e) {
+			throw new MavenSessionException(e);
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.session;
+
+import com.github.alexisjehan.javanilla.misc.quality.Ensure;
+import com.github.alexisjehan.javanilla.misc.tuple.Triple;
+import org.apache.maven.model.building.ModelCache;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that describes a <i>Maven</i> model cache that records the coordinates of every model it is asked for, while
+ * delegating to another model cache.
+ *
+ * <p><b>Note</b>: The model builder asks the model cache for every parent and imported model before resolving them,
+ * so recorded coordinates are the ones a build depends on.</p>
+ * @since 2.4.0
+ */
+public final class RecordingModelCache implements ModelCache {
+
+	/**
+	 * Delegated model cache.
+	 * @since 2.4.0
+	 */
+	private final ModelCache modelCache;
+
+	/**
+	 * {@link Set} of recorded coordinates.
+	 * @since 2.4.0
+	 */
+	private final Set<Triple<String, String, String>> coordinates;
+
+	/**
+	 * Constructor.
+	 * @param modelCache a delegated model cache
+	 * @throws NullPointerException if the delegated model cache is {@code null}
+	 * @since 2.4.0
+	 */
+	public RecordingModelCache(final ModelCache modelCache) {
+		Ensure.notNull("modelCache", modelCache);
+		this.modelCache = modelCache;
+		coordinates = ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public void put(
+			final String groupId,
+			final String artifactId,
+			final String version,
+			final String tag,
+			final Object data
+	) {
+		coordinates.add(Triple.of(groupId, artifactId, version));
+		modelCache.put(groupId, artifactId, version, tag, data);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @since 2.4.0
+	 */
+	@Override
+	public Object get(final String groupId, final String artifactId, final String version, final String tag) {
+		coordinates.add(Triple.of(groupId, artifactId, version));
+		return modelCache.get(groupId, artifactId, version, tag);
+	}
+
+	/**
+	 * Get the {@link Set} of recorded coordinates, as group identifier, artifact identifier and version.
+	 * @return the {@link Set} of recorded coordinates
+	 * @since 2.4.0
+	 */
+	public Set<Triple<String, String, String>> getCoordinates() {
+		return Collections.unmodifiableSet(coordinates);
+	}
+}
\ No newline at end of file
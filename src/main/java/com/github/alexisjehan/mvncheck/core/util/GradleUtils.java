@@ -27,6 +27,7 @@ import com.github.alexisjehan.javanilla.lang.Strings;
 import org.gradle.util.GradleVersion;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -78,4 +79,17 @@ public final class GradleUtils {
 				.flatMap(Optional::stream)
 				.findAny();
 	}
+
+	/**
+	 * Retrieve the <i>Gradle</i> user home, from the {@code GRADLE_USER_HOME} environment variable or else the
+	 * {@code .gradle} directory of the user home directory.
+	 * @return the <i>Gradle</i> user home
+	 * @since 2.4.0
+	 */
+	public static Path retrieveUserHome() {
+		return SystemUtils.getEnvironmentVariable("GRADLE_USER_HOME")
+				.filter(gradleUserHome -> !gradleUserHome.isEmpty())
+				.map(Path::of)
+				.orElseGet(() -> SystemUtils.getUserHomeDirectory().resolve(".gradle"));
+	}
 }
\ No newline at end of file
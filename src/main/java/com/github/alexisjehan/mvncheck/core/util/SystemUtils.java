@@ -27,9 +27,16 @@ import com.github.alexisjehan.javanilla.lang.Strings;
 import com.github.alexisjehan.javanilla.misc.quality.Ensure;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -69,6 +76,20 @@ public final class SystemUtils {
 	 */
 	private static final Path DEFAULT_XDG_CONFIG_GLOBAL_BASE_DIRECTORY = Path.of("/etc/xdg");
 
+	/**
+	 * Default XDG cache user base directory.
+	 * @since 2.4.0
+	 */
+	private static final Path DEFAULT_XDG_CACHE_USER_BASE_DIRECTORY = USER_HOME_DIRECTORY.resolve(".cache");
+
+	/**
+	 * {@link Set} of permissions of a user directory, only accessible by its owner.
+	 * @since 2.4.0
+	 */
+	private static final Set<PosixFilePermission> USER_DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString(
+			"rwx------"
+	);
+
 	/**
 	 * Constructor.
 	 * @since 1.0.0
@@ -131,4 +152,105 @@ public final class SystemUtils {
 				.map(baseDirectory -> baseDirectory.resolve(XDG_DIRECTORY_NAME))
 				.toList();
 	}
+
+	/**
+	 * Get the XDG cache directory.
+	 * @return the XDG cache directory
+	 * @see <a href="https://specifications.freedesktop.org/basedir">https://specifications.freedesktop.org/basedir</a>
+	 * @since 2.4.0
+	 */
+	public static Path getXdgCacheDirectory() {
+		return getEnvironmentVariable("XDG_CACHE_HOME")
+				.filter(Predicate.not(String::isEmpty))
+				.map(Path::of)
+				.orElse(DEFAULT_XDG_CACHE_USER_BASE_DIRECTORY)
+				.resolve(XDG_DIRECTORY_NAME);
+	}
+
+	/**
+	 * Get the XDG runtime directory, or the XDG cache directory if the {@code XDG_RUNTIME_DIR} environment variable is
+	 * not set.
+	 * @return the XDG runtime directory
+	 * @see <a href="https://specifications.freedesktop.org/basedir">https://specifications.freedesktop.org/basedir</a>
+	 * @since 2.4.0
+	 */
+	public static Path getXdgRuntimeDirectory() {
+		return getEnvironmentVariable("XDG_RUNTIME_DIR")
+				.filter(Predicate.not(String::isEmpty))
+				.map(Path::of)
+				.map(baseDirectory -> baseDirectory.resolve(XDG_DIRECTORY_NAME))
+				.orElseGet(SystemUtils::getXdgCacheDirectory);
+	}
+
+	/**
+	 * Create a directory if it does not exist, only accessible by the current user if the file system supports it.
+	 *
+	 * <p><b>Note</b>: An existing directory must be owned by the current user, and its permissions are restricted if
+	 * needed, so that no other user could read, create or replace the files inside it.</p>
+	 * @param directory a directory
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the directory is {@code null}
+	 * @throws AccessDeniedException if the directory is not owned by the current user
+	 * @since 2.4.0
+	 */
+	public static void createUserDirectory(final Path directory) throws IOException {
+		Ensure.notNull("directory", directory);
+		if (!isPosix(directory)) {
+			Files.createDirectories(directory);
+			return;
+		}
+		if (!Files.isDirectory(directory)) {
+			Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(USER_DIRECTORY_PERMISSIONS));
+		}
+		if (!isOwnedByCurrentUser(directory)) {
+			throw new AccessDeniedException(directory.toString(), null, "Not owned by the current user");
+		}
+		if (!USER_DIRECTORY_PERMISSIONS.equals(Files.getPosixFilePermissions(directory))) {
+			Files.setPosixFilePermissions(directory, USER_DIRECTORY_PERMISSIONS);
+		}
+	}
+
+	/**
+	 * Tell if a file is owned by the current user and not writable by any other user, always {@code true} if the file
+	 * system does not support it.
+	 * @param file a file
+	 * @return {@code true} if the file is owned by the current user and not writable by any other user
+	 * @throws IOException might occur with input/output operations
+	 * @throws NullPointerException if the file is {@code null}
+	 * @since 2.4.0
+	 */
+	public static boolean isUserFile(final Path file) throws IOException {
+		Ensure.notNull("file", file);
+		if (!isPosix(file)) {
+			return true;
+		}
+		final var permissions = Files.getPosixFilePermissions(file, LinkOption.NOFOLLOW_LINKS);
+		return isOwnedByCurrentUser(file)
+				&& !permissions.contains(PosixFilePermission.GROUP_WRITE)
+				&& !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+	}
+
+	/**
+	 * Tell if the file system of a path supports POSIX file attributes.
+	 * @param path a path
+	 * @return {@code true} if the file system of the path supports POSIX file attributes
+	 * @since 2.4.0
+	 */
+	private static boolean isPosix(final Path path) {
+		return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+	}
+
+	/**
+	 * Tell if a file is owned by the current user.
+	 * @param file a file
+	 * @return {@code true} if the file is owned by the current user
+	 * @throws IOException might occur with input/output operations
+	 * @since 2.4.0
+	 */
+	private static boolean isOwnedByCurrentUser(final Path file) throws IOException {
+		final var user = file.getFileSystem()
+				.getUserPrincipalLookupService()
+				.lookupPrincipalByName(System.getProperty("user.name"));
+		return user.equals(Files.getOwner(file, LinkOption.NOFOLLOW_LINKS));
+	}
 }
\ No newline at end of file
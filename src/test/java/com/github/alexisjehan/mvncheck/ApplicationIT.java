@@ -72,6 +72,10 @@ final class ApplicationIT {
 						false,
 						false,
 						true,
+						false,
+						false,
+						false,
+						1,
 						false
 				);
 			}
@@ -117,6 +121,7 @@ final class ApplicationIT {
 							+ "5 artifact update\\(s\\) available\\R"
 							+ "\\R"
 							+ "3/3 build file\\(s\\) checked, 16 artifact update\\(s\\) available\\R"
+							+ "Maven model cache: \\d+/\\d+ hit\\(s\\) \\(\\d+%\\)\\R"
 							+ "$"
 			);
 		}
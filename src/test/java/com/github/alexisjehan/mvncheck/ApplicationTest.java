@@ -30,26 +30,37 @@ import com.github.alexisjehan.mvncheck.core.component.artifact.type.ArtifactType
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.ArtifactUpdateVersion;
 import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.BuildResolveException;
+import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleConnectionPool;
+import com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser.ArtifactFilterParser;
+import com.github.alexisjehan.mvncheck.core.component.session.MavenSession;
 import com.github.alexisjehan.mvncheck.core.util.GithubUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.AdditionalAnswers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -69,6 +80,8 @@ final class ApplicationTest {
 					.isThrownBy(() -> new Application(null, printStream, false));
 			assertThatNullPointerException()
 					.isThrownBy(() -> new Application(printStream, null, false));
+			assertThatNullPointerException()
+					.isThrownBy(() -> new Application(printStream, printStream, false, null, null, null, null));
 		}
 	}
 
@@ -100,14 +113,22 @@ final class ApplicationTest {
 		final var build2 = new Build(
 				buildFile2,
 				List.of(),
-				List.of(artifact1, artifact2)
+				List.of(artifact1, artifact2),
+				true
 		);
-		Mockito.when(mockedService.findBuildFiles(Mockito.argThat(path1::equals), Mockito.anyInt()))
+		Mockito.when(mockedService.findBuildFiles(Mockito.argThat(path1::equals), Mockito.anyInt(), Mockito.anyBoolean()))
 				.thenReturn(List.of());
-		Mockito.when(mockedService.findBuildFiles(Mockito.argThat(path2::equals), Mockito.anyInt()))
+		Mockito.when(mockedService.findBuildFiles(Mockito.argThat(path2::equals), Mockito.anyInt(), Mockito.anyBoolean()))
 				.thenReturn(List.of(buildFile1));
-		Mockito.when(mockedService.findBuildFiles(Mockito.argThat(path3::equals), Mockito.anyInt()))
+		Mockito.when(mockedService.findBuildFiles(Mockito.argThat(path3::equals), Mockito.anyInt(), Mockito.anyBoolean()))
 				.thenReturn(List.of(buildFile1, buildFile2, buildFile3));
+		Mockito.when(mockedService.findCacheStatistics())
+				.thenReturn(
+						List.of(
+								new CacheStatistics("foo-name", 3L, 1L),
+								new CacheStatistics("bar-name", 0L, 0L)
+						)
+				);
 		Mockito.when(mockedService.filterBuildFiles(Mockito.anyList()))
 				.then(AdditionalAnswers.returnsFirstArg());
 		Mockito.when(mockedService.findBuild(Mockito.argThat(buildFile1::equals)))
@@ -153,7 +174,13 @@ final class ApplicationTest {
 								Optional.empty()
 						);
 				try (var mockedStaticApplication = Mockito.mockStatic(Application.class)) {
-					mockedStaticApplication.when(Application::createService)
+					mockedStaticApplication.when(
+									() -> Application.createService(
+											Mockito.anyBoolean(),
+											Mockito.anyBoolean(),
+											Mockito.anyInt()
+									)
+							)
 							.thenReturn(mockedService);
 					mockedStaticApplication.when(Application::getCurrentVersion)
 							.thenReturn(
@@ -165,9 +192,15 @@ final class ApplicationTest {
 					assertThatNoException().isThrownBy(
 							application::run
 					);
+					assertThatNoException().isThrownBy(
+							() -> application.run("--" + Application.OPTION_CACHE)
+					);
 					assertThatNoException().isThrownBy(
 							() -> application.run("--" + Application.OPTION_MAX_DEPTH, "0")
 					);
+					assertThatNoException().isThrownBy(
+							() -> application.run("--" + Application.OPTION_MAX_GRADLE_BUILDS, "1")
+					);
 					assertThatNoException().isThrownBy(
 							() -> application.run("--" + Application.OPTION_FILTER, "*")
 					);
@@ -183,9 +216,15 @@ final class ApplicationTest {
 					assertThatNoException().isThrownBy(
 							() -> application.run("--" + Application.OPTION_INCLUDE_OUTPUT)
 					);
+					assertThatNoException().isThrownBy(
+							() -> application.run("--" + Application.OPTION_RESPECT_GITIGNORE)
+					);
 					assertThatNoException().isThrownBy(
 							() -> application.run("--" + Application.OPTION_SHORT)
 					);
+					assertThatNoException().isThrownBy(
+							() -> application.run("--" + Application.OPTION_STATIC_GRADLE)
+					);
 					assertThatNoException().isThrownBy(
 							() -> application.run("--" + Application.OPTION_VERSION)
 					);
@@ -209,6 +248,10 @@ final class ApplicationTest {
 									true,
 									true,
 									true,
+									true,
+									false,
+									false,
+									1,
 									true
 							)
 					);
@@ -220,6 +263,10 @@ final class ApplicationTest {
 									true,
 									true,
 									true,
+									true,
+									false,
+									false,
+									1,
 									true
 							)
 					);
@@ -231,6 +278,10 @@ final class ApplicationTest {
 									true,
 									true,
 									true,
+									true,
+									false,
+									false,
+									1,
 									true
 							)
 					);
@@ -257,6 +308,10 @@ final class ApplicationTest {
 							false,
 							false,
 							true,
+							false,
+							false,
+							false,
+							1,
 							false
 					)
 			);
@@ -268,6 +323,10 @@ final class ApplicationTest {
 							false,
 							false,
 							true,
+							false,
+							false,
+							false,
+							1,
 							false
 					)
 			);
@@ -279,6 +338,10 @@ final class ApplicationTest {
 							false,
 							false,
 							true,
+							false,
+							false,
+							false,
+							1,
 							false
 					)
 			);
@@ -290,15 +353,140 @@ final class ApplicationTest {
 							false,
 							false,
 							true,
+							false,
+							false,
+							false,
+							1,
+							false
+					)
+			);
+			assertThatIllegalArgumentException().isThrownBy(
+					() -> application.run(
+							Path.of("path"),
+							0,
+							Set.of("*"),
+							false,
+							false,
+							true,
+							false,
+							false,
+							false,
+							0,
 							false
 					)
 			);
 		}
 	}
 
+	@Test
+	void testCompileFilters(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id");
+		try (var printStream = new PrintStream(OutputStream.nullOutputStream())) {
+			final var application = new Application(printStream);
+			try (var mockedStaticService = Mockito.mockStatic(Service.class)) {
+				mockedStaticService.when(Service::findGlobalIgnoreFiles)
+						.thenReturn(List.of(), List.of(ignoreFile));
+				assertThatNoException().isThrownBy(
+						() -> application.compileFilters(List.of())
+				);
+				assertThat(ArtifactFilterParser.getSnapshotFile(ignoreFile)).doesNotExist();
+				assertThatNoException().isThrownBy(
+						() -> application.run(Application.COMMAND_FILTERS, Application.COMMAND_FILTERS_COMPILE)
+				);
+				assertThat(ArtifactFilterParser.getSnapshotFile(ignoreFile)).isRegularFile();
+			}
+			Files.delete(ArtifactFilterParser.getSnapshotFile(ignoreFile));
+			assertThatNoException().isThrownBy(
+					() -> application.run(
+							Application.COMMAND_FILTERS,
+							Application.COMMAND_FILTERS_COMPILE,
+							ignoreFile.toString()
+					)
+			);
+			assertThat(ArtifactFilterParser.getSnapshotFile(ignoreFile)).isRegularFile();
+		}
+	}
+
+	@Test
+	void testCompileFiltersWorkingDirectory(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id");
+		final var outputStream = new ByteArrayOutputStream();
+		try (var printStream = new PrintStream(outputStream, true, StandardCharsets.UTF_8)) {
+			final var application = new Application(printStream, printStream, false, tmpDirectory, null, null, null);
+			application.run(Application.COMMAND_FILTERS, Application.COMMAND_FILTERS_COMPILE, ".mvnchk-ignore");
+		}
+		assertThat(outputStream.toString(StandardCharsets.UTF_8))
+				.isEqualToIgnoringNewLines(".mvnchk-ignore compiled to .mvnchk-ignore.snapshot");
+		assertThat(ArtifactFilterParser.getSnapshotFile(ignoreFile)).isRegularFile();
+	}
+
+	@Test
+	void testRunForward(@TempDir final Path tmpDirectory) throws Exception {
+		final var socketFile = tmpDirectory.resolve("daemon.sock");
+		final var daemon = new Daemon(
+				socketFile,
+				Duration.ofMillis(500L),
+				Long.MAX_VALUE,
+				(workingDirectory, args, output, error) -> output.print(String.join(" ", args))
+		);
+		final var outputStream = new ByteArrayOutputStream();
+		final var executorService = Executors.newSingleThreadExecutor();
+		try (var printStream = new PrintStream(outputStream, true, StandardCharsets.UTF_8)) {
+			final var future = DaemonTest.start(executorService, daemon, socketFile);
+			final var application = new Application(
+					printStream,
+					printStream,
+					false,
+					tmpDirectory,
+					null,
+					null,
+					socketFile
+			);
+			application.run("--" + Application.OPTION_SHORT, "foo");
+			future.get(10L, TimeUnit.SECONDS);
+		} finally {
+			executorService.shutdownNow();
+		}
+		assertThat(outputStream.toString(StandardCharsets.UTF_8))
+				.isEqualTo("--" + Application.OPTION_SHORT + " foo");
+	}
+
+	@Test
+	void testRunDaemonInvalid() {
+		try (var printStream = new PrintStream(OutputStream.nullOutputStream())) {
+			final var application = new Application(printStream);
+			assertThatNullPointerException().isThrownBy(() -> application.runDaemon(null, 1));
+			assertThatIllegalArgumentException().isThrownBy(() -> application.runDaemon(Path.of("socket"), 0));
+		}
+	}
+
+	@Test
+	void testCompileFiltersInvalid() {
+		try (var printStream = new PrintStream(OutputStream.nullOutputStream())) {
+			final var application = new Application(printStream);
+			assertThatNullPointerException().isThrownBy(() -> application.compileFilters(null));
+			assertThatNullPointerException().isThrownBy(
+					() -> application.compileFilters(Collections.singletonList(null))
+			);
+		}
+	}
+
 	@Test
 	void testCreateService() {
-		assertThatNoException().isThrownBy(Application::createService);
+		assertThatNoException().isThrownBy(() -> Application.createService(false, false, 1));
+		assertThatNoException().isThrownBy(() -> Application.createService(true, false, 1));
+		assertThatNoException().isThrownBy(() -> Application.createService(false, true, 1));
+		final var mavenSession = new MavenSession();
+		assertThatNoException().isThrownBy(
+				() -> Application.createService(mavenSession.fork(), null, false, false, 1)
+		);
+		try (var gradleConnectionPool = new GradleConnectionPool()) {
+			assertThatNoException().isThrownBy(
+					() -> Application.createService(mavenSession.fork(), gradleConnectionPool, true, true, 1).close()
+			);
+		}
 	}
 
 	@Test
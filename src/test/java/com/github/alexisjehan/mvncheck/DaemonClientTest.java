@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DaemonClientTest {
+
+	@Test
+	void testForwardNotListening(@TempDir final Path tmpDirectory) throws IOException {
+		final var socketFile = tmpDirectory.resolve("daemon.sock");
+		final var args = new String[0];
+		try (var printStream = new PrintStream(OutputStream.nullOutputStream())) {
+			assertThat(DaemonClient.forward(socketFile, tmpDirectory, args, printStream, printStream)).isFalse();
+			Files.createFile(socketFile);
+			assertThat(DaemonClient.forward(socketFile, tmpDirectory, args, printStream, printStream)).isFalse();
+		}
+	}
+
+	@Test
+	void testForwardInvalid() {
+		final var socketFile = Path.of("daemon.sock");
+		final var workingDirectory = Path.of("");
+		final var args = new String[0];
+		try (var printStream = new PrintStream(OutputStream.nullOutputStream())) {
+			assertThatNullPointerException().isThrownBy(
+					() -> DaemonClient.forward(null, workingDirectory, args, printStream, printStream)
+			);
+			assertThatNullPointerException().isThrownBy(
+					() -> DaemonClient.forward(socketFile, null, args, printStream, printStream)
+			);
+			assertThatNullPointerException().isThrownBy(
+					() -> DaemonClient.forward(socketFile, workingDirectory, null, printStream, printStream)
+			);
+			assertThatNullPointerException().isThrownBy(
+					() -> DaemonClient.forward(
+							socketFile,
+							workingDirectory,
+							new String[] {null},
+							printStream,
+							printStream
+					)
+			);
+			assertThatNullPointerException().isThrownBy(
+					() -> DaemonClient.forward(socketFile, workingDirectory, args, null, printStream)
+			);
+			assertThatNullPointerException().isThrownBy(
+					() -> DaemonClient.forward(socketFile, workingDirectory, args, printStream, null)
+			);
+		}
+	}
+
+	@Test
+	void testIsListening(@TempDir final Path tmpDirectory) throws IOException {
+		assertThat(DaemonClient.isListening(tmpDirectory.resolve("daemon.sock"))).isFalse();
+	}
+
+	@Test
+	void testIsListeningInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> DaemonClient.isListening(null));
+	}
+
+	@Test
+	void testGetDefaultSocketFile() {
+		assertThat(DaemonClient.getDefaultSocketFile()).hasFileName("daemon.sock");
+	}
+}
\ No newline at end of file
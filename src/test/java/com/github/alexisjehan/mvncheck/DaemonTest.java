@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class DaemonTest {
+
+	private static final Daemon.RequestHandler REQUEST_HANDLER = (workingDirectory, args, output, error) -> {
+		output.print(workingDirectory.getFileName() + " " + String.join(" ", args));
+		error.print("érror");
+	};
+
+	@Test
+	void testConstructorInvalid() {
+		final var socketFile = Path.of("daemon.sock");
+		final var idleTimeout = Duration.ofSeconds(1L);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Daemon(null, idleTimeout, 1L, REQUEST_HANDLER)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Daemon(socketFile, null, 1L, REQUEST_HANDLER)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new Daemon(socketFile, Duration.ZERO, 1L, REQUEST_HANDLER)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new Daemon(socketFile, idleTimeout, 0L, REQUEST_HANDLER)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Daemon(socketFile, idleTimeout, 1L, null)
+		);
+	}
+
+	@Test
+	void testRun(@TempDir final Path tmpDirectory) throws Exception {
+		final var socketFile = tmpDirectory.resolve("runtime").resolve("daemon.sock");
+		final var daemon = new Daemon(socketFile, Duration.ofMillis(500L), Long.MAX_VALUE, REQUEST_HANDLER);
+		final var executorService = Executors.newSingleThreadExecutor();
+		try {
+			final var future = start(executorService, daemon, socketFile);
+			assertThat(forward(socketFile, tmpDirectory.resolve("foo"), "bar", "baz"))
+					.containsExactly("foo bar baz", "érror");
+			assertThat(forward(socketFile, tmpDirectory.resolve("foo")))
+					.containsExactly("foo ", "érror");
+			assertThatIllegalStateException().isThrownBy(daemon::run);
+			future.get(10L, TimeUnit.SECONDS);
+			assertThat(socketFile).doesNotExist();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void testRunMemoryLimit(@TempDir final Path tmpDirectory) throws Exception {
+		final var socketFile = tmpDirectory.resolve("daemon.sock");
+		Files.createFile(socketFile);
+		final var daemon = new Daemon(socketFile, Duration.ofHours(1L), 1L, REQUEST_HANDLER);
+		final var executorService = Executors.newSingleThreadExecutor();
+		try {
+			final var future = start(executorService, daemon, socketFile);
+			assertThat(forward(socketFile, tmpDirectory.resolve("foo"), "bar"))
+					.containsExactly("foo bar", "érror");
+			future.get(10L, TimeUnit.SECONDS);
+			assertThat(socketFile).doesNotExist();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void testRunExistingDirectory(@TempDir final Path tmpDirectory) throws Exception {
+		final var runtimeDirectory = tmpDirectory.resolve("runtime");
+		Files.createDirectory(runtimeDirectory);
+		Files.setPosixFilePermissions(runtimeDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+		final var socketFile = runtimeDirectory.resolve("daemon.sock");
+		final var daemon = new Daemon(socketFile, Duration.ofMillis(100L), Long.MAX_VALUE, REQUEST_HANDLER);
+		final var executorService = Executors.newSingleThreadExecutor();
+		try {
+			final var future = start(executorService, daemon, socketFile);
+			assertThat(Files.getPosixFilePermissions(runtimeDirectory))
+					.isEqualTo(PosixFilePermissions.fromString("rwx------"));
+			future.get(10L, TimeUnit.SECONDS);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	static Future<?> start(
+			final ExecutorService executorService,
+			final Daemon daemon,
+			final Path socketFile
+	) throws IOException, InterruptedException {
+		final var future = executorService.submit(
+				() -> {
+					daemon.run();
+					return null;
+				}
+		);
+		while (!DaemonClient.isListening(socketFile) && !future.isDone()) {
+			Thread.sleep(10L);
+		}
+		return future;
+	}
+
+	private static String[] forward(
+			final Path socketFile,
+			final Path workingDirectory,
+			final String... args
+	) throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+		final var errorStream = new ByteArrayOutputStream();
+		try (
+				var outputPrintStream = new PrintStream(outputStream, true, StandardCharsets.UTF_8);
+				var errorPrintStream = new PrintStream(errorStream, true, StandardCharsets.UTF_8)
+		) {
+			assertThat(DaemonClient.forward(socketFile, workingDirectory, args, outputPrintStream, errorPrintStream))
+					.isTrue();
+		}
+		return new String[] {
+				outputStream.toString(StandardCharsets.UTF_8),
+				errorStream.toString(StandardCharsets.UTF_8)
+		};
+	}
+}
\ No newline at end of file
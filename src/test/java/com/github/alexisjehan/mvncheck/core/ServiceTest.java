@@ -31,9 +31,12 @@ import com.github.alexisjehan.mvncheck.core.component.artifact.version.ArtifactA
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.ArtifactUpdateVersion;
 import com.github.alexisjehan.mvncheck.core.component.artifact.version.resolver.ArtifactAvailableVersionsResolver;
 import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleBuildResolver;
+import com.github.alexisjehan.mvncheck.core.component.build.resolver.GradleConnectionPool;
 import com.github.alexisjehan.mvncheck.core.component.build.resolver.MavenBuildResolver;
 import com.github.alexisjehan.mvncheck.core.component.filter.artifact.ArtifactFilter;
 import com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser.ArtifactFilterParser;
@@ -82,6 +85,69 @@ final class ServiceTest {
 						null
 				)
 		);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Service(
+						null,
+						BuildCache.NONE
+				)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Service(
+						mockedMavenSession,
+						(BuildCache) null
+				)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Service(
+						null,
+						BuildCache.NONE,
+						true
+				)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> new Service(
+						mockedMavenSession,
+						null,
+						true
+				)
+		);
+		try (var gradleConnectionPool = new GradleConnectionPool()) {
+			assertThatNullPointerException().isThrownBy(
+					() -> new Service(
+							null,
+							BuildCache.NONE,
+							true,
+							1,
+							gradleConnectionPool
+					)
+			);
+			assertThatNullPointerException().isThrownBy(
+					() -> new Service(
+							mockedMavenSession,
+							null,
+							true,
+							1,
+							gradleConnectionPool
+					)
+			);
+		}
+		assertThatNullPointerException().isThrownBy(
+				() -> new Service(
+						mockedMavenSession,
+						BuildCache.NONE,
+						true,
+						1,
+						null
+				)
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new Service(
+						mockedMavenSession,
+						BuildCache.NONE,
+						true,
+						0
+				)
+		);
 		assertThatNullPointerException().isThrownBy(
 				() -> new Service(
 						null,
@@ -183,6 +249,70 @@ final class ServiceTest {
 		);
 	}
 
+	@Test
+	void testFindBuildFilesRespectGitignore(@TempDir final Path tmpDirectory) throws IOException {
+		final var service = new Service(mockedMavenSession);
+		final var rootMavenFile = tmpDirectory.resolve(Path.of("pom.xml"));
+		final var rootGitMavenFile = tmpDirectory.resolve(Path.of(".git", "pom.xml"));
+		final var fooMavenFile = tmpDirectory.resolve(Path.of("foo", "pom.xml"));
+		final var fooGradleGroovyFile = tmpDirectory.resolve(Path.of("foo", "build.gradle"));
+		final var fooGradleKotlinFile = tmpDirectory.resolve(Path.of("foo", "build.gradle.kts"));
+		final var foo10MavenFile = tmpDirectory.resolve(Path.of("foo", "10", "pom.xml"));
+		final var foo1GradleGroovyFile = tmpDirectory.resolve(Path.of("foo", "1", "build.gradle"));
+		final var foo2GradleKotlinFile = tmpDirectory.resolve(Path.of("foo", "2", "build.gradle.kts"));
+		final var barMavenFile = tmpDirectory.resolve(Path.of("bar", "pom.xml"));
+		final var bar1GradleGroovyFile = tmpDirectory.resolve(Path.of("bar", "1", "build.gradle"));
+		final var bazGradleKotlinFile = tmpDirectory.resolve(Path.of("baz", "build.gradle.kts"));
+		Stream.of(
+						rootMavenFile,
+						rootGitMavenFile,
+						fooMavenFile,
+						fooGradleGroovyFile,
+						fooGradleKotlinFile,
+						foo10MavenFile,
+						foo1GradleGroovyFile,
+						foo2GradleKotlinFile,
+						barMavenFile,
+						bar1GradleGroovyFile,
+						bazGradleKotlinFile
+				)
+				.forEach(
+						ThrowableConsumer.sneaky(file -> {
+							Files.createDirectories(file.getParent());
+							Files.createFile(file);
+						})
+				);
+		Files.write(tmpDirectory.resolve(".gitignore"), List.of("# Comment", "/bar/", "*.kts"));
+		Files.write(tmpDirectory.resolve(Path.of("foo", ".gitignore")), List.of("!build.gradle.kts", "10/"));
+		assertThat(service.findBuildFiles(tmpDirectory, Integer.MAX_VALUE, false)).containsExactly(
+				new BuildFile(BuildFileType.MAVEN, rootMavenFile),
+				new BuildFile(BuildFileType.MAVEN, rootGitMavenFile),
+				new BuildFile(BuildFileType.MAVEN, barMavenFile),
+				new BuildFile(BuildFileType.GRADLE_GROOVY, bar1GradleGroovyFile),
+				new BuildFile(BuildFileType.GRADLE_KOTLIN, bazGradleKotlinFile),
+				new BuildFile(BuildFileType.GRADLE_GROOVY, fooGradleGroovyFile),
+				new BuildFile(BuildFileType.GRADLE_KOTLIN, fooGradleKotlinFile),
+				new BuildFile(BuildFileType.MAVEN, fooMavenFile),
+				new BuildFile(BuildFileType.GRADLE_GROOVY, foo1GradleGroovyFile),
+				new BuildFile(BuildFileType.GRADLE_KOTLIN, foo2GradleKotlinFile),
+				new BuildFile(BuildFileType.MAVEN, foo10MavenFile)
+		);
+		assertThat(service.findBuildFiles(tmpDirectory, 1, true)).containsExactly(
+				new BuildFile(BuildFileType.MAVEN, rootMavenFile),
+				new BuildFile(BuildFileType.GRADLE_GROOVY, fooGradleGroovyFile),
+				new BuildFile(BuildFileType.GRADLE_KOTLIN, fooGradleKotlinFile),
+				new BuildFile(BuildFileType.MAVEN, fooMavenFile)
+		);
+		assertThat(service.findBuildFiles(tmpDirectory, Integer.MAX_VALUE, true)).containsExactly(
+				new BuildFile(BuildFileType.MAVEN, rootMavenFile),
+				new BuildFile(BuildFileType.GRADLE_GROOVY, fooGradleGroovyFile),
+				new BuildFile(BuildFileType.GRADLE_KOTLIN, fooGradleKotlinFile),
+				new BuildFile(BuildFileType.MAVEN, fooMavenFile),
+				new BuildFile(BuildFileType.GRADLE_GROOVY, foo1GradleGroovyFile),
+				new BuildFile(BuildFileType.GRADLE_KOTLIN, foo2GradleKotlinFile)
+		);
+	}
+
 	@Test
 	void testFindBuildFilesInvalid(@TempDir final Path tmpDirectory) throws IOException {
 		final var service = new Service(mockedMavenSession);
@@ -192,6 +322,12 @@ final class ServiceTest {
 				.isThrownBy(() -> service.findBuildFiles(Path.of("directory_not-found"), 0));
 		assertThatIllegalArgumentException()
 				.isThrownBy(() -> service.findBuildFiles(tmpDirectory, -1));
+		assertThatNullPointerException()
+				.isThrownBy(() -> service.findBuildFiles(null, 0, true));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> service.findBuildFiles(Path.of("directory_not-found"), 0, true));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> service.findBuildFiles(tmpDirectory, -1, true));
 	}
 
 	@Test
@@ -212,6 +348,88 @@ final class ServiceTest {
 		assertThatNullPointerException().isThrownBy(() -> service.filterBuildFiles(Collections.singletonList(null)));
 	}
 
+	@Test
+	void testWarmUpBuilds() throws IOException {
+		Mockito.when(mockedMavenBuildResolver.getFileTypes())
+				.thenCallRealMethod();
+		Mockito.when(mockedGradleBuildResolver.getFileTypes())
+				.thenCallRealMethod();
+		final var mavenBuildFile = new BuildFile(BuildFileType.MAVEN, Path.of("pom.xml"));
+		final var gradleGroovyBuildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, Path.of("build.gradle"));
+		final var gradleKotlinBuildFile = new BuildFile(BuildFileType.GRADLE_KOTLIN, Path.of("build.gradle.kts"));
+		final var service = new Service(
+				Set.of(mockedMavenBuildResolver, mockedGradleBuildResolver),
+				mockedArtifactAvailableVersionsResolver
+		);
+		service.warmUpBuilds(List.of(mavenBuildFile));
+		Mockito.verify(mockedMavenBuildResolver).warmUp(List.of(mavenBuildFile));
+		Mockito.verify(mockedGradleBuildResolver, Mockito.never()).warmUp(Mockito.anyList());
+		service.warmUpBuilds(List.of(mavenBuildFile, gradleGroovyBuildFile, gradleKotlinBuildFile));
+		Mockito.verify(mockedMavenBuildResolver, Mockito.times(2)).warmUp(List.of(mavenBuildFile));
+		Mockito.verify(mockedGradleBuildResolver).warmUp(List.of(gradleGroovyBuildFile, gradleKotlinBuildFile));
+	}
+
+	@Test
+	void testWarmUpBuildsInvalid() throws IOException {
+		final var service = new Service(mockedMavenSession);
+		assertThatNullPointerException().isThrownBy(() -> service.warmUpBuilds(null));
+		assertThatNullPointerException().isThrownBy(() -> service.warmUpBuilds(Collections.singletonList(null)));
+	}
+
+	@Test
+	void testPrepareBuilds() throws IOException {
+		Mockito.when(mockedMavenBuildResolver.getFileTypes())
+				.thenCallRealMethod();
+		Mockito.when(mockedGradleBuildResolver.getFileTypes())
+				.thenCallRealMethod();
+		final var mavenBuildFile = new BuildFile(BuildFileType.MAVEN, Path.of("pom.xml"));
+		final var gradleGroovyBuildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, Path.of("build.gradle"));
+		final var gradleKotlinBuildFile = new BuildFile(BuildFileType.GRADLE_KOTLIN, Path.of("build.gradle.kts"));
+		final var service = new Service(
+				Set.of(mockedMavenBuildResolver, mockedGradleBuildResolver),
+				mockedArtifactAvailableVersionsResolver
+		);
+		service.prepareBuilds(List.of(mavenBuildFile));
+		Mockito.verify(mockedMavenBuildResolver).prepare(List.of(mavenBuildFile));
+		Mockito.verify(mockedGradleBuildResolver, Mockito.never()).prepare(Mockito.anyList());
+		service.prepareBuilds(List.of(mavenBuildFile, gradleGroovyBuildFile, gradleKotlinBuildFile));
+		Mockito.verify(mockedMavenBuildResolver, Mockito.times(2)).prepare(List.of(mavenBuildFile));
+		Mockito.verify(mockedGradleBuildResolver).prepare(List.of(gradleGroovyBuildFile, gradleKotlinBuildFile));
+	}
+
+	@Test
+	void testPrepareBuildsInvalid() throws IOException {
+		final var service = new Service(mockedMavenSession);
+		assertThatNullPointerException().isThrownBy(() -> service.prepareBuilds(null));
+		assertThatNullPointerException().isThrownBy(() -> service.prepareBuilds(Collections.singletonList(null)));
+	}
+
+	@Test
+	void testClose() throws IOException {
+		final var service = new Service(
+				Set.of(mockedMavenBuildResolver, mockedGradleBuildResolver),
+				mockedArtifactAvailableVersionsResolver
+		);
+		service.close();
+		Mockito.verify(mockedMavenBuildResolver).close();
+		Mockito.verify(mockedGradleBuildResolver).close();
+	}
+
+	@Test
+	void testFindCacheStatistics() throws IOException {
+		final var fooCacheStatistics = new CacheStatistics("foo-name", 3L, 1L);
+		final var barCacheStatistics = new CacheStatistics("bar-name", 0L, 0L);
+		Mockito.when(mockedMavenBuildResolver.getCacheStatistics())
+				.thenReturn(List.of(fooCacheStatistics));
+		Mockito.when(mockedGradleBuildResolver.getCacheStatistics())
+				.thenReturn(List.of(barCacheStatistics));
+		final var service = new Service(
+				Set.of(mockedMavenBuildResolver, mockedGradleBuildResolver),
+				mockedArtifactAvailableVersionsResolver
+		);
+		assertThat(service.findCacheStatistics()).containsExactly(barCacheStatistics, fooCacheStatistics);
+	}
+
 	@Test
 	void testFindBuild() throws IOException {
 		Mockito.when(mockedMavenBuildResolver.resolve(Mockito.notNull()))
@@ -485,21 +703,68 @@ final class ServiceTest {
 		}
 	}
 
+	@Test
+	void testFindGlobalIgnoreFiles(@TempDir final Path tmpDirectory) throws IOException {
+		final var userDirectory = Files.createDirectory(tmpDirectory.resolve("user"));
+		final var xdgDirectory1 = Files.createDirectory(tmpDirectory.resolve("xdg1"));
+		final var xdgDirectory2 = Files.createDirectory(tmpDirectory.resolve("xdg2"));
+		try (var mockedStaticSystemUtils = Mockito.mockStatic(SystemUtils.class)) {
+			mockedStaticSystemUtils.when(SystemUtils::getUserHomeDirectory)
+					.thenReturn(userDirectory);
+			mockedStaticSystemUtils.when(SystemUtils::getXdgConfigDirectories)
+					.thenReturn(List.of(xdgDirectory1, xdgDirectory2));
+			assertThat(Service.findGlobalIgnoreFiles()).isEmpty();
+			final var xdgIgnoreFile = Files.createFile(xdgDirectory2.resolve(".mvnchk-ignore"));
+			assertThat(Service.findGlobalIgnoreFiles()).containsExactly(xdgIgnoreFile);
+			final var userIgnoreFile = Files.createFile(userDirectory.resolve(".mvnchk-ignore"));
+			assertThat(Service.findGlobalIgnoreFiles()).containsExactly(userIgnoreFile, xdgIgnoreFile);
+		}
+	}
+
 	@Test
 	void testCreateBuildArtifactFilter(@TempDir final Path tmpDirectory) throws IOException {
 		final var ignoreFile = tmpDirectory.resolve(Path.of(".mvnchk-ignore"));
+		final var service = new Service(mockedMavenSession);
 		try (var mockedStaticArtifactFilterParser = Mockito.mockStatic(ArtifactFilterParser.class)) {
 			mockedStaticArtifactFilterParser.when(() -> ArtifactFilterParser.parse(Mockito.<Path>notNull()))
 					.thenReturn(ArtifactFilter.ACCEPT_NONE);
 			final var buildFile = new BuildFile(BuildFileType.MAVEN, tmpDirectory.resolve("pom.xml"));
-			assertThat(Service.createBuildArtifactFilter(buildFile)).isSameAs(ArtifactFilter.ACCEPT_ALL);
+			assertThat(service.createBuildArtifactFilter(buildFile)).isSameAs(ArtifactFilter.ACCEPT_ALL);
 			Files.createFile(ignoreFile);
-			assertThat(Service.createBuildArtifactFilter(buildFile)).isNotSameAs(ArtifactFilter.ACCEPT_ALL);
+			assertThat(service.createBuildArtifactFilter(buildFile)).isNotSameAs(ArtifactFilter.ACCEPT_ALL);
 		}
 	}
 
 	@Test
-	void testCreateBuildArtifactFilterInvalid() {
-		assertThatNullPointerException().isThrownBy(() -> Service.createBuildArtifactFilter(null));
+	void testCreateBuildArtifactFilterInherited(@TempDir final Path tmpDirectory) throws IOException {
+		Files.createDirectory(tmpDirectory.resolve(".git"));
+		Files.writeString(tmpDirectory.resolve(".mvnchk-ignore"), "foo-group-id");
+		final var tmpModuleDirectory = Files.createDirectory(tmpDirectory.resolve("foo"));
+		Files.writeString(tmpModuleDirectory.resolve(".mvnchk-ignore"), "bar-group-id");
+		final var service = new Service(mockedMavenSession);
+		final var artifactFilter = service.createBuildArtifactFilter(
+				new BuildFile(BuildFileType.MAVEN, tmpModuleDirectory.resolve("pom.xml"))
+		);
+		assertThat(
+				artifactFilter.accept(
+						new Artifact<>(MavenArtifactType.DEPENDENCY, new ArtifactIdentifier("foo-group-id", "foo"))
+				)
+		).isFalse();
+		assertThat(
+				artifactFilter.accept(
+						new Artifact<>(MavenArtifactType.DEPENDENCY, new ArtifactIdentifier("bar-group-id", "bar"))
+				)
+		).isFalse();
+		assertThat(
+				artifactFilter.accept(
+						new Artifact<>(MavenArtifactType.DEPENDENCY, new ArtifactIdentifier("baz-group-id", "baz"))
+				)
+		).isTrue();
+	}
+
+	@Test
+	void testCreateBuildArtifactFilterInvalid() throws IOException {
+		final var service = new Service(mockedMavenSession);
+		assertThatNullPointerException().isThrownBy(() -> service.createBuildArtifactFilter(null));
 	}
 }
\ No newline at end of file
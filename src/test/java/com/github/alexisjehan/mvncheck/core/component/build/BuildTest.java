@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -97,6 +97,8 @@ final class BuildTest {
 				.isThrownBy(() -> new Build(FILE, REPOSITORIES, null));
 		assertThatNullPointerException()
 				.isThrownBy(() -> new Build(FILE, REPOSITORIES, Collections.singletonList(null)));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new Build(null, REPOSITORIES, ARTIFACTS, true));
 	}
 
 	@Test
@@ -127,6 +129,12 @@ final class BuildTest {
 			assertThat(otherBuild).doesNotHaveSameHashCodeAs(build);
 			assertThat(otherBuild).doesNotHaveToString(build.toString());
 		});
+		assertThat(new Build(FILE, REPOSITORIES, ARTIFACTS, true)).satisfies(otherBuild -> {
+			assertThat(otherBuild).isNotSameAs(build);
+			assertThat(otherBuild).isNotEqualTo(build);
+			assertThat(otherBuild).doesNotHaveSameHashCodeAs(build);
+			assertThat(otherBuild).doesNotHaveToString(build.toString());
+		});
 	}
 
 	@Test
@@ -155,4 +163,10 @@ final class BuildTest {
 		final var artifacts = build.getArtifacts();
 		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(artifacts::clear);
 	}
+
+	@Test
+	void testIsApproximate() {
+		assertThat(build.isApproximate()).isFalse();
+		assertThat(new Build(FILE, REPOSITORIES, ARTIFACTS, true).isApproximate()).isTrue();
+	}
 }
\ No newline at end of file
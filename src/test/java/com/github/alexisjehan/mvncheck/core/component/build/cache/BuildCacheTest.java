@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
+
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class BuildCacheTest {
+
+	private static final BuildFile FILE = new BuildFile(BuildFileType.MAVEN, Path.of("pom.xml"));
+
+	private static final Build BUILD = new Build(FILE, List.of(), List.of());
+
+	private static final Set<Path> INPUT_FILES = Set.of(Path.of("pom.xml"));
+
+	private static final String CONTEXT = "foo-context";
+
+	@Test
+	void testNoneRead() {
+		assertThat(BuildCache.NONE.read(FILE, CONTEXT)).isEmpty();
+	}
+
+	@Test
+	void testNoneReadInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> BuildCache.NONE.read(null, CONTEXT));
+		assertThatNullPointerException().isThrownBy(() -> BuildCache.NONE.read(FILE, null));
+	}
+
+	@Test
+	void testNoneWrite() {
+		assertThatNoException().isThrownBy(() -> BuildCache.NONE.write(BUILD, INPUT_FILES, CONTEXT));
+		assertThat(BuildCache.NONE.read(FILE, CONTEXT)).isEmpty();
+	}
+
+	@Test
+	void testNoneWriteInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> BuildCache.NONE.write(null, INPUT_FILES, CONTEXT));
+		assertThatNullPointerException().isThrownBy(() -> BuildCache.NONE.write(BUILD, null, CONTEXT));
+		assertThatNullPointerException()
+				.isThrownBy(() -> BuildCache.NONE.write(BUILD, Collections.singleton(null), CONTEXT));
+		assertThatNullPointerException().isThrownBy(() -> BuildCache.NONE.write(BUILD, INPUT_FILES, null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class CacheStatisticsTest {
+
+	private static final String NAME = "foo-name";
+
+	private static final long HIT_COUNT = 3L;
+
+	private static final long MISS_COUNT = 1L;
+
+	private static final String OTHER_NAME = "bar-name";
+
+	private static final long OTHER_HIT_COUNT = 4L;
+
+	private static final long OTHER_MISS_COUNT = 2L;
+
+	private final CacheStatistics cacheStatistics = new CacheStatistics(NAME, HIT_COUNT, MISS_COUNT);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new CacheStatistics(null, HIT_COUNT, MISS_COUNT));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new CacheStatistics(Strings.EMPTY, HIT_COUNT, MISS_COUNT));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CacheStatistics(NAME, -1L, MISS_COUNT));
+		assertThatIllegalArgumentException().isThrownBy(() -> new CacheStatistics(NAME, HIT_COUNT, -1L));
+	}
+
+	@Test
+	void testEqualsAndHashCodeAndToString() {
+		assertThat(cacheStatistics.equals(cacheStatistics)).isTrue();
+		assertThat(cacheStatistics).isNotEqualTo(new Object());
+		assertThat(new CacheStatistics(NAME, HIT_COUNT, MISS_COUNT)).satisfies(otherCacheStatistics -> {
+			assertThat(otherCacheStatistics).isNotSameAs(cacheStatistics);
+			assertThat(otherCacheStatistics).isEqualTo(cacheStatistics);
+			assertThat(otherCacheStatistics).hasSameHashCodeAs(cacheStatistics);
+			assertThat(otherCacheStatistics).hasToString(cacheStatistics.toString());
+		});
+		assertThat(new CacheStatistics(OTHER_NAME, HIT_COUNT, MISS_COUNT)).satisfies(otherCacheStatistics -> {
+			assertThat(otherCacheStatistics).isNotSameAs(cacheStatistics);
+			assertThat(otherCacheStatistics).isNotEqualTo(cacheStatistics);
+			assertThat(otherCacheStatistics).doesNotHaveSameHashCodeAs(cacheStatistics);
+			assertThat(otherCacheStatistics).doesNotHaveToString(cacheStatistics.toString());
+		});
+		assertThat(new CacheStatistics(NAME, OTHER_HIT_COUNT, MISS_COUNT)).satisfies(otherCacheStatistics -> {
+			assertThat(otherCacheStatistics).isNotSameAs(cacheStatistics);
+			assertThat(otherCacheStatistics).isNotEqualTo(cacheStatistics);
+			assertThat(otherCacheStatistics).doesNotHaveSameHashCodeAs(cacheStatistics);
+			assertThat(otherCacheStatistics).doesNotHaveToString(cacheStatistics.toString());
+		});
+		assertThat(new CacheStatistics(NAME, HIT_COUNT, OTHER_MISS_COUNT)).satisfies(otherCacheStatistics -> {
+			assertThat(otherCacheStatistics).isNotSameAs(cacheStatistics);
+			assertThat(otherCacheStatistics).isNotEqualTo(cacheStatistics);
+			assertThat(otherCacheStatistics).doesNotHaveSameHashCodeAs(cacheStatistics);
+			assertThat(otherCacheStatistics).doesNotHaveToString(cacheStatistics.toString());
+		});
+	}
+
+	@Test
+	void testGetName() {
+		assertThat(cacheStatistics.getName()).isEqualTo(NAME);
+	}
+
+	@Test
+	void testGetHitCount() {
+		assertThat(cacheStatistics.getHitCount()).isEqualTo(HIT_COUNT);
+	}
+
+	@Test
+	void testGetMissCount() {
+		assertThat(cacheStatistics.getMissCount()).isEqualTo(MISS_COUNT);
+	}
+
+	@Test
+	void testGetLookupCount() {
+		assertThat(cacheStatistics.getLookupCount()).isEqualTo(HIT_COUNT + MISS_COUNT);
+	}
+
+	@Test
+	void testGetHitRate() {
+		assertThat(cacheStatistics.getHitRate()).isEqualTo(0.75d);
+		assertThat(new CacheStatistics(NAME, 0L, 0L).getHitRate()).isZero();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.cache;
+
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class FileBuildCacheTest {
+
+	private static final String CONTEXT = "foo-context";
+
+	@Test
+	void testWriteAndRead(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpBuildFile = tmpDirectory.resolve("pom.xml");
+		Files.writeString(tmpBuildFile, "foo");
+		final var tmpParentBuildFile = tmpDirectory.resolve("parent.xml");
+		Files.writeString(tmpParentBuildFile, "bar");
+		final var file = new BuildFile(BuildFileType.MAVEN, tmpBuildFile);
+		final var build = new Build(
+				file,
+				List.of(
+						new Repository(RepositoryType.NORMAL, "foo-repository-id", "https://foo-repository-host"),
+						new Repository(RepositoryType.PLUGIN, "bar-repository-id", "https://bar-repository-host")
+				),
+				List.of(
+						new Artifact<>(
+								MavenArtifactType.DEPENDENCY,
+								new ArtifactIdentifier("foo-group-id", "foo-artifact-id"),
+								"foo-version"
+						),
+						new Artifact<>(
+								MavenArtifactType.PARENT,
+								new ArtifactIdentifier("bar-group-id", "bar-artifact-id"),
+								"bar-version",
+								true
+						),
+						new Artifact<>(
+								GradleArtifactType.IMPLEMENTATION,
+								new ArtifactIdentifier("baz-group-id", "baz-artifact-id")
+						)
+				)
+		);
+		final var fileBuildCache = new FileBuildCache(tmpDirectory.resolve("cache"));
+		assertThat(fileBuildCache.read(file, CONTEXT)).isEmpty();
+		fileBuildCache.write(build, Set.of(tmpBuildFile, tmpParentBuildFile), CONTEXT);
+		assertThat(fileBuildCache.read(file, CONTEXT)).contains(build);
+		assertThat(fileBuildCache.read(file, "bar-context")).isEmpty();
+		assertThat(fileBuildCache.read(new BuildFile(BuildFileType.MAVEN, tmpParentBuildFile), CONTEXT)).isEmpty();
+		Files.writeString(tmpParentBuildFile, "baz");
+		assertThat(fileBuildCache.read(file, CONTEXT)).isEmpty();
+		Files.delete(tmpParentBuildFile);
+		assertThat(fileBuildCache.read(file, CONTEXT)).isEmpty();
+	}
+
+	@Test
+	void testReadCorrupted(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpBuildFile = tmpDirectory.resolve("pom.xml");
+		Files.writeString(tmpBuildFile, "foo");
+		final var file = new BuildFile(BuildFileType.MAVEN, tmpBuildFile);
+		final var fileBuildCache = new FileBuildCache(tmpDirectory.resolve("cache"));
+		fileBuildCache.write(new Build(file, List.of(), List.of()), Set.of(tmpBuildFile), CONTEXT);
+		try (var entryFiles = Files.list(fileBuildCache.getDirectory())) {
+			for (final var entryFile : entryFiles.toList()) {
+				Files.write(entryFile, new byte[] {0, 0, 0, 1, 0});
+			}
+		}
+		assertThat(fileBuildCache.read(file, CONTEXT)).isEmpty();
+	}
+
+	@Test
+	void testReadInvalid(@TempDir final Path tmpDirectory) {
+		final var fileBuildCache = new FileBuildCache(tmpDirectory);
+		final var file = new BuildFile(BuildFileType.MAVEN, tmpDirectory.resolve("pom.xml"));
+		assertThatNullPointerException().isThrownBy(() -> fileBuildCache.read(null, CONTEXT));
+		assertThatNullPointerException().isThrownBy(() -> fileBuildCache.read(file, null));
+	}
+
+	@Test
+	void testWriteInvalid(@TempDir final Path tmpDirectory) {
+		final var fileBuildCache = new FileBuildCache(tmpDirectory);
+		final var file = new BuildFile(BuildFileType.MAVEN, tmpDirectory.resolve("pom.xml"));
+		final var build = new Build(file, List.of(), List.of());
+		final var inputFiles = Set.of(file.getFile());
+		assertThatNullPointerException().isThrownBy(() -> fileBuildCache.write(null, inputFiles, CONTEXT));
+		assertThatNullPointerException().isThrownBy(() -> fileBuildCache.write(build, null, CONTEXT));
+		assertThatNullPointerException()
+				.isThrownBy(() -> fileBuildCache.write(build, Collections.singleton(null), CONTEXT));
+		assertThatNullPointerException().isThrownBy(() -> fileBuildCache.write(build, inputFiles, null));
+	}
+
+	@Test
+	void testGetDirectory(@TempDir final Path tmpDirectory) {
+		assertThat(new FileBuildCache(tmpDirectory).getDirectory()).isEqualTo(tmpDirectory);
+	}
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new FileBuildCache(null));
+	}
+}
\ No newline at end of file
@@ -32,6 +32,7 @@ import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
 import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
 import com.github.alexisjehan.mvncheck.core.util.GradleUtils;
 import org.gradle.tooling.GradleConnector;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIfEnvironmentVariable;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
@@ -54,6 +55,11 @@ final class GradleBuildResolverIT {
 
 	private final GradleBuildResolver gradleBuildResolver = new GradleBuildResolver();
 
+	@AfterEach
+	void tearDown() {
+		gradleBuildResolver.close();
+	}
+
 	@Test
 	void testUpToDate() {
 		assertThat(GradleUtils.VERSION).isEqualTo("9.6.0"); // Ensure tests are up-to-date
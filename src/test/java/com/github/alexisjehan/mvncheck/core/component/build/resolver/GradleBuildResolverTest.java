@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,27 +23,38 @@
  */
 package com.github.alexisjehan.mvncheck.core.component.build.resolver;
 
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
 import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
 import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.FileBuildCache;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
 import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
 import com.github.alexisjehan.mvncheck.core.util.GradleUtils;
+import com.github.alexisjehan.mvncheck.core.util.SystemUtils;
 import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
-import java.io.StringReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -55,6 +66,149 @@ final class GradleBuildResolverTest {
 
 	private final GradleBuildResolver gradleBuildResolver = new GradleBuildResolver();
 
+	@AfterEach
+	void tearDown() {
+		gradleBuildResolver.close();
+	}
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new GradleBuildResolver(null));
+		assertThatNullPointerException().isThrownBy(() -> new GradleBuildResolver(null, 1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new GradleBuildResolver(BuildCache.NONE, 0));
+		assertThatNullPointerException().isThrownBy(() -> new GradleBuildResolver(BuildCache.NONE, 1, null));
+		try (var connectionPool = new GradleConnectionPool(1)) {
+			assertThatNullPointerException().isThrownBy(() -> new GradleBuildResolver(null, connectionPool));
+		}
+		assertThatNullPointerException()
+				.isThrownBy(() -> new GradleBuildResolver(BuildCache.NONE, (GradleConnectionPool) null));
+	}
+
+	@Test
+	void testWarmUp(@TempDir final Path tmpDirectory) throws IOException {
+		final var buildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, tmpDirectory.resolve("build.gradle"));
+		Files.copy(Path.of("src", "test", "resources", "build_foo.gradle"), buildFile.getFile());
+		final var connectionPool = Mockito.spy(new GradleConnectionPool(1));
+		try (
+				connectionPool;
+				var warmedUpGradleBuildResolver = new GradleBuildResolver(BuildCache.NONE, 1, connectionPool)
+		) {
+			warmedUpGradleBuildResolver.warmUp(List.of());
+			warmedUpGradleBuildResolver.warmUp(List.of(buildFile));
+			warmedUpGradleBuildResolver.warmUp(List.of(buildFile));
+		}
+		Mockito.verify(connectionPool, Mockito.times(1)).apply(Mockito.eq(tmpDirectory.toRealPath()), Mockito.any());
+		Mockito.verify(connectionPool).close();
+	}
+
+	@Test
+	void testWarmUpCached(@TempDir final Path tmpDirectory) throws IOException {
+		final var buildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, tmpDirectory.resolve("build.gradle"));
+		Files.copy(Path.of("src", "test", "resources", "build_foo.gradle"), buildFile.getFile());
+		final var buildCache = new FileBuildCache(tmpDirectory.resolve(".cache"));
+		final var connectionPool = Mockito.spy(new GradleConnectionPool(1));
+		try (
+				connectionPool;
+				var warmedUpGradleBuildResolver = new GradleBuildResolver(buildCache, 1, connectionPool)
+		) {
+			warmedUpGradleBuildResolver.resolve(buildFile);
+			warmedUpGradleBuildResolver.warmUp(List.of(buildFile));
+		}
+		Mockito.verify(connectionPool, Mockito.times(1)).apply(Mockito.any(), Mockito.any());
+	}
+
+	@Test
+	void testWarmUpInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> gradleBuildResolver.warmUp(null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> gradleBuildResolver.warmUp(Collections.singletonList(null)));
+	}
+
+	@Test
+	void testPrepare(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpSubDirectory = tmpDirectory.resolve("foo");
+		Files.createDirectory(tmpSubDirectory);
+		Files.copy(
+				Path.of("src", "test", "resources", "settings_foo.gradle"),
+				tmpDirectory.resolve("settings.gradle"),
+				StandardCopyOption.REPLACE_EXISTING
+		);
+		final var buildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, tmpDirectory.resolve("build.gradle"));
+		final var subBuildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, tmpSubDirectory.resolve("build.gradle"));
+		for (final var tmpBuildFile : List.of(buildFile.getFile(), subBuildFile.getFile())) {
+			Files.copy(
+					Path.of("src", "test", "resources", "build_foo.gradle"),
+					tmpBuildFile,
+					StandardCopyOption.REPLACE_EXISTING
+			);
+		}
+		final var connectionPool = Mockito.spy(new GradleConnectionPool(1));
+		try (
+				connectionPool;
+				var preparedGradleBuildResolver = new GradleBuildResolver(BuildCache.NONE, 1, connectionPool)
+		) {
+			preparedGradleBuildResolver.prepare(List.of(buildFile, subBuildFile));
+			final var build = preparedGradleBuildResolver.resolve(buildFile);
+			final var subBuild = preparedGradleBuildResolver.resolve(subBuildFile);
+			Mockito.verify(connectionPool, Mockito.times(1)).apply(Mockito.eq(tmpDirectory.toRealPath()), Mockito.any());
+			assertThat(build.getFile()).isSameAs(buildFile);
+			assertThat(subBuild.getFile()).isSameAs(subBuildFile);
+			assertThat(build.getRepositories()).containsExactly(
+					new Repository(
+							RepositoryType.NORMAL,
+							"MavenRepo",
+							"https://repo.maven.apache.org/maven2/"
+					),
+					new Repository(
+							RepositoryType.NORMAL,
+							"foo-repository-name",
+							"https://foo-repository-host"
+					)
+			);
+			assertThat(subBuild.getRepositories()).isEqualTo(build.getRepositories());
+			assertThat(build.getArtifacts()).hasSize(10);
+			assertThat(subBuild.getArtifacts()).isEqualTo(build.getArtifacts());
+		}
+	}
+
+	@Test
+	void testPrepareParallel(@TempDir final Path tmpDirectory) throws IOException {
+		final var buildFiles = new ArrayList<BuildFile>();
+		for (final var name : List.of("foo", "bar")) {
+			final var tmpBuildDirectory = tmpDirectory.resolve(name);
+			Files.createDirectory(tmpBuildDirectory);
+			final var tmpBuildFile = tmpBuildDirectory.resolve("build.gradle");
+			Files.copy(Path.of("src", "test", "resources", "build_foo.gradle"), tmpBuildFile);
+			buildFiles.add(new BuildFile(BuildFileType.GRADLE_GROOVY, tmpBuildFile));
+		}
+		final var buildCache = new FileBuildCache(tmpDirectory.resolve(".cache"));
+		final var connectionPool = Mockito.spy(new GradleConnectionPool(2));
+		try (
+				connectionPool;
+				var preparedGradleBuildResolver = new GradleBuildResolver(buildCache, 2, connectionPool)
+		) {
+			preparedGradleBuildResolver.prepare(buildFiles);
+			final var build = preparedGradleBuildResolver.resolve(buildFiles.get(0));
+			assertThat(preparedGradleBuildResolver.resolve(buildFiles.get(1)).getArtifacts())
+					.isEqualTo(build.getArtifacts());
+			Mockito.verify(connectionPool, Mockito.times(2)).apply(Mockito.any(), Mockito.any());
+			preparedGradleBuildResolver.prepare(buildFiles);
+			assertThat(preparedGradleBuildResolver.resolve(buildFiles.get(0))).isEqualTo(build);
+			preparedGradleBuildResolver.resolve(buildFiles.get(1));
+			Mockito.verify(connectionPool, Mockito.times(2)).apply(Mockito.any(), Mockito.any());
+		}
+		Mockito.verify(connectionPool).close();
+	}
+
+	@Test
+	void testPrepareInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> gradleBuildResolver.prepare(null));
+		assertThatNullPointerException().isThrownBy(
+				() -> gradleBuildResolver.prepare(Collections.singletonList(null))
+		);
+	}
+
 	@Test
 	void testResolve(@TempDir final Path tmpDirectory) {
 		assertThat(BuildFileType.GRADLE_GROOVY).satisfies(buildFileType -> {
@@ -273,6 +427,70 @@ final class GradleBuildResolverTest {
 		});
 	}
 
+	@Test
+	void testResolveConstraints(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpBuildFile = tmpDirectory.resolve("build.gradle");
+		Files.write(
+				tmpBuildFile,
+				List.of(
+						"plugins {",
+						"\tid 'java-library'",
+						"}",
+						"dependencies {",
+						"\timplementation platform('foo-bom-group-id:foo-bom-artifact-id:foo-bom-version')",
+						"\timplementation 'foo-group-id:foo-artifact-id'",
+						"\tconstraints {",
+						"\t\timplementation 'foo-group-id:foo-artifact-id:foo-version'",
+						"\t\tapi project(':')",
+						"\t}",
+						"}"
+				)
+		);
+		final var build = gradleBuildResolver.resolve(new BuildFile(BuildFileType.GRADLE_GROOVY, tmpBuildFile));
+		assertThat(build.getArtifacts()).containsExactly(
+				new Artifact<>(
+						GradleArtifactType.IMPLEMENTATION,
+						new ArtifactIdentifier("foo-bom-group-id", "foo-bom-artifact-id"),
+						"foo-bom-version"
+				),
+				new Artifact<>(
+						GradleArtifactType.IMPLEMENTATION,
+						new ArtifactIdentifier("foo-group-id", "foo-artifact-id")
+				),
+				new Artifact<>(
+						GradleArtifactType.IMPLEMENTATION,
+						new ArtifactIdentifier("foo-group-id", "foo-artifact-id"),
+						"foo-version"
+				)
+		);
+	}
+
+	@Test
+	void testResolveCache(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpBuildDirectory = tmpDirectory.resolve("foo");
+		Files.createDirectory(tmpBuildDirectory);
+		final var tmpBuildFile = tmpBuildDirectory.resolve("build.gradle");
+		Files.copy(Path.of("src", "test", "resources", "build_foo.gradle"), tmpBuildFile);
+		final var buildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, tmpBuildFile);
+		final var buildCache = new FileBuildCache(tmpDirectory.resolve("cache"));
+		final Build build;
+		try (var cachingGradleBuildResolver = new GradleBuildResolver(buildCache)) {
+			build = cachingGradleBuildResolver.resolve(buildFile);
+		}
+		assertThat(tmpDirectory.resolve("cache")).isNotEmptyDirectory();
+		try (var mockedStaticGradleConnector = Mockito.mockStatic(GradleConnector.class)) {
+			assertThat(new GradleBuildResolver(buildCache).resolve(buildFile)).isEqualTo(build);
+			mockedStaticGradleConnector.verifyNoInteractions();
+		}
+		Files.writeString(tmpBuildDirectory.resolve("gradle.properties"), "foo=bar");
+		try (var mockedStaticGradleConnector = Mockito.mockStatic(GradleConnector.class)) {
+			final var gradleBuildResolver = new GradleBuildResolver(buildCache);
+			assertThatExceptionOfType(NullPointerException.class)
+					.isThrownBy(() -> gradleBuildResolver.resolve(buildFile));
+			mockedStaticGradleConnector.verify(GradleConnector::newConnector);
+		}
+	}
+
 	@Test
 	void testResolveInvalid(@TempDir final Path tmpDirectory) {
 		assertThatNullPointerException().isThrownBy(() -> gradleBuildResolver.resolve(null));
@@ -344,6 +562,14 @@ final class GradleBuildResolverTest {
 		}
 	}
 
+	@Test
+	void testCloseSharedConnectionPool() {
+		try (var connectionPool = Mockito.spy(new GradleConnectionPool(1))) {
+			new GradleBuildResolver(BuildCache.NONE, connectionPool).close();
+			Mockito.verify(connectionPool, Mockito.never()).close();
+		}
+	}
+
 	@Test
 	void testGetFileTypes() {
 		assertThat(gradleBuildResolver.getFileTypes()).contains(
@@ -353,528 +579,277 @@ final class GradleBuildResolverTest {
 	}
 
 	@Test
-	void testParseRepositories() throws IOException {
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"\n"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseRepositories(bufferedReader)).isEmpty();
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :repositories\n"
-										+ "NORMAL:foo-repository-name:https://foo-repository-host\n"
-										+ "PLUGIN:foo-plugin-repository-name:https://foo-plugin-repository-host"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseRepositories(bufferedReader)).containsExactly(
-					new Repository(
-							RepositoryType.NORMAL,
-							"foo-repository-name",
-							"https://foo-repository-host"
-					),
-					new Repository(
-							RepositoryType.PLUGIN,
-							"foo-plugin-repository-name",
-							"https://foo-plugin-repository-host"
-					)
-			);
+	void testWriteSharedInitFile(@TempDir final Path tmpDirectory) throws IOException {
+		final var initFile = GradleBuildResolver.writeSharedInitFile(tmpDirectory);
+		assertThat(initFile.getParent()).isEqualTo(tmpDirectory);
+		assertThat(initFile.getFileName().toString()).matches("mvncheck-init-[0-9a-f]{64}\\.gradle");
+		assertThat(initFile).hasSameBinaryContentAs(Path.of("src", "main", "resources", "init.gradle"));
+		final var lastModifiedTime = Files.getLastModifiedTime(initFile);
+		assertThat(GradleBuildResolver.writeSharedInitFile(tmpDirectory)).isEqualTo(initFile);
+		assertThat(Files.getLastModifiedTime(initFile)).isEqualTo(lastModifiedTime);
+		Files.writeString(initFile, "foo");
+		assertThat(GradleBuildResolver.writeSharedInitFile(tmpDirectory)).isEqualTo(initFile);
+		assertThat(initFile).hasSameBinaryContentAs(Path.of("src", "main", "resources", "init.gradle"));
+		Files.setPosixFilePermissions(initFile, PosixFilePermissions.fromString("rw-rw-rw-"));
+		assertThat(GradleBuildResolver.writeSharedInitFile(tmpDirectory)).isEqualTo(initFile);
+		assertThat(SystemUtils.isUserFile(initFile)).isTrue();
+		assertThat(Files.getPosixFilePermissions(tmpDirectory)).isEqualTo(PosixFilePermissions.fromString("rwx------"));
+		try (var stream = Files.list(tmpDirectory)) {
+			assertThat(stream).containsExactly(initFile);
 		}
 	}
 
 	@Test
-	void testParseRepositoriesInvalid() throws IOException {
-		assertThatNullPointerException()
-				.isThrownBy(() -> GradleBuildResolver.parseRepositories(null));
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :repositories\n"
-										+ "NORMAL:foo-repository-name"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseRepositories(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :repositories\n"
-										+ "UNKNOWN:foo-repository-name:https://foo-repository-host"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseRepositories(bufferedReader));
-		}
+	void testWriteSharedInitFileInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> GradleBuildResolver.writeSharedInitFile(null));
 	}
 
 	@Test
-	void testParseArtifacts() throws IOException {
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"\n"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).isEmpty();
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "api - API dependencies for source set 'main'. (n)"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).isEmpty();
+	void testComputeCacheContext(@TempDir final Path tmpDirectory) throws IOException {
+		Files.writeString(tmpDirectory.resolve("settings.gradle"), "include 'foo'");
+		Files.createDirectories(tmpDirectory.resolve("foo"));
+		Files.writeString(tmpDirectory.resolve(Path.of("foo", "build.gradle")), "foo");
+		final var cacheContext = GradleBuildResolver.computeCacheContext(tmpDirectory);
+		assertThat(cacheContext).isPresent();
+		assertThat(GradleBuildResolver.computeCacheContext(tmpDirectory)).isEqualTo(cacheContext);
+		Files.createDirectories(tmpDirectory.resolve(Path.of("foo", "build")));
+		Files.writeString(tmpDirectory.resolve(Path.of("foo", "build", "build.gradle")), "foo");
+		Files.writeString(tmpDirectory.resolve(Path.of("foo", "Foo.java")), "foo");
+		assertThat(GradleBuildResolver.computeCacheContext(tmpDirectory)).isEqualTo(cacheContext);
+		Files.writeString(tmpDirectory.resolve(Path.of("foo", "build.gradle")), "bar");
+		assertThat(GradleBuildResolver.computeCacheContext(tmpDirectory)).isPresent().isNotEqualTo(cacheContext);
+	}
+
+	@Test
+	void testComputeCacheContextBuildLogic(@TempDir final Path tmpDirectory) throws IOException {
+		Files.writeString(tmpDirectory.resolve("settings.gradle"), "includeBuild 'build-logic'");
+		final var sourceFile = tmpDirectory.resolve(Path.of("build-logic", "src", "main", "kotlin", "Foo.kt"));
+		Files.createDirectories(sourceFile.getParent());
+		Files.writeString(sourceFile, "foo");
+		final var cacheContext = GradleBuildResolver.computeCacheContext(tmpDirectory);
+		assertThat(cacheContext).isPresent();
+		Files.writeString(sourceFile, "bar");
+		assertThat(GradleBuildResolver.computeCacheContext(tmpDirectory)).isPresent().isNotEqualTo(cacheContext);
+	}
+
+	@Test
+	void testComputeCacheContextUserHome(@TempDir final Path tmpDirectory) throws IOException {
+		final var userHomeDirectory = tmpDirectory.resolve("user-home");
+		final var rootDirectory = tmpDirectory.resolve("root");
+		Files.createDirectories(rootDirectory);
+		Files.writeString(rootDirectory.resolve("build.gradle"), "foo");
+		try (var mockedStaticGradleUtils = Mockito.mockStatic(GradleUtils.class)) {
+			mockedStaticGradleUtils.when(GradleUtils::retrieveUserHome)
+					.thenReturn(userHomeDirectory);
+			mockedStaticGradleUtils.when(GradleUtils::retrieveOptionalHome)
+					.thenReturn(Optional.empty());
+			final var cacheContext = GradleBuildResolver.computeCacheContext(rootDirectory);
+			assertThat(cacheContext).isPresent();
+			Files.createDirectories(userHomeDirectory.resolve("init.d"));
+			Files.writeString(userHomeDirectory.resolve(Path.of("init.d", "foo.gradle")), "foo");
+			assertThat(GradleBuildResolver.computeCacheContext(rootDirectory)).isPresent().isNotEqualTo(cacheContext);
 		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "api - API dependencies for source set 'main'. (n)"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).isEmpty();
+	}
+
+	@Test
+	void testComputeCacheContextExternalIncludedBuild(@TempDir final Path tmpDirectory) throws IOException {
+		Files.writeString(tmpDirectory.resolve("settings.gradle.kts"), "includeBuild(\"../foo\")");
+		assertThat(GradleBuildResolver.computeCacheContext(tmpDirectory)).isEmpty();
+	}
+
+	@Test
+	void testComputeCacheContextInvalid(@TempDir final Path tmpDirectory) {
+		assertThat(GradleBuildResolver.computeCacheContext(tmpDirectory.resolve("directory_not-found"))).isEmpty();
+	}
+
+	@Test
+	void testFindInputFiles(@TempDir final Path tmpDirectory) throws IOException {
+		for (final var path : List.of(
+				Path.of("settings.gradle.kts"),
+				Path.of("gradle.properties"),
+				Path.of("gradle", "libs.versions.toml"),
+				Path.of("gradle", "wrapper", "gradle-wrapper.properties"),
+				Path.of("gradle", "wrapper", "gradle-wrapper.jar"),
+				Path.of("foo", "build.gradle"),
+				Path.of("foo", "foo.gradle"),
+				Path.of("foo", "src", "Foo.java"),
+				Path.of("foo", "build", "build.gradle"),
+				Path.of(".gradle", "foo.gradle")
+		)) {
+			final var file = tmpDirectory.resolve(path);
+			Files.createDirectories(file.getParent());
+			Files.createFile(file);
 		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "api - API dependencies for source set 'main'. (n)\n"
-										+ "No dependencies\n"
-										+ "\n"
-										+ "apiElements - API elements for main. (n)"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).isEmpty();
+		assertThat(GradleBuildResolver.findInputFiles(tmpDirectory, List.of())).containsExactly(
+				tmpDirectory.resolve(Path.of("foo", "build.gradle")),
+				tmpDirectory.resolve(Path.of("foo", "foo.gradle")),
+				tmpDirectory.resolve(Path.of("gradle.properties")),
+				tmpDirectory.resolve(Path.of("gradle", "libs.versions.toml")),
+				tmpDirectory.resolve(Path.of("gradle", "wrapper", "gradle-wrapper.properties")),
+				tmpDirectory.resolve(Path.of("settings.gradle.kts"))
+		);
+	}
+
+	@Test
+	void testFindInputFilesSkipped(@TempDir final Path tmpDirectory) throws IOException {
+		for (final var path : List.of(
+				Path.of("settings.gradle"),
+				Path.of("buildSrc", "build.gradle"),
+				Path.of("buildSrc", "src", "main", "groovy", "Foo.groovy"),
+				Path.of("build-logic", "settings.gradle"),
+				Path.of("build-logic", "src", "main", "java", "Foo.java"),
+				Path.of("foo", "build.gradle"),
+				Path.of("foo", "src", "main", "kotlin", "Foo.kt"),
+				Path.of("foo", "node_modules", "bar", "build.gradle"),
+				Path.of("nested", "settings.gradle"),
+				Path.of("nested", "build.gradle")
+		)) {
+			final var file = tmpDirectory.resolve(path);
+			Files.createDirectories(file.getParent());
+			Files.createFile(file);
 		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "api - API dependencies for source set 'main'. (n)\n"
-										+ "No dependencies\n"
-										+ "\n"
-										+ "apiElements - API elements for main. (n)"
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).isEmpty();
+		assertThat(
+				GradleBuildResolver.findInputFiles(tmpDirectory, List.of(tmpDirectory.resolve("build-logic")))
+		).containsExactly(
+				tmpDirectory.resolve(Path.of("build-logic", "settings.gradle")),
+				tmpDirectory.resolve(Path.of("build-logic", "src", "main", "java", "Foo.java")),
+				tmpDirectory.resolve(Path.of("buildSrc", "build.gradle")),
+				tmpDirectory.resolve(Path.of("buildSrc", "src", "main", "groovy", "Foo.groovy")),
+				tmpDirectory.resolve(Path.of("foo", "build.gradle")),
+				tmpDirectory.resolve(Path.of("settings.gradle"))
+		);
+	}
+
+	@Test
+	void testFindInputFilesWithoutSettingsFile(@TempDir final Path tmpDirectory) throws IOException {
+		for (final var path : List.of(
+				Path.of("build.gradle"),
+				Path.of("gradle", "libs.versions.toml"),
+				Path.of("buildSrc", "build.gradle"),
+				Path.of("foo", "build.gradle")
+		)) {
+			final var file = tmpDirectory.resolve(path);
+			Files.createDirectories(file.getParent());
+			Files.createFile(file);
 		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "api - API dependencies for source set 'main'. (n)\n"
-										+ "No dependencies\n"
-										+ "\n"
-										+ "apiElements - API elements for main. (n)\n"
-										+ "No dependencies\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id FAILED\n"
-										+ "|    \\--- bar-compile-only-group-id:bar-compile-only-artifact-id FAILED\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version (n)\n"
-										+ "|    \\--- bar-compile-only-group-id:bar-compile-only-artifact-id:"
-										+ "bar-compile-only-version (n)\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id -> "
-										+ "foo-compile-only-resolved-version\n"
-										+ "|    \\--- bar-compile-only-group-id:bar-compile-only-artifact-id -> "
-										+ "bar-compile-only-resolved-version\n"
-										+ "\\--- foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version -> foo-compile-only-resolved-version (c)\n"
-										+ "     \\--- bar-compile-only-group-id:bar-compile-only-artifact-id:"
-										+ "bar-compile-only-version -> bar-compile-only-resolved-version (c)\n"
-										+ "\n"
-										+ "(c) - dependency constraint\n"
-										+ "\n"
-										+ "(n) - Not resolved (configuration is not meant to be resolved)\n"
-										+ "\n"
-										+ "A web-based, searchable dependency report is available by adding the --scan "
-										+ "option."
-						)
-				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).containsExactly(
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							)
-					),
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							),
-							"foo-compile-only-version"
-					),
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							),
-							"foo-compile-only-resolved-version"
-					),
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							),
-							"foo-compile-only-version"
-					)
-			);
+		assertThat(GradleBuildResolver.findInputFiles(tmpDirectory, List.of())).containsExactly(
+				tmpDirectory.resolve(Path.of("build.gradle")),
+				tmpDirectory.resolve(Path.of("buildSrc", "build.gradle")),
+				tmpDirectory.resolve(Path.of("gradle", "libs.versions.toml"))
+		);
+	}
+
+	@Test
+	void testFindIncludedBuildDirectories(@TempDir final Path tmpDirectory) throws IOException {
+		assertThat(GradleBuildResolver.findIncludedBuildDirectories(tmpDirectory)).contains(List.of());
+		Files.writeString(
+				tmpDirectory.resolve("settings.gradle.kts"),
+				"pluginManagement {\n\tincludeBuild(\"build-logic\")\n}\nincludeBuild(\"./foo\")\n"
+		);
+		assertThat(GradleBuildResolver.findIncludedBuildDirectories(tmpDirectory)).contains(
+				List.of(tmpDirectory.resolve("build-logic"), tmpDirectory.resolve("foo"))
+		);
+		Files.writeString(tmpDirectory.resolve("settings.gradle.kts"), "includeBuild(\"../foo\")");
+		assertThat(GradleBuildResolver.findIncludedBuildDirectories(tmpDirectory)).isEmpty();
+		Files.writeString(tmpDirectory.resolve("settings.gradle.kts"), "includeBuild(file(\"foo\"))");
+		assertThat(GradleBuildResolver.findIncludedBuildDirectories(tmpDirectory)).isEmpty();
+		Files.writeString(tmpDirectory.resolve("settings.gradle.kts"), "includeBuild(\"$foo\")");
+		assertThat(GradleBuildResolver.findIncludedBuildDirectories(tmpDirectory)).isEmpty();
+	}
+
+	@Test
+	void testFindUserInputFiles(@TempDir final Path tmpDirectory) throws IOException {
+		assertThat(GradleBuildResolver.findUserInputFiles(tmpDirectory.resolve("directory_not-found"))).isEmpty();
+		for (final var path : List.of(
+				Path.of("gradle.properties"),
+				Path.of("init.gradle.kts"),
+				Path.of("init.d", "foo.gradle"),
+				Path.of("init.d", "foo.txt"),
+				Path.of("caches", "foo.gradle")
+		)) {
+			final var file = tmpDirectory.resolve(path);
+			Files.createDirectories(file.getParent());
+			Files.createFile(file);
 		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "api - API dependencies for source set 'main'. (n)\n"
-										+ "No dependencies\n"
-										+ "\n"
-										+ "apiElements - API elements for main. (n)\n"
-										+ "No dependencies\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id FAILED\n"
-										+ "|    \\--- bar-compile-only-group-id:bar-compile-only-artifact-id FAILED\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version (n)\n"
-										+ "|    \\--- bar-compile-only-group-id:bar-compile-only-artifact-id:"
-										+ "bar-compile-only-version (n)\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id -> "
-										+ "foo-compile-only-resolved-version\n"
-										+ "|    \\--- bar-compile-only-group-id:bar-compile-only-artifact-id -> "
-										+ "bar-compile-only-resolved-version\n"
-										+ "\\--- foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version -> foo-compile-only-resolved-version (c)\n"
-										+ "     \\--- bar-compile-only-group-id:bar-compile-only-artifact-id:"
-										+ "bar-compile-only-version -> bar-compile-only-resolved-version (c)\n"
-										+ "\n"
-										+ "(c) - dependency constraint\n"
-										+ "\n"
-										+ "(n) - Not resolved (configuration is not meant to be resolved)\n"
-										+ "\n"
-										+ "A web-based, searchable dependency report is available by adding the --scan "
-										+ "option."
+		assertThat(GradleBuildResolver.findUserInputFiles(tmpDirectory)).containsExactly(
+				tmpDirectory.resolve("gradle.properties"),
+				tmpDirectory.resolve("init.gradle.kts"),
+				tmpDirectory.resolve(Path.of("init.d", "foo.gradle"))
+		);
+	}
+
+	@Test
+	void testParseModel() {
+		final var repositoryModel = Mockito.mock(GradleBuildModel.RepositoryModel.class);
+		Mockito.when(repositoryModel.getRepositoryType())
+				.thenReturn("NORMAL");
+		Mockito.when(repositoryModel.getId())
+				.thenReturn("foo-repository-name");
+		Mockito.when(repositoryModel.getUrl())
+				.thenReturn("https://foo-repository-host");
+		final var artifactModel = Mockito.mock(GradleBuildModel.ArtifactModel.class);
+		Mockito.when(artifactModel.getConfiguration())
+				.thenReturn("api");
+		Mockito.when(artifactModel.getGroupId())
+				.thenReturn("foo-api-group-id");
+		Mockito.when(artifactModel.getArtifactId())
+				.thenReturn("foo-api-artifact-id");
+		Mockito.when(artifactModel.getVersion())
+				.thenReturn("foo-api-version");
+		final var unknownArtifactModel = Mockito.mock(GradleBuildModel.ArtifactModel.class);
+		Mockito.when(unknownArtifactModel.getConfiguration())
+				.thenReturn("foo");
+		final var projectModel = Mockito.mock(GradleBuildModel.ProjectModel.class);
+		Mockito.when(projectModel.getDirectory())
+				.thenReturn(new File("foo-directory"));
+		Mockito.when(projectModel.getRepositories())
+				.thenReturn(List.of(repositoryModel));
+		Mockito.when(projectModel.getArtifacts())
+				.thenReturn(List.of(artifactModel, unknownArtifactModel));
+		final var model = Mockito.mock(GradleBuildModel.class);
+		Mockito.when(model.getProjects())
+				.thenReturn(List.of(projectModel));
+		assertThat(GradleBuildResolver.parseModel(model)).containsExactly(
+				Map.entry(
+						Path.of("foo-directory"),
+						Pair.of(
+								List.of(
+										new Repository(
+												RepositoryType.NORMAL,
+												"foo-repository-name",
+												"https://foo-repository-host"
+										)
+								),
+								List.of(
+										new Artifact<>(
+												GradleArtifactType.API,
+												new ArtifactIdentifier(
+														"foo-api-group-id",
+														"foo-api-artifact-id"
+												),
+												"foo-api-version"
+										)
+								)
 						)
 				)
-		) {
-			assertThat(GradleBuildResolver.parseArtifacts(bufferedReader)).containsExactly(
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							)
-					),
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							),
-							"foo-compile-only-version"
-					),
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							),
-							"foo-compile-only-resolved-version"
-					),
-					new Artifact<>(
-							GradleArtifactType.COMPILE_ONLY,
-							new ArtifactIdentifier(
-									"foo-compile-only-group-id",
-									"foo-compile-only-artifact-id"
-							),
-							"foo-compile-only-version"
-					)
-			);
-		}
+		);
 	}
 
 	@Test
-	void testParseArtifactsInvalid() throws IOException {
+	void testParseModelInvalid() {
 		assertThatNullPointerException()
-				.isThrownBy(() -> GradleBuildResolver.parseArtifacts(null));
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project" // Until Gradle 6.7
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'" // Since Gradle 6.8
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "???? foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version (n)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "???? foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version (n)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id (n)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id (n)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version:foo-compile-only-resolved-version (n)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id:"
-										+ "foo-compile-only-version:foo-compile-only-resolved-version (n)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project\n" // Until Gradle 6.7
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id -> "
-										+ "foo-compile-only-version -> foo-compile-only-resolved-version (c)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
-		try (
-				var bufferedReader = new BufferedReader(
-						new StringReader(
-								"> Task :dependencies\n"
-										+ "\n"
-										+ "------------------------------------------------------------\n"
-										+ "Root project 'foo-project'\n" // Since Gradle 6.8
-										+ "------------------------------------------------------------\n"
-										+ "\n"
-										+ "compileOnly - Compile only dependencies for source set 'main'.\n"
-										+ "+--- foo-compile-only-group-id:foo-compile-only-artifact-id -> "
-										+ "foo-compile-only-version -> foo-compile-only-resolved-version (c)"
-						)
-				)
-		) {
-			assertThatExceptionOfType(BuildResolveException.class)
-					.isThrownBy(() -> GradleBuildResolver.parseArtifacts(bufferedReader));
-		}
+				.isThrownBy(() -> GradleBuildResolver.parseModel(null));
+		final var repositoryModel = Mockito.mock(GradleBuildModel.RepositoryModel.class);
+		Mockito.when(repositoryModel.getRepositoryType())
+				.thenReturn("UNKNOWN");
+		final var projectModel = Mockito.mock(GradleBuildModel.ProjectModel.class);
+		Mockito.when(projectModel.getRepositories())
+				.thenReturn(List.of(repositoryModel));
+		final var model = Mockito.mock(GradleBuildModel.class);
+		Mockito.when(model.getProjects())
+				.thenReturn(List.of(projectModel));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> GradleBuildResolver.parseModel(model));
 	}
 
 	@Test
@@ -1141,6 +1116,60 @@ final class GradleBuildResolverTest {
 		);
 	}
 
+	@Test
+	void testFilterArtifactsLarge() {
+		final var artifactTypes = GradleArtifactType.values();
+		final var random = new Random(0L);
+		final var list = Stream.generate(
+						() -> new Artifact<>(
+								artifactTypes[random.nextInt(artifactTypes.length)],
+								new ArtifactIdentifier(
+										"foo-group-id",
+										"foo-artifact-id-" + random.nextInt(2_000)
+								),
+								"foo-version-" + random.nextInt(2)
+						)
+				)
+				.limit(10_000L)
+				.toList();
+		assertThat(GradleBuildResolver.filterArtifacts(list)).isEqualTo(filterArtifactsQuadratically(list));
+	}
+
+	private static List<Artifact<GradleArtifactType>> filterArtifactsQuadratically(
+			final List<Artifact<GradleArtifactType>> list
+	) {
+		final var artifacts = new ArrayList<>(list);
+		final var classpathArtifactTypes = List.of(
+				GradleArtifactType.COMPILE_CLASSPATH,
+				GradleArtifactType.RUNTIME_CLASSPATH,
+				GradleArtifactType.TEST_COMPILE_CLASSPATH,
+				GradleArtifactType.TEST_RUNTIME_CLASSPATH
+		);
+		artifacts.stream()
+				.filter(artifact -> !artifact.getType().isClasspath())
+				.toList()
+				.forEach(artifact -> classpathArtifactTypes.forEach(type -> artifacts.remove(artifact.withType(type))));
+		for (var level = 0; level < classpathArtifactTypes.size(); ++level) {
+			final var artifactType = classpathArtifactTypes.get(level);
+			final var lowerArtifactTypes = classpathArtifactTypes.subList(level + 1, classpathArtifactTypes.size());
+			artifacts.stream()
+					.filter(artifact -> artifactType == artifact.getType())
+					.toList()
+					.forEach(artifact -> lowerArtifactTypes.forEach(type -> artifacts.remove(artifact.withType(type))));
+		}
+		return artifacts.stream()
+				.map(
+						artifact -> switch (artifact.getType()) {
+							case COMPILE_CLASSPATH -> artifact.withType(GradleArtifactType.IMPLEMENTATION);
+							case RUNTIME_CLASSPATH -> artifact.withType(GradleArtifactType.RUNTIME_ONLY);
+							case TEST_COMPILE_CLASSPATH -> artifact.withType(GradleArtifactType.TEST_IMPLEMENTATION);
+							case TEST_RUNTIME_CLASSPATH -> artifact.withType(GradleArtifactType.TEST_RUNTIME_ONLY);
+							default -> artifact;
+						}
+				)
+				.toList();
+	}
+
 	@Test
 	void testFilterArtifactsInvalid() {
 		assertThatNullPointerException()
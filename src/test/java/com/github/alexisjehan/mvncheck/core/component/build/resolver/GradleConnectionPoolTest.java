@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.mvncheck.core.util.GradleUtils;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class GradleConnectionPoolTest {
+
+	private final GradleConnector mockedGradleConnector = Mockito.mock(GradleConnector.class);
+
+	private final ProjectConnection mockedProjectConnection = Mockito.mock(ProjectConnection.class);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> new GradleConnectionPool(0));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new GradleConnectionPool(1, null));
+	}
+
+	@Test
+	void testApply() {
+		Mockito.when(mockedGradleConnector.forProjectDirectory(Mockito.notNull()))
+				.thenReturn(mockedGradleConnector);
+		Mockito.when(mockedGradleConnector.connect())
+				.thenReturn(mockedProjectConnection);
+		try (
+				var mockedStaticGradleUtils = Mockito.mockStatic(GradleUtils.class);
+				var connectionPool = new GradleConnectionPool(1, () -> mockedGradleConnector)
+		) {
+			mockedStaticGradleUtils.when(GradleUtils::retrieveOptionalHome)
+					.thenReturn(Optional.of("foo-installation"));
+			assertThat(connectionPool.<Object>apply(Path.of("foo"), connection -> connection))
+					.isSameAs(mockedProjectConnection);
+			Mockito.verify(mockedGradleConnector).forProjectDirectory(Path.of("foo").toAbsolutePath().toFile());
+			Mockito.verify(mockedGradleConnector).useInstallation(Path.of("foo-installation").toFile());
+			Mockito.verify(mockedProjectConnection).close();
+			Mockito.verify(mockedGradleConnector, Mockito.never()).disconnect();
+		}
+		Mockito.verify(mockedGradleConnector).disconnect();
+	}
+
+	@Test
+	void testApplyConcurrent() {
+		Mockito.when(mockedGradleConnector.forProjectDirectory(Mockito.notNull()))
+				.thenReturn(mockedGradleConnector);
+		Mockito.when(mockedGradleConnector.connect())
+				.thenReturn(mockedProjectConnection);
+		final var concurrentCount = new AtomicInteger();
+		final var maxConcurrentCount = new AtomicInteger();
+		try (var connectionPool = new GradleConnectionPool(2, () -> mockedGradleConnector)) {
+			CompletableFuture.allOf(
+					IntStream.range(0, 8)
+							.mapToObj(
+									i -> CompletableFuture.runAsync(
+											() -> connectionPool.apply(Path.of("foo"), connection -> {
+												maxConcurrentCount.accumulateAndGet(
+														concurrentCount.incrementAndGet(),
+														Math::max
+												);
+												try {
+													Thread.sleep(50L);
+												} catch (final InterruptedException e) {
+													Thread.currentThread().interrupt();
+												}
+												return concurrentCount.decrementAndGet();
+											})
+									)
+							)
+							.toArray(CompletableFuture[]::new)
+			).join();
+		}
+		assertThat(maxConcurrentCount).hasValueBetween(1, 2);
+		Mockito.verify(mockedGradleConnector).forProjectDirectory(Mockito.notNull());
+		Mockito.verify(mockedGradleConnector).disconnect();
+	}
+
+	@Test
+	void testApplyReuse() {
+		final var otherMockedGradleConnector = Mockito.mock(GradleConnector.class);
+		Mockito.when(mockedGradleConnector.forProjectDirectory(Mockito.notNull()))
+				.thenReturn(mockedGradleConnector);
+		Mockito.when(mockedGradleConnector.connect())
+				.thenReturn(mockedProjectConnection);
+		Mockito.when(otherMockedGradleConnector.forProjectDirectory(Mockito.notNull()))
+				.thenReturn(otherMockedGradleConnector);
+		Mockito.when(otherMockedGradleConnector.connect())
+				.thenReturn(mockedProjectConnection);
+		final var connectors = new ArrayDeque<>(List.of(mockedGradleConnector, otherMockedGradleConnector));
+		try (var connectionPool = new GradleConnectionPool(1, connectors::remove)) {
+			connectionPool.apply(Path.of("foo"), connection -> connection);
+			connectionPool.apply(Path.of("foo", "..", "foo"), connection -> connection);
+			connectionPool.apply(Path.of("bar"), connection -> connection);
+			Mockito.verify(mockedGradleConnector).forProjectDirectory(Path.of("foo").toAbsolutePath().toFile());
+			Mockito.verify(mockedGradleConnector, Mockito.times(2)).connect();
+			Mockito.verify(otherMockedGradleConnector).forProjectDirectory(Path.of("bar").toAbsolutePath().toFile());
+			Mockito.verify(otherMockedGradleConnector).connect();
+		}
+		Mockito.verify(mockedGradleConnector).disconnect();
+		Mockito.verify(otherMockedGradleConnector).disconnect();
+	}
+
+	@Test
+	void testApplyInvalid() {
+		try (var connectionPool = new GradleConnectionPool(1)) {
+			assertThatNullPointerException()
+					.isThrownBy(() -> connectionPool.apply(null, connection -> connection));
+			assertThatNullPointerException()
+					.isThrownBy(() -> connectionPool.apply(Path.of("foo"), null));
+		}
+	}
+}
\ No newline at end of file
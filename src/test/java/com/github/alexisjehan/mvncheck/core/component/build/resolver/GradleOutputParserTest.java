@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class GradleOutputParserTest {
+
+	private static final String OUTPUT = "> Task :repositories\n"
+			+ "DIRECTORY:foo-directory\n"
+			+ "{\"type\":\"repository\",\"repositoryType\":\"NORMAL\","
+			+ "\"id\":\"foo-repository-name\",\"url\":\"https://foo-repository-host\"}\n"
+			+ "{\"type\":\"artifact\",\"configuration\":\"api\","
+			+ "\"groupId\":\"foo-api-group-id\",\"artifactId\":\"foo-api-artifact-id\","
+			+ "\"version\":\"foo-api-version\"}\r\n"
+			+ "{\"type\":\"artifact\",\"configuration\":\"foo\","
+			+ "\"groupId\":\"foo-group-id\",\"artifactId\":\"foo-artifact-id\","
+			+ "\"version\":\"foo-version\"}\n"
+			+ "\n"
+			+ "> Task :foo\n"
+			+ "{\"type\":\"repository\",\"repositoryType\":\"NORMAL\","
+			+ "\"id\":\"foo\",\"url\":\"https://foo\"}\n"
+			+ "\n"
+			+ "> Task :bar:repositories\n"
+			+ "DIRECTORY:foo-directory/bar-directory\n"
+			+ "{\"type\":\"repository\",\"repositoryType\":\"PLUGIN\","
+			+ "\"id\":\"bar-plugin-repository-name\",\"url\":\"https://bar-plugin-repository-host\"}\n"
+			+ "{\"type\":\"artifact\",\"configuration\":\"implementation\","
+			+ "\"groupId\":\"bar-implementation-group-id\","
+			+ "\"artifactId\":\"bar-implementation-artifact-id\",\"version\":null}";
+
+	private static final Map<Path, Pair<List<Repository>, List<Artifact<GradleArtifactType>>>> PROJECTS = Map.of(
+			Path.of("foo-directory"),
+			Pair.of(
+					List.of(
+							new Repository(
+									RepositoryType.NORMAL,
+									"foo-repository-name",
+									"https://foo-repository-host"
+							)
+					),
+					List.of(
+							new Artifact<>(
+									GradleArtifactType.API,
+									new ArtifactIdentifier(
+											"foo-api-group-id",
+											"foo-api-artifact-id"
+									),
+									"foo-api-version"
+							)
+					)
+			),
+			Path.of("foo-directory", "bar-directory"),
+			Pair.of(
+					List.of(
+							new Repository(
+									RepositoryType.PLUGIN,
+									"bar-plugin-repository-name",
+									"https://bar-plugin-repository-host"
+							)
+					),
+					List.of(
+							new Artifact<>(
+									GradleArtifactType.IMPLEMENTATION,
+									new ArtifactIdentifier(
+											"bar-implementation-group-id",
+											"bar-implementation-artifact-id"
+									)
+							)
+					)
+			)
+	);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new GradleOutputParser(null));
+	}
+
+	@Test
+	void testWrite() {
+		final var bytes = OUTPUT.getBytes(StandardCharsets.UTF_8);
+		try (var outputParser = new GradleOutputParser(StandardCharsets.UTF_8)) {
+			for (final var b : bytes) {
+				outputParser.write(b);
+			}
+			assertThat(outputParser.getProjects()).isEqualTo(PROJECTS);
+		}
+		try (var outputParser = new GradleOutputParser(StandardCharsets.UTF_8)) {
+			outputParser.write(bytes, 0, bytes.length);
+			assertThat(outputParser.getProjects()).isEqualTo(PROJECTS);
+		}
+		for (final var chunkLength : new int[] {1, 7, 64, 1_000}) {
+			try (var outputParser = new GradleOutputParser(StandardCharsets.UTF_8)) {
+				for (var offset = 0; offset < bytes.length; offset += chunkLength) {
+					outputParser.write(bytes, offset, Math.min(chunkLength, bytes.length - offset));
+				}
+				assertThat(outputParser.getProjects()).isEqualTo(PROJECTS);
+			}
+		}
+	}
+
+	@Test
+	void testWriteInvalid() {
+		try (var outputParser = new GradleOutputParser()) {
+			assertThatNullPointerException()
+					.isThrownBy(() -> outputParser.write(null, 0, 0));
+			assertThatExceptionOfType(IllegalArgumentException.class)
+					.isThrownBy(() -> outputParser.write(new byte[1], -1, 0));
+			assertThatExceptionOfType(IllegalArgumentException.class)
+					.isThrownBy(() -> outputParser.write(new byte[1], 0, 2));
+		}
+	}
+
+	@Test
+	void testParseLine() {
+		try (var outputParser = new GradleOutputParser()) {
+			outputParser.parseLine("{\"type\":\"repository\"}");
+			outputParser.parseLine("> Task :repositories");
+			outputParser.parseLine("DIRECTORY:foo-directory");
+			outputParser.parseLine("NORMAL:foo-repository-name:https://foo-repository-host");
+			outputParser.parseLine("{\"type\":\"foo\"}");
+			assertThat(outputParser.getProjects()).containsExactly(
+					Map.entry(
+							Path.of("foo-directory"),
+							Pair.of(List.of(), List.of())
+					)
+			);
+		}
+	}
+
+	@Test
+	void testParseLineInvalid() {
+		try (var outputParser = new GradleOutputParser()) {
+			assertThatNullPointerException()
+					.isThrownBy(() -> outputParser.parseLine(null));
+			outputParser.parseLine("> Task :repositories");
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(() -> outputParser.parseLine("NORMAL:foo-repository-name:https://foo-repository-host"));
+			outputParser.parseLine("DIRECTORY:foo-directory");
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(() -> outputParser.parseLine(
+							"{\"type\":\"repository\",\"repositoryType\":\"NORMAL\",\"id\":\"foo-repository-name\"}"
+					));
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(() -> outputParser.parseLine(
+							"{\"type\":\"repository\",\"repositoryType\":\"UNKNOWN\","
+									+ "\"id\":\"foo-repository-name\",\"url\":\"https://foo-repository-host\"}"
+					));
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(() -> outputParser.parseLine(
+							"{\"type\":\"artifact\",\"configuration\":\"api\",\"groupId\":\"foo-api-group-id\"}"
+					));
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(() -> outputParser.parseLine("{\"type\":\"artifact\""));
+		}
+	}
+
+	@Test
+	void testGetProjects() {
+		try (var outputParser = new GradleOutputParser()) {
+			assertThat(outputParser.getProjects()).isEmpty();
+		}
+	}
+
+	@Test
+	void testGetProjectsInvalid() {
+		try (var outputParser = new GradleOutputParser(StandardCharsets.UTF_8)) {
+			final var bytes = ("> Task :repositories\n"
+					+ "NORMAL:foo-repository-name:https://foo-repository-host\n"
+					+ "DIRECTORY:foo-directory\n").getBytes(StandardCharsets.UTF_8);
+			outputParser.write(bytes, 0, bytes.length);
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(outputParser::getProjects);
+		}
+		try (var outputParser = new GradleOutputParser(StandardCharsets.UTF_8)) {
+			final var bytes = "> Task :repositories".getBytes(StandardCharsets.UTF_8);
+			outputParser.write(bytes, 0, bytes.length);
+			assertThatExceptionOfType(BuildResolveException.class)
+					.isThrownBy(outputParser::getProjects);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class GradleVersionCatalogReaderTest {
+
+	private static final Path FILE = Path.of("src", "test", "resources", "libs_static.versions.toml");
+
+	private static final Pair<ArtifactIdentifier, String> FOO_BAR = Pair.of(
+			new ArtifactIdentifier("foo-bar-group-id", "foo-bar-artifact-id"),
+			"foo-version"
+	);
+
+	private static final Pair<ArtifactIdentifier, String> FOO_BAZ = Pair.of(
+			new ArtifactIdentifier("foo-baz-group-id", "foo-baz-artifact-id"),
+			"foo-baz-version"
+	);
+
+	private static final Pair<ArtifactIdentifier, String> FOO_QUX = Pair.of(
+			new ArtifactIdentifier("foo-qux-group-id", "foo-qux-artifact-id"),
+			"foo-qux-version"
+	);
+
+	private final GradleVersionCatalogReader gradleVersionCatalogReader = new GradleVersionCatalogReader();
+
+	@Test
+	void testRead() {
+		assertThat(gradleVersionCatalogReader.read(FILE)).containsOnly(
+				Map.entry("foo.bar", List.of(FOO_BAR)),
+				Map.entry("foo.baz", List.of(FOO_BAZ)),
+				Map.entry("foo.qux", List.of(FOO_QUX)),
+				Map.entry("bundles.foo", List.of(FOO_BAZ, FOO_QUX))
+		);
+	}
+
+	@Test
+	void testReadSkipped(@TempDir final Path tmpDirectory) throws IOException {
+		assertThat(gradleVersionCatalogReader.read(tmpDirectory.resolve("libs_not-found.versions.toml"))).isEmpty();
+		final var tmpFile = tmpDirectory.resolve("libs.versions.toml");
+		Files.writeString(tmpFile, "[libraries");
+		assertThat(gradleVersionCatalogReader.read(tmpFile)).isEmpty();
+		Files.writeString(
+				tmpFile,
+				String.join(
+						"\n",
+						"[versions]",
+						"foo = { prefer = \"foo-version\" }",
+						"",
+						"[libraries]",
+						"foo = { module = \"foo-group-id:foo-artifact-id\", version.ref = \"foo\" }",
+						"bar = { module = \"bar-group-id\" }",
+						"baz = \"baz-group-id:baz-artifact-id\"",
+						"",
+						"[bundles]",
+						"foo = [\"foo\", \"baz\"]",
+						"baz = [\"baz\"]"
+				)
+		);
+		assertThat(gradleVersionCatalogReader.read(tmpFile)).containsOnly(
+				Map.entry("baz", List.of(Pair.of(new ArtifactIdentifier("baz-group-id", "baz-artifact-id"), null))),
+				Map.entry(
+						"bundles.baz",
+						List.of(Pair.of(new ArtifactIdentifier("baz-group-id", "baz-artifact-id"), null))
+				)
+		);
+	}
+
+	@Test
+	void testReadInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> gradleVersionCatalogReader.read(null));
+	}
+
+	@Test
+	void testToAccessor() {
+		assertThat(GradleVersionCatalogReader.toAccessor("foo-bar_baz.qux")).isEqualTo("foo.bar.baz.qux");
+	}
+
+	@Test
+	void testParse() {
+		assertThat(
+				GradleVersionCatalogReader.parse(
+						String.join(
+								"\n",
+								"# A comment",
+								"[foo]",
+								"\"bar\" = 'bar-value' # Another comment",
+								"baz = [",
+								"\t\"baz-value\",",
+								"]"
+						)
+				)
+		).containsOnly(
+				Map.entry("", Map.of()),
+				Map.entry("foo", Map.of("bar", "'bar-value'", "baz", "[ \"baz-value\", ]"))
+		);
+	}
+
+	@Test
+	void testParseInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> GradleVersionCatalogReader.parse("[foo"));
+		assertThatIllegalArgumentException().isThrownBy(() -> GradleVersionCatalogReader.parse("foo = [bar"));
+		assertThatIllegalArgumentException().isThrownBy(() -> GradleVersionCatalogReader.parse("foo"));
+	}
+
+	@Test
+	void testParseInlineTable() {
+		assertThat(GradleVersionCatalogReader.parseInlineTable("{ foo = \"foo-value\", bar = { baz = 'baz-value' } }"))
+				.containsOnly(
+						Map.entry("foo", "foo-value"),
+						Map.entry("bar.baz", "baz-value")
+				);
+		assertThat(GradleVersionCatalogReader.parseInlineTable("\"foo\"")).isNull();
+		assertThat(GradleVersionCatalogReader.parseInlineTable("{ foo }")).isNull();
+		assertThat(GradleVersionCatalogReader.parseInlineTable("{ foo = 1 }")).isNull();
+	}
+
+	@Test
+	void testParseArray() {
+		assertThat(GradleVersionCatalogReader.parseArray("[\"foo\", 'bar', ]")).containsExactly("foo", "bar");
+		assertThat(GradleVersionCatalogReader.parseArray("\"foo\"")).isNull();
+		assertThat(GradleVersionCatalogReader.parseArray("[1]")).isNull();
+	}
+
+	@Test
+	void testParseString() {
+		assertThat(GradleVersionCatalogReader.parseString("\"foo\\\"bar\"")).isEqualTo("foo\"bar");
+		assertThat(GradleVersionCatalogReader.parseString("'foo\\bar'")).isEqualTo("foo\\bar");
+		assertThat(GradleVersionCatalogReader.parseString("\"foo'")).isNull();
+		assertThat(GradleVersionCatalogReader.parseString("1")).isNull();
+	}
+}
\ No newline at end of file
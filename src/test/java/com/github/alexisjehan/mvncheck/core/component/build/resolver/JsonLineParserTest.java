@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class JsonLineParserTest {
+
+	@Test
+	void testIsObject() {
+		assertThat(JsonLineParser.isObject("{}")).isTrue();
+		assertThat(JsonLineParser.isObject("{\"foo-name\":\"foo-value\"}")).isTrue();
+		assertThat(JsonLineParser.isObject("")).isFalse();
+		assertThat(JsonLineParser.isObject("> Task :repositories")).isFalse();
+	}
+
+	@Test
+	void testIsObjectInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> JsonLineParser.isObject(null));
+	}
+
+	@Test
+	void testParse() {
+		assertThat(JsonLineParser.parse("{}")).isEmpty();
+		assertThat(JsonLineParser.parse(" { } ")).isEmpty();
+		assertThat(JsonLineParser.parse("{\"foo-name\":\"foo-value\",\"bar-name\":null}")).satisfies(values -> {
+			assertThat(values.keySet()).containsExactly("foo-name", "bar-name");
+			assertThat(values).containsEntry("foo-name", "foo-value");
+			assertThat(values).containsEntry("bar-name", null);
+		});
+		assertThat(JsonLineParser.parse(" { \"foo-name\" : \"foo-value\" , \"bar-name\" : null } ")).satisfies(values -> {
+			assertThat(values.keySet()).containsExactly("foo-name", "bar-name");
+			assertThat(values).containsEntry("foo-name", "foo-value");
+			assertThat(values).containsEntry("bar-name", null);
+		});
+		assertThat(JsonLineParser.parse("{\"foo-name\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\"}")).containsExactly(
+				Map.entry("foo-name", "\"\\/\b\f\n\r\t\u00e9")
+		);
+		assertThat(JsonLineParser.parse("{\"foo-name\":\"\"}")).containsExactly(
+				Map.entry("foo-name", "")
+		);
+		assertThat(JsonLineParser.parse("{\"foo-name\":\"foo-value\"}")).isEqualTo(
+				Collections.singletonMap("foo-name", "foo-value")
+		);
+	}
+
+	@Test
+	void testParseInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> JsonLineParser.parse(null));
+		assertThatExceptionOfType(BuildResolveException.class).isThrownBy(() -> JsonLineParser.parse(""));
+		assertThatExceptionOfType(BuildResolveException.class).isThrownBy(() -> JsonLineParser.parse("{"));
+		assertThatExceptionOfType(BuildResolveException.class).isThrownBy(() -> JsonLineParser.parse("{}}"));
+		assertThatExceptionOfType(BuildResolveException.class).isThrownBy(() -> JsonLineParser.parse("{foo-name}"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\"}"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":1}"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":\"foo-value\""));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":\"foo-value\";}"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":\"foo-value"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":\"\\x\"}"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":\"\\u00\"}"));
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> JsonLineParser.parse("{\"foo-name\":\"\\u00zz\"}"));
+	}
+}
\ No newline at end of file
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2022-2025 Alexis Jehan
+ * Copyright (c) 2022-2026 Alexis Jehan
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -26,21 +26,34 @@ package com.github.alexisjehan.mvncheck.core.component.build.resolver;
 import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
 import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.BuildCache;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.FileBuildCache;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
 import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
 import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
 import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
 import com.github.alexisjehan.mvncheck.core.component.session.MavenSession;
 import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.project.PublicReactorModelPool;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,11 +65,205 @@ final class MavenBuildResolverTest {
 	@Test
 	void testConstructorInvalid() {
 		assertThatNullPointerException().isThrownBy(() -> new MavenBuildResolver(null));
+		assertThatNullPointerException().isThrownBy(() -> new MavenBuildResolver(null, BuildCache.NONE));
+		assertThatNullPointerException().isThrownBy(() -> new MavenBuildResolver(mockedMavenSession, null));
+		assertThatNullPointerException().isThrownBy(() -> new MavenBuildResolver(null, BuildCache.NONE, 1));
+		assertThatNullPointerException().isThrownBy(() -> new MavenBuildResolver(mockedMavenSession, null, 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new MavenBuildResolver(mockedMavenSession, BuildCache.NONE, 0));
 	}
 
 	@Test
-	void testResolve() {
+	void testPrepare(@TempDir final Path tmpDirectory) throws IOException {
+		final var mavenBuildResolver = new MavenBuildResolver(new MavenSession());
+		final var tmpParentDirectory = tmpDirectory.resolve("parent");
+		Files.createDirectory(tmpParentDirectory);
+		final var tmpParentFile = tmpParentDirectory.resolve("pom.xml");
+		Files.copy(Path.of("src", "test", "resources", "pom_foo_parent.xml"), tmpParentFile);
+		final var tmpChildDirectory = tmpDirectory.resolve("child");
+		Files.createDirectory(tmpChildDirectory);
+		final var tmpChildFile = tmpChildDirectory.resolve("pom.xml");
+		Files.copy(Path.of("src", "test", "resources", "pom_foo.xml"), tmpChildFile);
+		final var tmpErrorFile = tmpDirectory.resolve("pom.xml");
+		Files.copy(Path.of("src", "test", "resources", "pom_error.xml"), tmpErrorFile);
+		final var parentBuildFile = new BuildFile(BuildFileType.MAVEN, tmpParentFile);
+		final var childBuildFile = new BuildFile(BuildFileType.MAVEN, tmpChildFile);
+		final var errorBuildFile = new BuildFile(BuildFileType.MAVEN, tmpErrorFile);
+		mavenBuildResolver.prepare(List.of(errorBuildFile, childBuildFile, parentBuildFile));
+		assertThat(mavenBuildResolver.resolve(childBuildFile)).satisfies(build -> {
+			assertThat(build.getFile()).isSameAs(childBuildFile);
+			assertThat(build.getArtifacts()).contains(
+					new Artifact<>(
+							MavenArtifactType.PARENT,
+							new ArtifactIdentifier(
+									"foo-parent-group-id",
+									"foo-parent-artifact-id"
+							),
+							"foo-parent-version"
+					),
+					new Artifact<>(
+							MavenArtifactType.DEPENDENCY,
+							new ArtifactIdentifier(
+									"foo-parent-dependency-management-dependency-group-id",
+									"foo-parent-dependency-management-dependency-artifact-id"
+							),
+							"foo-parent-dependency-management-dependency-version",
+							true
+					)
+			);
+		});
+		assertThat(mavenBuildResolver.resolve(parentBuildFile).getFile()).isSameAs(parentBuildFile);
+		assertThatExceptionOfType(BuildResolveException.class)
+				.isThrownBy(() -> mavenBuildResolver.resolve(errorBuildFile))
+				.withCauseInstanceOf(ModelBuildingException.class);
+	}
+
+	@Test
+	void testPrepareParallel(@TempDir final Path tmpDirectory) throws IOException {
+		final var buildFiles = new ArrayList<BuildFile>();
+		final var tmpParentFile = tmpDirectory.resolve("pom.xml");
+		Files.copy(Path.of("src", "test", "resources", "pom_foo_parent.xml"), tmpParentFile);
+		buildFiles.add(new BuildFile(BuildFileType.MAVEN, tmpParentFile));
+		for (var i = 0; i < 16; ++i) {
+			final var tmpChildDirectory = tmpDirectory.resolve("child" + i);
+			Files.createDirectory(tmpChildDirectory);
+			final var tmpChildFile = tmpChildDirectory.resolve("pom.xml");
+			Files.copy(Path.of("src", "test", "resources", "pom_foo.xml"), tmpChildFile);
+			buildFiles.add(new BuildFile(BuildFileType.MAVEN, tmpChildFile));
+		}
+		final var sequentialMavenBuildResolver = new MavenBuildResolver(new MavenSession(), BuildCache.NONE, 1);
+		sequentialMavenBuildResolver.prepare(buildFiles);
+		final var sequentialBuilds = buildFiles.stream()
+				.map(sequentialMavenBuildResolver::resolve)
+				.toList();
+		final var parallelMavenBuildResolver = new MavenBuildResolver(new MavenSession(), BuildCache.NONE, 8);
+		parallelMavenBuildResolver.prepare(buildFiles);
+		final var parallelBuilds = buildFiles.stream()
+				.map(parallelMavenBuildResolver::resolve)
+				.toList();
+		assertThat(parallelBuilds).isEqualTo(sequentialBuilds);
+		assertThat(parallelBuilds.subList(1, parallelBuilds.size())).allSatisfy(
+				build -> assertThat(build.getArtifacts()).contains(
+						new Artifact<>(
+								MavenArtifactType.DEPENDENCY,
+								new ArtifactIdentifier(
+										"foo-parent-dependency-management-dependency-group-id",
+										"foo-parent-dependency-management-dependency-artifact-id"
+								),
+								"foo-parent-dependency-management-dependency-version",
+								true
+						)
+				)
+		);
+	}
+
+	@Test
+	void testResolveCache(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpParentFile = tmpDirectory.resolve("pom_foo_parent.xml");
+		Files.copy(Path.of("src", "test", "resources", "pom_foo_parent.xml"), tmpParentFile);
+		final var tmpChildFile = tmpDirectory.resolve("pom.xml");
+		Files.copy(Path.of("src", "test", "resources", "pom_foo.xml"), tmpChildFile);
+		final var childBuildFile = new BuildFile(BuildFileType.MAVEN, tmpChildFile);
+		final var buildCache = new FileBuildCache(tmpDirectory.resolve("cache"));
+		final var build = new MavenBuildResolver(new MavenSession(), buildCache).resolve(childBuildFile);
+		assertThat(tmpDirectory.resolve("cache")).isNotEmptyDirectory();
+		assertThat(new MavenBuildResolver(mockedMavenSession, buildCache).resolve(childBuildFile)).isEqualTo(build);
+	}
+
+	@Test
+	void testResolveSimple(@TempDir final Path tmpDirectory) throws IOException {
+		final var content = Files.readString(Path.of("src", "test", "resources", "pom_simple.xml"));
+		final var tmpSimpleDirectory = tmpDirectory.resolve("simple");
+		Files.createDirectory(tmpSimpleDirectory);
+		final var tmpSimpleFile = tmpSimpleDirectory.resolve("pom.xml");
+		Files.writeString(tmpSimpleFile, content);
+		final var tmpInterpolatedDirectory = tmpDirectory.resolve("interpolated");
+		Files.createDirectory(tmpInterpolatedDirectory);
+		final var tmpInterpolatedFile = tmpInterpolatedDirectory.resolve("pom.xml");
+		Files.writeString(
+				tmpInterpolatedFile,
+				content.replace(
+						"<version>foo-dependency-version</version>",
+						"<version>${foo-dependency-version-property}</version>"
+				).replace(
+						"<properties>",
+						"<properties><foo-dependency-version-property>foo-dependency-version</foo-dependency-version-property>"
+				)
+		);
+		final var simpleBuild = new MavenBuildResolver(mockedMavenSession)
+				.resolve(new BuildFile(BuildFileType.MAVEN, tmpSimpleFile));
+		final var interpolatedBuild = new MavenBuildResolver(new MavenSession())
+				.resolve(new BuildFile(BuildFileType.MAVEN, tmpInterpolatedFile));
+		assertThat(simpleBuild.getRepositories()).isEqualTo(interpolatedBuild.getRepositories());
+		assertThat(simpleBuild.getArtifacts()).isEqualTo(interpolatedBuild.getArtifacts());
+	}
+
+	@Test
+	void testGetCacheStatistics(@TempDir final Path tmpDirectory) throws IOException {
+		final var mavenBuildResolver = new MavenBuildResolver(new MavenSession());
+		assertThat(mavenBuildResolver.getCacheStatistics()).singleElement().satisfies(
+				cacheStatistics -> assertThat(cacheStatistics.getLookupCount()).isZero()
+		);
+		Files.copy(
+				Path.of("src", "test", "resources", "pom_foo_parent.xml"),
+				tmpDirectory.resolve("pom_foo_parent.xml")
+		);
+		for (var i = 0; i < 2; ++i) {
+			final var tmpChildDirectory = tmpDirectory.resolve("child" + i);
+			Files.createDirectory(tmpChildDirectory);
+			final var tmpChildFile = tmpChildDirectory.resolve("pom.xml");
+			Files.writeString(
+					tmpChildFile,
+					Files.readString(Path.of("src", "test", "resources", "pom_foo.xml"))
+							.replace("pom_foo_parent.xml", "../pom_foo_parent.xml")
+			);
+			mavenBuildResolver.resolve(new BuildFile(BuildFileType.MAVEN, tmpChildFile));
+		}
+		assertThat(mavenBuildResolver.getCacheStatistics()).singleElement().satisfies(
+				cacheStatistics -> assertThat(cacheStatistics.getHitCount()).isPositive()
+		);
+	}
+
+	@Test
+	void testPreparePrefetch(@TempDir final Path tmpDirectory) throws IOException, ArtifactResolutionException {
+		Mockito.when(mockedMavenSession.getModelPool())
+				.thenReturn(new PublicReactorModelPool());
+		final var tmpFile = tmpDirectory.resolve("pom.xml");
+		Files.writeString(
+				tmpFile,
+				Files.readString(Path.of("src", "test", "resources", "pom_foo.xml"))
+						.replace("<relativePath>pom_foo_parent.xml</relativePath>", "<relativePath/>")
+						.replace(
+								"<version>foo-dependency-management-dependency-version</version>",
+								"<version>foo-dependency-management-dependency-version</version><scope>import</scope>"
+						)
+		);
+		new MavenBuildResolver(mockedMavenSession).prepare(List.of(new BuildFile(BuildFileType.MAVEN, tmpFile)));
+		Mockito.verify(mockedMavenSession, Mockito.timeout(10_000L)).requestArtifact(
+				Mockito.argThat(
+						request -> "foo-parent-artifact-id".equals(request.getArtifact().getArtifactId())
+				)
+		);
+		Mockito.verify(mockedMavenSession, Mockito.timeout(10_000L)).requestArtifact(
+				Mockito.argThat(
+						request -> "foo-dependency-management-dependency-artifact-id".equals(
+								request.getArtifact().getArtifactId()
+						)
+				)
+		);
+	}
+
+	@Test
+	void testPrepareInvalid() {
 		final var mavenBuildResolver = new MavenBuildResolver(mockedMavenSession);
+		assertThatNullPointerException().isThrownBy(() -> mavenBuildResolver.prepare(null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> mavenBuildResolver.prepare(Collections.singletonList(null)));
+	}
+
+	@Test
+	void testResolve() {
+		final var mavenBuildResolver = new MavenBuildResolver(new MavenSession());
 		assertThat(
 				new BuildFile(
 						BuildFileType.MAVEN,
@@ -290,9 +497,50 @@ final class MavenBuildResolverTest {
 		});
 	}
 
+	@Test
+	void testResolveManyArtifacts(@TempDir final Path tmpDirectory) throws IOException {
+		final var mavenBuildResolver = new MavenBuildResolver(new MavenSession());
+		final var count = 1_000;
+		final var builder = new StringBuilder()
+				.append("<project>")
+				.append("<modelVersion>4.0.0</modelVersion>")
+				.append("<groupId>foo-group-id</groupId>")
+				.append("<artifactId>foo-artifact-id</artifactId>")
+				.append("<version>foo-version</version>")
+				.append("<dependencyManagement><dependencies>");
+		for (var i = 0; i < count; ++i) {
+			builder.append("<dependency>")
+					.append("<groupId>foo-group-id</groupId>")
+					.append("<artifactId>foo-artifact-id-").append(i).append("</artifactId>")
+					.append("<version>foo-version-").append(i).append("</version>")
+					.append("</dependency>");
+		}
+		builder.append("</dependencies></dependencyManagement><dependencies>");
+		for (var i = 0; i < count; ++i) {
+			builder.append("<dependency>")
+					.append("<groupId>foo-group-id</groupId>")
+					.append("<artifactId>foo-artifact-id-").append(i).append("</artifactId>")
+					.append("</dependency>");
+		}
+		builder.append("</dependencies></project>");
+		final var tmpFile = tmpDirectory.resolve("pom.xml");
+		Files.writeString(tmpFile, builder);
+		final var artifacts = mavenBuildResolver.resolve(new BuildFile(BuildFileType.MAVEN, tmpFile)).getArtifacts();
+		assertThat(artifacts).hasSize(2 * count);
+		for (var i = 0; i < count; ++i) {
+			final var identifier = new ArtifactIdentifier("foo-group-id", "foo-artifact-id-" + i);
+			assertThat(artifacts.get(i)).isEqualTo(
+					new Artifact<>(MavenArtifactType.DEPENDENCY_MANAGEMENT_DEPENDENCY, identifier, "foo-version-" + i)
+			);
+			assertThat(artifacts.get(count + i)).isEqualTo(
+					new Artifact<>(MavenArtifactType.DEPENDENCY, identifier, "foo-version-" + i, true)
+			);
+		}
+	}
+
 	@Test
 	void testResolveInvalid() {
-		final var mavenBuildResolver = new MavenBuildResolver(mockedMavenSession);
+		final var mavenBuildResolver = new MavenBuildResolver(new MavenSession());
 		assertThatNullPointerException().isThrownBy(() -> mavenBuildResolver.resolve(null));
 		assertThat(
 				new BuildFile(
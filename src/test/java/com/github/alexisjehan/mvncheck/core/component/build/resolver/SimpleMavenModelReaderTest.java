@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class SimpleMavenModelReaderTest {
+
+	private static final Path SIMPLE_FILE = Path.of("src", "test", "resources", "pom_simple.xml");
+
+	private final SimpleMavenModelReader simpleMavenModelReader = new SimpleMavenModelReader();
+
+	@Test
+	void testRead() {
+		assertThat(simpleMavenModelReader.read(SIMPLE_FILE)).hasValueSatisfying(model -> {
+			assertThat(model.getGroupId()).isEqualTo("foo-group-id");
+			assertThat(model.getArtifactId()).isEqualTo("foo-artifact-id");
+			assertThat(model.getVersion()).isEqualTo("foo-version");
+			assertThat(model.getRepositories()).hasSize(1);
+			assertThat(model.getPluginRepositories()).hasSize(1);
+			assertThat(model.getDependencyManagement().getDependencies()).hasSize(1);
+			assertThat(model.getDependencies()).hasSize(1);
+			assertThat(model.getBuild().getExtensions()).hasSize(1);
+			assertThat(model.getBuild().getPluginManagement().getPlugins()).hasSize(1);
+			assertThat(model.getBuild().getPlugins()).singleElement().satisfies(plugin -> {
+				assertThat(plugin.getGroupId()).isEqualTo("org.apache.maven.plugins");
+				assertThat(plugin.getDependencies()).hasSize(1);
+			});
+			assertThat(model.getReporting().getPlugins()).hasSize(1);
+			assertThat(model.getProfiles()).singleElement().satisfies(profile -> {
+				assertThat(profile.getDependencyManagement().getDependencies()).hasSize(1);
+				assertThat(profile.getDependencies()).hasSize(1);
+				assertThat(profile.getBuild().getPluginManagement().getPlugins()).hasSize(1);
+				assertThat(profile.getBuild().getPlugins()).hasSize(1);
+				assertThat(profile.getReporting().getPlugins()).hasSize(1);
+			});
+		});
+		assertThat(simpleMavenModelReader.read(Path.of("src", "test", "resources", "pom_empty.xml"))).isPresent();
+	}
+
+	@Test
+	void testReadNotSimple(@TempDir final Path tmpDirectory) throws IOException {
+		assertThat(simpleMavenModelReader.read(Path.of("src", "test", "resources", "pom_foo.xml"))).isEmpty();
+		assertThat(simpleMavenModelReader.read(Path.of("src", "test", "resources", "pom_error.xml"))).isEmpty();
+		assertThat(simpleMavenModelReader.read(tmpDirectory.resolve("pom_not-found.xml"))).isEmpty();
+		final var content = Files.readString(SIMPLE_FILE);
+		final var tmpFile = tmpDirectory.resolve("pom.xml");
+		Files.writeString(
+				tmpFile,
+				content.replace("<version>foo-dependency-version</version>", "<version>${foo-property}</version>")
+		);
+		assertThat(simpleMavenModelReader.read(tmpFile)).isEmpty();
+		Files.writeString(
+				tmpFile,
+				content.replace("<version>foo-dependency-version</version>", Strings.EMPTY)
+		);
+		assertThat(simpleMavenModelReader.read(tmpFile)).isEmpty();
+		Files.writeString(
+				tmpFile,
+				content.replace("<version>foo-dependency-version</version>", "<version> </version>")
+		);
+		assertThat(simpleMavenModelReader.read(tmpFile)).isEmpty();
+		Files.writeString(
+				tmpFile,
+				content.replace(
+						"<version>foo-dependency-management-dependency-version</version>",
+						"<version>foo-dependency-management-dependency-version</version><scope>import</scope>"
+				)
+		);
+		assertThat(simpleMavenModelReader.read(tmpFile)).isEmpty();
+		Files.writeString(
+				tmpFile,
+				content.replace(
+						"<id>foo-profile-id</id>",
+						"<id>foo-profile-id</id><repositories/>"
+				)
+		);
+		assertThat(simpleMavenModelReader.read(tmpFile)).isEmpty();
+		Files.writeString(
+				tmpFile,
+				content.replace("<modelVersion>4.0.0</modelVersion>", "<modelVersion>4.1.0</modelVersion>")
+		);
+		assertThat(simpleMavenModelReader.read(tmpFile)).isEmpty();
+	}
+
+	@Test
+	void testReadInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> simpleMavenModelReader.read(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,297 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.javanilla.misc.tuple.Pair;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class StaticGradleBuildReaderTest {
+
+	private static final List<Repository> REPOSITORIES = List.of(
+			new Repository(
+					RepositoryType.NORMAL,
+					"maven",
+					"https://dependency-resolution-management.example.com"
+			),
+			new Repository(
+					RepositoryType.NORMAL,
+					"MavenRepo",
+					"https://repo.maven.apache.org/maven2/"
+			),
+			new Repository(
+					RepositoryType.NORMAL,
+					"Google",
+					"https://dl.google.com/dl/android/maven2/"
+			),
+			new Repository(
+					RepositoryType.NORMAL,
+					"maven",
+					"https://foo-repository-host"
+			),
+			new Repository(
+					RepositoryType.NORMAL,
+					"bar-repository-name",
+					"https://bar-repository-host"
+			),
+			new Repository(
+					RepositoryType.PLUGIN,
+					"maven",
+					"https://plugin-management.example.com"
+			)
+	);
+
+	private static final List<Artifact<GradleArtifactType>> ARTIFACTS = List.of(
+			new Artifact<>(
+					GradleArtifactType.COMPILE_ONLY,
+					new ArtifactIdentifier("qux-group-id", "qux-artifact-id")
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("foo-group-id", "foo-artifact-id"),
+					"foo-version"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("org.springframework", "spring-core"),
+					"6.0.0"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("com.google.guava", "guava"),
+					"33.0.0-jre"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("bar-group-id", "bar-artifact-id"),
+					"bar-version"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("org.junit", "junit-bom"),
+					"5.10.0"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("foo-bar-group-id", "foo-bar-artifact-id"),
+					"foo-version"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("baz-group-id", "baz-artifact-id"),
+					"baz-version"
+			),
+			new Artifact<>(
+					GradleArtifactType.IMPLEMENTATION,
+					new ArtifactIdentifier("com.google.guava", "guava"),
+					"33.1.0-jre"
+			),
+			new Artifact<>(
+					GradleArtifactType.TEST_IMPLEMENTATION,
+					new ArtifactIdentifier("foo-baz-group-id", "foo-baz-artifact-id"),
+					"foo-baz-version"
+			),
+			new Artifact<>(
+					GradleArtifactType.TEST_IMPLEMENTATION,
+					new ArtifactIdentifier("foo-qux-group-id", "foo-qux-artifact-id"),
+					"foo-qux-version"
+			)
+	);
+
+	private final StaticGradleBuildReader staticGradleBuildReader = new StaticGradleBuildReader();
+
+	@Test
+	void testRead(@TempDir final Path tmpDirectory) throws IOException {
+		for (final var suffix : List.of("", ".kts")) {
+			final var tmpBuildDirectory = tmpDirectory.resolve("build" + suffix);
+			final var tmpBuildFile = copy(tmpBuildDirectory, suffix);
+			assertThat(staticGradleBuildReader.read(tmpBuildFile)).hasValueSatisfying(build -> {
+				assertThat(build.getFirst()).containsExactlyElementsOf(REPOSITORIES);
+				assertThat(build.getSecond()).containsExactlyElementsOf(ARTIFACTS);
+			});
+		}
+	}
+
+	@Test
+	void testReadSubproject(@TempDir final Path tmpDirectory) throws IOException {
+		Files.copy(
+				Path.of("src", "test", "resources", "settings_foo.gradle"),
+				tmpDirectory.resolve("settings.gradle")
+		);
+		Files.copy(
+				Path.of("src", "test", "resources", "build_foo.gradle"),
+				tmpDirectory.resolve("build.gradle")
+		);
+		final var tmpSubDirectory = tmpDirectory.resolve("foo");
+		Files.createDirectory(tmpSubDirectory);
+		final var tmpSubBuildFile = tmpSubDirectory.resolve("build.gradle");
+		Files.writeString(tmpSubBuildFile, "dependencies {\n\timplementation \"foo-group-id:foo-artifact-id:$foo\"\n}");
+		Files.writeString(tmpSubDirectory.resolve("gradle.properties"), "foo=foo-version");
+		assertThat(staticGradleBuildReader.read(tmpSubBuildFile)).hasValue(
+				Pair.of(
+						List.of(),
+						List.of(
+								new Artifact<>(
+										GradleArtifactType.IMPLEMENTATION,
+										new ArtifactIdentifier("foo-group-id", "foo-artifact-id"),
+										"foo-version"
+								)
+						)
+				)
+		);
+		Files.writeString(tmpDirectory.resolve("build.gradle"), "subprojects {\n\tapply plugin: 'java'\n}");
+		assertThat(staticGradleBuildReader.read(tmpSubBuildFile)).isEmpty();
+	}
+
+	@Test
+	void testReadNotSupported(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpBuildFile = tmpDirectory.resolve("build.gradle");
+		assertThat(staticGradleBuildReader.read(tmpBuildFile)).isEmpty();
+		Files.copy(
+				Path.of("src", "test", "resources", "build_error.gradle"),
+				tmpBuildFile
+		);
+		assertThat(staticGradleBuildReader.read(tmpBuildFile)).isEmpty();
+		for (
+				final var content : List.of(
+						"allprojects {\n}",
+						"apply from: 'foo.gradle'",
+						"repositories {\n\tjcenter()\n}",
+						"repositories {\n\tmaven {\n\t\turl 'foo'\n\t}\n}",
+						"repositories {\n\tmaven {\n\t\tname 'foo'\n\t}\n}",
+						"repositories {\n\tmaven {\n\t\tfoo 'bar'\n\t}\n}",
+						"dependencies {\n\timplementation 'foo'\n}",
+						"dependencies {\n\timplementation \"foo-group-id:foo-artifact-id:$foo\"\n}",
+						"dependencies {\n\timplementation libs.foo\n}",
+						"dependencies {\n\timplementation kotlin('stdlib')\n}",
+						"dependencies {\n\timplementation group: 'foo-group-id'\n}",
+						"dependencies {\n\timplementation('foo-group-id:foo-artifact-id') {\n"
+								+ "\t\tversion {\n\t\t}\n\t}\n}",
+						"dependencies {\n\tadd('implementation', 'foo-group-id:foo-artifact-id')\n}",
+						"dependencies {\n\timplementation\n}",
+						"dependencies {\n}\n}",
+						"dependencies {\n\timplementation 'foo-group-id:foo-artifact-id\n}",
+						"/* foo"
+				)
+		) {
+			Files.writeString(tmpBuildFile, content);
+			assertThat(staticGradleBuildReader.read(tmpBuildFile)).isEmpty();
+		}
+		Files.writeString(tmpBuildFile, "dependencies {\n}");
+		Files.createDirectory(tmpDirectory.resolve("buildSrc"));
+		assertThat(staticGradleBuildReader.read(tmpBuildFile)).isEmpty();
+	}
+
+	@Test
+	void testReadInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> staticGradleBuildReader.read(null));
+	}
+
+	@Test
+	void testEvaluate() {
+		final var variables = Map.of("foo", "foo-value", "bar", "bar-value");
+		assertThat(StaticGradleBuildReader.evaluate("'foo'", variables)).isEqualTo("foo");
+		assertThat(StaticGradleBuildReader.evaluate("'$foo'", variables)).isEqualTo("$foo");
+		assertThat(StaticGradleBuildReader.evaluate("\"$foo-${bar}\"", variables)).isEqualTo("foo-value-bar-value");
+		assertThat(StaticGradleBuildReader.evaluate("\"${project.foo}\"", variables)).isEqualTo("foo-value");
+		assertThat(StaticGradleBuildReader.evaluate("\"\\$foo\"", variables)).isEqualTo("$foo");
+		assertThat(StaticGradleBuildReader.evaluate("'foo' + bar", variables)).isEqualTo("foobar-value");
+		assertThat(StaticGradleBuildReader.evaluate("project.foo", variables)).isEqualTo("foo-value");
+		assertThat(StaticGradleBuildReader.evaluate("property(\"foo\")", variables)).isEqualTo("foo-value");
+		assertThat(StaticGradleBuildReader.evaluate("", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("baz", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("\"$baz\"", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("\"$foo.bar\"", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("\"${foo.bar()}\"", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("'''foo'''", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("'foo' 'bar'", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("'foo' + baz", variables)).isNull();
+		assertThat(StaticGradleBuildReader.evaluate("foo()", variables)).isNull();
+	}
+
+	@Test
+	void testSplitInvocation() {
+		assertThat(StaticGradleBuildReader.splitInvocation("foo 'bar'")).isEqualTo(Pair.of("foo", "'bar'"));
+		assertThat(StaticGradleBuildReader.splitInvocation("foo(\"bar\")")).isEqualTo(Pair.of("foo", "\"bar\""));
+		assertThat(StaticGradleBuildReader.splitInvocation("\"foo\"(\"bar\")")).isEqualTo(Pair.of("foo", "\"bar\""));
+		assertThat(StaticGradleBuildReader.splitInvocation("foo = bar")).isEqualTo(Pair.of("foo", "bar"));
+		assertThat(StaticGradleBuildReader.splitInvocation("foo(bar).baz()")).isEqualTo(Pair.of("foo", "(bar).baz()"));
+		assertThat(StaticGradleBuildReader.splitInvocation("foo")).isEqualTo(Pair.of("foo", ""));
+		assertThat(StaticGradleBuildReader.splitInvocation("[foo]")).isEqualTo(Pair.of("", "[foo]"));
+	}
+
+	@Test
+	void testSplitCall() {
+		assertThat(StaticGradleBuildReader.splitCall("foo('bar', baz())")).isEqualTo(Pair.of("foo", "'bar', baz()"));
+		assertThat(StaticGradleBuildReader.splitCall("foo(bar).baz()")).isNull();
+		assertThat(StaticGradleBuildReader.splitCall("foo")).isNull();
+	}
+
+	@Test
+	void testSplitTopLevel() {
+		assertThat(StaticGradleBuildReader.splitTopLevel("'foo,bar', baz(qux, quux) , [a, b]", ','))
+				.containsExactly("'foo,bar'", "baz(qux, quux)", "[a, b]");
+	}
+
+	private static Path copy(final Path directory, final String suffix) throws IOException {
+		Files.createDirectories(directory.resolve("gradle"));
+		Files.copy(
+				Path.of("src", "test", "resources", "libs_static.versions.toml"),
+				directory.resolve("gradle").resolve("libs.versions.toml"),
+				StandardCopyOption.REPLACE_EXISTING
+		);
+		Files.copy(
+				Path.of("src", "test", "resources", "gradle_static.properties"),
+				directory.resolve("gradle.properties"),
+				StandardCopyOption.REPLACE_EXISTING
+		);
+		Files.copy(
+				Path.of("src", "test", "resources", "settings_it.gradle" + suffix),
+				directory.resolve("settings.gradle" + suffix),
+				StandardCopyOption.REPLACE_EXISTING
+		);
+		final var buildFile = directory.resolve("build.gradle" + suffix);
+		Files.copy(
+				Path.of("src", "test", "resources", "build_static.gradle" + suffix),
+				buildFile,
+				StandardCopyOption.REPLACE_EXISTING
+		);
+		return buildFile;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.build.resolver;
+
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.GradleArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.build.Build;
+import com.github.alexisjehan.mvncheck.core.component.build.cache.CacheStatistics;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFile;
+import com.github.alexisjehan.mvncheck.core.component.build.file.BuildFileType;
+import com.github.alexisjehan.mvncheck.core.component.repository.Repository;
+import com.github.alexisjehan.mvncheck.core.component.repository.RepositoryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class StaticGradleBuildResolverTest {
+
+	private final BuildResolver mockedFallbackBuildResolver = Mockito.mock(BuildResolver.class);
+
+	private final StaticGradleBuildResolver staticGradleBuildResolver = new StaticGradleBuildResolver(
+			mockedFallbackBuildResolver
+	);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new StaticGradleBuildResolver(null));
+	}
+
+	@Test
+	void testPrepareAndResolve(@TempDir final Path tmpDirectory) throws IOException {
+		final var staticBuildFile = new BuildFile(BuildFileType.GRADLE_GROOVY, tmpDirectory.resolve("build.gradle"));
+		final var tmpErrorDirectory = tmpDirectory.resolve("error");
+		Files.createDirectory(tmpErrorDirectory);
+		final var errorBuildFile = new BuildFile(
+				BuildFileType.GRADLE_GROOVY,
+				tmpErrorDirectory.resolve("build.gradle")
+		);
+		Files.writeString(
+				staticBuildFile.getFile(),
+				String.join(
+						"\n",
+						"repositories {",
+						"\tmavenCentral()",
+						"\tmavenLocal()",
+						"}",
+						"",
+						"dependencies {",
+						"\timplementation 'foo-group-id:foo-artifact-id:foo-version'",
+						"}"
+				)
+		);
+		Files.copy(Path.of("src", "test", "resources", "build_error.gradle"), errorBuildFile.getFile());
+		final var errorBuild = new Build(errorBuildFile, List.of(), List.of());
+		Mockito.when(mockedFallbackBuildResolver.resolve(Mockito.argThat(errorBuildFile::equals)))
+				.thenReturn(errorBuild);
+		final var expectedStaticBuild = new Build(
+				staticBuildFile,
+				List.of(
+						new Repository(RepositoryType.NORMAL, "MavenRepo", "https://repo.maven.apache.org/maven2/")
+				),
+				List.of(
+						new Artifact<>(
+								GradleArtifactType.IMPLEMENTATION,
+								new ArtifactIdentifier("foo-group-id", "foo-artifact-id"),
+								"foo-version"
+						)
+				),
+				true
+		);
+
+		staticGradleBuildResolver.prepare(List.of(staticBuildFile, errorBuildFile));
+		Mockito.verify(mockedFallbackBuildResolver, Mockito.only()).prepare(List.of(errorBuildFile));
+		assertThat(staticGradleBuildResolver.resolve(staticBuildFile)).isEqualTo(expectedStaticBuild);
+		assertThat(staticGradleBuildResolver.resolve(errorBuildFile)).isSameAs(errorBuild);
+
+		assertThat(staticGradleBuildResolver.resolve(staticBuildFile)).isEqualTo(expectedStaticBuild);
+		assertThat(staticGradleBuildResolver.resolve(errorBuildFile)).isSameAs(errorBuild);
+		Mockito.verify(mockedFallbackBuildResolver, Mockito.times(2)).resolve(errorBuildFile);
+	}
+
+	@Test
+	void testPrepareInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> staticGradleBuildResolver.prepare(null));
+	}
+
+	@Test
+	void testResolveInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> staticGradleBuildResolver.resolve(null));
+	}
+
+	@Test
+	void testClose() {
+		staticGradleBuildResolver.close();
+		Mockito.verify(mockedFallbackBuildResolver).close();
+	}
+
+	@Test
+	void testGetCacheStatistics() {
+		final var cacheStatistics = List.of(new CacheStatistics("foo", 1L, 2L));
+		Mockito.when(mockedFallbackBuildResolver.getCacheStatistics())
+				.thenReturn(cacheStatistics);
+		assertThat(staticGradleBuildResolver.getCacheStatistics()).isSameAs(cacheStatistics);
+	}
+
+	@Test
+	void testGetFileTypes() {
+		Mockito.when(mockedFallbackBuildResolver.getFileTypes())
+				.thenReturn(Set.of(BuildFileType.GRADLE_GROOVY, BuildFileType.GRADLE_KOTLIN));
+		assertThat(staticGradleBuildResolver.getFileTypes()).containsExactlyInAnyOrder(
+				BuildFileType.GRADLE_GROOVY,
+				BuildFileType.GRADLE_KOTLIN
+		);
+	}
+}
\ No newline at end of file
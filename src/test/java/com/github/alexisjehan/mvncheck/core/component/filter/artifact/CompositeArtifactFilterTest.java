@@ -96,6 +96,33 @@ final class CompositeArtifactFilterTest {
 		).isFalse();
 	}
 
+	@Test
+	void testAcceptWildcard() {
+		final var fooFilter = new WildcardArtifactFilter("foo-*");
+		final var barFilter = new WildcardArtifactFilter("bar-group-id");
+		assertThat(CompositeArtifactFilter.all(fooFilter, barFilter).accept(ARTIFACT)).isFalse();
+		assertThat(CompositeArtifactFilter.any(fooFilter, barFilter).accept(ARTIFACT)).isTrue();
+		assertThat(CompositeArtifactFilter.any(barFilter, barFilter).accept(ARTIFACT)).isFalse();
+		assertThat(CompositeArtifactFilter.any(barFilter, barFilter, ArtifactFilter.ACCEPT_ALL).accept(ARTIFACT))
+				.isTrue();
+		assertThat(CompositeArtifactFilter.none(fooFilter, barFilter).accept(ARTIFACT)).isFalse();
+		assertThat(CompositeArtifactFilter.none(barFilter, barFilter).accept(ARTIFACT)).isTrue();
+		assertThat(CompositeArtifactFilter.none(barFilter, barFilter, ArtifactFilter.ACCEPT_ALL).accept(ARTIFACT))
+				.isFalse();
+	}
+
+	@Test
+	void testAcceptExact() {
+		final var fooFilter = new WildcardArtifactFilter("FOO-GROUP-ID", "foo-artifact-id");
+		final var barFilter = new WildcardArtifactFilter("bar-group-id");
+		final var wildcardFilter = new WildcardArtifactFilter("bar-*");
+		assertThat(CompositeArtifactFilter.any(fooFilter, barFilter, wildcardFilter).accept(ARTIFACT)).isTrue();
+		assertThat(CompositeArtifactFilter.any(barFilter, barFilter, wildcardFilter).accept(ARTIFACT)).isFalse();
+		assertThat(CompositeArtifactFilter.none(fooFilter, barFilter, wildcardFilter).accept(ARTIFACT)).isFalse();
+		assertThat(CompositeArtifactFilter.none(barFilter, barFilter, wildcardFilter).accept(ARTIFACT)).isTrue();
+		assertThat(CompositeArtifactFilter.none(fooFilter, barFilter).accept(ARTIFACT, UPDATE_VERSION)).isFalse();
+	}
+
 	@Test
 	void testAcceptInvalid() {
 		assertThatNullPointerException().isThrownBy(() -> compositeArtifactFilter.accept(null));
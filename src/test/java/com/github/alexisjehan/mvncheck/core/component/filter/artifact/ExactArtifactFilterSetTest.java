@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.ArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class ExactArtifactFilterSetTest {
+
+	private static final Artifact<ArtifactType> ARTIFACT = new Artifact<>(
+			MavenArtifactType.DEPENDENCY,
+			new ArtifactIdentifier("foo-group-id", "foo-artifact-id")
+	);
+
+	private static final String UPDATE_VERSION = "foo-version";
+
+	private final ExactArtifactFilterSet exactArtifactFilterSet = new ExactArtifactFilterSet(
+			List.of(new WildcardArtifactFilter("foo-group-id"))
+	);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new ExactArtifactFilterSet(null));
+		assertThatNullPointerException().isThrownBy(
+				() -> new ExactArtifactFilterSet(Collections.singletonList(null))
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new ExactArtifactFilterSet(List.of(new WildcardArtifactFilter("foo-*")))
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new ExactArtifactFilterSet(List.of(new WildcardArtifactFilter("foo-group-id", "foo-?")))
+		);
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> new ExactArtifactFilterSet(
+						List.of(new WildcardArtifactFilter("foo-group-id", "foo-artifact-id", UPDATE_VERSION))
+				)
+		);
+	}
+
+	@Test
+	void testAccept() {
+		assertThat(new ExactArtifactFilterSet(List.of()).accept(ARTIFACT)).isFalse();
+		assertThat(
+				new ExactArtifactFilterSet(
+						List.of(
+								new WildcardArtifactFilter("bar-group-id"),
+								new WildcardArtifactFilter("FOO-GROUP-ID")
+						)
+				).accept(ARTIFACT)
+		).isTrue();
+		assertThat(
+				new ExactArtifactFilterSet(
+						List.of(
+								new WildcardArtifactFilter("foo-group-id", "bar-artifact-id"),
+								new WildcardArtifactFilter("Foo-Group-Id", "Foo-Artifact-Id")
+						)
+				).accept(ARTIFACT)
+		).isTrue();
+		assertThat(
+				new ExactArtifactFilterSet(
+						List.of(
+								new WildcardArtifactFilter("foo-group"),
+								new WildcardArtifactFilter("foo-group-id", "foo-artifact"),
+								new WildcardArtifactFilter("foo-artifact-id", "foo-group-id")
+						)
+				).accept(ARTIFACT)
+		).isFalse();
+	}
+
+	@Test
+	void testAcceptInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> exactArtifactFilterSet.accept(null));
+	}
+
+	@Test
+	void testAcceptUpdateVersion() {
+		assertThat(new ExactArtifactFilterSet(List.of()).accept(ARTIFACT, UPDATE_VERSION)).isFalse();
+		assertThat(exactArtifactFilterSet.accept(ARTIFACT, UPDATE_VERSION)).isTrue();
+		assertThat(
+				new ExactArtifactFilterSet(
+						List.of(
+								new WildcardArtifactFilter("foo-group-id", "bar-artifact-id")
+						)
+				).accept(ARTIFACT, UPDATE_VERSION)
+		).isFalse();
+	}
+
+	@Test
+	void testAcceptUpdateVersionInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> exactArtifactFilterSet.accept(null, UPDATE_VERSION));
+		assertThatNullPointerException().isThrownBy(() -> exactArtifactFilterSet.accept(ARTIFACT, null));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> exactArtifactFilterSet.accept(ARTIFACT, Strings.EMPTY)
+		);
+	}
+
+	@Test
+	void testAcceptLarge() {
+		final var random = new Random(0L);
+		final var filters = new ArrayList<WildcardArtifactFilter>();
+		for (var i = 0; i < 10_000; ++i) {
+			final var groupIdExpression = "com.example" + random.nextInt(2_000);
+			filters.add(
+					random.nextInt(10) == 0
+							? new WildcardArtifactFilter(groupIdExpression)
+							: new WildcardArtifactFilter(groupIdExpression, "Artifact" + random.nextInt(20))
+			);
+		}
+		final var set = new ExactArtifactFilterSet(filters);
+		for (var i = 0; i < 10_000; ++i) {
+			final var artifact = new Artifact<>(
+					MavenArtifactType.DEPENDENCY,
+					new ArtifactIdentifier(
+							"COM.example" + random.nextInt(3_000),
+							"artifact" + random.nextInt(30)
+					)
+			);
+			assertThat(set.accept(artifact))
+					.isEqualTo(filters.stream().anyMatch(filter -> filter.accept(artifact)));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.ArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class WildcardArtifactFilterIndexTest {
+
+	private static final Artifact<ArtifactType> ARTIFACT = new Artifact<>(
+			MavenArtifactType.DEPENDENCY,
+			new ArtifactIdentifier("foo-group-id", "foo-artifact-id")
+	);
+
+	private static final String UPDATE_VERSION = "foo-version";
+
+	private final WildcardArtifactFilterIndex wildcardArtifactFilterIndex = new WildcardArtifactFilterIndex(
+			List.of(new WildcardArtifactFilter("*"))
+	);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new WildcardArtifactFilterIndex(null));
+		assertThatNullPointerException().isThrownBy(
+				() -> new WildcardArtifactFilterIndex(Collections.singletonList(null))
+		);
+	}
+
+	@Test
+	void testAccept() {
+		assertThat(new WildcardArtifactFilterIndex(List.of()).accept(ARTIFACT)).isFalse();
+		assertThat(
+				new WildcardArtifactFilterIndex(
+						List.of(
+								new WildcardArtifactFilter("bar-group-id"),
+								new WildcardArtifactFilter("FOO-GROUP-ID")
+						)
+				).accept(ARTIFACT)
+		).isTrue();
+		assertThat(
+				new WildcardArtifactFilterIndex(
+						List.of(
+								new WildcardArtifactFilter("foo-group-id?"),
+								new WildcardArtifactFilter("foo-group", "*")
+						)
+				).accept(ARTIFACT)
+		).isFalse();
+		assertThat(
+				new WildcardArtifactFilterIndex(
+						List.of(
+								new WildcardArtifactFilter("foo", "*"),
+								new WildcardArtifactFilter("foo-*", "foo-*")
+						)
+				).accept(ARTIFACT)
+		).isTrue();
+		assertThat(
+				new WildcardArtifactFilterIndex(
+						List.of(
+								new WildcardArtifactFilter("*", "foo-artifact-id", UPDATE_VERSION)
+						)
+				).accept(ARTIFACT)
+		).isFalse();
+	}
+
+	@Test
+	void testAcceptInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> wildcardArtifactFilterIndex.accept(null));
+	}
+
+	@Test
+	void testAcceptUpdateVersion() {
+		assertThat(new WildcardArtifactFilterIndex(List.of()).accept(ARTIFACT, UPDATE_VERSION)).isFalse();
+		assertThat(
+				new WildcardArtifactFilterIndex(
+						List.of(
+								new WildcardArtifactFilter("bar-group-id"),
+								new WildcardArtifactFilter("foo-group-?d", "foo-artifact-id", "FOO-*")
+						)
+				).accept(ARTIFACT, UPDATE_VERSION)
+		).isTrue();
+		assertThat(
+				new WildcardArtifactFilterIndex(
+						List.of(
+								new WildcardArtifactFilter("foo-group-id", "foo-artifact-id", "bar-version")
+						)
+				).accept(ARTIFACT, UPDATE_VERSION)
+		).isFalse();
+	}
+
+	@Test
+	void testAcceptUpdateVersionInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> wildcardArtifactFilterIndex.accept(null, UPDATE_VERSION));
+		assertThatNullPointerException().isThrownBy(() -> wildcardArtifactFilterIndex.accept(ARTIFACT, null));
+		assertThatIllegalArgumentException().isThrownBy(
+				() -> wildcardArtifactFilterIndex.accept(ARTIFACT, Strings.EMPTY)
+		);
+	}
+
+	@Test
+	void testAcceptLarge() {
+		final var random = new Random(0L);
+		final var filters = new ArrayList<WildcardArtifactFilter>();
+		for (var i = 0; i < 2_000; ++i) {
+			final var groupIdExpression = "com.example" + random.nextInt(200) + (random.nextBoolean() ? ".*" : "");
+			filters.add(
+					switch (random.nextInt(3)) {
+						case 0 -> new WildcardArtifactFilter(groupIdExpression);
+						case 1 -> new WildcardArtifactFilter(groupIdExpression, "artifact" + random.nextInt(10) + "*");
+						default -> new WildcardArtifactFilter(groupIdExpression, "*", random.nextInt(3) + ".*");
+					}
+			);
+		}
+		final var index = new WildcardArtifactFilterIndex(filters);
+		for (var i = 0; i < 10_000; ++i) {
+			final var artifact = new Artifact<>(
+					MavenArtifactType.DEPENDENCY,
+					new ArtifactIdentifier(
+							"COM.example" + random.nextInt(300) + (random.nextBoolean() ? ".sub" : ""),
+							"artifact" + random.nextInt(20)
+					)
+			);
+			final var updateVersion = random.nextInt(5) + ".0";
+			assertThat(index.accept(artifact))
+					.isEqualTo(filters.stream().anyMatch(filter -> filter.accept(artifact)));
+			assertThat(index.accept(artifact, updateVersion))
+					.isEqualTo(filters.stream().anyMatch(filter -> filter.accept(artifact, updateVersion)));
+		}
+	}
+}
\ No newline at end of file
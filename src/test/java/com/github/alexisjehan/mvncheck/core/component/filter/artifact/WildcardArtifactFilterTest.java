@@ -202,6 +202,21 @@ final class WildcardArtifactFilterTest {
 		).isTrue();
 	}
 
+	@Test
+	void testIsExact() {
+		assertThat(new WildcardArtifactFilter("foo-group-id").isExact()).isTrue();
+		assertThat(new WildcardArtifactFilter("foo-group-id", "foo-artifact-id").isExact()).isTrue();
+		assertThat(new WildcardArtifactFilter("foo-*", "foo-artifact-id").isExact()).isFalse();
+		assertThat(new WildcardArtifactFilter("foo-group-id", "foo-?").isExact()).isFalse();
+		assertThat(new WildcardArtifactFilter("foo-group-id", "foo-artifact-id", "foo-version").isExact()).isFalse();
+	}
+
+	@Test
+	void testGetArtifactIdLiteralPrefix() {
+		assertThat(new WildcardArtifactFilter("foo-group-id").getArtifactIdLiteralPrefix()).isNull();
+		assertThat(new WildcardArtifactFilter("foo-group-id", "Foo-*").getArtifactIdLiteralPrefix()).isEqualTo("foo-");
+	}
+
 	@Test
 	void testAcceptUpdateVersionInvalid() {
 		assertThatNullPointerException().isThrownBy(() -> wildcardArtifactFilter.accept(null, UPDATE_VERSION));
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class WildcardMatcherTest {
+
+	private static final String[] ALPHABET = {"a", "B", "-", ".", "é", "É", "\n", "😀", "?", "*"};
+
+	private final WildcardMatcher wildcardMatcher = new WildcardMatcher("*");
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new WildcardMatcher(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> new WildcardMatcher(Strings.EMPTY));
+	}
+
+	@Test
+	void testMatches() {
+		assertThat(new WildcardMatcher("foo").matches("foo")).isTrue();
+		assertThat(new WildcardMatcher("foo").matches("FOO")).isTrue();
+		assertThat(new WildcardMatcher("FOO").matches("foo")).isTrue();
+		assertThat(new WildcardMatcher("foo").matches("fo")).isFalse();
+		assertThat(new WildcardMatcher("foo").matches("fooo")).isFalse();
+		assertThat(new WildcardMatcher("é").matches("É")).isFalse();
+		assertThat(new WildcardMatcher("f?o").matches("foo")).isTrue();
+		assertThat(new WildcardMatcher("f?o").matches("fo")).isFalse();
+		assertThat(new WildcardMatcher("f*").matches("f")).isTrue();
+		assertThat(new WildcardMatcher("*o").matches("foo")).isTrue();
+		assertThat(new WildcardMatcher("f*o*r").matches("foobar")).isTrue();
+		assertThat(new WildcardMatcher("f*o*z").matches("foobar")).isFalse();
+		assertThat(new WildcardMatcher("*a*a*b").matches("aaaaaaaab")).isTrue();
+		assertThat(new WildcardMatcher("*a*a*b").matches("aaaaaaaaa")).isFalse();
+		assertThat(new WildcardMatcher("f?o").matches("f\no")).isFalse();
+		assertThat(new WildcardMatcher("f?o").matches("f😀o")).isTrue();
+	}
+
+	@Test
+	void testMatchesEquivalence() {
+		final var random = new Random(0L);
+		for (var i = 0; i < 10_000; ++i) {
+			final var expression = randomString(random, 1 + random.nextInt(6));
+			final var text = randomString(random, random.nextInt(8));
+			final var pattern = Pattern.compile(
+					"^" + Pattern.quote(expression)
+							.replace("?", "\\E.\\Q")
+							.replace("*", "\\E.*\\Q") + "$",
+					Pattern.CASE_INSENSITIVE
+			);
+			assertThat(new WildcardMatcher(expression).matches(text))
+					.as("%s matches %s", expression, text)
+					.isEqualTo(pattern.matcher(text).matches());
+		}
+	}
+
+	@Test
+	void testMatchesInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> wildcardMatcher.matches(null));
+	}
+
+	@Test
+	void testGetLiteralPrefix() {
+		assertThat(new WildcardMatcher("Foo").getLiteralPrefix()).isEqualTo("foo");
+		assertThat(new WildcardMatcher("Foo?bar").getLiteralPrefix()).isEqualTo("foo");
+		assertThat(new WildcardMatcher("Foo*bar").getLiteralPrefix()).isEqualTo("foo");
+		assertThat(new WildcardMatcher("*").getLiteralPrefix()).isEmpty();
+	}
+
+	@Test
+	void testIsLiteral() {
+		assertThat(new WildcardMatcher("Foo").isLiteral()).isTrue();
+		assertThat(new WildcardMatcher("Foo?").isLiteral()).isFalse();
+		assertThat(new WildcardMatcher("*").isLiteral()).isFalse();
+	}
+
+	@Test
+	void testToLowerCaseString() {
+		assertThat(WildcardMatcher.toLowerCase("foo")).isEqualTo("foo");
+		assertThat(WildcardMatcher.toLowerCase("fOO")).isEqualTo("foo");
+		assertThat(WildcardMatcher.toLowerCase("FooÉ")).isEqualTo("fooÉ");
+	}
+
+	@Test
+	void testToLowerCase() {
+		assertThat(WildcardMatcher.toLowerCase('A')).isEqualTo('a');
+		assertThat(WildcardMatcher.toLowerCase('Z')).isEqualTo('z');
+		assertThat(WildcardMatcher.toLowerCase('a')).isEqualTo('a');
+		assertThat(WildcardMatcher.toLowerCase('É')).isEqualTo('É');
+	}
+
+	private static String randomString(final Random random, final int length) {
+		final var builder = new StringBuilder();
+		for (var i = 0; i < length; ++i) {
+			builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+		}
+		return builder.toString();
+	}
+}
\ No newline at end of file
@@ -29,11 +29,19 @@ import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifie
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.ArtifactType;
 import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -73,6 +81,151 @@ final class ArtifactFilterParserTest {
 		);
 	}
 
+	@Test
+	void testParsePathSnapshot(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id");
+		final var snapshotFile = ArtifactFilterParser.compile(ignoreFile);
+		assertThat(snapshotFile).isEqualTo(ArtifactFilterParser.getSnapshotFile(ignoreFile));
+
+		// Same size and last modified time as the compiled ignore file
+		final var lastModifiedTime = Files.getLastModifiedTime(ignoreFile);
+		Files.writeString(ignoreFile, "bar-group-id");
+		Files.setLastModifiedTime(ignoreFile, lastModifiedTime);
+		assertThat(ArtifactFilterParser.parse(ignoreFile).accept(ARTIFACT)).isFalse();
+
+		// Different last modified time, even if older than the snapshot file
+		Files.setLastModifiedTime(ignoreFile, FileTime.from(Instant.EPOCH));
+		assertThat(ArtifactFilterParser.parse(ignoreFile).accept(ARTIFACT)).isTrue();
+
+		// Different size
+		Files.writeString(ignoreFile, "bar-group-id\n");
+		Files.setLastModifiedTime(ignoreFile, lastModifiedTime);
+		assertThat(ArtifactFilterParser.parse(ignoreFile).accept(ARTIFACT)).isTrue();
+
+		// Unexpected snapshot file
+		Files.writeString(ignoreFile, "bar-group-id");
+		Files.setLastModifiedTime(ignoreFile, lastModifiedTime);
+		Files.writeString(snapshotFile, "foo-group-id");
+		assertThat(ArtifactFilterParser.parse(ignoreFile).accept(ARTIFACT)).isTrue();
+	}
+
+	@Test
+	void testCompile(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id\nfoo-group-id\nbar-*:bar-artifact-id:1.*\n# comment\n\u00E9");
+		assertThat(
+				ArtifactFilterParser.readSnapshot(
+						ArtifactFilterParser.compile(ignoreFile),
+						Files.readAttributes(ignoreFile, BasicFileAttributes.class)
+				)
+		).hasValueSatisfying(
+				expressionsParts -> assertThat(expressionsParts).containsExactly(
+						List.of("foo-group-id"),
+						List.of("bar-*", "bar-artifact-id", "1.*"),
+						List.of("\u00E9")
+				)
+		);
+		Files.writeString(ignoreFile, Strings.EMPTY);
+		assertThat(
+				ArtifactFilterParser.readSnapshot(
+						ArtifactFilterParser.compile(ignoreFile),
+						Files.readAttributes(ignoreFile, BasicFileAttributes.class)
+				)
+		).hasValueSatisfying(expressionsParts -> assertThat(expressionsParts).isEmpty());
+	}
+
+	@Test
+	void testCompileInvalid(@TempDir final Path tmpDirectory) throws IOException {
+		assertThatNullPointerException().isThrownBy(() -> ArtifactFilterParser.compile(null));
+		assertThat(Path.of("src", "test", "resources", ".mvnchk-ignore_not-found")).satisfies(
+				ignoreFile -> assertThatIllegalArgumentException()
+						.isThrownBy(() -> ArtifactFilterParser.compile(ignoreFile))
+		);
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id:");
+		assertThatExceptionOfType(ArtifactFilterParseException.class)
+				.isThrownBy(() -> ArtifactFilterParser.compile(ignoreFile));
+		assertThat(ArtifactFilterParser.getSnapshotFile(ignoreFile)).doesNotExist();
+	}
+
+	@Test
+	void testGetSnapshotFile() {
+		assertThat(ArtifactFilterParser.getSnapshotFile(Path.of("foo", ".mvnchk-ignore")))
+				.isEqualTo(Path.of("foo", ".mvnchk-ignore.snapshot"));
+	}
+
+	@Test
+	void testGetSnapshotFileInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> ArtifactFilterParser.getSnapshotFile(null));
+	}
+
+	@Test
+	void testWriteSnapshotInvalid(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id");
+		final var ignoreFileAttributes = Files.readAttributes(ignoreFile, BasicFileAttributes.class);
+		final var snapshotFile = tmpDirectory.resolve(".mvnchk-ignore.snapshot");
+		assertThatNullPointerException().isThrownBy(
+				() -> ArtifactFilterParser.writeSnapshot(null, ignoreFileAttributes, snapshotFile)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> ArtifactFilterParser.writeSnapshot(
+						Collections.singletonList(null),
+						ignoreFileAttributes,
+						snapshotFile
+				)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> ArtifactFilterParser.writeSnapshot(List.of(), null, snapshotFile)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> ArtifactFilterParser.writeSnapshot(List.of(), ignoreFileAttributes, null)
+		);
+	}
+
+	@Test
+	void testReadSnapshotOutdated(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id");
+		final var snapshotFile = ArtifactFilterParser.compile(ignoreFile);
+		Files.setLastModifiedTime(ignoreFile, FileTime.from(Instant.EPOCH));
+		assertThat(
+				ArtifactFilterParser.readSnapshot(
+						snapshotFile,
+						Files.readAttributes(ignoreFile, BasicFileAttributes.class)
+				)
+		).isEmpty();
+	}
+
+	@Test
+	void testReadSnapshotInvalid(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(".mvnchk-ignore");
+		Files.writeString(ignoreFile, "foo-group-id");
+		final var ignoreFileAttributes = Files.readAttributes(ignoreFile, BasicFileAttributes.class);
+		final var snapshotFile = tmpDirectory.resolve(".mvnchk-ignore.snapshot");
+		assertThatNullPointerException().isThrownBy(
+				() -> ArtifactFilterParser.readSnapshot(null, ignoreFileAttributes)
+		);
+		assertThatNullPointerException().isThrownBy(
+				() -> ArtifactFilterParser.readSnapshot(snapshotFile, null)
+		);
+		ArtifactFilterParser.writeSnapshot(List.of(List.of("foo-group-id")), ignoreFileAttributes, snapshotFile);
+		final var bytes = Files.readAllBytes(snapshotFile);
+		for (var length = 0; length < bytes.length; ++length) {
+			Files.write(snapshotFile, Arrays.copyOf(bytes, length));
+			assertThatExceptionOfType(IOException.class)
+					.isThrownBy(() -> ArtifactFilterParser.readSnapshot(snapshotFile, ignoreFileAttributes));
+		}
+		Files.write(snapshotFile, Arrays.copyOf(bytes, bytes.length + 1));
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> ArtifactFilterParser.readSnapshot(snapshotFile, ignoreFileAttributes));
+		bytes[28] = 4;
+		Files.write(snapshotFile, bytes);
+		assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> ArtifactFilterParser.readSnapshot(snapshotFile, ignoreFileAttributes));
+	}
+
 	@Test
 	void testParseReader() {
 		try (var reader = new StringReader(Strings.EMPTY)) {
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.artifact.parser;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import com.github.alexisjehan.mvncheck.core.component.artifact.Artifact;
+import com.github.alexisjehan.mvncheck.core.component.artifact.ArtifactIdentifier;
+import com.github.alexisjehan.mvncheck.core.component.artifact.type.MavenArtifactType;
+import com.github.alexisjehan.mvncheck.core.component.filter.artifact.ArtifactFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class IgnoreFileResolverTest {
+
+	private static final String IGNORE_FILE_NAME = ".mvnchk-ignore";
+
+	private static final Artifact<MavenArtifactType> FOO_ARTIFACT = new Artifact<>(
+			MavenArtifactType.DEPENDENCY,
+			new ArtifactIdentifier("foo-group-id", "foo-artifact-id")
+	);
+
+	private static final Artifact<MavenArtifactType> BAR_ARTIFACT = new Artifact<>(
+			MavenArtifactType.DEPENDENCY,
+			new ArtifactIdentifier("bar-group-id", "bar-artifact-id")
+	);
+
+	private final IgnoreFileResolver ignoreFileResolver = new IgnoreFileResolver(IGNORE_FILE_NAME);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new IgnoreFileResolver(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> new IgnoreFileResolver(Strings.EMPTY));
+	}
+
+	@Test
+	void testResolve(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpModuleDirectory = Files.createDirectory(tmpDirectory.resolve("foo"));
+		assertThat(ignoreFileResolver.resolve(tmpModuleDirectory)).isSameAs(ArtifactFilter.ACCEPT_ALL);
+		Files.writeString(tmpDirectory.resolve(IGNORE_FILE_NAME), "foo-group-id");
+		assertThat(ignoreFileResolver.resolve(tmpModuleDirectory)).isSameAs(ArtifactFilter.ACCEPT_ALL);
+		Files.createDirectory(tmpDirectory.resolve(".git"));
+		final var rootArtifactFilter = ignoreFileResolver.resolve(tmpModuleDirectory);
+		assertThat(rootArtifactFilter.accept(FOO_ARTIFACT)).isFalse();
+		assertThat(rootArtifactFilter.accept(BAR_ARTIFACT)).isTrue();
+		Files.writeString(tmpModuleDirectory.resolve(IGNORE_FILE_NAME), "bar-group-id");
+		final var artifactFilter = ignoreFileResolver.resolve(tmpModuleDirectory);
+		assertThat(artifactFilter.accept(FOO_ARTIFACT)).isFalse();
+		assertThat(artifactFilter.accept(BAR_ARTIFACT)).isFalse();
+		final var moduleArtifactFilter = ignoreFileResolver.resolve(tmpDirectory.resolve(Path.of("foo", "..", "foo")));
+		assertThat(moduleArtifactFilter.accept(FOO_ARTIFACT)).isFalse();
+		assertThat(moduleArtifactFilter.accept(BAR_ARTIFACT)).isFalse();
+	}
+
+	@Test
+	void testResolveCache(@TempDir final Path tmpDirectory) throws IOException {
+		final var ignoreFile = tmpDirectory.resolve(IGNORE_FILE_NAME);
+		Files.writeString(ignoreFile, "foo-group-id");
+		try (var mockedStaticArtifactFilterParser = Mockito.mockStatic(
+				ArtifactFilterParser.class,
+				Mockito.CALLS_REAL_METHODS
+		)) {
+			final var artifactFilter = ignoreFileResolver.resolve(tmpDirectory);
+			assertThat(ignoreFileResolver.resolve(tmpDirectory)).isSameAs(artifactFilter);
+			mockedStaticArtifactFilterParser.verify(() -> ArtifactFilterParser.parse(ignoreFile));
+			Files.writeString(ignoreFile, "bar-group-id");
+			Files.setLastModifiedTime(ignoreFile, FileTime.fromMillis(0L));
+			final var modifiedArtifactFilter = ignoreFileResolver.resolve(tmpDirectory);
+			assertThat(modifiedArtifactFilter).isNotSameAs(artifactFilter);
+			assertThat(modifiedArtifactFilter.accept(FOO_ARTIFACT)).isTrue();
+			assertThat(modifiedArtifactFilter.accept(BAR_ARTIFACT)).isFalse();
+			mockedStaticArtifactFilterParser.verify(() -> ArtifactFilterParser.parse(ignoreFile), Mockito.times(2));
+			Files.delete(ignoreFile);
+			assertThat(ignoreFileResolver.resolve(tmpDirectory)).isSameAs(ArtifactFilter.ACCEPT_ALL);
+			Files.createDirectory(ignoreFile);
+			assertThat(ignoreFileResolver.resolve(tmpDirectory)).isSameAs(ArtifactFilter.ACCEPT_ALL);
+		}
+	}
+
+	@Test
+	void testResolveInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> ignoreFileResolver.resolve(null));
+	}
+
+	@Test
+	void testFindHierarchy(@TempDir final Path tmpDirectory) throws IOException {
+		final var tmpModuleDirectory = Files.createDirectories(tmpDirectory.resolve(Path.of("foo", "bar")));
+		assertThat(IgnoreFileResolver.findHierarchy(tmpModuleDirectory)).containsExactly(tmpModuleDirectory);
+		Files.createDirectory(tmpDirectory.resolve(".git"));
+		assertThat(IgnoreFileResolver.findHierarchy(tmpModuleDirectory)).containsExactly(
+				tmpDirectory,
+				tmpDirectory.resolve("foo"),
+				tmpModuleDirectory
+		);
+		assertThat(IgnoreFileResolver.findHierarchy(tmpDirectory)).isEqualTo(List.of(tmpDirectory));
+	}
+
+	@Test
+	void testFindHierarchyInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> IgnoreFileResolver.findHierarchy(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class GitignorePathFilterTest {
+
+	private static final Path DIRECTORY = Path.of("directory");
+
+	private final GitignorePathFilter gitignorePathFilter = new GitignorePathFilter(
+			DIRECTORY,
+			List.of(
+					"# comment",
+					"",
+					"*.log",
+					"!important.log",
+					"/target/",
+					"build/",
+					"docs/**/generated",
+					"foo?.txt",
+					"[a-c]ar.txt",
+					"[!a-c]az.txt",
+					"\\#hash",
+					"\\!bang",
+					"trailing   ",
+					"escaped\\ "
+			)
+	);
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> new GitignorePathFilter(null, List.of()));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new GitignorePathFilter(DIRECTORY, null));
+		assertThatNullPointerException()
+				.isThrownBy(() -> new GitignorePathFilter(DIRECTORY, Collections.singletonList(null)));
+	}
+
+	@Test
+	void testIsIgnored() {
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("foo.log"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("foo", "foo.log")), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("important.log"), false)).contains(false);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("target"), true)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("target"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("foo", "target")), true)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("build"), true)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("foo", "build")), true)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("foo", "build")), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("docs", "generated")), true))
+				.contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("docs", "a", "b", "generated")), true))
+				.contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("foo", "docs", "generated")), true))
+				.isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("foo1.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("foo10.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("bar.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("dar.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("baz.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("daz.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("#hash"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("!bang"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("trailing"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("escaped "), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("comment"), false)).isEmpty();
+	}
+
+	@Test
+	void testIsIgnoredDoubleAsteriskSuffix() {
+		final var gitignorePathFilter = new GitignorePathFilter(
+				DIRECTORY,
+				List.of(
+						"a/**",
+						"!a/keep/"
+				)
+		);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("a"), true)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("a", "keep")), true)).contains(false);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("a", "drop")), true)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("a", "foo.txt")), false)).contains(true);
+		assertThat(new GitignorePathFilter(DIRECTORY, List.of("**")).isIgnored(DIRECTORY.resolve("a"), true))
+				.contains(true);
+	}
+
+	@Test
+	void testIsIgnoredBracketExpression() {
+		final var gitignorePathFilter = new GitignorePathFilter(
+				DIRECTORY,
+				List.of(
+						"[z-a]x.txt",
+						"[a&&b]y.txt",
+						"[\\\\]z.txt",
+						"[]]w.txt",
+						"[!a]v.txt",
+						"[unterminated.txt",
+						"u[\\"
+				)
+		);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("ax.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("zx.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("&y.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("by.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("cy.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("\\z.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("]w.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("bv.txt"), false)).contains(true);
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("av.txt"), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve(Path.of("a", "v.txt")), false)).isEmpty();
+		assertThat(gitignorePathFilter.isIgnored(DIRECTORY.resolve("[unterminated.txt"), false)).isEmpty();
+	}
+
+	@Test
+	void testIsIgnoredInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> gitignorePathFilter.isIgnored(null, false));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> gitignorePathFilter.isIgnored(DIRECTORY, true));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> gitignorePathFilter.isIgnored(Path.of("foo"), false));
+	}
+
+	@Test
+	void testGetDirectory() {
+		assertThat(gitignorePathFilter.getDirectory()).isEqualTo(DIRECTORY);
+	}
+
+	@Test
+	void testOf(@TempDir final Path tmpDirectory) throws IOException {
+		assertThat(GitignorePathFilter.of(tmpDirectory)).isEmpty();
+		Files.write(tmpDirectory.resolve(GitignorePathFilter.FILE_NAME), List.of("*.log"));
+		assertThat(GitignorePathFilter.of(tmpDirectory)).hasValueSatisfying(
+				gitignorePathFilter -> {
+					assertThat(gitignorePathFilter.getDirectory()).isEqualTo(tmpDirectory);
+					assertThat(gitignorePathFilter.isIgnored(tmpDirectory.resolve("foo.log"), false)).contains(true);
+				}
+		);
+	}
+
+	@Test
+	void testOfInvalid() {
+		assertThatNullPointerException()
+				.isThrownBy(() -> GitignorePathFilter.of(null));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.filter.version;
+
+import com.github.alexisjehan.javanilla.lang.Strings;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class ParsedVersionTest {
+
+	@Test
+	void testOf() {
+		assertThat(ParsedVersion.of("1.0.0")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getVersion()).isEqualTo("1.0.0");
+			assertThat(parsedVersion.getQualifier()).isNull();
+			assertThat(parsedVersion.isPreRelease()).isFalse();
+		});
+		assertThat(ParsedVersion.of("1.0.0-BETA.2")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getVersion()).isEqualTo("1.0.0-BETA.2");
+			assertThat(parsedVersion.getQualifier()).isEqualTo("beta");
+			assertThat(parsedVersion.isPreRelease()).isTrue();
+		});
+		assertThat(ParsedVersion.of("1.0.0RC1")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getQualifier()).isEqualTo("rc");
+			assertThat(parsedVersion.isPreRelease()).isTrue();
+		});
+		assertThat(ParsedVersion.of("33.0.0-jre")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getQualifier()).isEqualTo("jre");
+			assertThat(parsedVersion.isPreRelease()).isFalse();
+		});
+		assertThat(ParsedVersion.of("4.1.0.GA")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getQualifier()).isEqualTo("ga");
+			assertThat(parsedVersion.isPreRelease()).isFalse();
+		});
+		assertThat(ParsedVersion.of("1.0.0-SNAPSHOT")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getQualifier()).isEqualTo("snapshot");
+			assertThat(parsedVersion.isPreRelease()).isTrue();
+		});
+		assertThat(ParsedVersion.of("1.0.0-")).satisfies(parsedVersion -> {
+			assertThat(parsedVersion.getQualifier()).isNull();
+			assertThat(parsedVersion.isPreRelease()).isFalse();
+		});
+	}
+
+	@Test
+	void testOfCached() {
+		final var version = "1.0.0-cached";
+		assertThat(ParsedVersion.of(new String(version.toCharArray()))).isSameAs(ParsedVersion.of(version));
+	}
+
+	@Test
+	void testOfInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> ParsedVersion.of(null));
+		assertThatIllegalArgumentException().isThrownBy(() -> ParsedVersion.of(Strings.EMPTY));
+	}
+
+	@Test
+	void testToString() {
+		final var parsedVersion = ParsedVersion.of("1.0.0-beta");
+		assertThat(ParsedVersion.of("1.0.0-beta")).hasToString(parsedVersion.toString());
+		assertThat(ParsedVersion.of("1.0.0-rc")).doesNotHaveToString(parsedVersion.toString());
+	}
+}
\ No newline at end of file
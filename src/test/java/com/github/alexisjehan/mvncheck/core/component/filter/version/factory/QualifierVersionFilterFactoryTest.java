@@ -128,6 +128,16 @@ final class QualifierVersionFilterFactoryTest {
 			assertThat(qualifierVersionFilter.accept("1.2.3-FOO.123")).isFalse();
 			assertThat(qualifierVersionFilter.accept("1.2.3-FOO-123")).isFalse();
 		});
+
+		// Not same qualifier with a same last letter
+		assertThat(qualifierVersionFilterFactory.create("1.0.0-foo")).satisfies(qualifierVersionFilter -> {
+			assertThat(qualifierVersionFilter.accept("1.2.3-bao")).isFalse();
+			assertThat(qualifierVersionFilter.accept("1.2.3-o")).isFalse();
+		});
+		assertThat(qualifierVersionFilterFactory.create("1.0.0-beta")).satisfies(qualifierVersionFilter -> {
+			assertThat(qualifierVersionFilter.accept("1.2.3-alpha")).isFalse();
+			assertThat(qualifierVersionFilter.accept("1.2.3-beta2")).isTrue();
+		});
 	}
 
 	@Test
@@ -73,6 +73,12 @@ final class ReleaseVersionFilterFactoryTest {
 		assertThat(releaseVersionFilter.accept("1.2.3-FOO.123")).isTrue();
 		assertThat(releaseVersionFilter.accept("1.2.3-FOO-123")).isTrue();
 
+		// Qualifier ending with a pre-release qualifier
+		assertThat(releaseVersionFilter.accept("4.1.0.GA")).isTrue();
+		assertThat(releaseVersionFilter.accept("1.2.3-java")).isTrue();
+		assertThat(releaseVersionFilter.accept("1.2.3-gamma")).isTrue();
+		assertThat(releaseVersionFilter.accept("1.2.3-jdk-b")).isFalse();
+
 		// Alpha qualifier
 		assertThat(releaseVersionFilter.accept("1.2.3alpha")).isFalse();
 		assertThat(releaseVersionFilter.accept("1.2.3alpha123")).isFalse();
@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class ConcurrentModelCacheTest {
+
+	private static final String GROUP_ID = "foo-group-id";
+
+	private static final String ARTIFACT_ID = "foo-artifact-id";
+
+	private static final String VERSION = "foo-version";
+
+	private static final String TAG = "foo-tag";
+
+	private static final Object DATA = new Object();
+
+	@Test
+	void testPutAndGet() {
+		final var concurrentModelCache = new ConcurrentModelCache();
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isNull();
+		concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, DATA);
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isSameAs(DATA);
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, "bar-tag")).isNull();
+	}
+
+	@Test
+	void testPutAndGetConcurrently() {
+		final var concurrentModelCache = new ConcurrentModelCache(10_000);
+		IntStream.range(0, 10_000)
+				.parallel()
+				.forEach(i -> concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, String.valueOf(i), TAG, i));
+		IntStream.range(0, 10_000)
+				.parallel()
+				.forEach(
+						i -> assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, String.valueOf(i), TAG))
+								.isEqualTo(i)
+				);
+	}
+
+	@Test
+	void testPutAndGetBounded() {
+		final var concurrentModelCache = new ConcurrentModelCache(2);
+		concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, "1", TAG, DATA);
+		concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, "2", TAG, DATA);
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, "1", TAG)).isSameAs(DATA);
+		concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, "3", TAG, DATA);
+		assertThat(concurrentModelCache.getSize()).isEqualTo(2);
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, "1", TAG)).isSameAs(DATA);
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, "2", TAG)).isNull();
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, "3", TAG)).isSameAs(DATA);
+	}
+
+	@Test
+	void testGetHitCountAndGetMissCount() {
+		final var concurrentModelCache = new ConcurrentModelCache();
+		assertThat(concurrentModelCache.getHitCount()).isZero();
+		assertThat(concurrentModelCache.getMissCount()).isZero();
+		concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG);
+		concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, DATA);
+		concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG);
+		concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG);
+		assertThat(concurrentModelCache.getHitCount()).isEqualTo(2L);
+		assertThat(concurrentModelCache.getMissCount()).isEqualTo(1L);
+	}
+
+	@Test
+	void testGetMaximumSize() {
+		assertThat(new ConcurrentModelCache(2).getMaximumSize()).isEqualTo(2);
+	}
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ConcurrentModelCache(0));
+	}
+
+	@Test
+	void testPutInvalid() {
+		final var concurrentModelCache = new ConcurrentModelCache();
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.put(null, ARTIFACT_ID, VERSION, TAG, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.put(GROUP_ID, null, VERSION, TAG, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, null, TAG, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, null, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, null));
+	}
+
+	@Test
+	void testGetInvalid() {
+		final var concurrentModelCache = new ConcurrentModelCache();
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.get(null, ARTIFACT_ID, VERSION, TAG));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.get(GROUP_ID, null, VERSION, TAG));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, null, TAG));
+		assertThatNullPointerException()
+				.isThrownBy(() -> concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, null));
+	}
+}
\ No newline at end of file
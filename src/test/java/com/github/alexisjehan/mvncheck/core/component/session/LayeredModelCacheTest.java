@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.session;
+
+import org.apache.maven.project.PublicReactorModelPool;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class LayeredModelCacheTest {
+
+	private static final String GROUP_ID = "foo-group-id";
+
+	private static final String ARTIFACT_ID = "foo-artifact-id";
+
+	private static final String VERSION = "1.0.0";
+
+	private static final String TAG = "foo-tag";
+
+	private static final Object DATA = new Object();
+
+	private final ConcurrentModelCache sharedModelCache = new ConcurrentModelCache();
+
+	private final PublicReactorModelPool modelPool = new PublicReactorModelPool();
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new LayeredModelCache(null, modelPool));
+		assertThatNullPointerException().isThrownBy(() -> new LayeredModelCache(sharedModelCache, null));
+	}
+
+	@Test
+	void testPutAndGet() {
+		final var layeredModelCache = new LayeredModelCache(sharedModelCache, modelPool);
+		assertThat(layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isNull();
+		layeredModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, DATA);
+		assertThat(layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isSameAs(DATA);
+		assertThat(sharedModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isSameAs(DATA);
+		assertThat(new LayeredModelCache(sharedModelCache, modelPool).get(GROUP_ID, ARTIFACT_ID, VERSION, TAG))
+				.isSameAs(DATA);
+	}
+
+	@Test
+	void testPutAndGetSnapshot() {
+		final var layeredModelCache = new LayeredModelCache(sharedModelCache, modelPool);
+		layeredModelCache.put(GROUP_ID, ARTIFACT_ID, "1.0.0-SNAPSHOT", TAG, DATA);
+		assertThat(layeredModelCache.get(GROUP_ID, ARTIFACT_ID, "1.0.0-SNAPSHOT", TAG)).isSameAs(DATA);
+		assertThat(sharedModelCache.getSize()).isZero();
+		assertThat(new LayeredModelCache(sharedModelCache, modelPool).get(GROUP_ID, ARTIFACT_ID, "1.0.0-SNAPSHOT", TAG))
+				.isNull();
+	}
+
+	@Test
+	void testPutAndGetPooled() {
+		modelPool.put(GROUP_ID, ARTIFACT_ID, VERSION, Path.of("pom.xml").toFile());
+		final var layeredModelCache = new LayeredModelCache(sharedModelCache, modelPool);
+		layeredModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, DATA);
+		assertThat(layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isSameAs(DATA);
+		assertThat(sharedModelCache.getSize()).isZero();
+	}
+
+	@Test
+	void testGetHitCountAndGetMissCount() {
+		final var layeredModelCache = new LayeredModelCache(sharedModelCache, modelPool);
+		assertThat(layeredModelCache.getHitCount()).isZero();
+		assertThat(layeredModelCache.getMissCount()).isZero();
+		layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG);
+		layeredModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, DATA);
+		layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG);
+		layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG);
+		assertThat(layeredModelCache.getHitCount()).isEqualTo(2L);
+		assertThat(layeredModelCache.getMissCount()).isEqualTo(1L);
+	}
+
+	@Test
+	void testPutInvalid() {
+		final var layeredModelCache = new LayeredModelCache(sharedModelCache, modelPool);
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.put(null, ARTIFACT_ID, VERSION, TAG, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.put(GROUP_ID, null, VERSION, TAG, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.put(GROUP_ID, ARTIFACT_ID, null, TAG, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, null, DATA));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, null));
+	}
+
+	@Test
+	void testGetInvalid() {
+		final var layeredModelCache = new LayeredModelCache(sharedModelCache, modelPool);
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.get(null, ARTIFACT_ID, VERSION, TAG));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.get(GROUP_ID, null, VERSION, TAG));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.get(GROUP_ID, ARTIFACT_ID, null, TAG));
+		assertThatNullPointerException()
+				.isThrownBy(() -> layeredModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, null));
+	}
+}
\ No newline at end of file
@@ -26,15 +26,20 @@ package com.github.alexisjehan.mvncheck.core.component.session;
 import com.github.alexisjehan.mvncheck.core.util.MavenUtils;
 import org.apache.maven.settings.building.SettingsBuildingException;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 
@@ -98,6 +103,77 @@ final class MavenSessionTest {
 		assertThatNullPointerException().isThrownBy(() -> mavenSession.request(null));
 	}
 
+	@Test
+	void testRequestArtifact() throws ArtifactResolutionException {
+		final var artifactResult = new ArtifactResult(new ArtifactRequest());
+		Mockito.when(mockedRepositorySystem.resolveArtifact(Mockito.any(), Mockito.any()))
+				.thenReturn(artifactResult);
+		try (var mockedStaticMavenUtils = Mockito.mockStatic(MavenUtils.class)) {
+			mockedStaticMavenUtils.when(MavenUtils::makeRepositorySystem)
+					.thenReturn(mockedRepositorySystem);
+			final var mavenSession = new MavenSession();
+			assertThat(mavenSession.requestArtifact(new ArtifactRequest())).isSameAs(artifactResult);
+		}
+	}
+
+	@Test
+	void testRequestArtifactInvalid() {
+		final var mavenSession = new MavenSession();
+		assertThatNullPointerException().isThrownBy(() -> mavenSession.requestArtifact(null));
+	}
+
+	@Test
+	void testFindModelFile(@TempDir final Path tmpDirectory) {
+		final var tmpModelFile = tmpDirectory.resolve("pom.xml");
+		final var mavenSession = new MavenSession();
+		assertThat(mavenSession.findModelFile("foo-group-id", "foo-artifact-id", "foo-version")).isEmpty();
+		mavenSession.getModelPool().put("foo-group-id", "foo-artifact-id", "foo-version", tmpModelFile.toFile());
+		assertThat(mavenSession.findModelFile("foo-group-id", "foo-artifact-id", "foo-version"))
+				.contains(tmpModelFile);
+	}
+
+	@Test
+	void testFindModelFileInvalid() {
+		final var mavenSession = new MavenSession();
+		assertThatNullPointerException()
+				.isThrownBy(() -> mavenSession.findModelFile(null, "foo-artifact-id", "foo-version"));
+		assertThatNullPointerException()
+				.isThrownBy(() -> mavenSession.findModelFile("foo-group-id", null, "foo-version"));
+		assertThatNullPointerException()
+				.isThrownBy(() -> mavenSession.findModelFile("foo-group-id", "foo-artifact-id", null));
+	}
+
+	@Test
+	void testFork() {
+		final var mavenSession = new MavenSession();
+		assertThat(mavenSession.fork()).satisfies(forkedMavenSession -> {
+			assertThat(forkedMavenSession).isNotSameAs(mavenSession);
+			assertThat(forkedMavenSession.getModelPool()).isNotSameAs(mavenSession.getModelPool());
+			assertThat(forkedMavenSession.getModelResolver()).isNotSameAs(mavenSession.getModelResolver());
+			assertThat(forkedMavenSession.getModelCache()).isNotSameAs(mavenSession.getModelCache());
+		});
+	}
+
+	@Test
+	void testForkModelCache() {
+		final var mavenSession = new MavenSession();
+		final var data = new Object();
+		mavenSession.getModelCache().put("foo-group-id", "foo-artifact-id", "1.0.0", "foo-tag", data);
+		mavenSession.getModelCache().put("foo-group-id", "foo-artifact-id", "1.0.0-SNAPSHOT", "foo-tag", data);
+		final var forkedMavenSession = mavenSession.fork();
+		assertThat(forkedMavenSession.getModelCache().get("foo-group-id", "foo-artifact-id", "1.0.0", "foo-tag"))
+				.isSameAs(data);
+		assertThat(
+				forkedMavenSession.getModelCache().get("foo-group-id", "foo-artifact-id", "1.0.0-SNAPSHOT", "foo-tag")
+		).isNull();
+	}
+
+	@Test
+	void testGetModelPool() {
+		final var mavenSession = new MavenSession();
+		assertThat(mavenSession.getModelPool()).isNotNull();
+	}
+
 	@Test
 	void testGetModelResolver() {
 		final var mavenSession = new MavenSession();
@@ -109,4 +185,20 @@ final class MavenSessionTest {
 		final var mavenSession = new MavenSession();
 		assertThat(mavenSession.getModelCache()).isNotNull();
 	}
+
+	@Test
+	void testGetModelCacheStatistics() {
+		final var mavenSession = new MavenSession();
+		final var modelCache = mavenSession.getModelCache();
+		assertThat(modelCache.get("foo-group-id", "foo-artifact-id", "1.0.0", "foo-tag")).isNull();
+		modelCache.put("foo-group-id", "foo-artifact-id", "1.0.0", "foo-tag", "foo-data");
+		assertThat(modelCache.get("foo-group-id", "foo-artifact-id", "1.0.0", "foo-tag")).isEqualTo("foo-data");
+		assertThat(mavenSession.getModelCacheStatistics()).satisfies(
+				cacheStatistics -> {
+					assertThat(cacheStatistics.getName()).isEqualTo("Maven model");
+					assertThat(cacheStatistics.getHitCount()).isEqualTo(1L);
+					assertThat(cacheStatistics.getLookupCount()).isEqualTo(2L);
+				}
+		);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-2026 Alexis Jehan
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.alexisjehan.mvncheck.core.component.session;
+
+import com.github.alexisjehan.javanilla.misc.tuple.Triple;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+final class RecordingModelCacheTest {
+
+	private static final String GROUP_ID = "foo-group-id";
+
+	private static final String ARTIFACT_ID = "foo-artifact-id";
+
+	private static final String VERSION = "foo-version";
+
+	private static final String TAG = "foo-tag";
+
+	private static final Object DATA = new Object();
+
+	@Test
+	void testPutAndGet() {
+		final var concurrentModelCache = new ConcurrentModelCache();
+		final var recordingModelCache = new RecordingModelCache(concurrentModelCache);
+		assertThat(recordingModelCache.getCoordinates()).isEmpty();
+		assertThat(recordingModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isNull();
+		recordingModelCache.put(GROUP_ID, ARTIFACT_ID, VERSION, TAG, DATA);
+		assertThat(recordingModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isSameAs(DATA);
+		assertThat(concurrentModelCache.get(GROUP_ID, ARTIFACT_ID, VERSION, TAG)).isSameAs(DATA);
+		recordingModelCache.get("bar-group-id", ARTIFACT_ID, VERSION, TAG);
+		assertThat(recordingModelCache.getCoordinates()).containsExactlyInAnyOrder(
+				Triple.of(GROUP_ID, ARTIFACT_ID, VERSION),
+				Triple.of("bar-group-id", ARTIFACT_ID, VERSION)
+		);
+	}
+
+	@Test
+	void testConstructorInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> new RecordingModelCache(null));
+	}
+}
\ No newline at end of file
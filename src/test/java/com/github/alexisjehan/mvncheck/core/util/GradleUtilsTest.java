@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -74,4 +75,21 @@ final class GradleUtilsTest {
 			assertThat(GradleUtils.retrieveOptionalHome()).contains(File.separator + "gradle-1.0");
 		}
 	}
+
+	@Test
+	void testRetrieveUserHome() {
+		try (var mockedStaticSystemUtils = Mockito.mockStatic(SystemUtils.class)) {
+			mockedStaticSystemUtils.when(() -> SystemUtils.getEnvironmentVariable("GRADLE_USER_HOME"))
+					.thenReturn(
+							Optional.empty(),
+							Optional.of(""),
+							Optional.of("gradle-user-home")
+					);
+			mockedStaticSystemUtils.when(SystemUtils::getUserHomeDirectory)
+					.thenReturn(Path.of("user-home-directory"));
+			assertThat(GradleUtils.retrieveUserHome()).isEqualTo(Path.of("user-home-directory", ".gradle"));
+			assertThat(GradleUtils.retrieveUserHome()).isEqualTo(Path.of("user-home-directory", ".gradle"));
+			assertThat(GradleUtils.retrieveUserHome()).isEqualTo(Path.of("gradle-user-home"));
+		}
+	}
 }
\ No newline at end of file
@@ -25,10 +25,14 @@ package com.github.alexisjehan.mvncheck.core.util;
 
 import com.github.alexisjehan.javanilla.lang.Strings;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,4 +101,83 @@ final class SystemUtilsTest {
 			);
 		}
 	}
+
+	@Test
+	void testGetXdgCacheDirectory() {
+		try (var mockedStaticSystemUtils = Mockito.mockStatic(SystemUtils.class)) {
+			mockedStaticSystemUtils.when(() -> SystemUtils.getEnvironmentVariable("XDG_CACHE_HOME"))
+					.thenReturn(
+							Optional.of(File.separatorChar + "xdg-cache-home"),
+							Optional.of(Strings.EMPTY),
+							Optional.empty()
+					);
+			mockedStaticSystemUtils.when(SystemUtils::getUserHomeDirectory)
+					.thenCallRealMethod();
+			mockedStaticSystemUtils.when(SystemUtils::getXdgCacheDirectory)
+					.thenCallRealMethod();
+			assertThat(SystemUtils.getXdgCacheDirectory()).isEqualTo(
+					Path.of(File.separatorChar + "xdg-cache-home").resolve(SystemUtils.XDG_DIRECTORY_NAME)
+			);
+			assertThat(SystemUtils.getXdgCacheDirectory()).isEqualTo(
+					SystemUtils.getUserHomeDirectory().resolve(".cache").resolve(SystemUtils.XDG_DIRECTORY_NAME)
+			);
+			assertThat(SystemUtils.getXdgCacheDirectory()).isEqualTo(
+					SystemUtils.getUserHomeDirectory().resolve(".cache").resolve(SystemUtils.XDG_DIRECTORY_NAME)
+			);
+		}
+	}
+
+	@Test
+	void testGetXdgRuntimeDirectory() {
+		try (var mockedStaticSystemUtils = Mockito.mockStatic(SystemUtils.class)) {
+			mockedStaticSystemUtils.when(() -> SystemUtils.getEnvironmentVariable("XDG_RUNTIME_DIR"))
+					.thenReturn(
+							Optional.of(File.separatorChar + "xdg-runtime-dir"),
+							Optional.of(Strings.EMPTY),
+							Optional.empty()
+					);
+			mockedStaticSystemUtils.when(SystemUtils::getXdgCacheDirectory)
+					.thenReturn(Path.of("xdg-cache-directory"));
+			mockedStaticSystemUtils.when(SystemUtils::getXdgRuntimeDirectory)
+					.thenCallRealMethod();
+			assertThat(SystemUtils.getXdgRuntimeDirectory()).isEqualTo(
+					Path.of(File.separatorChar + "xdg-runtime-dir").resolve(SystemUtils.XDG_DIRECTORY_NAME)
+			);
+			assertThat(SystemUtils.getXdgRuntimeDirectory()).isEqualTo(Path.of("xdg-cache-directory"));
+			assertThat(SystemUtils.getXdgRuntimeDirectory()).isEqualTo(Path.of("xdg-cache-directory"));
+		}
+	}
+
+	@Test
+	void testCreateUserDirectory(@TempDir final Path tmpDirectory) throws IOException {
+		final var directory = tmpDirectory.resolve(Path.of("foo", "bar"));
+		SystemUtils.createUserDirectory(directory);
+		assertThat(directory).isDirectory();
+		assertThat(Files.getPosixFilePermissions(directory)).isEqualTo(PosixFilePermissions.fromString("rwx------"));
+		Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+		SystemUtils.createUserDirectory(directory);
+		assertThat(Files.getPosixFilePermissions(directory)).isEqualTo(PosixFilePermissions.fromString("rwx------"));
+	}
+
+	@Test
+	void testCreateUserDirectoryInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> SystemUtils.createUserDirectory(null));
+	}
+
+	@Test
+	void testIsUserFile(@TempDir final Path tmpDirectory) throws IOException {
+		final var file = tmpDirectory.resolve("foo");
+		Files.writeString(file, "foo");
+		Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+		assertThat(SystemUtils.isUserFile(file)).isTrue();
+		Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-rw-r--"));
+		assertThat(SystemUtils.isUserFile(file)).isFalse();
+		Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--rw-"));
+		assertThat(SystemUtils.isUserFile(file)).isFalse();
+	}
+
+	@Test
+	void testIsUserFileInvalid() {
+		assertThatNullPointerException().isThrownBy(() -> SystemUtils.isUserFile(null));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+plugins {
+	`java-library`
+}
+
+val springVersion = "6.0.0"
+val fooRepositoryUrl: String by project
+val barVersion: String by project
+
+extra["guavaVersion"] = "33.0.0-jre"
+
+repositories {
+	mavenCentral()
+	google()
+	maven(fooRepositoryUrl)
+	maven {
+		name = "bar-repository-name"
+		url = uri("https://bar-repository-host")
+	}
+	mavenLocal()
+}
+
+dependencies {
+	/*
+	 * A comment
+	 */
+	implementation("foo-group-id:foo-artifact-id:foo-version") // Another comment
+	implementation("org.springframework:spring-core:$springVersion")
+	implementation("com.google.guava:guava:" + property("guavaVersion"))
+	constraints {
+		implementation("com.google.guava:guava:33.1.0-jre")
+		api(project(":"))
+	}
+	implementation(group = "bar-group-id", name = "bar-artifact-id", version = barVersion)
+	implementation(platform("org.junit:junit-bom:5.10.0"))
+	implementation(files("baz.jar"))
+	implementation(libs.foo.bar)
+	testImplementation(libs.bundles.foo)
+	implementation("baz-group-id:baz-artifact-id:baz-version") {
+		exclude(group = "qux-group-id")
+	}
+	compileOnly("qux-group-id:qux-artifact-id")
+}
\ No newline at end of file